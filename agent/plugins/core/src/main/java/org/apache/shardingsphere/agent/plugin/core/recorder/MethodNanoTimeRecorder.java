@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.core.recorder;
+
+/**
+ * Method nano time recorder.
+ * 
+ * <p>Each thread reuses one slot per recorder, so recording does not allocate on the hot path.</p>
+ */
+public final class MethodNanoTimeRecorder {
+    
+    private static final double NANOS_PER_MILLI = 1000000D;
+    
+    private final ThreadLocal<long[]> startNanoTime = ThreadLocal.withInitial(() -> new long[2]);
+    
+    /**
+     * Record now.
+     */
+    public void record() {
+        long[] slot = startNanoTime.get();
+        slot[0] = System.nanoTime();
+        slot[1] = 1L;
+    }
+    
+    /**
+     * Judge whether recorded and not cleaned yet.
+     *
+     * @return recorded or not
+     */
+    public boolean isRecorded() {
+        return 0L != startNanoTime.get()[1];
+    }
+    
+    /**
+     * Get elapsed millis and clean.
+     *
+     * @return elapsed millis, or 0 if not recorded
+     */
+    public double getElapsedMillisAndClean() {
+        long[] slot = startNanoTime.get();
+        if (0L == slot[1]) {
+            return 0D;
+        }
+        slot[1] = 0L;
+        return (System.nanoTime() - slot[0]) / NANOS_PER_MILLI;
+    }
+}
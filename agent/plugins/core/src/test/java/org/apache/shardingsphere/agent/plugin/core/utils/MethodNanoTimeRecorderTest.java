@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.core.utils;
+
+import org.apache.shardingsphere.agent.plugin.core.recorder.MethodNanoTimeRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MethodNanoTimeRecorderTest {
+    
+    @Test
+    public void assertGetElapsedMillisAndCleanWithRecorded() throws InterruptedException {
+        MethodNanoTimeRecorder methodNanoTimeRecorder = new MethodNanoTimeRecorder();
+        methodNanoTimeRecorder.record();
+        assertTrue(methodNanoTimeRecorder.isRecorded());
+        Thread.sleep(5L);
+        assertThat(methodNanoTimeRecorder.getElapsedMillisAndClean(), greaterThanOrEqualTo(5D));
+        assertFalse(methodNanoTimeRecorder.isRecorded());
+        assertThat(methodNanoTimeRecorder.getElapsedMillisAndClean(), is(0D));
+    }
+    
+    @Test
+    public void assertGetElapsedMillisAndCleanWithoutRecorded() {
+        assertFalse(new MethodNanoTimeRecorder().isRecorded());
+        assertThat(new MethodNanoTimeRecorder().getElapsedMillisAndClean(), is(0D));
+    }
+}
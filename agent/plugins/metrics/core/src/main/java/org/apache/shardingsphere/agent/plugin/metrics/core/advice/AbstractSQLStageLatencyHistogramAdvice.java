@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.recorder.MethodNanoTimeRecorder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.utils.SQLStatementTypeUtils;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice implements InstanceMethodAdvice {
+    
+    private final MethodNanoTimeRecorder methodNanoTimeRecorder = new MethodNanoTimeRecorder();
+    
+    /**
+     * Create metric configuration of SQL stage latency histogram.
+     *
+     * @param id metric ID
+     * @param help help message
+     * @param labels labels
+     * @return created metric configuration
+     */
+    protected static MetricConfiguration createConfiguration(final String id, final String help, final List<String> labels) {
+        return new MetricConfiguration(id, MetricCollectorType.HISTOGRAM, help, labels, Collections.singletonMap("buckets", getBuckets()));
+    }
+    
+    private static Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1);
+        result.put("type", "exp");
+        result.put("start", 0.01);
+        result.put("factor", 2);
+        result.put("count", 20);
+        return result;
+    }
+    
+    /**
+     * Get SQL type label.
+     *
+     * @param sqlStatement SQL statement
+     * @return SQL type label
+     */
+    protected static String getSQLType(final SQLStatement sqlStatement) {
+        return null == sqlStatement ? "UNKNOWN" : SQLStatementTypeUtils.getType(sqlStatement).orElse("OTHER");
+    }
+    
+    /**
+     * Get route units label, route unit count is bucketed to bound label cardinality.
+     *
+     * @param routeUnitCount route unit count
+     * @return route units label
+     */
+    protected static String getRouteUnitsLabel(final int routeUnitCount) {
+        if (routeUnitCount <= 1) {
+            return String.valueOf(routeUnitCount);
+        }
+        if (routeUnitCount <= 8) {
+            return "2-8";
+        }
+        return routeUnitCount <= 64 ? "9-64" : ">64";
+    }
+    
+    @Override
+    public final void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        methodNanoTimeRecorder.record();
+    }
+    
+    @Override
+    public final void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        if (!methodNanoTimeRecorder.isRecorded()) {
+            return;
+        }
+        double elapsedMillis = methodNanoTimeRecorder.getElapsedMillisAndClean();
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(getConfiguration(), pluginType).observe(elapsedMillis, getLabels(args, result));
+    }
+    
+    protected abstract MetricConfiguration getConfiguration();
+    
+    protected abstract String[] getLabels(Object[] args, Object result);
+}
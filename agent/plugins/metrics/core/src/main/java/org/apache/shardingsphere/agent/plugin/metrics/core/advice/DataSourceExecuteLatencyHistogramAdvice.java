@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.util.Collections;
+
+/**
+ * Data source execute latency histogram advice.
+ */
+public final class DataSourceExecuteLatencyHistogramAdvice extends AbstractSQLStageLatencyHistogramAdvice {
+    
+    private final MetricConfiguration config = createConfiguration(
+            "execute_data_source_latency_millis", "Execute SQL on data source latency millis histogram", Collections.singletonList("data_source"));
+    
+    @Override
+    protected MetricConfiguration getConfiguration() {
+        return config;
+    }
+    
+    @Override
+    protected String[] getLabels(final Object[] args, final Object result) {
+        return new String[]{((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName()};
+    }
+}
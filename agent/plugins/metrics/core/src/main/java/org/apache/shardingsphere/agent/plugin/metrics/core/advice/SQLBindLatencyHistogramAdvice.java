@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.type.StaticMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.recorder.MethodNanoTimeRecorder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * SQL bind latency histogram advice.
+ */
+public final class SQLBindLatencyHistogramAdvice implements StaticMethodAdvice {
+    
+    private final MetricConfiguration config = AbstractSQLStageLatencyHistogramAdvice.createConfiguration(
+            "bind_sql_latency_millis", "Bind SQL latency millis histogram", Arrays.asList("database", "type"));
+    
+    private final MethodNanoTimeRecorder methodNanoTimeRecorder = new MethodNanoTimeRecorder();
+    
+    @Override
+    public void beforeMethod(final Class<?> clazz, final Method method, final Object[] args, final String pluginType) {
+        methodNanoTimeRecorder.record();
+    }
+    
+    @Override
+    public void afterMethod(final Class<?> clazz, final Method method, final Object[] args, final Object result, final String pluginType) {
+        if (!methodNanoTimeRecorder.isRecorded()) {
+            return;
+        }
+        double elapsedMillis = methodNanoTimeRecorder.getElapsedMillisAndClean();
+        String sqlType = AbstractSQLStageLatencyHistogramAdvice.getSQLType((SQLStatement) args[2]);
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(elapsedMillis, String.valueOf(args[3]), sqlType);
+    }
+}
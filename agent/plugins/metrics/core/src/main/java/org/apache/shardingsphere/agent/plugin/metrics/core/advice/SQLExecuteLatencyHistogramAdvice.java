@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+
+import java.util.Arrays;
+
+/**
+ * SQL execute latency histogram advice.
+ */
+public final class SQLExecuteLatencyHistogramAdvice extends AbstractSQLStageLatencyHistogramAdvice {
+    
+    private final MetricConfiguration config = createConfiguration("execute_sql_latency_millis", "Execute SQL latency millis histogram", Arrays.asList("database", "route_units"));
+    
+    @Override
+    protected MetricConfiguration getConfiguration() {
+        return config;
+    }
+    
+    @Override
+    protected String[] getLabels(final Object[] args, final Object result) {
+        ExecutionGroupContext<?> executionGroupContext = (ExecutionGroupContext<?>) args[0];
+        int executionUnitCount = 0;
+        for (ExecutionGroup<?> each : executionGroupContext.getInputGroups()) {
+            executionUnitCount += each.getInputs().size();
+        }
+        return new String[]{String.valueOf(executionGroupContext.getReportContext().getDatabaseName()), getRouteUnitsLabel(executionUnitCount)};
+    }
+}
@@ -23,23 +23,11 @@ import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsColl
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricsCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
-import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
-import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
-import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
-import org.apache.shardingsphere.distsql.parser.statement.rul.RULStatement;
+import org.apache.shardingsphere.agent.plugin.metrics.core.utils.SQLStatementTypeUtils;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
-import java.util.Optional;
 
 /**
  * SQL parse count advice.
@@ -51,46 +39,6 @@ public final class SQLParseCountAdvice implements InstanceMethodAdvice {
     
     @Override
     public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
-        getSQLType((SQLStatement) result).ifPresent(optional -> MetricsCollectorRegistry.<CounterMetricsCollector>get(config, pluginType).inc(optional));
-    }
-    
-    private Optional<String> getSQLType(final SQLStatement sqlStatement) {
-        if (sqlStatement instanceof InsertStatement) {
-            return Optional.of("INSERT");
-        }
-        if (sqlStatement instanceof UpdateStatement) {
-            return Optional.of("UPDATE");
-        }
-        if (sqlStatement instanceof DeleteStatement) {
-            return Optional.of("DELETE");
-        }
-        if (sqlStatement instanceof SelectStatement) {
-            return Optional.of("SELECT");
-        }
-        if (sqlStatement instanceof DDLStatement) {
-            return Optional.of("DDL");
-        }
-        if (sqlStatement instanceof DCLStatement) {
-            return Optional.of("DCL");
-        }
-        if (sqlStatement instanceof DALStatement) {
-            return Optional.of("DAL");
-        }
-        if (sqlStatement instanceof TCLStatement) {
-            return Optional.of("TCL");
-        }
-        if (sqlStatement instanceof RQLStatement) {
-            return Optional.of("RQL");
-        }
-        if (sqlStatement instanceof RDLStatement) {
-            return Optional.of("RDL");
-        }
-        if (sqlStatement instanceof RALStatement) {
-            return Optional.of("RAL");
-        }
-        if (sqlStatement instanceof RULStatement) {
-            return Optional.of("RUL");
-        }
-        return Optional.empty();
+        SQLStatementTypeUtils.getType((SQLStatement) result).ifPresent(optional -> MetricsCollectorRegistry.<CounterMetricsCollector>get(config, pluginType).inc(optional));
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire.ConnectionAcquisitionCoordinator;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Connection acquisition exporter.
+ */
+public final class ConnectionAcquisitionExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("connection_acquisition",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Statistics of acquiring more than one connection of a data source one time. wait_count and avg_wait_millis are counted when waiting for permits; "
+                    + "downgrade_count is count of acquisitions without permits after waiting timeout; reject_count is count of acquisitions failed after waiting timeout",
+            Collections.singletonList("name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        ConnectionAcquisitionCoordinator coordinator = ConnectionAcquisitionCoordinator.getInstance();
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("wait_count"), coordinator.getWaitCount());
+        result.addMetric(Collections.singletonList("avg_wait_millis"), coordinator.getAverageWaitMillis());
+        result.addMetric(Collections.singletonList("downgrade_count"), coordinator.getDowngradeCount());
+        result.addMetric(Collections.singletonList("reject_count"), coordinator.getRejectCount());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsSnapshot;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * SQL digest statistics exporter.
+ */
+public final class SQLDigestStatisticsExporter implements MetricsExporter {
+    
+    private static final int MAX_EXPORTED_DIGEST_COUNT = 100;
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_digest_statistics",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Statistics of the most expensive SQL digests order by total execute time", Arrays.asList("digest", "name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Collection<SQLDigestStatisticsSnapshot> snapshots = SQLDigestStatisticsManager.getInstance().getTopSnapshots(MAX_EXPORTED_DIGEST_COUNT);
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (SQLDigestStatisticsSnapshot each : snapshots) {
+            String digest = each.getDigest();
+            result.addMetric(Arrays.asList(digest, "calls"), each.getCalls());
+            result.addMetric(Arrays.asList(digest, "errors"), each.getErrors());
+            result.addMetric(Arrays.asList(digest, "federation_calls"), each.getFederationCalls());
+            result.addMetric(Arrays.asList(digest, "total_millis"), each.getTotalElapsedMillis());
+            result.addMetric(Arrays.asList(digest, "avg_millis"), each.getAverageElapsedMillis());
+            result.addMetric(Arrays.asList(digest, "max_millis"), each.getMaxElapsedMillis());
+            result.addMetric(Arrays.asList(digest, "p99_millis"), each.getP99ElapsedMillis());
+            result.addMetric(Arrays.asList(digest, "row_count"), each.getRowCount());
+            result.addMetric(Arrays.asList(digest, "avg_route_units"), each.getAverageRouteUnitCount());
+        }
+        return Optional.of(result);
+    }
+}
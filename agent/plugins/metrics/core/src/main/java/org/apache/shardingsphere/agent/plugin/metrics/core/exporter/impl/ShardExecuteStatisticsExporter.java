@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Shard execute statistics exporter.
+ */
+public final class ShardExecuteStatisticsExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("shard_execute_statistics",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Execute statistics of database, storage unit and actual table in the last minute. execute_count, avg_execute_millis, max_execute_millis and "
+                    + "row_count are counted per actual table; connection_acquire_count and avg_connection_acquire_millis are counted per storage unit",
+            Arrays.asList("database", "storage_unit", "table", "name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Collection<ShardExecuteStatistics> statistics = ShardExecuteStatisticsManager.getInstance().getAllStatistics();
+        if (statistics.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardExecuteStatistics each : statistics) {
+            String databaseName = each.getDatabaseName();
+            String storageUnitName = each.getStorageUnitName();
+            String tableName = each.getTableName();
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "execute_count"), each.getExecute().getCount());
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "avg_execute_millis"), each.getExecute().getAverageElapsedMillis());
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "max_execute_millis"), each.getExecute().getMaxElapsedMillis());
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "row_count"), each.getExecute().getRowCount());
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "connection_acquire_count"), each.getConnectionAcquire().getCount());
+            result.addMetric(Arrays.asList(databaseName, storageUnitName, tableName, "avg_connection_acquire_millis"), each.getConnectionAcquire().getAverageElapsedMillis());
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataCache;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Proxy lazy table meta data exporter.
+ */
+public final class ProxyLazyTableMetaDataExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_lazy_table_meta_data",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Lazy table meta data of ShardingSphere-Proxy. loaded_table_count is number of cached tables; load_count is number of table loadings; "
+                    + "load_time_millis is total time of table loadings; eviction_count is number of evicted tables",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        Collection<LazyTableMetaDataCache> caches = getLazyTableMetaDataCaches();
+        if (caches.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("loaded_table_count"), sum(caches, LazyTableMetaDataCache::getLoadedTableCount));
+        result.addMetric(Collections.singletonList("load_count"), sum(caches, LazyTableMetaDataCache::getLoadCount));
+        result.addMetric(Collections.singletonList("load_time_millis"), TimeUnit.NANOSECONDS.toMillis(sum(caches, LazyTableMetaDataCache::getLoadTimeNanos)));
+        result.addMetric(Collections.singletonList("eviction_count"), sum(caches, LazyTableMetaDataCache::getEvictionCount));
+        return Optional.of(result);
+    }
+    
+    private Collection<LazyTableMetaDataCache> getLazyTableMetaDataCaches() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values().stream()
+                .flatMap(each -> each.getSchemas().values().stream()).map(ShardingSphereSchema::getLazyTableMetaDataCache).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+    
+    private long sum(final Collection<LazyTableMetaDataCache> caches, final ToLongFunction<LazyTableMetaDataCache> getter) {
+        return caches.stream().mapToLong(getter).sum();
+    }
+}
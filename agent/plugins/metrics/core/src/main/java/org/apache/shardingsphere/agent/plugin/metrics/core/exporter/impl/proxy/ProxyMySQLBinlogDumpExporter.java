@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogDumpStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy MySQL binlog dump exporter.
+ */
+public final class ProxyMySQLBinlogDumpExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_mysql_binlog_dump",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "MySQL binlog dump statistics of ShardingSphere-Proxy. skipped_event_count is count of rows events "
+                    + "of unsubscribed tables skipped without decoding rows; "
+                    + "max_lag_millis is max delay between binlog event time and dumper handling time of running jobs",
+            Collections.singletonList("name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        BinlogDumpStatistics statistics = BinlogDumpStatistics.getInstance();
+        if (0L == statistics.getDecodedEventCount() && 0L == statistics.getSkippedEventCount()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("decoded_event_count"), statistics.getDecodedEventCount());
+        result.addMetric(Collections.singletonList("decoded_row_count"), statistics.getDecodedRowCount());
+        result.addMetric(Collections.singletonList("skipped_event_count"), statistics.getSkippedEventCount());
+        result.addMetric(Collections.singletonList("decoded_rows_per_second"), statistics.getDecodedRowsPerSecond());
+        result.addMetric(Collections.singletonList("max_lag_millis"), statistics.getMaxLagMillis());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableReplayStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy session variable replay exporter.
+ */
+public final class ProxySessionVariableReplayExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_session_variable_replay",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Session variable replay statistics of backend connections of ShardingSphere-Proxy. "
+                    + "saved_round_trips is counted against replaying every set SQL on new connections",
+            Collections.singletonList("name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        SessionVariableReplayStatistics statistics = SessionVariableReplayStatistics.getInstance();
+        if (0L == statistics.getReplayedConnectionCount() && 0L == statistics.getSavedRoundTrips()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("replayed_connection_count"), statistics.getReplayedConnectionCount());
+        result.addMetric(Collections.singletonList("saved_round_trips"), statistics.getSavedRoundTrips());
+        return Optional.of(result);
+    }
+}
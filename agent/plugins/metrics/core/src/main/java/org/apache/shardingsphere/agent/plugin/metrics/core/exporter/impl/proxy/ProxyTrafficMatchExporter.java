@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.traffic.engine.SQLTrafficMatchStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy traffic match exporter.
+ */
+public final class ProxyTrafficMatchExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_traffic_match",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL traffic match statistics of ShardingSphere-Proxy. match_count is count of statements checked against SQL match and SQL regex strategies; "
+                    + "matched_count is count of statements matched any of them; avg_match_nanos is average nanoseconds spent on matching",
+            Collections.singletonList("name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        SQLTrafficMatchStatistics statistics = SQLTrafficMatchStatistics.getInstance();
+        long matchCount = statistics.getMatchCount();
+        if (0L == matchCount) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("match_count"), matchCount);
+        result.addMetric(Collections.singletonList("matched_count"), statistics.getMatchedCount());
+        result.addMetric(Collections.singletonList("avg_match_nanos"), (double) statistics.getMatchNanos() / matchCount);
+        return Optional.of(result);
+    }
+}
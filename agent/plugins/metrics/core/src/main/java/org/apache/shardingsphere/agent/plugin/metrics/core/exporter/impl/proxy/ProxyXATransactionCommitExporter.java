@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.transaction.xa.statistics.XATransactionCommitStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy XA transaction commit exporter.
+ */
+public final class ProxyXATransactionCommitExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_xa_transaction_commit",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "XA transaction commit statistics of ShardingSphere-Proxy. one_phase_commit_count is count of transactions touched only one storage unit "
+                    + "and committed without XA protocol; estimated_saved_millis is estimated by the difference of average latency between two phase and one phase commit",
+            Collections.singletonList("name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        XATransactionCommitStatistics statistics = XATransactionCommitStatistics.getInstance();
+        if (0L == statistics.getOnePhaseCommitCount() && 0L == statistics.getTwoPhaseCommitCount()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("one_phase_commit_count"), statistics.getOnePhaseCommitCount());
+        result.addMetric(Collections.singletonList("two_phase_commit_count"), statistics.getTwoPhaseCommitCount());
+        result.addMetric(Collections.singletonList("one_phase_commit_ratio"), statistics.getOnePhaseCommitRatio());
+        result.addMetric(Collections.singletonList("avg_one_phase_commit_millis"), statistics.getAverageOnePhaseCommitMillis());
+        result.addMetric(Collections.singletonList("avg_two_phase_commit_millis"), statistics.getAverageTwoPhaseCommitMillis());
+        result.addMetric(Collections.singletonList("estimated_saved_millis"), statistics.getEstimatedSavedMillis());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLExecuteLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("execute_sql_latency_millis", MetricCollectorType.HISTOGRAM, null, Arrays.asList("database", "route_units"));
+    
+    @AfterEach
+    public void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertExecute() {
+        ExecutionGroupContext<String> executionGroupContext = new ExecutionGroupContext<>(
+                Arrays.asList(new ExecutionGroup<>(Arrays.asList("foo_input", "bar_input")), new ExecutionGroup<>(Collections.singletonList("baz_input"))), new ExecutionGroupReportContext("foo_db"));
+        Object[] args = {executionGroupContext, null, null, false};
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        SQLExecuteLatencyHistogramAdvice advice = new SQLExecuteLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), args, "FIXTURE");
+        advice.afterMethod(targetObject, mock(Method.class), args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("foo_db.2-8=1"));
+    }
+}
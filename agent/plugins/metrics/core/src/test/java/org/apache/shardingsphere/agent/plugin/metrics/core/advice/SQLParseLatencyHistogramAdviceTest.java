@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLParseLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("parse_sql_latency_millis", MetricCollectorType.HISTOGRAM, null, Collections.singletonList("type"));
+    
+    @AfterEach
+    public void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertParse() {
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        SQLParseLatencyHistogramAdvice advice = new SQLParseLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, mock(Method.class), new Object[]{}, new MySQLSelectStatement(), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("SELECT=1"));
+    }
+    
+    @Test
+    public void assertParseFailed() {
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        SQLParseLatencyHistogramAdvice advice = new SQLParseLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, mock(Method.class), new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("UNKNOWN=1"));
+    }
+}
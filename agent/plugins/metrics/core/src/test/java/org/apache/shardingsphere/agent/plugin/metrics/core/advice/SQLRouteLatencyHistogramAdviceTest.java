@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLRouteLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("route_sql_latency_millis", MetricCollectorType.HISTOGRAM, null, Arrays.asList("database", "type", "route_units"));
+    
+    @AfterEach
+    public void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertRoute() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        Object[] args = {null, new QueryContext(sqlStatementContext, "SELECT 1", Collections.emptyList()), null, database};
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.emptyList()));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.emptyList()));
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        SQLRouteLatencyHistogramAdvice advice = new SQLRouteLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), args, "FIXTURE");
+        advice.afterMethod(targetObject, mock(Method.class), args, routeContext, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("foo_db.SELECT.2-8=1"));
+    }
+    
+    @Test
+    public void assertRouteWithManyRouteUnits() {
+        RouteContext routeContext = new RouteContext();
+        for (int i = 0; i < 65; i++) {
+            routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_" + i, "ds_" + i), Collections.emptyList()));
+        }
+        Object[] args = createArguments();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        SQLRouteLatencyHistogramAdvice advice = new SQLRouteLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), args, "FIXTURE");
+        advice.afterMethod(targetObject, mock(Method.class), args, routeContext, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("foo_db.SELECT.>64=1"));
+    }
+    
+    @Test
+    public void assertRouteWithoutBeforeMethod() {
+        Object[] args = createArguments();
+        new SQLRouteLatencyHistogramAdvice().afterMethod(new TargetAdviceObjectFixture(), mock(Method.class), args, new RouteContext(), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+    
+    private Object[] createArguments() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        return new Object[]{null, new QueryContext(sqlStatementContext, "SELECT 1", Collections.emptyList()), null, database};
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SQLDigestStatisticsExporterTest {
+    
+    @AfterEach
+    public void reset() {
+        MetricConfiguration config = new MetricConfiguration("sql_digest_statistics", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("digest", "name"));
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        SQLDigestStatisticsManager.getInstance().reset();
+    }
+    
+    @Test
+    public void assertExportWithoutStatistics() {
+        assertFalse(new SQLDigestStatisticsExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    public void assertExport() {
+        SQLDigestStatisticsManager.getInstance().getStatistics("SELECT * FROM t_order WHERE order_id = 1").record(TimeUnit.MILLISECONDS.toNanos(1L), 2, false, true);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new SQLDigestStatisticsExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), containsString("SELECT * FROM t_order WHERE order_id = ?="));
+        assertThat(collector.get().toString(), containsString("calls=1"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogDumpStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ProxyMySQLBinlogDumpExporterTest {
+    
+    @AfterEach
+    public void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_mysql_binlog_dump", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.singletonList("name"));
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        BinlogDumpStatistics.getInstance().reset();
+    }
+    
+    @Test
+    public void assertExportWithoutEvent() {
+        assertFalse(new ProxyMySQLBinlogDumpExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    public void assertExport() {
+        BinlogDumpStatistics.getInstance().recordDecoded(2, 1000L);
+        BinlogDumpStatistics.getInstance().recordSkipped();
+        BinlogDumpStatistics.getInstance().recordLag("foo_job", 10L);
+        BinlogDumpStatistics.getInstance().recordLag("bar_job", 20L);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyMySQLBinlogDumpExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), containsString("decoded_event_count=1"));
+        assertThat(collector.get().toString(), containsString("decoded_row_count=2"));
+        assertThat(collector.get().toString(), containsString("skipped_event_count=1"));
+        assertThat(collector.get().toString(), containsString("max_lag_millis=20"));
+    }
+}
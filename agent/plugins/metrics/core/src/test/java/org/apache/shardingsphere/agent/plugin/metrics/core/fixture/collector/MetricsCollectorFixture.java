@@ -62,6 +62,12 @@ public final class MetricsCollectorFixture implements CounterMetricsCollector, G
         this.value = (int) value;
     }
     
+    @Override
+    public void observe(final double value, final String... labels) {
+        String key = String.join(".", labels);
+        labeledValues.put(key, labeledValues.getOrDefault(key, 0) + 1);
+    }
+    
     @Override
     public void addMetric(final List<String> labelValues, final double value) {
         for (String each : labelValues) {
@@ -25,10 +25,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.ConnectionAcquisitionExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLDigestStatisticsExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.ShardExecuteStatisticsExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyLazyTableMetaDataExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMySQLBinlogDumpExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxySessionVariableReplayExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyTrafficMatchExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyXATransactionCommitExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
 
@@ -64,6 +72,9 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new ShardExecuteStatisticsExporter()).register();
+        new PrometheusMetricsExporter(new SQLDigestStatisticsExporter()).register();
+        new PrometheusMetricsExporter(new ConnectionAcquisitionExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -77,6 +88,11 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyLazyTableMetaDataExporter()).register();
+        new PrometheusMetricsExporter(new ProxyXATransactionCommitExporter()).register();
+        new PrometheusMetricsExporter(new ProxySessionVariableReplayExporter()).register();
+        new PrometheusMetricsExporter(new ProxyMySQLBinlogDumpExporter()).register();
+        new PrometheusMetricsExporter(new ProxyTrafficMatchExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
@@ -22,12 +22,12 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
-import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,9 +48,9 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
     
     private final MySQLNullBitmap columnsPresentBitmap2;
     
-    private final List<Serializable[]> rows = new LinkedList<>();
+    private final List<Serializable[]> rows = new ArrayList<>();
     
-    private final List<Serializable[]> rows2 = new LinkedList<>();
+    private final List<Serializable[]> rows2 = new ArrayList<>();
     
     public MySQLBinlogRowsEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         super(binlogEventHeader);
@@ -90,20 +90,21 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
      */
     public void readRows(final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
         List<MySQLBinlogColumnDef> columnDefs = tableMapEventPacket.getColumnDefs();
+        MySQLBinlogProtocolValue[] columnProtocolValues = tableMapEventPacket.getColumnProtocolValues();
+        boolean updateRowsEvent = isUpdateRowsEvent(getBinlogEventHeader().getEventType());
         while (getRemainBytesLength(payload) > 0) {
-            rows.add(readRow(columnDefs, payload));
-            if (isUpdateRowsEvent(getBinlogEventHeader().getEventType())) {
-                rows2.add(readRow(columnDefs, payload));
+            rows.add(readRow(columnDefs, columnProtocolValues, payload));
+            if (updateRowsEvent) {
+                rows2.add(readRow(columnDefs, columnProtocolValues, payload));
             }
         }
     }
     
-    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
+    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLBinlogProtocolValue[] columnProtocolValues, final MySQLPacketPayload payload) {
         MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, payload);
         Serializable[] result = new Serializable[columnNumber];
         for (int i = 0; i < columnNumber; i++) {
-            MySQLBinlogColumnDef columnDef = columnDefs.get(i);
-            result[i] = nullBitmap.isNullParameter(i) ? null : MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, payload);
+            result[i] = nullBitmap.isNullParameter(i) ? null : columnProtocolValues[i].read(columnDefs.get(i), payload);
         }
         return result;
     }
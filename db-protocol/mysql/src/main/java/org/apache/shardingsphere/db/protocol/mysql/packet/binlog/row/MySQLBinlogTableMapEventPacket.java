@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -50,6 +53,9 @@ public final class MySQLBinlogTableMapEventPacket extends AbstractMySQLBinlogEve
     
     private final MySQLNullBitmap nullBitMap;
     
+    @Getter(AccessLevel.NONE)
+    private volatile MySQLBinlogProtocolValue[] columnProtocolValues;
+    
     public MySQLBinlogTableMapEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         super(binlogEventHeader);
         tableId = payload.readInt6();
@@ -59,7 +65,7 @@ public final class MySQLBinlogTableMapEventPacket extends AbstractMySQLBinlogEve
         tableName = payload.readStringFix(payload.readInt1());
         payload.skipReserved(1);
         columnCount = (int) payload.readIntLenenc();
-        columnDefs = new LinkedList<>();
+        columnDefs = new ArrayList<>(columnCount);
         readColumnDefs(payload);
         readColumnMetaDefs(payload);
         nullBitMap = new MySQLNullBitmap(columnCount, payload);
@@ -110,6 +116,35 @@ public final class MySQLBinlogTableMapEventPacket extends AbstractMySQLBinlogEve
         }
     }
     
+    /**
+     * Get binlog protocol values of columns.
+     * 
+     * <p>Binlog protocol values are resolved only once for each table map event.</p>
+     *
+     * @return binlog protocol values of columns
+     */
+    public MySQLBinlogProtocolValue[] getColumnProtocolValues() {
+        MySQLBinlogProtocolValue[] result = columnProtocolValues;
+        if (null == result) {
+            result = new MySQLBinlogProtocolValue[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDefs.get(i).getColumnType());
+            }
+            columnProtocolValues = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether table definition is same with another table map event.
+     *
+     * @param other other table map event
+     * @return same or not
+     */
+    public boolean isSameTableDefinition(final MySQLBinlogTableMapEventPacket other) {
+        return tableId == other.tableId && schemaName.equals(other.schemaName) && tableName.equals(other.tableName) && columnDefs.equals(other.columnDefs);
+    }
+    
     @Override
     protected void writeEvent(final MySQLPacketPayload payload) {
         // TODO
@@ -21,6 +21,8 @@ import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.integer.MySQLLongLongBinlogProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLVarcharBinlogProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
@@ -30,7 +32,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collection;
 import java.util.Iterator;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -71,6 +75,11 @@ public final class MySQLBinlogTableMapEventPacketTest {
         assertThat(actual.getColumnCount(), is(4));
         assertColumnDefs(actual.getColumnDefs());
         assertNullBitmap(actual.getNullBitMap());
+        assertThat(actual.getColumnProtocolValues().length, is(4));
+        assertThat(actual.getColumnProtocolValues()[0], instanceOf(MySQLLongLongBinlogProtocolValue.class));
+        assertThat(actual.getColumnProtocolValues()[1], instanceOf(MySQLVarcharBinlogProtocolValue.class));
+        assertThat(actual.getColumnProtocolValues(), sameInstance(actual.getColumnProtocolValues()));
+        assertTrue(actual.isSameTableDefinition(actual));
     }
     
     private void assertColumnDefs(final Collection<MySQLBinlogColumnDef> columnDefs) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.codec;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.AttributeMap;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Flow control of copy data messages sent by PostgreSQL client.
+ * 
+ * <p>Reading from client is suspended while too many copy data packets are waiting to be processed, and resumed once they are consumed.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInFlowControl {
+    
+    private static final AttributeKey<PostgreSQLCopyInFlowControl> ATTRIBUTE_KEY = AttributeKey.valueOf(PostgreSQLCopyInFlowControl.class.getName());
+    
+    private static final int MAX_PENDING_PACKETS = 16;
+    
+    private final Channel channel;
+    
+    private int pendingPackets;
+    
+    /**
+     * Get flow control of channel.
+     *
+     * @param channel channel
+     * @return flow control of channel
+     */
+    public static PostgreSQLCopyInFlowControl get(final Channel channel) {
+        PostgreSQLCopyInFlowControl result = channel.attr(ATTRIBUTE_KEY).get();
+        if (null != result) {
+            return result;
+        }
+        result = new PostgreSQLCopyInFlowControl(channel);
+        PostgreSQLCopyInFlowControl previous = channel.attr(ATTRIBUTE_KEY).setIfAbsent(result);
+        return null == previous ? result : previous;
+    }
+    
+    /**
+     * Find flow control of channel.
+     *
+     * @param attributeMap attribute map of channel
+     * @return found flow control
+     */
+    public static Optional<PostgreSQLCopyInFlowControl> find(final AttributeMap attributeMap) {
+        return Optional.ofNullable(attributeMap.attr(ATTRIBUTE_KEY).get());
+    }
+    
+    /**
+     * Mark a copy data packet received.
+     */
+    public synchronized void received() {
+        pendingPackets++;
+        if (MAX_PENDING_PACKETS == pendingPackets) {
+            channel.config().setAutoRead(false);
+        }
+    }
+    
+    /**
+     * Mark a copy data packet processed.
+     */
+    public synchronized void processed() {
+        if (0 == pendingPackets) {
+            return;
+        }
+        if (MAX_PENDING_PACKETS == pendingPackets) {
+            channel.config().setAutoRead(true);
+        }
+        pendingPackets--;
+    }
+    
+    /**
+     * Reset flow control after copy finished.
+     */
+    public synchronized void reset() {
+        if (pendingPackets >= MAX_PENDING_PACKETS) {
+            channel.config().setAutoRead(true);
+        }
+        pendingPackets = 0;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.codec;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PostgreSQLCopyInFlowControlTest {
+    
+    @Test
+    public void assertGet() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        assertThat(PostgreSQLCopyInFlowControl.get(channel), is(PostgreSQLCopyInFlowControl.get(channel)));
+    }
+    
+    @Test
+    public void assertSuspendAndResumeRead() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        PostgreSQLCopyInFlowControl flowControl = PostgreSQLCopyInFlowControl.get(channel);
+        for (int i = 0; i < 16; i++) {
+            flowControl.received();
+        }
+        assertFalse(channel.config().isAutoRead());
+        flowControl.processed();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertReset() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        PostgreSQLCopyInFlowControl flowControl = PostgreSQLCopyInFlowControl.get(channel);
+        for (int i = 0; i < 20; i++) {
+            flowControl.received();
+        }
+        flowControl.reset();
+        assertTrue(channel.config().isAutoRead());
+        flowControl.received();
+        assertTrue(channel.config().isAutoRead());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -42,6 +43,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -87,6 +89,20 @@ public final class PostgreSQLPacketCodecEngineTest {
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithCopyDataMessages() {
+        when(context.alloc().compositeBuffer(anyInt())).thenReturn(Unpooled.compositeBuffer());
+        PostgreSQLPacketCodecEngine engine = new PostgreSQLPacketCodecEngine();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, Unpooled.buffer().writeInt(8).writeInt(196608), out);
+        out.clear();
+        ByteBuf in = Unpooled.buffer().writeByte('d').writeInt(6).writeByte('a').writeByte('\n').writeByte('d').writeInt(6).writeByte('b').writeByte('\n').writeByte('c').writeInt(4);
+        engine.decode(context, in, out);
+        assertThat(out.size(), is(2));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(14));
+        assertThat(((ByteBuf) out.get(1)).getByte(0), is((byte) 'c'));
+    }
+    
     @Test
     public void assertEncodePostgreSQLPacket() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
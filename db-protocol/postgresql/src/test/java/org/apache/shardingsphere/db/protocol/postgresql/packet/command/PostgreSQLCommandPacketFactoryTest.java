@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLComTerminationPacket;
@@ -27,7 +29,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -79,4 +84,14 @@ public final class PostgreSQLCommandPacketFactoryTest {
         when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.TERMINATE, payload), instanceOf(PostgreSQLComTerminationPacket.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithAggregatedCopyDataComPacket() {
+        ByteBuf byteBuf = Unpooled.buffer().writeByte('d').writeInt(6).writeByte('a').writeByte('\n').writeByte('d').writeInt(5).writeByte('b');
+        PostgreSQLCommandPacket actual = PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DATA, new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(actual, instanceOf(PostgreSQLComCopyDataPacket.class));
+        assertThat(((PostgreSQLComCopyDataPacket) actual).getData().size(), is(2));
+        assertThat(((PostgreSQLComCopyDataPacket) actual).getData().get(0).toString(StandardCharsets.UTF_8), is("a\n"));
+        assertThat(((PostgreSQLComCopyDataPacket) actual).getData().get(1).toString(StandardCharsets.UTF_8), is("b"));
+    }
 }
@@ -67,4 +67,12 @@ public final class PostgreSQLCommandCompletePacketTest {
         packet.write(payload);
         assertThat(payload.readStringNul(), is(expectedString));
     }
+    
+    @Test
+    public void assertCopyReadWrite() {
+        String expectedString = "COPY 10";
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(ByteBufTestUtils.createByteBuf(expectedString.length() + 1), StandardCharsets.ISO_8859_1);
+        new PostgreSQLCommandCompletePacket("COPY", 10).write(payload);
+        assertThat(payload.readStringNul(), is(expectedString));
+    }
 }
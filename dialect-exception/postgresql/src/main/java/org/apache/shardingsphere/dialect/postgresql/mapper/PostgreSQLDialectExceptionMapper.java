@@ -29,6 +29,8 @@ import org.apache.shardingsphere.dialect.postgresql.exception.authority.EmptyUse
 import org.apache.shardingsphere.dialect.postgresql.exception.authority.InvalidPasswordException;
 import org.apache.shardingsphere.dialect.postgresql.exception.authority.PrivilegeNotGrantedException;
 import org.apache.shardingsphere.dialect.postgresql.exception.authority.UnknownUsernameException;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.CopyFromStdinFailedException;
 import org.apache.shardingsphere.dialect.postgresql.exception.metadata.ColumnNotFoundException;
 import org.apache.shardingsphere.dialect.postgresql.exception.protocol.ProtocolViolationException;
 import org.apache.shardingsphere.dialect.postgresql.message.ServerErrorMessageBuilder;
@@ -87,6 +89,12 @@ public final class PostgreSQLDialectExceptionMapper implements SQLDialectExcepti
             ColumnNotFoundException cause = (ColumnNotFoundException) sqlDialectException;
             return new PSQLException(ServerErrorMessageBuilder.build("FATAL", PostgreSQLVendorError.UNDEFINED_COLUMN, cause.getTableName(), cause.getColumnName()));
         }
+        if (sqlDialectException instanceof BadCopyFileFormatException) {
+            return new PSQLException(ServerErrorMessageBuilder.build("ERROR", PostgreSQLVendorError.BAD_COPY_FILE_FORMAT, ((BadCopyFileFormatException) sqlDialectException).getReason()));
+        }
+        if (sqlDialectException instanceof CopyFromStdinFailedException) {
+            return new PSQLException(ServerErrorMessageBuilder.build("ERROR", PostgreSQLVendorError.COPY_FROM_STDIN_FAILED, ((CopyFromStdinFailedException) sqlDialectException).getErrorMessage()));
+        }
         return new PSQLException(sqlDialectException.getMessage(), PSQLState.UNEXPECTED_ERROR);
     }
     
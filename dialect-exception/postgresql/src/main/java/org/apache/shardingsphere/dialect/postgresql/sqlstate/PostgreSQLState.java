@@ -38,6 +38,10 @@ public enum PostgreSQLState implements SQLState {
     
     UNDEFINED_COLUMN("42703"),
     
+    BAD_COPY_FILE_FORMAT("22P04"),
+    
+    QUERY_CANCELED("57014"),
+    
     SYSTEM_ERROR("58000");
     
     private final String value;
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.dialect.exception.data.InsertColumnsAndValuesMi
 import org.apache.shardingsphere.dialect.exception.data.InvalidParameterValueException;
 import org.apache.shardingsphere.dialect.exception.syntax.database.DatabaseCreateExistsException;
 import org.apache.shardingsphere.dialect.exception.transaction.InTransactionException;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.CopyFromStdinFailedException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -52,7 +54,8 @@ public final class PostgreSQLDialectExceptionMapperTest {
                     Arguments.of(InTransactionException.class, PSQLState.TRANSACTION_STATE_INVALID.getState()),
                     Arguments.of(InsertColumnsAndValuesMismatchedException.class, PSQLState.SYNTAX_ERROR.getState()),
                     Arguments.of(InvalidParameterValueException.class, PSQLState.INVALID_PARAMETER_VALUE.getState()),
-                    Arguments.of(TooManyConnectionsException.class, PSQLState.CONNECTION_REJECTED.getState()));
+                    Arguments.of(TooManyConnectionsException.class, PSQLState.CONNECTION_REJECTED.getState()),
+                    Arguments.of(BadCopyFileFormatException.class, "22P04"), Arguments.of(CopyFromStdinFailedException.class, PSQLState.QUERY_CANCELED.getState()));
         }
     }
 }
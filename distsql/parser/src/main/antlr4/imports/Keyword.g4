@@ -358,3 +358,23 @@ CLUSTER
 LOCK_STRATEGY
     : L O C K UL_ S T R A T E G Y
     ;
+
+SLOW
+    : S L O W
+    ;
+
+LIMIT
+    : L I M I T
+    ;
+
+SQL
+    : S Q L
+    ;
+
+DIGEST
+    : D I G E S T
+    ;
+
+STATISTICS
+    : S T A T I S T I C S
+    ;
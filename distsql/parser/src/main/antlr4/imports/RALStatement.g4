@@ -115,6 +115,14 @@ unlockCluster
     : UNLOCK CLUSTER
     ;
 
+showSlowStorageUnits
+    : SHOW SLOW STORAGE UNITS (LIMIT intValue)?
+    ;
+
+showSQLDigestStatistics
+    : SHOW SQL DIGEST STATISTICS (LIMIT intValue)?
+    ;
+
 inventoryIncrementalRule
     : LP_ readDefinition? (COMMA_? writeDefinition)? (COMMA_? streamChannel)? RP_
     ;
@@ -54,5 +54,7 @@ execute
     | alterMigrationRule
     | lockCluster
     | unlockCluster
+    | showSlowStorageUnits
+    | showSQLDigestStatistics
     ) SEMI?
     ;
@@ -60,6 +60,8 @@ import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowMigrationRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowRulesUsedStorageUnitContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowSingleTableContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowSQLDigestStatisticsContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowSlowStorageUnitsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowStorageUnitsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowTableMetadataContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.StorageUnitDefinitionContext;
@@ -85,6 +87,8 @@ import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowComp
 import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowDistVariableStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowDistVariablesStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowMigrationRuleStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSlowStorageUnitsStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowTableMetaDataStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.updatable.AlterComputeNodeStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.updatable.AlterInventoryIncrementalRuleStatement;
@@ -406,6 +410,16 @@ public final class KernelDistSQLStatementVisitor extends KernelDistSQLStatementB
         return new UnlockClusterStatement();
     }
     
+    @Override
+    public ASTNode visitShowSlowStorageUnits(final ShowSlowStorageUnitsContext ctx) {
+        return new ShowSlowStorageUnitsStatement(null == ctx.intValue() ? null : Integer.parseInt(ctx.intValue().getText()));
+    }
+    
+    @Override
+    public ASTNode visitShowSQLDigestStatistics(final ShowSQLDigestStatisticsContext ctx) {
+        return new ShowSQLDigestStatisticsStatement(null == ctx.intValue() ? null : Integer.parseInt(ctx.intValue().getText()));
+    }
+    
     @Override
     public ASTNode visitRateLimiter(final RateLimiterContext ctx) {
         return visit(ctx.algorithmDefinition());
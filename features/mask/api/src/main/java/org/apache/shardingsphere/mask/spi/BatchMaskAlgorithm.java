@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mask.spi;
+
+import java.util.List;
+
+/**
+ * Batch mask algorithm.
+ * 
+ * <p>Masks a vector of values of the same column at once, so that buffers of masking can be reused among values.</p>
+ *
+ * @param <I> type of plain value
+ * @param <O> type of masked value
+ */
+public interface BatchMaskAlgorithm<I, O> extends MaskAlgorithm<I, O> {
+    
+    /**
+     * Mask in batch.
+     *
+     * @param plainValues plain values of column
+     * @return masked values in the same order of plain values, null plain value is masked to null
+     */
+    List<O> batchMask(List<I> plainValues);
+}
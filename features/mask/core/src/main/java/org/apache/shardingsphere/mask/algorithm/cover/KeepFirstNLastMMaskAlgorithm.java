@@ -19,14 +19,16 @@ package org.apache.shardingsphere.mask.algorithm.cover;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.mask.algorithm.MaskAlgorithmPropsChecker;
-import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
+import org.apache.shardingsphere.mask.spi.BatchMaskAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * Keep first n last m algorithm.
  */
-public final class KeepFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object, String> {
+public final class KeepFirstNLastMMaskAlgorithm implements BatchMaskAlgorithm<Object, String> {
     
     private static final String FIRST_N = "first-n";
     
@@ -34,11 +36,11 @@ public final class KeepFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object,
     
     private static final String REPLACE_CHAR = "replace-char";
     
-    private Integer firstN;
+    private int firstN;
     
-    private Integer lastM;
+    private int lastM;
     
-    private Character replaceChar;
+    private char replaceChar;
     
     @Override
     public void init(final Properties props) {
@@ -47,17 +49,17 @@ public final class KeepFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object,
         replaceChar = createReplaceChar(props);
     }
     
-    private Integer createFirstN(final Properties props) {
+    private int createFirstN(final Properties props) {
         MaskAlgorithmPropsChecker.checkIntegerTypeConfig(props, FIRST_N, getType());
         return Integer.parseInt(props.getProperty(FIRST_N));
     }
     
-    private Integer createLastM(final Properties props) {
+    private int createLastM(final Properties props) {
         MaskAlgorithmPropsChecker.checkIntegerTypeConfig(props, LAST_M, getType());
         return Integer.parseInt(props.getProperty(LAST_M));
     }
     
-    private Character createReplaceChar(final Properties props) {
+    private char createReplaceChar(final Properties props) {
         MaskAlgorithmPropsChecker.checkSingleCharConfig(props, REPLACE_CHAR, getType());
         return props.getProperty(REPLACE_CHAR).charAt(0);
     }
@@ -65,17 +67,41 @@ public final class KeepFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object,
     @Override
     public String mask(final Object plainValue) {
         String result = null == plainValue ? null : String.valueOf(plainValue);
-        if (Strings.isNullOrEmpty(result)) {
+        if (isUnmasked(result)) {
             return result;
         }
-        if (result.length() < firstN + lastM) {
-            return result;
+        return cover(result, new char[result.length()]);
+    }
+    
+    @Override
+    public List<String> batchMask(final List<Object> plainValues) {
+        List<String> result = new ArrayList<>(plainValues.size());
+        char[] buffer = new char[0];
+        for (Object each : plainValues) {
+            String value = null == each ? null : String.valueOf(each);
+            if (isUnmasked(value)) {
+                result.add(value);
+                continue;
+            }
+            if (buffer.length < value.length()) {
+                buffer = new char[Math.max(value.length(), buffer.length << 1)];
+            }
+            result.add(cover(value, buffer));
         }
-        char[] chars = result.toCharArray();
-        for (int i = firstN; i < result.length() - lastM; i++) {
-            chars[i] = replaceChar;
+        return result;
+    }
+    
+    private boolean isUnmasked(final String value) {
+        return Strings.isNullOrEmpty(value) || value.length() < firstN + lastM;
+    }
+    
+    private String cover(final String value, final char[] buffer) {
+        int length = value.length();
+        value.getChars(0, length, buffer, 0);
+        for (int i = firstN; i < length - lastM; i++) {
+            buffer[i] = replaceChar;
         }
-        return new String(chars);
+        return new String(buffer, 0, length);
     }
     
     @Override
@@ -18,22 +18,31 @@
 package org.apache.shardingsphere.mask.algorithm.hash;
 
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
+import org.apache.shardingsphere.mask.spi.BatchMaskAlgorithm;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * MD5 mask algorithm.
  */
-public final class MD5MaskAlgorithm implements MaskAlgorithm<Object, String> {
+public final class MD5MaskAlgorithm implements BatchMaskAlgorithm<Object, String> {
     
     private static final String SALT = "salt";
     
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
     private String salt;
     
+    private byte[] saltBytes;
+    
     @Override
     public void init(final Properties props) {
         salt = props.getProperty(SALT, "");
+        saltBytes = salt.getBytes(StandardCharsets.UTF_8);
     }
     
     @Override
@@ -41,6 +50,33 @@ public final class MD5MaskAlgorithm implements MaskAlgorithm<Object, String> {
         return null == plainValue ? null : DigestUtils.md5Hex(plainValue + salt);
     }
     
+    @Override
+    public List<String> batchMask(final List<Object> plainValues) {
+        List<String> result = new ArrayList<>(plainValues.size());
+        MessageDigest messageDigest = DigestUtils.getMd5Digest();
+        char[] hexBuffer = new char[messageDigest.getDigestLength() << 1];
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encodeHex(digest(messageDigest, String.valueOf(each)), hexBuffer));
+        }
+        return result;
+    }
+    
+    private byte[] digest(final MessageDigest messageDigest, final String value) {
+        if (!value.isEmpty() && Character.isHighSurrogate(value.charAt(value.length() - 1)) && !salt.isEmpty()) {
+            return messageDigest.digest((value + salt).getBytes(StandardCharsets.UTF_8));
+        }
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        return messageDigest.digest(saltBytes);
+    }
+    
+    private String encodeHex(final byte[] digest, final char[] hexBuffer) {
+        for (int i = 0; i < digest.length; i++) {
+            hexBuffer[i << 1] = HEX_DIGITS[(digest[i] & 0xF0) >>> 4];
+            hexBuffer[(i << 1) + 1] = HEX_DIGITS[digest[i] & 0x0F];
+        }
+        return new String(hexBuffer);
+    }
+    
     @Override
     public String getType() {
         return "MD5";
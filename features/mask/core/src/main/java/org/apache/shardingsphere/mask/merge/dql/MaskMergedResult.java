@@ -23,11 +23,13 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for mask.
+ * 
+ * <p>Mask algorithm of each column is resolved once per result set and kept in an array indexed by column index.</p>
  */
 @RequiredArgsConstructor
 public final class MaskMergedResult implements MergedResult {
@@ -36,6 +38,11 @@ public final class MaskMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    @SuppressWarnings("rawtypes")
+    private MaskAlgorithm[] maskAlgorithms = new MaskAlgorithm[0];
+    
+    private boolean[] resolvedColumns = new boolean[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -44,12 +51,26 @@ public final class MaskMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<MaskAlgorithm> maskAlgorithm = metaData.findMaskAlgorithmByColumnIndex(columnIndex);
-        if (!maskAlgorithm.isPresent()) {
+        MaskAlgorithm maskAlgorithm = findMaskAlgorithm(columnIndex);
+        if (null == maskAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object originalValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
+        return null == originalValue ? null : maskAlgorithm.mask(originalValue);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private MaskAlgorithm findMaskAlgorithm(final int columnIndex) {
+        if (columnIndex >= resolvedColumns.length) {
+            int length = Math.max(columnIndex + 1, resolvedColumns.length << 1);
+            maskAlgorithms = Arrays.copyOf(maskAlgorithms, length);
+            resolvedColumns = Arrays.copyOf(resolvedColumns, length);
+        }
+        if (!resolvedColumns[columnIndex]) {
+            maskAlgorithms[columnIndex] = metaData.findMaskAlgorithmByColumnIndex(columnIndex).orElse(null);
+            resolvedColumns[columnIndex] = true;
+        }
+        return maskAlgorithms[columnIndex];
     }
     
     @Override
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,6 +49,11 @@ public final class KeepFirstNLastMMaskAlgorithmTest {
         assertThat(maskAlgorithm.mask("abc"), is("abc"));
     }
     
+    @Test
+    public void assertBatchMask() {
+        assertThat(maskAlgorithm.batchMask(Arrays.asList("abc123456", null, "abc", "abcd1234567890")), is(Arrays.asList("ab**23456", null, "abc", "ab*******67890")));
+    }
+    
     @Test
     public void assertInitWhenFirstNIsEmpty() {
         assertThrows(MaskAlgorithmInitializationException.class,
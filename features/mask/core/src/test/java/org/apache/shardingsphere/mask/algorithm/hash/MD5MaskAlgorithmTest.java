@@ -21,6 +21,8 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -42,6 +44,12 @@ public final class MD5MaskAlgorithmTest {
         assertThat(createMaskAlgorithm("202cb962ac5907").mask("abc123456"), is("02d44390e9354b72dd2aa78d55016f7f"));
     }
     
+    @Test
+    public void assertBatchMask() {
+        MD5MaskAlgorithm maskAlgorithm = createMaskAlgorithm("202cb962ac5907");
+        assertThat(maskAlgorithm.batchMask(Arrays.asList("abc123456", null, 123)), is(Arrays.asList("02d44390e9354b72dd2aa78d55016f7f", null, maskAlgorithm.mask(123))));
+    }
+    
     private MD5MaskAlgorithm createMaskAlgorithm(final String salt) {
         MD5MaskAlgorithm result = new MD5MaskAlgorithm();
         result.init(PropertiesBuilder.build(new Property("salt", salt)));
@@ -34,6 +34,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +60,23 @@ public final class MaskMergedResultTest {
         assertThat(new MaskMergedResult(metaData, mergedResult).getValue(1, String.class), is("MASK_VALUE"));
     }
     
+    @Test
+    public void assertGetValueWithResolvedMaskAlgorithm() throws SQLException {
+        when(mergedResult.getValue(2, Object.class)).thenReturn("VALUE");
+        MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
+        when(maskAlgorithm.mask("VALUE")).thenReturn("MASK_VALUE");
+        when(metaData.findMaskAlgorithmByColumnIndex(2)).thenReturn(Optional.of(maskAlgorithm));
+        when(metaData.findMaskAlgorithmByColumnIndex(1)).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, String.class)).thenReturn("PLAIN_VALUE");
+        MaskMergedResult actual = new MaskMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(2, String.class), is("MASK_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        assertThat(actual.getValue(2, String.class), is("MASK_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        verify(metaData).findMaskAlgorithmByColumnIndex(1);
+        verify(metaData).findMaskAlgorithmByColumnIndex(2);
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -74,6 +75,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -114,6 +116,24 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> broadcastTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<DataNode, TableRule> actualDataNodeTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> logicTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> allTables;
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSourceNames);
@@ -132,6 +152,12 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(ruleConfig.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = ruleConfig.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        broadcastTableRules = createBroadcastTableRules(this.dataSourceNames, broadcastTables);
+        actualTableRules = createActualTableRules(tableRules);
+        actualDataNodeTableRules = createActualDataNodeTableRules(tableRules);
+        logicTables = createLogicTables(tableRules, broadcastTables);
+        actualTables = createActualTables(tableRules);
+        allTables = createAllTables(logicTables, actualTables);
         ShardingSpherePreconditions.checkState(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms,
                 ruleConfig.getBindingTableGroups(), broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 InvalidBindingTablesException::new);
@@ -149,6 +175,51 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, TableRule> createBroadcastTableRules(final Collection<String> dataSourceNames, final Collection<String> broadcastTables) {
+        Map<String, TableRule> result = new HashMap<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.put(each, new TableRule(dataSourceNames, each));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, TableRule> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName().toLowerCase(), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<DataNode, TableRule> createActualDataNodeTableRules(final Map<String, TableRule> tableRules) {
+        Map<DataNode, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(new DataNode(dataNode.getDataSourceName(), dataNode.getTableName()), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Collection<String> createLogicTables(final Map<String, TableRule> tableRules, final Collection<String> broadcastTables) {
+        Set<String> result = tableRules.values().stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
+        result.addAll(broadcastTables);
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private Collection<String> createActualTables(final Map<String, TableRule> tableRules) {
+        return Collections.unmodifiableSet(tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet()));
+    }
+    
+    private Collection<String> createAllTables(final Collection<String> logicTables, final Collection<String> actualTables) {
+        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(logicTables);
+        result.addAll(actualTables);
+        return Collections.unmodifiableSet(result);
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -285,10 +356,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     @Override
     public Collection<String> getAllTables() {
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(getTables());
-        result.addAll(getAllActualTables());
-        return result;
+        return allTables;
     }
     
     /**
@@ -341,12 +409,21 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
+        return Strings.isNullOrEmpty(actualTableName) ? Optional.empty() : Optional.ofNullable(actualTableRules.get(actualTableName.toLowerCase()));
+    }
+    
+    /**
+     * Find table rule via data source name and actual table name.
+     *
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return table rule
+     */
+    public Optional<TableRule> findTableRuleByActualTable(final String dataSourceName, final String actualTableName) {
+        if (Strings.isNullOrEmpty(dataSourceName) || Strings.isNullOrEmpty(actualTableName)) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.ofNullable(actualDataNodeTableRules.get(new DataNode(dataSourceName, actualTableName)));
     }
     
     /**
@@ -361,7 +438,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
             return tableRule.get();
         }
         if (isBroadcastTable(logicTableName)) {
-            return new TableRule(dataSourceNames, logicTableName);
+            return getBroadcastTableRule(logicTableName);
         }
         throw new ShardingTableRuleNotFoundException(Collections.singleton(logicTableName));
     }
@@ -377,6 +454,11 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         throw new ShardingTableRuleNotFoundException(Collections.singleton(logicTableName));
     }
     
+    private TableRule getBroadcastTableRule(final String logicTableName) {
+        TableRule result = broadcastTableRules.get(logicTableName);
+        return null == result ? new TableRule(dataSourceNames, logicTableName) : result;
+    }
+    
     /**
      * Judge whether logic table is all binding tables or not.
      *
@@ -663,15 +745,11 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     @Override
     public Collection<DataNode> getDataNodesByTableName(final String tableName) {
         if (isBroadcastTable(tableName)) {
-            return new TableRule(dataSourceNames, tableName).getActualDataNodes();
+            return getBroadcastTableRule(tableName).getActualDataNodes();
         }
         return shardingTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
     }
     
-    private Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
-    }
-    
     @Override
     public Optional<String> findFirstActualTable(final String logicTable) {
         return findTableRule(logicTable).map(optional -> optional.getActualDataNodes().get(0).getTableName());
@@ -689,9 +767,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     @Override
     public Collection<String> getTables() {
-        Collection<String> result = tableRules.values().stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
-        result.addAll(broadcastTables);
-        return result;
+        return logicTables;
     }
     
     @Override
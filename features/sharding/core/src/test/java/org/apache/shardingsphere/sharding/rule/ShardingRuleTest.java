@@ -135,6 +135,25 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("SUB_TABLE_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
+    @Test
+    public void assertFindTableRuleByDataSourceAndActualTable() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("ds_1", "table_2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("LOGIC_TABLE"));
+    }
+    
+    @Test
+    public void assertNotFindTableRuleByDataSourceAndActualTable() {
+        assertFalse(createMaximumShardingRule().findTableRuleByActualTable("ds_2", "table_0").isPresent());
+    }
+    
     @Test
     public void assertFindLogicTableByActualTable() {
         assertTrue(createMaximumShardingRule().findLogicTableByActualTable("table_0").isPresent());
@@ -47,6 +47,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether output SQL log asynchronously by background writer, events are dropped instead of blocking when buffer is full.
+     */
+    SQL_SHOW_ASYNC_ENABLED("sql-show-async-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Percent of SQL to be sampled in async SQL log.
+     */
+    SQL_SHOW_SAMPLE_PERCENT("sql-show-sample-percent", String.valueOf(100), int.class, false),
+    
+    /**
+     * Max SQL count to be logged per second in async SQL log. Less than or equal to 0 means no limitation.
+     */
+    SQL_SHOW_MAX_COUNT_PER_SECOND("sql-show-max-count-per-second", String.valueOf(0), int.class, false),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
@@ -57,11 +72,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Timeout millis of waiting for connection acquisition permits when a query needs more than one connection of a data source.
+     */
+    CONNECTION_ACQUISITION_TIMEOUT_MILLISECONDS("connection-acquisition-timeout-milliseconds", String.valueOf(30000L), long.class, false),
+    
+    /**
+     * Whether acquire connections without permits instead of failing when waiting for connection acquisition permits timeout.
+     */
+    CONNECTION_ACQUISITION_DOWNGRADE_ENABLED("connection-acquisition-downgrade-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether load table meta data lazily on first access instead of loading all tables when application startup.
+     */
+    LAZY_TABLE_META_DATA_LOAD_ENABLED("lazy-table-metadata-load-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max cached table count of lazy loaded table meta data for each schema. Less than or equal to 0 means no limitation.
+     */
+    LAZY_TABLE_META_DATA_MAX_CACHED_COUNT("lazy-table-metadata-max-cached-count", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether track progress of executing SQL for show process list.
+     */
+    PROCESS_TRACKING_ENABLED("process-tracking-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
     /**
      * SQL federation type.
      */
@@ -127,7 +167,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * CDC server port.
      */
-    CDC_SERVER_PORT("cdc-server-port", "33071", int.class, true);
+    CDC_SERVER_PORT("cdc-server-port", "33071", int.class, true),
+    
+    /**
+     * Max count of data records in one ordered CDC incremental batch. The default value is 0, which means use batch size of importer.
+     */
+    CDC_MERGE_BATCH_SIZE("cdc-merge-batch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max milliseconds to wait for more data records before sending an incomplete ordered CDC incremental batch. The default value is 0, which means send immediately.
+     */
+    CDC_MERGE_BATCH_LINGER_MILLISECONDS("cdc-merge-batch-linger-milliseconds", String.valueOf(0L), long.class, false);
     
     private final String key;
     
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.type.SchemaSupportedDatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
@@ -61,7 +62,8 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
-        return build(getAllTableNames(material.getRules()), material);
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        return isLazy(material) ? buildLazy(tableNames, material) : build(tableNames, material);
     }
     
     /**
@@ -80,6 +82,19 @@ public final class GenericSchemaBuilder {
         return revise(result, material);
     }
     
+    private static boolean isLazy(final GenericSchemaBuilderMaterial material) {
+        return material.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_LOAD_ENABLED) && !(material.getProtocolType() instanceof SchemaSupportedDatabaseType);
+    }
+    
+    private static Map<String, ShardingSphereSchema> buildLazy(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(material.getProtocolType(), material.getDefaultSchemaName()).toLowerCase();
+        int maxCachedCount = material.getProps().getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_MAX_CACHED_COUNT);
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(1, 1);
+        result.put(schemaName, new ShardingSphereSchema(tableNames,
+                tableName -> Optional.ofNullable(build(Collections.singletonList(tableName), material).get(schemaName)).map(each -> each.getTable(tableName)), maxCachedCount));
+        return result;
+    }
+    
     private static boolean isProtocolTypeSameWithStorageType(final GenericSchemaBuilderMaterial material) {
         for (DatabaseType each : material.getStorageTypes().values()) {
             if (!material.getProtocolType().equals(each)) {
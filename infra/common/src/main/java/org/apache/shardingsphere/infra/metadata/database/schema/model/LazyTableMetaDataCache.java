@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lazy table meta data cache.
+ * 
+ * <p>Table meta data is loaded on first access, concurrent accesses of the same table share one loading.
+ * Least recently accessed tables are evicted when loaded tables exceed max cached count, and will be loaded again on next access.</p>
+ */
+public final class LazyTableMetaDataCache {
+    
+    private final Collection<String> tableNames;
+    
+    private final LazyTableMetaDataLoader loader;
+    
+    private final int maxCachedCount;
+    
+    private final Map<String, ShardingSphereTable> loadedTables;
+    
+    private final Map<String, Boolean> accessOrderedTableNames = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Map<String, CompletableFuture<Optional<ShardingSphereTable>>> loadingTables = new ConcurrentHashMap<>();
+    
+    private final LongAdder loadCount = new LongAdder();
+    
+    private final LongAdder loadTimeNanos = new LongAdder();
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    public LazyTableMetaDataCache(final Collection<String> tableNames, final LazyTableMetaDataLoader loader, final int maxCachedCount, final Map<String, ShardingSphereTable> loadedTables) {
+        this.tableNames = ConcurrentHashMap.newKeySet(tableNames.size());
+        tableNames.forEach(each -> this.tableNames.add(each.toLowerCase()));
+        this.loader = loader;
+        this.maxCachedCount = maxCachedCount;
+        this.loadedTables = loadedTables;
+    }
+    
+    /**
+     * Get all table names, including tables not loaded yet.
+     *
+     * @return all table names
+     */
+    public Collection<String> getTableNames() {
+        return tableNames;
+    }
+    
+    /**
+     * Judge whether contains table.
+     *
+     * @param tableName lower case table name
+     * @return contains table or not
+     */
+    public boolean containsTable(final String tableName) {
+        return tableNames.contains(tableName);
+    }
+    
+    /**
+     * Add table name of loaded table.
+     *
+     * @param tableName lower case table name
+     */
+    public void addTableName(final String tableName) {
+        tableNames.add(tableName);
+        recordAccessAndEvict(tableName);
+    }
+    
+    /**
+     * Remove table name.
+     *
+     * @param tableName lower case table name
+     */
+    public void removeTableName(final String tableName) {
+        tableNames.remove(tableName);
+        if (0 < maxCachedCount) {
+            synchronized (accessOrderedTableNames) {
+                accessOrderedTableNames.remove(tableName);
+            }
+        }
+    }
+    
+    /**
+     * Get table meta data, load it if not loaded yet.
+     *
+     * @param tableName lower case table name
+     * @return table meta data, null if table is absent
+     * @throws SQLWrapperException SQL wrapper exception
+     */
+    public ShardingSphereTable getTable(final String tableName) {
+        ShardingSphereTable result = loadedTables.get(tableName);
+        if (null != result) {
+            recordAccess(tableName);
+            return result;
+        }
+        return tableNames.contains(tableName) ? load(tableName).orElse(null) : null;
+    }
+    
+    private Optional<ShardingSphereTable> load(final String tableName) {
+        CompletableFuture<Optional<ShardingSphereTable>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<ShardingSphereTable>> loadingFuture = loadingTables.putIfAbsent(tableName, future);
+        if (null != loadingFuture) {
+            try {
+                return loadingFuture.join();
+            } catch (final CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+            }
+        }
+        try {
+            Optional<ShardingSphereTable> result = Optional.ofNullable(loadedTables.get(tableName));
+            if (!result.isPresent()) {
+                result = loadFromLoader(tableName);
+            }
+            future.complete(result);
+            return result;
+        } catch (final SQLException ex) {
+            SQLWrapperException wrapperException = new SQLWrapperException(ex);
+            future.completeExceptionally(wrapperException);
+            throw wrapperException;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException | Error ex) {
+            // CHECKSTYLE:ON
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadingTables.remove(tableName);
+        }
+    }
+    
+    /**
+     * Get all tables, tables not loaded yet are loaded.
+     *
+     * @return all tables
+     * @throws SQLWrapperException SQL wrapper exception
+     */
+    public Map<String, ShardingSphereTable> getAllTables() {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            ShardingSphereTable table = getTable(each);
+            if (null != table) {
+                result.put(each, table);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<ShardingSphereTable> loadFromLoader(final String tableName) throws SQLException {
+        long startTime = System.nanoTime();
+        Optional<ShardingSphereTable> result = loader.load(tableName);
+        loadCount.increment();
+        loadTimeNanos.add(System.nanoTime() - startTime);
+        if (result.isPresent()) {
+            loadedTables.put(tableName, result.get());
+            recordAccessAndEvict(tableName);
+        } else {
+            tableNames.remove(tableName);
+        }
+        return result;
+    }
+    
+    private void recordAccess(final String tableName) {
+        if (0 < maxCachedCount) {
+            synchronized (accessOrderedTableNames) {
+                accessOrderedTableNames.get(tableName);
+            }
+        }
+    }
+    
+    private void recordAccessAndEvict(final String tableName) {
+        if (0 >= maxCachedCount) {
+            return;
+        }
+        synchronized (accessOrderedTableNames) {
+            accessOrderedTableNames.put(tableName, Boolean.TRUE);
+            Iterator<String> iterator = accessOrderedTableNames.keySet().iterator();
+            while (accessOrderedTableNames.size() > maxCachedCount) {
+                String evictedTableName = iterator.next();
+                iterator.remove();
+                if (null != loadedTables.remove(evictedTableName)) {
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get loaded table count.
+     *
+     * @return loaded table count
+     */
+    public int getLoadedTableCount() {
+        return loadedTables.size();
+    }
+    
+    /**
+     * Get load count.
+     *
+     * @return load count
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+    
+    /**
+     * Get total load time in nanoseconds.
+     *
+     * @return total load time in nanoseconds
+     */
+    public long getLoadTimeNanos() {
+        return loadTimeNanos.sum();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
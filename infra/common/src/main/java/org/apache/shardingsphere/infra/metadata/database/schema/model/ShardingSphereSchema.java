@@ -29,17 +29,21 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * ShardingSphere schema.
  */
-@Getter
 public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereTable> tables;
     
+    @Getter
     private final Map<String, ShardingSphereView> views;
     
+    @Getter
+    private final LazyTableMetaDataCache lazyTableMetaDataCache;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTableMetaDataCache = null;
     }
     
     public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
@@ -47,6 +51,52 @@ public final class ShardingSphereSchema {
         this.views = new ConcurrentHashMap<>(views.size(), 1);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
+        lazyTableMetaDataCache = null;
+    }
+    
+    /**
+     * Create lazy ShardingSphere schema, tables are only loaded on first access.
+     *
+     * @param tableNames all table names
+     * @param loader lazy table meta data loader
+     * @param maxCachedCount max cached table count, less than or equal to 0 means no limitation
+     */
+    @SuppressWarnings("CollectionWithoutInitialCapacity")
+    public ShardingSphereSchema(final Collection<String> tableNames, final LazyTableMetaDataLoader loader, final int maxCachedCount) {
+        tables = new ConcurrentHashMap<>();
+        views = new ConcurrentHashMap<>();
+        lazyTableMetaDataCache = new LazyTableMetaDataCache(tableNames, loader, maxCachedCount, tables);
+    }
+    
+    /**
+     * Get tables.
+     * 
+     * <p>All tables of lazy schema are loaded, and the returned map is unmodifiable.</p>
+     *
+     * @return tables
+     */
+    public Map<String, ShardingSphereTable> getTables() {
+        return null == lazyTableMetaDataCache ? tables : Collections.unmodifiableMap(lazyTableMetaDataCache.getAllTables());
+    }
+    
+    /**
+     * Get loaded tables.
+     * 
+     * <p>Tables of lazy schema which are not loaded yet or have been evicted are not contained.</p>
+     *
+     * @return loaded tables
+     */
+    public Map<String, ShardingSphereTable> getLoadedTables() {
+        return tables;
+    }
+    
+    /**
+     * Judge whether table meta data is loaded lazily.
+     *
+     * @return is lazy or not
+     */
+    public boolean isLazy() {
+        return null != lazyTableMetaDataCache;
     }
     
     /**
@@ -55,7 +105,7 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        return null == lazyTableMetaDataCache ? tables.keySet() : lazyTableMetaDataCache.getTableNames();
     }
     
     /**
@@ -74,7 +124,7 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        return null == lazyTableMetaDataCache ? tables.get(tableName.toLowerCase()) : lazyTableMetaDataCache.getTable(tableName.toLowerCase());
     }
     
     /**
@@ -95,6 +145,9 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        if (null != lazyTableMetaDataCache) {
+            lazyTableMetaDataCache.addTableName(tableName.toLowerCase());
+        }
     }
     
     /**
@@ -125,6 +178,9 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTableMetaDataCache) {
+            lazyTableMetaDataCache.removeTableName(tableName.toLowerCase());
+        }
     }
     
     /**
@@ -143,7 +199,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return null == lazyTableMetaDataCache ? tables.containsKey(tableName.toLowerCase()) : lazyTableMetaDataCache.containsTable(tableName.toLowerCase());
     }
     
     /**
@@ -154,7 +210,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && getTable(tableName).getColumns().containsKey(columnName.toLowerCase());
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.getColumns().containsKey(columnName.toLowerCase());
     }
     
     /**
@@ -165,7 +222,8 @@ public final class ShardingSphereSchema {
      * @return whether contains index name or not
      */
     public boolean containsIndex(final String tableName, final String indexName) {
-        return containsTable(tableName) && getTable(tableName).getIndexes().containsKey(indexName.toLowerCase());
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.getIndexes().containsKey(indexName.toLowerCase());
     }
     
     /**
@@ -185,7 +243,8 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getColumnNames() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getColumnNames();
     }
     
     /**
@@ -195,6 +254,7 @@ public final class ShardingSphereSchema {
      * @return visible column names
      */
     public List<String> getVisibleColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getVisibleColumns();
     }
 }
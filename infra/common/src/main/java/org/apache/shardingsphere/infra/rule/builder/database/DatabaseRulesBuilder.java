@@ -27,6 +27,9 @@ import org.apache.shardingsphere.infra.config.rule.function.EnhancedRuleConfigur
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -52,10 +56,34 @@ public final class DatabaseRulesBuilder {
      * @param instanceContext instance context
      * @return built rules
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseConfiguration databaseConfig, final InstanceContext instanceContext) {
+        return build(databaseName, databaseConfig, instanceContext, Collections.emptyList());
+    }
+    
+    /**
+     * Build database rules and reuse current rules whose configurations are not changed.
+     * 
+     * <p>Rules are built in order and later rules depend on former rules, so current rules are reused only until the first changed rule,
+     * and the rules after it are rebuilt. Data sources of database configuration must be same with the data sources current rules built with.</p>
+     *
+     * @param databaseName database name
+     * @param databaseConfig database configuration
+     * @param instanceContext instance context
+     * @param currentRules current rules
+     * @return built rules
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseConfiguration databaseConfig, final InstanceContext instanceContext,
+                                                       final Collection<ShardingSphereRule> currentRules) {
         Collection<ShardingSphereRule> result = new LinkedList<>();
+        boolean reusable = !currentRules.isEmpty();
         for (Entry<RuleConfiguration, DatabaseRuleBuilder> entry : getRuleBuilderMap(databaseConfig).entrySet()) {
+            Optional<ShardingSphereRule> reusableRule = reusable ? findReusableRule(entry.getKey(), currentRules) : Optional.empty();
+            if (reusableRule.isPresent()) {
+                result.add(reusableRule.get());
+                continue;
+            }
+            reusable = false;
             RuleConfigurationChecker configChecker = OrderedSPILoader.getServicesByClass(
                     RuleConfigurationChecker.class, Collections.singleton(entry.getKey().getClass())).get(entry.getKey().getClass());
             if (null != configChecker) {
@@ -66,6 +94,24 @@ public final class DatabaseRulesBuilder {
         return result;
     }
     
+    private static Optional<ShardingSphereRule> findReusableRule(final RuleConfiguration ruleConfig, final Collection<ShardingSphereRule> currentRules) {
+        for (ShardingSphereRule each : currentRules) {
+            if (null != each.getConfiguration() && ruleConfig.getClass() == each.getConfiguration().getClass()) {
+                return isSameConfiguration(ruleConfig, each.getConfiguration()) ? Optional.of(each) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean isSameConfiguration(final RuleConfiguration ruleConfig, final RuleConfiguration currentRuleConfig) {
+        if (ruleConfig == currentRuleConfig) {
+            return true;
+        }
+        YamlRuleConfigurationSwapperEngine swapperEngine = new YamlRuleConfigurationSwapperEngine();
+        Collection<YamlRuleConfiguration> yamlRuleConfigs = swapperEngine.swapToYamlRuleConfigurations(Collections.singleton(ruleConfig));
+        return !yamlRuleConfigs.isEmpty() && YamlEngine.marshal(yamlRuleConfigs).equals(YamlEngine.marshal(swapperEngine.swapToYamlRuleConfigurations(Collections.singleton(currentRuleConfig))));
+    }
+    
     @SuppressWarnings("rawtypes")
     private static Map<RuleConfiguration, DatabaseRuleBuilder> getRuleBuilderMap(final DatabaseConfiguration databaseConfig) {
         Map<RuleConfiguration, DatabaseRuleBuilder> result = new LinkedHashMap<>();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema;
 
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -24,14 +25,23 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class ShardingSphereSchemaTest {
     
@@ -119,4 +129,98 @@ public final class ShardingSphereSchemaTest {
                 new ShardingSphereColumn("col", 0, false, false, false, false, true)), Collections.emptyList(), Collections.emptyList());
         assertThat(new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap()).getVisibleColumnNames("tbl"), is(Collections.emptyList()));
     }
+    
+    @Test
+    public void assertGetTableWithLazyLoading() throws SQLException {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("tbl")).thenReturn(Optional.of(table));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.singleton("TBL"), loader, 0);
+        assertThat(actual.getAllTableNames(), is(Collections.singleton("tbl")));
+        assertTrue(actual.containsTable("tbl"));
+        assertTrue(actual.getLoadedTables().isEmpty());
+        assertThat(actual.getTable("Tbl"), is(table));
+        assertThat(actual.getTable("tbl"), is(table));
+        verify(loader, times(1)).load("tbl");
+        assertThat(actual.getLazyTableMetaDataCache().getLoadedTableCount(), is(1));
+        assertThat(actual.getLazyTableMetaDataCache().getLoadCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetAbsentTableWithLazyLoading() throws SQLException {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("tbl")).thenReturn(Optional.empty());
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.singleton("tbl"), loader, 0);
+        assertFalse(actual.containsColumn("tbl", "col"));
+        assertTrue(actual.getAllColumnNames("tbl").isEmpty());
+        assertFalse(actual.containsTable("tbl"));
+    }
+    
+    @Test
+    public void assertEvictLazyLoadedTable() throws SQLException {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("foo_tbl")).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        when(loader.load("bar_tbl")).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Arrays.asList("foo_tbl", "bar_tbl"), loader, 1);
+        actual.getTable("foo_tbl");
+        actual.getTable("bar_tbl");
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("bar_tbl")));
+        assertThat(actual.getLazyTableMetaDataCache().getEvictionCount(), is(1L));
+        assertTrue(actual.containsTable("foo_tbl"));
+        actual.getTable("foo_tbl");
+        verify(loader, times(2)).load("foo_tbl");
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyAccessedLazyLoadedTable() throws SQLException {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("foo_tbl")).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        when(loader.load("bar_tbl")).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        when(loader.load("baz_tbl")).thenReturn(Optional.of(mock(ShardingSphereTable.class)));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Arrays.asList("foo_tbl", "bar_tbl", "baz_tbl"), loader, 2);
+        actual.getTable("foo_tbl");
+        actual.getTable("bar_tbl");
+        actual.getTable("foo_tbl");
+        actual.getTable("baz_tbl");
+        assertThat(actual.getLoadedTables().keySet(), is(new HashSet<>(Arrays.asList("foo_tbl", "baz_tbl"))));
+        assertThat(actual.getLazyTableMetaDataCache().getEvictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetTablesWithLazyLoading() throws SQLException {
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        ShardingSphereTable fooTable = mock(ShardingSphereTable.class);
+        ShardingSphereTable barTable = mock(ShardingSphereTable.class);
+        when(loader.load("foo_tbl")).thenReturn(Optional.of(fooTable));
+        when(loader.load("bar_tbl")).thenReturn(Optional.of(barTable));
+        when(loader.load("baz_tbl")).thenReturn(Optional.empty());
+        ShardingSphereSchema actual = new ShardingSphereSchema(Arrays.asList("foo_tbl", "bar_tbl", "baz_tbl"), loader, 1);
+        Map<String, ShardingSphereTable> actualTables = actual.getTables();
+        assertThat(actualTables.size(), is(2));
+        assertThat(actualTables.get("foo_tbl"), is(fooTable));
+        assertThat(actualTables.get("bar_tbl"), is(barTable));
+        assertThat(actual.getLoadedTables().size(), is(1));
+    }
+    
+    @Test
+    public void assertGetTableWithLazyLoadingFailed() throws SQLException {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("tbl")).thenThrow(new IllegalStateException("failed")).thenReturn(Optional.of(table));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.singleton("tbl"), loader, 0);
+        assertThrows(IllegalStateException.class, () -> actual.getTable("tbl"));
+        assertThat(actual.getTable("tbl"), is(table));
+    }
+    
+    @Test
+    public void assertPutAndRemoveTableWithLazyLoading() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyList(), mock(LazyTableMetaDataLoader.class), 0);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        actual.putTable("tbl", table);
+        assertTrue(actual.containsTable("tbl"));
+        assertThat(actual.getTable("tbl"), is(table));
+        actual.removeTable("tbl");
+        assertFalse(actual.containsTable("tbl"));
+        assertNull(actual.getTable("tbl"));
+    }
 }
@@ -22,12 +22,16 @@ import org.apache.shardingsphere.infra.fixture.FixtureRuleConfiguration;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureDatabaseRule;
+import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureDatabaseRuleConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -41,4 +45,23 @@ public final class DatabaseRulesBuilderTest {
         assertThat(actual.next(), instanceOf(FixtureDatabaseRule.class));
         assertFalse(actual.hasNext());
     }
+    
+    @Test
+    public void assertBuildWithUnchangedCurrentRules() {
+        DataSourceProvidedDatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.emptyList());
+        Collection<ShardingSphereRule> currentRules = DatabaseRulesBuilder.build("foo_db", databaseConfig, mock(InstanceContext.class));
+        Collection<ShardingSphereRule> actual = DatabaseRulesBuilder.build("foo_db", databaseConfig, mock(InstanceContext.class), currentRules);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(currentRules.iterator().next()));
+    }
+    
+    @Test
+    public void assertBuildWithChangedCurrentRules() {
+        ShardingSphereRule currentRule = new FixtureDatabaseRule(new FixtureDatabaseRuleConfiguration("changed"));
+        Collection<ShardingSphereRule> actual = DatabaseRulesBuilder.build("foo_db",
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.emptyList()), mock(InstanceContext.class), Collections.singleton(currentRule));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), not(currentRule));
+        assertThat(actual.iterator().next(), instanceOf(FixtureDatabaseRule.class));
+    }
 }
@@ -17,17 +17,15 @@
 
 package org.apache.shardingsphere.infra.rule.builder.fixture;
 
-import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 
-import static org.mockito.Mockito.mock;
-
+@RequiredArgsConstructor
+@Getter
 public final class FixtureDatabaseRule implements DatabaseRule {
     
-    @Override
-    public RuleConfiguration getConfiguration() {
-        return mock(RuleConfiguration.class);
-    }
+    private final FixtureDatabaseRuleConfiguration configuration;
     
     @Override
     public String getType() {
@@ -30,7 +30,7 @@ public final class FixtureDatabaseRuleBuilder implements DatabaseRuleBuilder<Fix
     @Override
     public FixtureDatabaseRule build(final FixtureDatabaseRuleConfiguration config, final String databaseName,
                                      final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final InstanceContext instanceContext) {
-        return new FixtureDatabaseRule();
+        return new FixtureDatabaseRule(config);
     }
     
     @Override
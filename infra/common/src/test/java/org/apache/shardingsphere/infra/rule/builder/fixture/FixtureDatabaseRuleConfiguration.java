@@ -17,7 +17,17 @@
 
 package org.apache.shardingsphere.infra.rule.builder.fixture;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
 
+@RequiredArgsConstructor
+@Getter
 public final class FixtureDatabaseRuleConfiguration implements DatabaseRuleConfiguration {
+    
+    private final String name;
+    
+    public FixtureDatabaseRuleConfiguration() {
+        this("");
+    }
 }
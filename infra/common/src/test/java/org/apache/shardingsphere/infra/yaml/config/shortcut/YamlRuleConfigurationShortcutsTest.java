@@ -30,7 +30,8 @@ public final class YamlRuleConfigurationShortcutsTest {
     @Test
     public void assertGetYamlShortcuts() {
         Map<String, Class<?>> actual = new YamlRuleConfigurationShortcuts().getYamlShortcuts();
-        assertThat(actual.size(), is(1));
+        assertThat(actual.size(), is(2));
         assertTrue(actual.containsKey("!FIXTURE"));
+        assertTrue(actual.containsKey("!FIXTURE_DATABASE"));
     }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.log.AsyncSQLLogger;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -71,8 +72,15 @@ public final class KernelProcessor {
     }
     
     private void logSQL(final QueryContext queryContext, final ConfigurationProperties props, final ExecutionContext executionContext) {
-        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
-            SQLLogger.logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            return;
+        }
+        boolean showSimple = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE);
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW_ASYNC_ENABLED)) {
+            AsyncSQLLogger.getInstance().logSQL(queryContext, showSimple, executionContext,
+                    props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_PERCENT), props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_MAX_COUNT_PER_SECOND));
+        } else {
+            SQLLogger.logSQL(queryContext, showSimple, executionContext);
         }
     }
 }
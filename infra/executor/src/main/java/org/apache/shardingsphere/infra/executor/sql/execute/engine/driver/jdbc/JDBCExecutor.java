@@ -63,6 +63,8 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        setDatabaseName(executionGroupContext, firstCallback);
+        setDatabaseName(executionGroupContext, callback);
         try {
             return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction());
         } catch (final SQLException ex) {
@@ -70,4 +72,10 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    private <T> void setDatabaseName(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> callback) {
+        if (null != callback && null != executionGroupContext.getReportContext()) {
+            callback.setDatabaseName(executionGroupContext.getReportContext().getDatabaseName());
+        }
+    }
 }
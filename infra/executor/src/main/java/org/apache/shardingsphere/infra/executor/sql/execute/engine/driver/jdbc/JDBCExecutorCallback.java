@@ -17,17 +17,24 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.DatabaseMetaData;
@@ -35,6 +42,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +65,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final boolean isExceptionThrown;
     
+    @Setter(AccessLevel.PACKAGE)
+    private String databaseName;
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -83,7 +94,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread);
+            long startNanos = System.nanoTime();
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            recordStatistics(jdbcExecutionUnit.getExecutionUnit(), System.nanoTime() - startNanos, result);
             sqlExecutionHook.finishSuccess();
             finishReport(jdbcExecutionUnit);
             return result;
@@ -110,6 +123,31 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         return result;
     }
     
+    private void recordStatistics(final ExecutionUnit executionUnit, final long elapsedNanos, final T result) {
+        if (null == databaseName) {
+            return;
+        }
+        long rowCount = getRowCount(result);
+        List<RouteMapper> tableRouteMappers = executionUnit.getSqlUnit().getTableRouteMappers();
+        if (tableRouteMappers.isEmpty()) {
+            ShardExecuteStatisticsManager.getInstance().recordExecute(databaseName, executionUnit.getDataSourceName(), "", elapsedNanos, rowCount);
+            return;
+        }
+        for (RouteMapper each : tableRouteMappers) {
+            ShardExecuteStatisticsManager.getInstance().recordExecute(databaseName, executionUnit.getDataSourceName(), each.getActualName(), elapsedNanos, rowCount);
+        }
+    }
+    
+    private long getRowCount(final T result) {
+        if (result instanceof AbstractMemoryQueryResult) {
+            return ((AbstractMemoryQueryResult) result).getRowCount();
+        }
+        if (result instanceof UpdateResult) {
+            return ((UpdateResult) result).getUpdateCount();
+        }
+        return 0L;
+    }
+    
     private void finishReport(final SQLExecutionUnit executionUnit) {
         new ExecuteProcessEngine().finishExecution(executionUnit);
     }
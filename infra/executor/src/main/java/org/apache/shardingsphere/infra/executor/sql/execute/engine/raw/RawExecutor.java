@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.raw;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -43,6 +44,8 @@ public final class RawExecutor {
     
     private final ConnectionContext connectionContext;
     
+    private final ConfigurationProperties props;
+    
     /**
      * Execute.
      *
@@ -56,7 +59,7 @@ public final class RawExecutor {
                                        final QueryContext queryContext, final RawSQLExecutorCallback callback) throws SQLException {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
-            executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
+            executeProcessEngine.initializeExecution(executionGroupContext, queryContext, props);
             // TODO Load query header for first query
             List<ExecuteResult> results = execute(executionGroupContext, (RawSQLExecutorCallback) null, callback);
             return results.isEmpty() || Objects.isNull(results.get(0)) ? Collections.singletonList(new UpdateResult(0, 0L)) : results;
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Async SQL logger.
+ * 
+ * <p>Request threads only hand off SQL log events to a lock free ring buffer, a background writer formats and outputs them in batch.
+ * Events are dropped instead of blocking request threads when the buffer is full.
+ * The writer is started once when the async SQL logger is first used, parks while the buffer is empty and is woken up by request threads.
+ * A stopped logger never starts a writer again, SQL is logged synchronously after it is stopped.</p>
+ */
+@Slf4j
+public final class AsyncSQLLogger {
+    
+    private static final int BUFFER_CAPACITY = 8192;
+    
+    private static final int MAX_BATCH_SIZE = 256;
+    
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5L);
+    
+    private static final long DROPPED_REPORT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+    
+    private final SQLLogRingBuffer buffer;
+    
+    private final AtomicLong rateLimitSecond = new AtomicLong();
+    
+    private final AtomicLong rateLimitCount = new AtomicLong();
+    
+    @Getter
+    private final LongAdder droppedCount = new LongAdder();
+    
+    @Getter
+    private final LongAdder rateLimitedCount = new LongAdder();
+    
+    private volatile State state = State.NEW;
+    
+    private volatile Thread writer;
+    
+    private volatile boolean waiting;
+    
+    private long reportedDroppedCount;
+    
+    private long lastReportMillis;
+    
+    AsyncSQLLogger(final int bufferCapacity) {
+        buffer = new SQLLogRingBuffer(bufferCapacity);
+    }
+    
+    /**
+     * Get async SQL logger.
+     *
+     * @return async SQL logger
+     */
+    public static AsyncSQLLogger getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+    
+    /**
+     * Shutdown writer of async SQL logger, buffered SQL log events are output before the writer stops.
+     */
+    public static void shutdown() {
+        InstanceHolder.INSTANCE.stop();
+    }
+    
+    synchronized void start() {
+        if (State.NEW != state) {
+            return;
+        }
+        writer = ExecutorThreadFactoryBuilder.build("SQL-Logger-%d").newThread(this::write);
+        writer.start();
+        state = State.STARTED;
+    }
+    
+    void stop() {
+        Thread stoppedWriter;
+        synchronized (this) {
+            if (State.STOPPED == state) {
+                return;
+            }
+            stoppedWriter = writer;
+            state = State.STOPPED;
+        }
+        if (null == stoppedWriter) {
+            return;
+        }
+        stoppedWriter.interrupt();
+        try {
+            stoppedWriter.join(STOP_TIMEOUT_MILLIS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Log SQL asynchronously.
+     *
+     * @param queryContext query context
+     * @param showSimple whether show SQL in simple style
+     * @param executionContext execution context
+     * @param samplePercent percent of SQL to be sampled
+     * @param maxCountPerSecond max SQL log count per second, less than or equal to 0 means no limitation
+     */
+    public void logSQL(final QueryContext queryContext, final boolean showSimple, final ExecutionContext executionContext, final int samplePercent, final int maxCountPerSecond) {
+        if (!isSampled(samplePercent)) {
+            return;
+        }
+        if (!tryAcquire(maxCountPerSecond)) {
+            rateLimitedCount.increment();
+            return;
+        }
+        Collection<ExecutionUnit> executionUnits = copyExecutionUnits(executionContext.getExecutionUnits(), showSimple);
+        if (State.STOPPED == state) {
+            SQLLogger.logSQL(queryContext.getSql(), showSimple, executionUnits);
+            return;
+        }
+        if (!buffer.offer(new SQLLogEvent(queryContext.getSql(), showSimple, executionUnits))) {
+            droppedCount.increment();
+            return;
+        }
+        if (waiting) {
+            wakeUpWriter();
+        }
+    }
+    
+    private Collection<ExecutionUnit> copyExecutionUnits(final Collection<ExecutionUnit> executionUnits, final boolean showSimple) {
+        if (showSimple) {
+            return new ArrayList<>(executionUnits);
+        }
+        Collection<ExecutionUnit> result = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            SQLUnit sqlUnit = each.getSqlUnit();
+            result.add(sqlUnit.getParameters().isEmpty() ? each : new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(sqlUnit.getParameters()))));
+        }
+        return result;
+    }
+    
+    private void wakeUpWriter() {
+        Thread currentWriter = writer;
+        if (null != currentWriter) {
+            LockSupport.unpark(currentWriter);
+        }
+    }
+    
+    private boolean isSampled(final int samplePercent) {
+        return samplePercent >= 100 || samplePercent > 0 && ThreadLocalRandom.current().nextInt(100) < samplePercent;
+    }
+    
+    private boolean tryAcquire(final int maxCountPerSecond) {
+        if (maxCountPerSecond <= 0) {
+            return true;
+        }
+        long currentSecond = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        long second = rateLimitSecond.get();
+        if (currentSecond != second && rateLimitSecond.compareAndSet(second, currentSecond)) {
+            rateLimitCount.set(0L);
+        }
+        return rateLimitCount.incrementAndGet() <= maxCountPerSecond;
+    }
+    
+    private void write() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (0 == drain(MAX_BATCH_SIZE)) {
+                reportDropped();
+                awaitEvents();
+            }
+        }
+        int drainedCount;
+        do {
+            drainedCount = drain(MAX_BATCH_SIZE);
+        } while (0 != drainedCount);
+    }
+    
+    private void awaitEvents() {
+        waiting = true;
+        if (buffer.isEmpty()) {
+            LockSupport.parkNanos(this, MAX_IDLE_PARK_NANOS);
+        }
+        waiting = false;
+    }
+    
+    /**
+     * Drain and output buffered SQL log events.
+     *
+     * @param maxBatchSize max event count to be drained
+     * @return drained event count
+     */
+    int drain(final int maxBatchSize) {
+        int result = 0;
+        SQLLogEvent each;
+        while (result < maxBatchSize && null != (each = buffer.poll())) {
+            try {
+                SQLLogger.logSQL(each.getLogicSQL(), each.isShowSimple(), each.getExecutionUnits());
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Output SQL log failed.", ex);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private void reportDropped() {
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - lastReportMillis < DROPPED_REPORT_INTERVAL_MILLIS) {
+            return;
+        }
+        lastReportMillis = currentMillis;
+        long dropped = droppedCount.sum();
+        if (dropped > reportedDroppedCount) {
+            log.warn("{} SQL log events are dropped because async SQL log buffer is full.", dropped - reportedDroppedCount);
+            reportedDroppedCount = dropped;
+        }
+    }
+    
+    private enum State {
+        
+        NEW, STARTED, STOPPED
+    }
+    
+    private static final class InstanceHolder {
+        
+        private static final AsyncSQLLogger INSTANCE = createInstance();
+        
+        private static AsyncSQLLogger createInstance() {
+            AsyncSQLLogger result = new AsyncSQLLogger(BUFFER_CAPACITY);
+            result.start();
+            return result;
+        }
+    }
+}
@@ -15,25 +15,24 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.infra.executor.sql.process.model;
+package org.apache.shardingsphere.infra.executor.sql.log;
 
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Collection;
+
 /**
- * Execute process unit.
+ * SQL log event.
  */
+@RequiredArgsConstructor
 @Getter
-@Setter
-public final class ExecuteProcessUnit {
+public final class SQLLogEvent {
     
-    private final String unitID;
+    private final String logicSQL;
     
-    private volatile ExecuteProcessStatusEnum processStatus;
+    private final boolean showSimple;
     
-    public ExecuteProcessUnit(final ExecutionUnit executionUnit, final ExecuteProcessStatusEnum processStatus) {
-        this.unitID = String.valueOf(executionUnit.hashCode());
-        this.processStatus = processStatus;
-    }
+    private final Collection<ExecutionUnit> executionUnits;
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock free ring buffer of SQL log events, for multiple producers and single consumer.
+ * 
+ * <p>Each slot carries a sequence: producers claim a slot by CAS on tail and publish the event by advancing the slot sequence,
+ * the consumer takes the event and advances the slot sequence by capacity to release it for next round.</p>
+ */
+public final class SQLLogRingBuffer {
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<SQLLogEvent> events;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private long head;
+    
+    public SQLLogRingBuffer(final int capacity) {
+        Preconditions.checkArgument(capacity > 0 && 0 == (capacity & (capacity - 1)), "Capacity `%s` must be power of 2.", capacity);
+        mask = capacity - 1;
+        events = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Offer event, return immediately without blocking if buffer is full.
+     *
+     * @param event event to be offered
+     * @return offered or not
+     */
+    public boolean offer(final SQLLogEvent event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference < 0L) {
+                return false;
+            }
+            if (0L == difference && tail.compareAndSet(position, position + 1L)) {
+                events.lazySet(index, event);
+                sequences.set(index, position + 1L);
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Poll event, only one consumer thread is allowed.
+     *
+     * @return polled event, null if buffer is empty
+     */
+    public SQLLogEvent poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1L) {
+            return null;
+        }
+        head = position + 1L;
+        SQLLogEvent result = events.getAndSet(index, null);
+        sequences.lazySet(index, position + mask + 1L);
+        return result;
+    }
+    
+    /**
+     * Judge whether buffer is empty, only the consumer thread is allowed.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1L;
+    }
+}
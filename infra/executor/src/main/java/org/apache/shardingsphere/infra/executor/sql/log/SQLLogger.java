@@ -43,11 +43,15 @@ public final class SQLLogger {
      * @param executionContext Execution context
      */
     public static void logSQL(final QueryContext queryContext, final boolean showSimple, final ExecutionContext executionContext) {
-        log("Logic SQL: {}", queryContext.getSql());
+        logSQL(queryContext.getSql(), showSimple, executionContext.getExecutionUnits());
+    }
+    
+    static void logSQL(final String logicSQL, final boolean showSimple, final Collection<ExecutionUnit> executionUnits) {
+        log("Logic SQL: {}", logicSQL);
         if (showSimple) {
-            logSimpleMode(executionContext.getExecutionUnits());
+            logSimpleMode(executionUnits);
         } else {
-            logNormalMode(executionContext.getExecutionUnits());
+            logNormalMode(executionUnits);
         }
     }
     
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection acquisition coordinator.
+ * 
+ * <p>Acquiring more than one connection of a data source one time reserves permits of the data source first,
+ * permits are sized by max pool size of the data source, so that acquirers never hold part of connections and wait for each other.
+ * Data source without recognizable max pool size has only one permit, which means acquisitions are serialized.
+ * Permits of data source have to be removed when the data source is closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionAcquisitionCoordinator {
+    
+    private static final ConnectionAcquisitionCoordinator INSTANCE = new ConnectionAcquisitionCoordinator();
+    
+    private static final String MAX_POOL_SIZE = "maxPoolSize";
+    
+    private final Map<DataSource, ConnectionAcquisitionPermits> dataSourcePermits = new ConcurrentHashMap<>();
+    
+    private final LongAdder waitCount = new LongAdder();
+    
+    private final LongAdder waitNanos = new LongAdder();
+    
+    private final LongAdder downgradeCount = new LongAdder();
+    
+    private final LongAdder rejectCount = new LongAdder();
+    
+    /**
+     * Get connection acquisition coordinator.
+     *
+     * @return connection acquisition coordinator
+     */
+    public static ConnectionAcquisitionCoordinator getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire connections.
+     *
+     * @param dataSource data source
+     * @param connectionSize connection size
+     * @param timeoutMillis timeout millis of waiting for permits
+     * @param downgradeEnabled whether to acquire connections without permits when waiting for permits timeout
+     * @param connectionsCreator connections creator
+     * @param <C> type of resource connection
+     * @return acquired connections
+     * @throws SQLException SQL exception
+     */
+    public <C> List<C> acquire(final DataSource dataSource, final int connectionSize, final long timeoutMillis, final boolean downgradeEnabled,
+                               final ConnectionsCreator<C> connectionsCreator) throws SQLException {
+        ConnectionAcquisitionPermits permits = getPermits(dataSource);
+        int permitCount = Math.min(connectionSize, permits.getMaxPermits());
+        if (!tryAcquirePermits(permits.getSemaphore(), permitCount, timeoutMillis)) {
+            if (!downgradeEnabled) {
+                rejectCount.increment();
+                throw new OverallConnectionNotEnoughException(connectionSize, 0).toSQLException();
+            }
+            downgradeCount.increment();
+            return connectionsCreator.create();
+        }
+        try {
+            return connectionsCreator.create();
+        } finally {
+            permits.getSemaphore().release(permitCount);
+        }
+    }
+    
+    private ConnectionAcquisitionPermits getPermits(final DataSource dataSource) {
+        ConnectionAcquisitionPermits result = dataSourcePermits.get(dataSource);
+        if (null != result) {
+            return result;
+        }
+        ConnectionAcquisitionPermits newPermits = new ConnectionAcquisitionPermits(getMaxPoolSize(dataSource));
+        result = dataSourcePermits.putIfAbsent(dataSource, newPermits);
+        return null == result ? newPermits : result;
+    }
+    
+    private boolean tryAcquirePermits(final Semaphore semaphore, final int permitCount, final long timeoutMillis) throws SQLException {
+        if (semaphore.tryAcquire(permitCount)) {
+            return true;
+        }
+        waitCount.increment();
+        long startNanos = System.nanoTime();
+        try {
+            return semaphore.tryAcquire(permitCount, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            waitNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+    
+    private int getMaxPoolSize(final DataSource dataSource) {
+        try {
+            Object result = DataSourcePropertiesCreator.create(dataSource).getPoolPropertySynonyms().getStandardProperties().get(MAX_POOL_SIZE);
+            return result instanceof Number && ((Number) result).intValue() > 0 ? ((Number) result).intValue() : 1;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return 1;
+        }
+    }
+    
+    /**
+     * Remove permits of data source.
+     *
+     * @param dataSource data source to be removed
+     */
+    public void remove(final DataSource dataSource) {
+        dataSourcePermits.remove(dataSource);
+    }
+    
+    /**
+     * Get count of acquisitions waited for permits.
+     *
+     * @return wait count
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+    
+    /**
+     * Get average millis of waiting for permits.
+     *
+     * @return average wait millis
+     */
+    public double getAverageWaitMillis() {
+        long count = getWaitCount();
+        return 0L == count ? 0D : waitNanos.sum() / 1000000D / count;
+    }
+    
+    /**
+     * Get count of acquisitions downgraded to acquire connections without permits.
+     *
+     * @return downgrade count
+     */
+    public long getDowngradeCount() {
+        return downgradeCount.sum();
+    }
+    
+    /**
+     * Get count of acquisitions rejected because of waiting for permits timeout.
+     *
+     * @return reject count
+     */
+    public long getRejectCount() {
+        return rejectCount.sum();
+    }
+}
@@ -22,9 +22,6 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
-
-import java.util.Optional;
 
 /**
  * Execute process report.
@@ -50,11 +47,13 @@ public final class ExecuteProcessReporter {
      */
     public void report(final QueryContext queryContext, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext,
                        final ExecuteProcessStatusEnum processStatus) {
-        ExecuteProcessContext originExecuteProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionGroupContext.getReportContext().getExecutionID());
-        boolean isProxyContext = null != originExecuteProcessContext && originExecuteProcessContext.isProxyContext();
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(queryContext.getSql(), executionGroupContext, processStatus, isProxyContext);
-        ShowProcessListManager.getInstance().putProcessContext(executeProcessContext.getExecutionID(), executeProcessContext);
-        ShowProcessListManager.getInstance().putProcessStatement(executeProcessContext.getExecutionID(), executeProcessContext.getProcessStatements());
+        String executionID = executionGroupContext.getReportContext().getExecutionID();
+        ExecuteProcessContext processContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        if (null != processContext && processContext.isProxyContext()) {
+            processContext.start(queryContext.getSql(), executionGroupContext, processStatus);
+            return;
+        }
+        ShowProcessListManager.getInstance().putProcessContext(executionID, new ExecuteProcessContext(queryContext.getSql(), executionGroupContext, processStatus, false));
     }
     
     /**
@@ -65,9 +64,10 @@ public final class ExecuteProcessReporter {
      * @param processStatus process status
      */
     public void report(final String executionID, final SQLExecutionUnit executionUnit, final ExecuteProcessStatusEnum processStatus) {
-        ExecuteProcessUnit executeProcessUnit = new ExecuteProcessUnit(executionUnit.getExecutionUnit(), processStatus);
-        ExecuteProcessContext executeProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
-        Optional.ofNullable(executeProcessContext.getProcessUnits().get(executeProcessUnit.getUnitID())).ifPresent(optional -> optional.setProcessStatus(executeProcessUnit.getProcessStatus()));
+        ExecuteProcessContext processContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        if (null != processContext && ExecuteProcessStatusEnum.DONE == processStatus) {
+            processContext.completeUnit();
+        }
     }
     
     /**
@@ -76,13 +76,12 @@ public final class ExecuteProcessReporter {
      * @param executionID execution ID
      */
     public void reportClean(final String executionID) {
-        ShowProcessListManager.getInstance().removeProcessStatement(executionID);
-        ExecuteProcessContext executeProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
-        if (null == executeProcessContext) {
+        ExecuteProcessContext processContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        if (null == processContext) {
             return;
         }
-        if (executeProcessContext.isProxyContext()) {
-            executeProcessContext.resetExecuteProcessContextToSleep();
+        if (processContext.isProxyContext()) {
+            processContext.resetExecuteProcessContextToSleep();
         } else {
             ShowProcessListManager.getInstance().removeProcessContext(executionID);
         }
@@ -94,7 +93,6 @@ public final class ExecuteProcessReporter {
      * @param executionID execution ID
      */
     public void reportRemove(final String executionID) {
-        ShowProcessListManager.getInstance().removeProcessStatement(executionID);
         ShowProcessListManager.getInstance().removeProcessContext(executionID);
     }
 }
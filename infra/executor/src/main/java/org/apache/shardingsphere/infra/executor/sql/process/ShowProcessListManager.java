@@ -40,9 +40,6 @@ public final class ShowProcessListManager {
     @Getter
     private final Map<String, ExecuteProcessContext> processContexts = new ConcurrentHashMap<>();
     
-    @Getter
-    private final Map<String, Collection<Statement>> processStatements = new ConcurrentHashMap<>();
-    
     @Getter
     private final Map<String, ShowProcessListSimpleLock> locks = new ConcurrentHashMap<>();
     
@@ -65,19 +62,6 @@ public final class ShowProcessListManager {
         processContexts.put(executionId, processContext);
     }
     
-    /**
-     * Put process statements.
-     *
-     * @param executionId execution id
-     * @param statements statements
-     */
-    public void putProcessStatement(final String executionId, final Collection<Statement> statements) {
-        if (statements.isEmpty()) {
-            return;
-        }
-        processStatements.put(executionId, statements);
-    }
-    
     /**
      * Get execute process context.
      * 
@@ -95,7 +79,8 @@ public final class ShowProcessListManager {
      * @return execute statements
      */
     public Collection<Statement> getProcessStatement(final String executionId) {
-        return processStatements.getOrDefault(executionId, Collections.emptyList());
+        ExecuteProcessContext processContext = processContexts.get(executionId);
+        return null == processContext ? Collections.emptyList() : processContext.getProcessStatements();
     }
     
     /**
@@ -107,15 +92,6 @@ public final class ShowProcessListManager {
         processContexts.remove(executionId);
     }
     
-    /**
-     * Remove execute process statement.
-     *
-     * @param executionId execution id
-     */
-    public void removeProcessStatement(final String executionId) {
-        processStatements.remove(executionId);
-    }
-    
     /**
      * Get all execute process context.
      * 
@@ -17,21 +17,23 @@
 
 package org.apache.shardingsphere.infra.executor.sql.process.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
-import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 
 import java.sql.Statement;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Execute process context.
+ * 
+ * <p>Process context of proxy is a slot preallocated for each connection, which is updated in place by every execution without allocation.
+ * Sequence is odd while execution is being updated, readers take a snapshot and retry if sequence changed during reading.
+ * Statements of a connection are executed one by one, so all units of previous execution are completed before next execution starts.</p>
  */
 @Getter
 public final class ExecuteProcessContext {
@@ -44,50 +46,98 @@ public final class ExecuteProcessContext {
     
     private final String hostname;
     
-    private String sql;
+    private final boolean proxyContext;
     
-    private final Map<String, ExecuteProcessUnit> processUnits = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong sequence = new AtomicLong();
     
-    private final Collection<Statement> processStatements = new LinkedList<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger completedUnitCount = new AtomicInteger();
     
-    private long startTimeMillis = System.currentTimeMillis();
+    @Getter(AccessLevel.NONE)
+    private String sql;
     
-    private ExecuteProcessStatusEnum processStatus;
+    @Getter(AccessLevel.NONE)
+    private ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext;
     
-    private final boolean proxyContext;
+    @Getter(AccessLevel.NONE)
+    private long startTimeMillis;
+    
+    @Getter(AccessLevel.NONE)
+    private ExecuteProcessStatusEnum processStatus;
     
     public ExecuteProcessContext(final String sql, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessStatusEnum processStatus,
                                  final boolean isProxyContext) {
-        this.executionID = executionGroupContext.getReportContext().getExecutionID();
-        this.sql = sql;
-        this.databaseName = executionGroupContext.getReportContext().getDatabaseName();
+        executionID = executionGroupContext.getReportContext().getExecutionID();
+        databaseName = executionGroupContext.getReportContext().getDatabaseName();
         Grantee grantee = executionGroupContext.getReportContext().getGrantee();
-        this.username = null != grantee ? grantee.getUsername() : null;
-        this.hostname = null != grantee ? grantee.getHostname() : null;
-        this.processStatus = processStatus;
-        addProcessUnitsAndStatements(executionGroupContext, processStatus);
+        username = null != grantee ? grantee.getUsername() : null;
+        hostname = null != grantee ? grantee.getHostname() : null;
         proxyContext = isProxyContext;
+        start(sql, executionGroupContext, processStatus);
     }
     
-    private void addProcessUnitsAndStatements(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessStatusEnum processStatus) {
-        for (ExecutionGroup<? extends SQLExecutionUnit> each : executionGroupContext.getInputGroups()) {
-            for (SQLExecutionUnit executionUnit : each.getInputs()) {
-                ExecuteProcessUnit processUnit = new ExecuteProcessUnit(executionUnit.getExecutionUnit(), processStatus);
-                processUnits.put(processUnit.getUnitID(), processUnit);
-                if (executionUnit instanceof JDBCExecutionUnit) {
-                    processStatements.add(((JDBCExecutionUnit) executionUnit).getStorageResource());
-                }
-            }
-        }
+    /**
+     * Start execution in this process context.
+     *
+     * @param sql SQL
+     * @param executionGroupContext execution group context
+     * @param processStatus process status
+     */
+    public void start(final String sql, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessStatusEnum processStatus) {
+        sequence.incrementAndGet();
+        this.sql = sql;
+        this.executionGroupContext = executionGroupContext;
+        startTimeMillis = System.currentTimeMillis();
+        this.processStatus = processStatus;
+        completedUnitCount.set(0);
+        sequence.incrementAndGet();
+    }
+    
+    /**
+     * Complete one execution unit of current execution.
+     */
+    public void completeUnit() {
+        completedUnitCount.incrementAndGet();
+    }
+    
+    /**
+     * Get statements of current execution.
+     *
+     * @return statements of current execution
+     */
+    public Collection<Statement> getProcessStatements() {
+        return getSnapshot().getProcessStatements();
     }
     
     /**
      * Reset execute process context to sleep.
      */
     public void resetExecuteProcessContextToSleep() {
-        this.sql = "";
-        this.startTimeMillis = System.currentTimeMillis();
-        this.processStatus = ExecuteProcessStatusEnum.SLEEP;
+        start("", null, ExecuteProcessStatusEnum.SLEEP);
     }
     
+    /**
+     * Get snapshot of current execution.
+     *
+     * @return snapshot of current execution
+     */
+    public ExecuteProcessSnapshot getSnapshot() {
+        ExecuteProcessSnapshot result;
+        long startSequence;
+        do {
+            startSequence = waitForStableSequence();
+            result = new ExecuteProcessSnapshot(sql, executionGroupContext, startTimeMillis, processStatus, completedUnitCount.get());
+        } while (startSequence != sequence.getAndAdd(0L));
+        return result;
+    }
+    
+    private long waitForStableSequence() {
+        long result = sequence.get();
+        while (1L == (result & 1L)) {
+            Thread.yield();
+            result = sequence.get();
+        }
+        return result;
+    }
 }
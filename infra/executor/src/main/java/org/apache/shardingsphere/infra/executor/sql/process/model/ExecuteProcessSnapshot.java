@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+/**
+ * Execute process snapshot.
+ * 
+ * <p>Snapshot is taken when process list is shown, so unit count is calculated here rather than on execution.</p>
+ */
+@Getter
+public final class ExecuteProcessSnapshot {
+    
+    private final String sql;
+    
+    @Getter(AccessLevel.NONE)
+    private final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext;
+    
+    private final int totalUnitCount;
+    
+    private final int completedUnitCount;
+    
+    private final long startTimeMillis;
+    
+    private final ExecuteProcessStatusEnum processStatus;
+    
+    public ExecuteProcessSnapshot(final String sql, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final long startTimeMillis,
+                                  final ExecuteProcessStatusEnum processStatus, final int completedUnitCount) {
+        this.sql = sql;
+        this.executionGroupContext = executionGroupContext;
+        totalUnitCount = null == executionGroupContext ? 0 : countUnits(executionGroupContext);
+        this.completedUnitCount = completedUnitCount;
+        this.startTimeMillis = startTimeMillis;
+        this.processStatus = processStatus;
+    }
+    
+    private int countUnits(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
+        int result = 0;
+        for (ExecutionGroup<? extends SQLExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            result += each.getInputs().size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get statements of this execution.
+     *
+     * @return statements of this execution
+     */
+    public Collection<Statement> getProcessStatements() {
+        if (null == executionGroupContext) {
+            return Collections.emptyList();
+        }
+        Collection<Statement> result = new LinkedList<>();
+        for (ExecutionGroup<? extends SQLExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (SQLExecutionUnit executionUnit : each.getInputs()) {
+                if (executionUnit instanceof JDBCExecutionUnit) {
+                    result.add(((JDBCExecutionUnit) executionUnit).getStorageResource());
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -21,9 +21,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessSnapshot;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -58,12 +58,15 @@ public final class YamlExecuteProcessContext {
         databaseName = executeProcessContext.getDatabaseName();
         username = executeProcessContext.getUsername();
         hostname = executeProcessContext.getHostname();
-        sql = executeProcessContext.getSql();
-        unitStatuses = new ArrayList<>(executeProcessContext.getProcessUnits().size());
-        for (ExecuteProcessUnit each : executeProcessContext.getProcessUnits().values()) {
-            unitStatuses.add(new YamlExecuteProcessUnit(each));
+        ExecuteProcessSnapshot snapshot = executeProcessContext.getSnapshot();
+        sql = snapshot.getSql();
+        int totalUnitCount = snapshot.getTotalUnitCount();
+        int completedUnitCount = Math.min(snapshot.getCompletedUnitCount(), totalUnitCount);
+        unitStatuses = new ArrayList<>(totalUnitCount);
+        for (int i = 0; i < totalUnitCount; i++) {
+            unitStatuses.add(new YamlExecuteProcessUnit(String.valueOf(i), i < completedUnitCount ? ExecuteProcessStatusEnum.DONE : ExecuteProcessStatusEnum.START));
         }
-        startTimeMillis = executeProcessContext.getStartTimeMillis();
-        processStatus = executeProcessContext.getProcessStatus();
+        startTimeMillis = snapshot.getStartTimeMillis();
+        processStatus = snapshot.getProcessStatus();
     }
 }
@@ -22,7 +22,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
 
 /**
  * Execute process unit for YAML.
@@ -36,9 +35,4 @@ public final class YamlExecuteProcessUnit {
     private String unitID;
     
     private volatile ExecuteProcessStatusEnum processStatus;
-    
-    public YamlExecuteProcessUnit(final ExecuteProcessUnit executeProcessUnit) {
-        unitID = executeProcessUnit.getUnitID();
-        processStatus = executeProcessUnit.getProcessStatus();
-    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL digest statistics.
+ * 
+ * <p>All counters are striped, so recording on hot path does not contend or allocate.
+ * Latency distribution is kept in log-linear buckets of microseconds, each power of two is split into 4 buckets,
+ * so estimated percentile is at most 25% higher than the real one.</p>
+ */
+public final class SQLDigestStatistics {
+    
+    private static final int SUB_BUCKET_BITS = 2;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int BUCKET_COUNT = 128;
+    
+    private static final double P99 = 0.99D;
+    
+    @Getter
+    private final String digest;
+    
+    private final LongAdder calls = new LongAdder();
+    
+    private final LongAdder errors = new LongAdder();
+    
+    private final LongAdder federationCalls = new LongAdder();
+    
+    private final LongAdder elapsedNanos = new LongAdder();
+    
+    private final LongAccumulator minElapsedNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    
+    private final LongAccumulator maxElapsedNanos = new LongAccumulator(Math::max, 0L);
+    
+    private final LongAdder rowCount = new LongAdder();
+    
+    private final LongAdder routeUnitCount = new LongAdder();
+    
+    private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_COUNT];
+    
+    public SQLDigestStatistics(final String digest) {
+        this.digest = digest;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Record execution.
+     *
+     * @param elapsedNanos elapsed nanos
+     * @param routeUnitCount route unit count
+     * @param federation whether executed by SQL federation
+     * @param success whether executed successfully
+     */
+    public void record(final long elapsedNanos, final int routeUnitCount, final boolean federation, final boolean success) {
+        calls.increment();
+        if (!success) {
+            errors.increment();
+        }
+        if (federation) {
+            federationCalls.increment();
+        }
+        this.elapsedNanos.add(elapsedNanos);
+        minElapsedNanos.accumulate(elapsedNanos);
+        maxElapsedNanos.accumulate(elapsedNanos);
+        this.routeUnitCount.add(routeUnitCount);
+        latencyBuckets[getBucketIndex(TimeUnit.NANOSECONDS.toMicros(elapsedNanos))].increment();
+    }
+    
+    /**
+     * Add returned or affected row count.
+     *
+     * @param rowCount row count
+     */
+    public void addRowCount(final long rowCount) {
+        this.rowCount.add(rowCount);
+    }
+    
+    private static int getBucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) Math.max(micros, 0L);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket, BUCKET_COUNT - 1);
+    }
+    
+    private static long getBucketUpperBoundMicros(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int exponent = bucketIndex / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = bucketIndex % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1L) << (exponent - SUB_BUCKET_BITS)) - 1L;
+    }
+    
+    /**
+     * Get snapshot.
+     *
+     * @return snapshot
+     */
+    public SQLDigestStatisticsSnapshot getSnapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = latencyBuckets[i].sum();
+            total += bucketCounts[i];
+        }
+        long maxElapsedNanos = this.maxElapsedNanos.get();
+        long p99ElapsedNanos = Math.min(getPercentileNanos(bucketCounts, total, P99), maxElapsedNanos);
+        long minElapsedNanos = 0L == total ? 0L : this.minElapsedNanos.get();
+        return new SQLDigestStatisticsSnapshot(digest, calls.sum(), errors.sum(), federationCalls.sum(),
+                elapsedNanos.sum(), minElapsedNanos, maxElapsedNanos, p99ElapsedNanos, rowCount.sum(), routeUnitCount.sum());
+    }
+    
+    private static long getPercentileNanos(final long[] bucketCounts, final long total, final double percentile) {
+        long threshold = (long) Math.ceil(total * percentile);
+        long accumulated = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            accumulated += bucketCounts[i];
+            if (accumulated >= threshold && accumulated > 0L) {
+                return TimeUnit.MICROSECONDS.toNanos(getBucketUpperBoundMicros(i) + 1L);
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * SQL digest statistics manager.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLDigestStatisticsManager {
+    
+    /**
+     * Digest of statements which are recorded after max digest count reached.
+     */
+    public static final String OTHERS_DIGEST = "<others>";
+    
+    private static final SQLDigestStatisticsManager INSTANCE = new SQLDigestStatisticsManager();
+    
+    private static final int MAX_DIGEST_COUNT = 5000;
+    
+    private static final int MAX_CACHED_SQL_COUNT = 2000;
+    
+    private final Map<String, SQLDigestStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private final Cache<String, String> digests = Caffeine.newBuilder().maximumSize(MAX_CACHED_SQL_COUNT).build();
+    
+    /**
+     * Get SQL digest statistics manager.
+     *
+     * @return SQL digest statistics manager
+     */
+    public static SQLDigestStatisticsManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get statistics of SQL.
+     *
+     * @param sql SQL
+     * @return SQL digest statistics
+     */
+    public SQLDigestStatistics getStatistics(final String sql) {
+        return getStatisticsByDigest(SQLDigestUtils.digest(sql));
+    }
+    
+    /**
+     * Get statistics of query.
+     * 
+     * <p>Digests are cached by SQL, so prepared statements and other repeated SQL are normalized only once.</p>
+     *
+     * @param queryContext query context
+     * @return SQL digest statistics
+     */
+    public SQLDigestStatistics getStatistics(final QueryContext queryContext) {
+        return getStatisticsByDigest(digests.get(queryContext.getSql(), SQLDigestUtils::digest));
+    }
+    
+    private SQLDigestStatistics getStatisticsByDigest(final String digest) {
+        SQLDigestStatistics result = statistics.get(digest);
+        if (null != result) {
+            return result;
+        }
+        return statistics.size() < MAX_DIGEST_COUNT
+                ? statistics.computeIfAbsent(digest, SQLDigestStatistics::new)
+                : statistics.computeIfAbsent(OTHERS_DIGEST, SQLDigestStatistics::new);
+    }
+    
+    /**
+     * Get snapshots of all SQL digest statistics.
+     *
+     * @return snapshots of all SQL digest statistics
+     */
+    public Collection<SQLDigestStatisticsSnapshot> getAllSnapshots() {
+        return statistics.values().stream().map(SQLDigestStatistics::getSnapshot).collect(Collectors.toList());
+    }
+    
+    /**
+     * Get snapshots of most expensive SQL digest statistics, order by total elapsed time.
+     *
+     * @param limit limit
+     * @return snapshots of most expensive SQL digest statistics
+     */
+    public List<SQLDigestStatisticsSnapshot> getTopSnapshots(final int limit) {
+        return getAllSnapshots().stream().sorted(Comparator.comparingLong(SQLDigestStatisticsSnapshot::getTotalElapsedNanos).reversed()).limit(limit).collect(Collectors.toList());
+    }
+    
+    /**
+     * Reset all SQL digest statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL digest statistics snapshot.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLDigestStatisticsSnapshot {
+    
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final String digest;
+    
+    private final long calls;
+    
+    private final long errors;
+    
+    private final long federationCalls;
+    
+    private final long totalElapsedNanos;
+    
+    private final long minElapsedNanos;
+    
+    private final long maxElapsedNanos;
+    
+    private final long p99ElapsedNanos;
+    
+    private final long rowCount;
+    
+    private final long routeUnitCount;
+    
+    /**
+     * Get total elapsed millis.
+     *
+     * @return total elapsed millis
+     */
+    public double getTotalElapsedMillis() {
+        return totalElapsedNanos / NANOS_PER_MILLI;
+    }
+    
+    /**
+     * Get average elapsed millis.
+     *
+     * @return average elapsed millis
+     */
+    public double getAverageElapsedMillis() {
+        return 0L == calls ? 0D : totalElapsedNanos / NANOS_PER_MILLI / calls;
+    }
+    
+    /**
+     * Get min elapsed millis.
+     *
+     * @return min elapsed millis
+     */
+    public double getMinElapsedMillis() {
+        return minElapsedNanos / NANOS_PER_MILLI;
+    }
+    
+    /**
+     * Get max elapsed millis.
+     *
+     * @return max elapsed millis
+     */
+    public double getMaxElapsedMillis() {
+        return maxElapsedNanos / NANOS_PER_MILLI;
+    }
+    
+    /**
+     * Get 99th percentile elapsed millis.
+     *
+     * @return 99th percentile elapsed millis
+     */
+    public double getP99ElapsedMillis() {
+        return p99ElapsedNanos / NANOS_PER_MILLI;
+    }
+    
+    /**
+     * Get average route unit count.
+     *
+     * @return average route unit count
+     */
+    public double getAverageRouteUnitCount() {
+        return 0L == calls ? 0D : (double) routeUnitCount / calls;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQL digest utility class.
+ * 
+ * <p>Digest replaces literals and PostgreSQL style {@code $n} parameter markers with placeholder, folds placeholder lists, strips comments and collapses whitespaces,
+ * so statements with same shape but different parameters share one digest.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLDigestUtils {
+    
+    private static final char PLACEHOLDER = '?';
+    
+    private static final String FOLDED_PLACEHOLDERS = ", ...";
+    
+    /**
+     * Generate digest of SQL.
+     *
+     * @param sql SQL to be digested
+     * @return SQL digest
+     */
+    public static String digest(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index = skipWhitespaces(sql, index);
+                appendSpace(result);
+            } else if (isStartWith(sql, index, "--")) {
+                index = skipUntil(sql, index + 2, "\n");
+                appendSpace(result);
+            } else if (isStartWith(sql, index, "/*")) {
+                index = skipUntil(sql, index + 2, "*/");
+                appendSpace(result);
+            } else if ('\'' == each) {
+                index = skipQuoted(sql, index, each);
+                appendPlaceholder(result);
+            } else if ('"' == each || '`' == each) {
+                int endIndex = skipQuoted(sql, index, each);
+                result.append(sql, index, endIndex);
+                index = endIndex;
+            } else if (Character.isDigit(each)) {
+                index = skipNumber(sql, index);
+                appendPlaceholder(result);
+            } else if (PLACEHOLDER == each) {
+                index++;
+                appendPlaceholder(result);
+            } else if (isDollarPlaceholder(sql, index)) {
+                index = skipNumber(sql, index + 1);
+                appendPlaceholder(result);
+            } else if (isIdentifierPart(each)) {
+                int endIndex = skipIdentifier(sql, index);
+                result.append(sql, index, endIndex);
+                index = endIndex;
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        return trimEnd(result);
+    }
+    
+    private static boolean isStartWith(final String sql, final int index, final String prefix) {
+        return sql.startsWith(prefix, index);
+    }
+    
+    private static int skipWhitespaces(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipUntil(final String sql, final int index, final String terminator) {
+        int result = sql.indexOf(terminator, index);
+        return result < 0 ? sql.length() : result + terminator.length();
+    }
+    
+    private static int skipQuoted(final String sql, final int index, final char quote) {
+        int result = index + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+                continue;
+            }
+            result++;
+            if (quote == each) {
+                if (result < sql.length() && quote == sql.charAt(result)) {
+                    result++;
+                    continue;
+                }
+                return result;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static int skipNumber(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if (('e' == each || 'E' == each) && result + 1 < sql.length() && ('+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1))) {
+                result += 2;
+            } else if (Character.isLetterOrDigit(each) || '.' == each) {
+                result++;
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isDollarPlaceholder(final String sql, final int index) {
+        return '$' == sql.charAt(index) && index + 1 < sql.length() && Character.isDigit(sql.charAt(index + 1));
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static int skipIdentifier(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && isIdentifierPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static void appendSpace(final StringBuilder result) {
+        if (result.length() > 0 && ' ' != result.charAt(result.length() - 1)) {
+            result.append(' ');
+        }
+    }
+    
+    private static void appendPlaceholder(final StringBuilder result) {
+        int separatorIndex = findListSeparatorIndex(result);
+        if (separatorIndex < 0) {
+            result.append(PLACEHOLDER);
+            return;
+        }
+        int itemEndIndex = ' ' == result.charAt(separatorIndex - 1) ? separatorIndex - 1 : separatorIndex;
+        boolean folded = isEndWith(result, itemEndIndex, FOLDED_PLACEHOLDERS);
+        if (folded || isEndWith(result, itemEndIndex, String.valueOf(PLACEHOLDER))) {
+            result.setLength(itemEndIndex);
+            if (!folded) {
+                result.append(FOLDED_PLACEHOLDERS);
+            }
+            return;
+        }
+        result.append(PLACEHOLDER);
+    }
+    
+    private static int findListSeparatorIndex(final StringBuilder result) {
+        int index = result.length() - 1;
+        if (index >= 0 && ' ' == result.charAt(index)) {
+            index--;
+        }
+        return index > 0 && ',' == result.charAt(index) ? index : -1;
+    }
+    
+    private static boolean isEndWith(final StringBuilder result, final int endIndex, final String suffix) {
+        int startIndex = endIndex - suffix.length();
+        return startIndex >= 0 && suffix.equals(result.substring(startIndex, endIndex));
+    }
+    
+    private static String trimEnd(final StringBuilder result) {
+        int length = result.length();
+        while (length > 0 && (' ' == result.charAt(length - 1) || ';' == result.charAt(length - 1))) {
+            length--;
+        }
+        result.setLength(length);
+        return result.toString();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Shard execute statistics manager.
+ * 
+ * <p>Statistics are kept per database and storage unit, and are removed when the storage unit or the database is dropped.
+ * Each storage unit tracks at most {@value #MAX_TRACKED_TABLE_COUNT} actual tables, executions of further tables are aggregated as {@value #OTHER_TABLES}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardExecuteStatisticsManager {
+    
+    public static final String OTHER_TABLES = "*";
+    
+    private static final ShardExecuteStatisticsManager INSTANCE = new ShardExecuteStatisticsManager();
+    
+    private static final int MAX_TRACKED_TABLE_COUNT = 256;
+    
+    private static final int BUCKET_COUNT = 60;
+    
+    private static final long BUCKET_MILLIS = 1000L;
+    
+    private final Map<String, Map<String, StorageUnitStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get shard execute statistics manager.
+     *
+     * @return shard execute statistics manager
+     */
+    public static ShardExecuteStatisticsManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record execute.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @param tableName actual table name, empty if statement does not route to table
+     * @param elapsedNanos elapsed nanos
+     * @param rowCount returned or affected row count
+     */
+    public void recordExecute(final String databaseName, final String storageUnitName, final String tableName, final long elapsedNanos, final long rowCount) {
+        getStorageUnitStatistics(databaseName, storageUnitName).getTableStatistics(tableName).record(elapsedNanos, rowCount);
+    }
+    
+    /**
+     * Record connection acquire.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @param elapsedNanos elapsed nanos
+     */
+    public void recordConnectionAcquire(final String databaseName, final String storageUnitName, final long elapsedNanos) {
+        getStorageUnitStatistics(databaseName, storageUnitName).connectionAcquire.record(elapsedNanos, 0L);
+    }
+    
+    private StorageUnitStatistics getStorageUnitStatistics(final String databaseName, final String storageUnitName) {
+        return statistics.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>()).computeIfAbsent(storageUnitName, key -> new StorageUnitStatistics());
+    }
+    
+    /**
+     * Get all shard execute statistics of current window.
+     *
+     * @return all shard execute statistics
+     */
+    public Collection<ShardExecuteStatistics> getAllStatistics() {
+        long currentMillis = System.currentTimeMillis();
+        Collection<ShardExecuteStatistics> result = new LinkedList<>();
+        for (Entry<String, Map<String, StorageUnitStatistics>> entry : statistics.entrySet()) {
+            for (Entry<String, StorageUnitStatistics> each : entry.getValue().entrySet()) {
+                addStatistics(entry.getKey(), each.getKey(), each.getValue(), currentMillis, result);
+            }
+        }
+        return result;
+    }
+    
+    private void addStatistics(final String databaseName, final String storageUnitName, final StorageUnitStatistics storageUnitStatistics,
+                               final long currentMillis, final Collection<ShardExecuteStatistics> result) {
+        SlidingWindowStatisticsSnapshot connectionAcquireSnapshot = storageUnitStatistics.connectionAcquire.getSnapshot(currentMillis);
+        for (Entry<String, SlidingWindowStatistics> entry : storageUnitStatistics.tableStatistics.entrySet()) {
+            SlidingWindowStatisticsSnapshot executeSnapshot = entry.getValue().getSnapshot(currentMillis);
+            if (executeSnapshot.getCount() > 0L) {
+                result.add(new ShardExecuteStatistics(databaseName, storageUnitName, entry.getKey(), executeSnapshot, connectionAcquireSnapshot));
+            }
+        }
+    }
+    
+    /**
+     * Get slowest shard execute statistics of current window, order by average execute latency.
+     *
+     * @param limit limit
+     * @return slowest shard execute statistics
+     */
+    public List<ShardExecuteStatistics> getSlowestStatistics(final int limit) {
+        return getAllStatistics().stream().sorted(Comparator.comparingDouble((ShardExecuteStatistics each) -> each.getExecute().getAverageElapsedMillis()).reversed())
+                .limit(limit).collect(Collectors.toList());
+    }
+    
+    /**
+     * Remove statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public void remove(final String databaseName) {
+        statistics.remove(databaseName);
+    }
+    
+    /**
+     * Remove statistics of storage unit.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     */
+    public void remove(final String databaseName, final String storageUnitName) {
+        Map<String, StorageUnitStatistics> storageUnitStatistics = statistics.get(databaseName);
+        if (null != storageUnitStatistics) {
+            storageUnitStatistics.remove(storageUnitName);
+        }
+    }
+    
+    private static final class StorageUnitStatistics {
+        
+        private final Map<String, SlidingWindowStatistics> tableStatistics = new ConcurrentHashMap<>();
+        
+        private final SlidingWindowStatistics connectionAcquire = new SlidingWindowStatistics(BUCKET_COUNT, BUCKET_MILLIS);
+        
+        private SlidingWindowStatistics getTableStatistics(final String tableName) {
+            SlidingWindowStatistics result = tableStatistics.get(tableName);
+            if (null != result) {
+                return result;
+            }
+            return tableStatistics.computeIfAbsent(MAX_TRACKED_TABLE_COUNT > tableStatistics.size() ? tableName : OTHER_TABLES, key -> new SlidingWindowStatistics(BUCKET_COUNT, BUCKET_MILLIS));
+        }
+    }
+}
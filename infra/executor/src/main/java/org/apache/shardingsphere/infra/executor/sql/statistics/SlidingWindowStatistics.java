@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding window statistics.
+ * 
+ * <p>The window is split into fixed slots. A slot is replaced by a fresh bucket when time moves on, so a recycled slot never exposes counters of an expired bucket.
+ * Records of a bucket which is already replaced are dropped, which is acceptable for monitoring purpose.</p>
+ */
+public final class SlidingWindowStatistics {
+    
+    private final long bucketMillis;
+    
+    private final AtomicReferenceArray<Bucket> buckets;
+    
+    public SlidingWindowStatistics(final int bucketCount, final long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        buckets = new AtomicReferenceArray<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, new Bucket(-1L));
+        }
+    }
+    
+    /**
+     * Record.
+     *
+     * @param elapsedNanos elapsed nanos
+     * @param rowCount row count
+     */
+    public void record(final long elapsedNanos, final long rowCount) {
+        record(System.currentTimeMillis(), elapsedNanos, rowCount);
+    }
+    
+    /**
+     * Record.
+     *
+     * @param currentMillis current millis
+     * @param elapsedNanos elapsed nanos
+     * @param rowCount row count
+     */
+    public void record(final long currentMillis, final long elapsedNanos, final long rowCount) {
+        Bucket bucket = getBucket(currentMillis / bucketMillis);
+        if (null == bucket) {
+            return;
+        }
+        bucket.count.increment();
+        bucket.elapsedNanos.add(elapsedNanos);
+        bucket.maxElapsedNanos.accumulate(elapsedNanos);
+        bucket.rowCount.add(rowCount);
+    }
+    
+    private Bucket getBucket(final long bucketIndex) {
+        int slot = (int) (bucketIndex % buckets.length());
+        Bucket result = buckets.get(slot);
+        while (result.index < bucketIndex) {
+            Bucket newBucket = new Bucket(bucketIndex);
+            if (buckets.compareAndSet(slot, result, newBucket)) {
+                return newBucket;
+            }
+            result = buckets.get(slot);
+        }
+        return result.index == bucketIndex ? result : null;
+    }
+    
+    /**
+     * Get snapshot of current window.
+     *
+     * @return snapshot
+     */
+    public SlidingWindowStatisticsSnapshot getSnapshot() {
+        return getSnapshot(System.currentTimeMillis());
+    }
+    
+    /**
+     * Get snapshot of window ended at current millis.
+     *
+     * @param currentMillis current millis
+     * @return snapshot
+     */
+    public SlidingWindowStatisticsSnapshot getSnapshot(final long currentMillis) {
+        long oldestBucketIndex = currentMillis / bucketMillis - buckets.length();
+        long count = 0L;
+        long elapsedNanos = 0L;
+        long maxElapsedNanos = 0L;
+        long rowCount = 0L;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket each = buckets.get(i);
+            if (each.index <= oldestBucketIndex) {
+                continue;
+            }
+            count += each.count.sum();
+            elapsedNanos += each.elapsedNanos.sum();
+            maxElapsedNanos = Math.max(maxElapsedNanos, each.maxElapsedNanos.get());
+            rowCount += each.rowCount.sum();
+        }
+        return new SlidingWindowStatisticsSnapshot(count, elapsedNanos, maxElapsedNanos, rowCount);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Bucket {
+        
+        private final long index;
+        
+        private final LongAdder count = new LongAdder();
+        
+        private final LongAdder elapsedNanos = new LongAdder();
+        
+        private final LongAccumulator maxElapsedNanos = new LongAccumulator(Math::max, 0L);
+        
+        private final LongAdder rowCount = new LongAdder();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sliding window statistics snapshot.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SlidingWindowStatisticsSnapshot {
+    
+    private final long count;
+    
+    private final long elapsedNanos;
+    
+    private final long maxElapsedNanos;
+    
+    private final long rowCount;
+    
+    /**
+     * Get average elapsed millis.
+     *
+     * @return average elapsed millis
+     */
+    public double getAverageElapsedMillis() {
+        return 0L == count ? 0D : (double) elapsedNanos / count / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+    
+    /**
+     * Get max elapsed millis.
+     *
+     * @return max elapsed millis
+     */
+    public double getMaxElapsedMillis() {
+        return (double) maxElapsedNanos / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+}
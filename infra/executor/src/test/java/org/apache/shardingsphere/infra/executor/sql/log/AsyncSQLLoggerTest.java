@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class AsyncSQLLoggerTest {
+    
+    private static final String SQL = "SELECT * FROM t_user";
+    
+    private static List<LoggingEvent> appenderList;
+    
+    private final QueryContext queryContext = new QueryContext(mock(SQLStatementContext.class), SQL, Collections.emptyList());
+    
+    private final ExecutionContext executionContext = new ExecutionContext(queryContext,
+            Collections.singletonList(new ExecutionUnit("db1", new SQLUnit(SQL, Collections.emptyList()))), mock(RouteContext.class));
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @BeforeAll
+    public static void setupLogger() {
+        ch.qos.logback.classic.Logger log = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("ShardingSphere-SQL");
+        ListAppender<LoggingEvent> appender = (ListAppender) log.getAppender("SQLLoggerTestAppender");
+        appenderList = appender.list;
+    }
+    
+    @BeforeEach
+    public void setUp() {
+        appenderList.clear();
+    }
+    
+    @Test
+    public void assertLogSQLWithBufferFull() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(2);
+        for (int i = 0; i < 3; i++) {
+            logger.logSQL(queryContext, true, executionContext, 100, 0);
+        }
+        assertThat(logger.getDroppedCount().sum(), is(1L));
+        assertThat(appenderList.size(), is(0));
+        assertThat(logger.drain(10), is(2));
+        assertThat(appenderList.size(), is(4));
+        assertThat(appenderList.get(0).getFormattedMessage(), is("Logic SQL: SELECT * FROM t_user"));
+        assertThat(appenderList.get(1).getFormattedMessage(), is("Actual SQL(simple): [db1] ::: 1"));
+    }
+    
+    @Test
+    public void assertLogSQLWithoutSampled() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(2);
+        logger.logSQL(queryContext, true, executionContext, 0, 0);
+        assertThat(logger.drain(10), is(0));
+    }
+    
+    @Test
+    public void assertLogSQLWithRateLimited() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(4);
+        logger.logSQL(queryContext, false, executionContext, 100, 1);
+        logger.logSQL(queryContext, false, executionContext, 100, 1);
+        assertThat(logger.getRateLimitedCount().sum() + logger.drain(10), is(2L));
+    }
+    
+    @Test
+    public void assertStopOutputsBufferedEvents() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(4);
+        logger.start();
+        logger.logSQL(queryContext, true, executionContext, 100, 0);
+        logger.stop();
+        assertThat(appenderList.size(), is(2));
+        assertThat(logger.drain(10), is(0));
+    }
+    
+    @Test
+    public void assertLogSQLAfterStopped() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(4);
+        logger.start();
+        logger.stop();
+        logger.start();
+        logger.logSQL(queryContext, true, executionContext, 100, 0);
+        assertThat(appenderList.size(), is(2));
+        assertThat(logger.drain(10), is(0));
+    }
+    
+    @Test
+    public void assertLogSQLWithParametersChangedAfterEnqueued() {
+        AsyncSQLLogger logger = new AsyncSQLLogger(4);
+        List<Object> params = new ArrayList<>(Collections.singletonList(1));
+        ExecutionContext executionContext = new ExecutionContext(queryContext, Collections.singletonList(new ExecutionUnit("db1", new SQLUnit(SQL, params))), mock(RouteContext.class));
+        logger.logSQL(queryContext, false, executionContext, 100, 0);
+        params.set(0, 2);
+        assertThat(logger.drain(10), is(1));
+        assertThat(appenderList.get(1).getFormattedMessage(), is("Actual SQL: db1 ::: SELECT * FROM t_user ::: [1]"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SQLLogRingBufferTest {
+    
+    @Test
+    public void assertNewInstanceWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SQLLogRingBuffer(3));
+    }
+    
+    @Test
+    public void assertOfferAndPoll() {
+        SQLLogRingBuffer buffer = new SQLLogRingBuffer(2);
+        assertNull(buffer.poll());
+        assertTrue(buffer.offer(createEvent("SELECT 1")));
+        assertTrue(buffer.offer(createEvent("SELECT 2")));
+        assertFalse(buffer.offer(createEvent("SELECT 3")));
+        assertThat(buffer.poll().getLogicSQL(), is("SELECT 1"));
+        assertTrue(buffer.offer(createEvent("SELECT 4")));
+        assertThat(buffer.poll().getLogicSQL(), is("SELECT 2"));
+        assertThat(buffer.poll().getLogicSQL(), is("SELECT 4"));
+        assertNull(buffer.poll());
+    }
+    
+    @Test
+    public void assertIsEmpty() {
+        SQLLogRingBuffer buffer = new SQLLogRingBuffer(2);
+        assertTrue(buffer.isEmpty());
+        buffer.offer(createEvent("SELECT 1"));
+        assertFalse(buffer.isEmpty());
+        buffer.poll();
+        assertTrue(buffer.isEmpty());
+    }
+    
+    private SQLLogEvent createEvent(final String sql) {
+        return new SQLLogEvent(sql, true, Collections.emptyList());
+    }
+}
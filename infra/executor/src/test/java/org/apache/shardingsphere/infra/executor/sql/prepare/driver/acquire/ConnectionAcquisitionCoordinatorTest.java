@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public final class ConnectionAcquisitionCoordinatorTest {
+    
+    private final ConnectionAcquisitionCoordinator coordinator = ConnectionAcquisitionCoordinator.getInstance();
+    
+    private final DataSource dataSource = mock(DataSource.class);
+    
+    @Test
+    public void assertAcquire() throws SQLException {
+        List<Connection> expected = Arrays.asList(mock(Connection.class), mock(Connection.class));
+        assertThat(coordinator.acquire(dataSource, 2, 1000L, false, () -> expected), is(expected));
+        assertThat(coordinator.acquire(dataSource, 2, 1000L, false, () -> expected), is(expected));
+    }
+    
+    @Test
+    public void assertAcquireDowngradedWhenPermitsNotEnough() throws SQLException {
+        List<Connection> expected = Arrays.asList(mock(Connection.class), mock(Connection.class));
+        long downgradeCount = coordinator.getDowngradeCount();
+        long waitCount = coordinator.getWaitCount();
+        List<Connection> actual = coordinator.acquire(dataSource, 2, 1000L, false, () -> coordinator.acquire(dataSource, 2, 10L, true, () -> expected));
+        assertThat(actual, is(expected));
+        assertThat(coordinator.getDowngradeCount(), is(downgradeCount + 1L));
+        assertThat(coordinator.getWaitCount(), is(waitCount + 1L));
+    }
+    
+    @Test
+    public void assertAcquireRejectedWhenPermitsNotEnough() {
+        List<Connection> expected = Arrays.asList(mock(Connection.class), mock(Connection.class));
+        long rejectCount = coordinator.getRejectCount();
+        assertThrows(SQLException.class, () -> coordinator.acquire(dataSource, 2, 1000L, false, () -> coordinator.acquire(dataSource, 2, 10L, false, () -> expected)));
+        assertThat(coordinator.getRejectCount(), is(rejectCount + 1L));
+    }
+    
+    @Test
+    public void assertReleasePermitsWhenCreateFailed() throws SQLException {
+        assertThrows(SQLException.class, () -> coordinator.acquire(dataSource, 2, 1000L, false, () -> {
+            throw new SQLException("");
+        }));
+        List<Connection> expected = Arrays.asList(mock(Connection.class), mock(Connection.class));
+        assertThat(coordinator.acquire(dataSource, 2, 10L, false, () -> expected), is(expected));
+    }
+    
+    @Test
+    public void assertRemove() throws SQLException {
+        List<Connection> expected = Arrays.asList(mock(Connection.class), mock(Connection.class));
+        List<Connection> actual = coordinator.acquire(dataSource, 2, 1000L, false, () -> {
+            coordinator.remove(dataSource);
+            return coordinator.acquire(dataSource, 2, 10L, false, () -> expected);
+        });
+        assertThat(actual, is(expected));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecuteProcessEngineTest {
+    
+    @AfterEach
+    public void tearDown() {
+        ExecuteIDContext.remove();
+        ShowProcessListManager.getInstance().removeProcessContext("foo_id");
+    }
+    
+    @Test
+    public void assertInitializeExecution() {
+        new ExecuteProcessEngine().initializeExecution(createExecutionGroupContext(), createQueryContext(), new ConfigurationProperties(new Properties()));
+        assertThat(ExecuteIDContext.get(), is("foo_id"));
+        assertNotNull(ShowProcessListManager.getInstance().getProcessContext("foo_id"));
+    }
+    
+    @Test
+    public void assertInitializeExecutionWithTrackingDisabled() {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROCESS_TRACKING_ENABLED.getKey(), Boolean.FALSE.toString()));
+        new ExecuteProcessEngine().initializeExecution(createExecutionGroupContext(), createQueryContext(), new ConfigurationProperties(props));
+        assertTrue(ExecuteIDContext.isEmpty());
+        assertNull(ShowProcessListManager.getInstance().getProcessContext("foo_id"));
+    }
+    
+    private ExecutionGroupContext<SQLExecutionUnit> createExecutionGroupContext() {
+        return new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_db", new Grantee("root", "localhost"), "foo_id"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private QueryContext createQueryContext() {
+        SQLStatementContext<MySQLInsertStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        return new QueryContext(sqlStatementContext, "INSERT INTO t_order VALUES (1)", Collections.emptyList());
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.infra.executor.sql.process;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
-import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
@@ -33,9 +32,12 @@ import org.mockito.Mock;
 
 import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +60,17 @@ public final class ExecuteProcessReporterTest {
         verify(showProcessListManager).putProcessContext(eq(executionGroupContext.getReportContext().getExecutionID()), any());
     }
     
+    @Test
+    public void assertReportWithProxyContext() {
+        ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = mockExecutionGroupContext();
+        ExecuteProcessContext processContext = new ExecuteProcessContext("", executionGroupContext, ExecuteProcessStatusEnum.SLEEP, true);
+        when(showProcessListManager.getProcessContext(executionGroupContext.getReportContext().getExecutionID())).thenReturn(processContext);
+        new ExecuteProcessReporter().report(new QueryContext(null, "SELECT 1", null), executionGroupContext, ExecuteProcessStatusEnum.START);
+        verify(showProcessListManager, never()).putProcessContext(any(), any());
+        assertThat(processContext.getSnapshot().getSql(), is("SELECT 1"));
+        assertThat(processContext.getSnapshot().getProcessStatus(), is(ExecuteProcessStatusEnum.START));
+    }
+    
     @SuppressWarnings("unchecked")
     private ExecutionGroupContext<? extends SQLExecutionUnit> mockExecutionGroupContext() {
         ExecutionGroupContext<? extends SQLExecutionUnit> result = mock(ExecutionGroupContext.class);
@@ -69,17 +82,26 @@ public final class ExecuteProcessReporterTest {
     
     @Test
     public void assertReportUnit() {
-        SQLExecutionUnit sqlExecutionUnit = mock(SQLExecutionUnit.class);
-        when(sqlExecutionUnit.getExecutionUnit()).thenReturn(mock(ExecutionUnit.class));
-        when(showProcessListManager.getProcessContext("foo_id")).thenReturn(mock(ExecuteProcessContext.class));
-        new ExecuteProcessReporter().report("foo_id", sqlExecutionUnit, ExecuteProcessStatusEnum.DONE);
-        verify(showProcessListManager).getProcessContext("foo_id");
+        ExecuteProcessContext processContext = new ExecuteProcessContext("", mockExecutionGroupContext(), ExecuteProcessStatusEnum.START, true);
+        when(showProcessListManager.getProcessContext("foo_id")).thenReturn(processContext);
+        new ExecuteProcessReporter().report("foo_id", mock(SQLExecutionUnit.class), ExecuteProcessStatusEnum.DONE);
+        assertThat(processContext.getSnapshot().getCompletedUnitCount(), is(1));
     }
     
     @Test
     public void assertReportClean() {
         when(showProcessListManager.getProcessContext("foo_id")).thenReturn(mock(ExecuteProcessContext.class));
         new ExecuteProcessReporter().reportClean("foo_id");
-        verify(showProcessListManager).removeProcessStatement("foo_id");
+        verify(showProcessListManager).removeProcessContext("foo_id");
+    }
+    
+    @Test
+    public void assertReportCleanWithProxyContext() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", mockExecutionGroupContext(), ExecuteProcessStatusEnum.START, true);
+        when(showProcessListManager.getProcessContext("foo_id")).thenReturn(processContext);
+        new ExecuteProcessReporter().reportClean("foo_id");
+        verify(showProcessListManager, never()).removeProcessContext("foo_id");
+        assertThat(processContext.getSnapshot().getSql(), is(""));
+        assertThat(processContext.getSnapshot().getProcessStatus(), is(ExecuteProcessStatusEnum.SLEEP));
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process.model;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ExecuteProcessContextTest {
+    
+    @Test
+    public void assertNewInstance() {
+        ExecuteProcessContext actual = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(mock(Statement.class), mock(Statement.class)), ExecuteProcessStatusEnum.START, true);
+        assertThat(actual.getExecutionID(), is("foo_id"));
+        assertThat(actual.getDatabaseName(), is("foo_db"));
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getHostname(), is("localhost"));
+        assertTrue(actual.isProxyContext());
+        assertThat(actual.getSnapshot().getSql(), is("SELECT 1"));
+        assertThat(actual.getSnapshot().getTotalUnitCount(), is(2));
+        assertThat(actual.getSnapshot().getCompletedUnitCount(), is(0));
+        assertThat(actual.getSnapshot().getProcessStatus(), is(ExecuteProcessStatusEnum.START));
+    }
+    
+    @Test
+    public void assertGetProcessStatements() {
+        Statement statement0 = mock(Statement.class);
+        Statement statement1 = mock(Statement.class);
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(statement0, statement1), ExecuteProcessStatusEnum.START, true);
+        Collection<Statement> actual = processContext.getProcessStatements();
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.containsAll(Arrays.asList(statement0, statement1)));
+    }
+    
+    @Test
+    public void assertGetProcessStatementsWithoutJDBCExecutionUnit() {
+        ExecutionGroupContext<SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(
+                Collections.singleton(new ExecutionGroup<>(Collections.singletonList(mock(SQLExecutionUnit.class)))), createReportContext());
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", executionGroupContext, ExecuteProcessStatusEnum.START, true);
+        assertThat(processContext.getSnapshot().getTotalUnitCount(), is(1));
+        assertTrue(processContext.getProcessStatements().isEmpty());
+    }
+    
+    @Test
+    public void assertGetProcessStatementsAfterResetToSleep() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(mock(Statement.class)), ExecuteProcessStatusEnum.START, true);
+        processContext.resetExecuteProcessContextToSleep();
+        assertTrue(processContext.getProcessStatements().isEmpty());
+        assertThat(processContext.getSnapshot().getSql(), is(""));
+        assertThat(processContext.getSnapshot().getTotalUnitCount(), is(0));
+        assertThat(processContext.getSnapshot().getProcessStatus(), is(ExecuteProcessStatusEnum.SLEEP));
+    }
+    
+    @Test
+    public void assertStartInPlace() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 0", createExecutionGroupContext(mock(Statement.class)), ExecuteProcessStatusEnum.START, true);
+        processContext.completeUnit();
+        final ExecuteProcessSnapshot previousSnapshot = processContext.getSnapshot();
+        processContext.start("SELECT 1", createExecutionGroupContext(mock(Statement.class), mock(Statement.class)), ExecuteProcessStatusEnum.START);
+        processContext.completeUnit();
+        ExecuteProcessSnapshot actual = processContext.getSnapshot();
+        assertThat(actual.getSql(), is("SELECT 1"));
+        assertThat(actual.getTotalUnitCount(), is(2));
+        assertThat(actual.getCompletedUnitCount(), is(1));
+        assertThat(previousSnapshot.getSql(), is("SELECT 0"));
+        assertThat(previousSnapshot.getTotalUnitCount(), is(1));
+        assertThat(previousSnapshot.getCompletedUnitCount(), is(1));
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext(final Statement... statements) {
+        Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups = new LinkedList<>();
+        for (Statement each : statements) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(null, ConnectionMode.MEMORY_STRICTLY, each))));
+        }
+        return new ExecutionGroupContext<>(inputGroups, createReportContext());
+    }
+    
+    private ExecutionGroupReportContext createReportContext() {
+        return new ExecutionGroupReportContext("foo_db", new Grantee("root", "localhost"), "foo_id");
+    }
+}
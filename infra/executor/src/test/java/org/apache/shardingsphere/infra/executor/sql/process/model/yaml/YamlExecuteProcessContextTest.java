@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process.model.yaml;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessStatusEnum;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class YamlExecuteProcessContextTest {
+    
+    @Test
+    public void assertNewInstance() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(), ExecuteProcessStatusEnum.START, false);
+        processContext.completeUnit();
+        YamlExecuteProcessContext actual = new YamlExecuteProcessContext(processContext);
+        assertThat(actual.getExecutionID(), is("foo_id"));
+        assertThat(actual.getDatabaseName(), is("foo_db"));
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getHostname(), is("localhost"));
+        assertThat(actual.getSql(), is("SELECT 1"));
+        assertThat(actual.getStartTimeMillis(), is(processContext.getSnapshot().getStartTimeMillis()));
+        assertThat(actual.getProcessStatus(), is(ExecuteProcessStatusEnum.START));
+        assertThat(actual.getUnitStatuses().size(), is(3));
+        Iterator<YamlExecuteProcessUnit> unitStatuses = actual.getUnitStatuses().iterator();
+        assertUnitStatus(unitStatuses.next(), "0", ExecuteProcessStatusEnum.DONE);
+        assertUnitStatus(unitStatuses.next(), "1", ExecuteProcessStatusEnum.START);
+        assertUnitStatus(unitStatuses.next(), "2", ExecuteProcessStatusEnum.START);
+    }
+    
+    @Test
+    public void assertNewInstanceWithCompletedUnitCountExceedsTotal() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(), ExecuteProcessStatusEnum.START, false);
+        for (int i = 0; i < 5; i++) {
+            processContext.completeUnit();
+        }
+        YamlExecuteProcessContext actual = new YamlExecuteProcessContext(processContext);
+        assertThat(actual.getUnitStatuses().size(), is(3));
+        assertTrue(actual.getUnitStatuses().stream().allMatch(each -> ExecuteProcessStatusEnum.DONE == each.getProcessStatus()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSleepProcessContext() {
+        ExecuteProcessContext processContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(), ExecuteProcessStatusEnum.START, true);
+        processContext.resetExecuteProcessContextToSleep();
+        YamlExecuteProcessContext actual = new YamlExecuteProcessContext(processContext);
+        assertThat(actual.getSql(), is(""));
+        assertTrue(actual.getUnitStatuses().isEmpty());
+        assertThat(actual.getProcessStatus(), is(ExecuteProcessStatusEnum.SLEEP));
+    }
+    
+    private void assertUnitStatus(final YamlExecuteProcessUnit actual, final String expectedUnitID, final ExecuteProcessStatusEnum expectedProcessStatus) {
+        assertThat(actual.getUnitID(), is(expectedUnitID));
+        assertThat(actual.getProcessStatus(), is(expectedProcessStatus));
+    }
+    
+    private ExecutionGroupContext<SQLExecutionUnit> createExecutionGroupContext() {
+        ExecutionGroup<SQLExecutionUnit> executionGroup0 = new ExecutionGroup<>(Arrays.asList(mock(SQLExecutionUnit.class), mock(SQLExecutionUnit.class)));
+        ExecutionGroup<SQLExecutionUnit> executionGroup1 = new ExecutionGroup<>(Collections.singletonList(mock(SQLExecutionUnit.class)));
+        return new ExecutionGroupContext<>(Arrays.asList(executionGroup0, executionGroup1), new ExecutionGroupReportContext("foo_db", new Grantee("root", "localhost"), "foo_id"));
+    }
+}
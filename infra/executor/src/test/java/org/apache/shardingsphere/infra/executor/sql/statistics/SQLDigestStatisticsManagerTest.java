@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLDigestStatisticsManagerTest {
+    
+    @AfterEach
+    public void tearDown() {
+        SQLDigestStatisticsManager.getInstance().reset();
+    }
+    
+    @Test
+    public void assertGetStatisticsWithSameDigest() {
+        SQLDigestStatistics actual = SQLDigestStatisticsManager.getInstance().getStatistics("SELECT * FROM t_order WHERE order_id = 1");
+        assertThat(actual.getSnapshot().getDigest(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(SQLDigestStatisticsManager.getInstance().getStatistics("SELECT * FROM t_order WHERE order_id = 2"), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetStatisticsWithQueryContext() {
+        CommonSQLStatementContext<MySQLSelectStatement> sqlStatementContext = new CommonSQLStatementContext<>(new MySQLSelectStatement());
+        String sql = "SELECT * FROM t_order WHERE order_id = $1";
+        SQLDigestStatistics actual = SQLDigestStatisticsManager.getInstance().getStatistics(new QueryContext(sqlStatementContext, sql, Collections.emptyList()));
+        assertThat(actual.getSnapshot().getDigest(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(SQLDigestStatisticsManager.getInstance().getStatistics(new QueryContext(sqlStatementContext, sql, Collections.emptyList())), sameInstance(actual));
+    }
+}
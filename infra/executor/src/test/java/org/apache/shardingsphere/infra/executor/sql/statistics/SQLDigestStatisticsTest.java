@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLDigestStatisticsTest {
+    
+    @Test
+    public void assertGetSnapshot() {
+        SQLDigestStatistics statistics = new SQLDigestStatistics("SELECT ?");
+        for (int i = 0; i < 99; i++) {
+            statistics.record(TimeUnit.MILLISECONDS.toNanos(1L), 2, false, true);
+        }
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(100L), 1, true, false);
+        statistics.addRowCount(10L);
+        SQLDigestStatisticsSnapshot actual = statistics.getSnapshot();
+        assertThat(actual.getDigest(), is("SELECT ?"));
+        assertThat(actual.getCalls(), is(100L));
+        assertThat(actual.getErrors(), is(1L));
+        assertThat(actual.getFederationCalls(), is(1L));
+        assertThat(actual.getMinElapsedMillis(), is(1D));
+        assertThat(actual.getMaxElapsedMillis(), is(100D));
+        assertThat(actual.getRowCount(), is(10L));
+        assertThat(actual.getAverageRouteUnitCount(), is(1.99D));
+        assertThat(actual.getP99ElapsedMillis() >= 1D && actual.getP99ElapsedMillis() <= 1.25D, is(true));
+    }
+    
+    @Test
+    public void assertGetSnapshotWithoutRecord() {
+        SQLDigestStatisticsSnapshot actual = new SQLDigestStatistics("SELECT ?").getSnapshot();
+        assertThat(actual.getCalls(), is(0L));
+        assertThat(actual.getMinElapsedNanos(), is(0L));
+        assertThat(actual.getP99ElapsedNanos(), is(0L));
+        assertThat(actual.getAverageElapsedMillis(), is(0D));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLDigestUtilsTest {
+    
+    @Test
+    public void assertDigestWithLiterals() {
+        assertThat(SQLDigestUtils.digest("SELECT * FROM t_order WHERE order_id = 10 AND status = 'it''s ok'"), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+    }
+    
+    @Test
+    public void assertDigestWithPlaceholders() {
+        assertThat(SQLDigestUtils.digest("SELECT * FROM t_order_1 WHERE order_id = ? AND price > 1.5e+3"), is("SELECT * FROM t_order_1 WHERE order_id = ? AND price > ?"));
+    }
+    
+    @Test
+    public void assertDigestWithInList() {
+        assertThat(SQLDigestUtils.digest("SELECT * FROM t_order WHERE order_id IN (1, 2,3) OR user_id IN (?)"), is("SELECT * FROM t_order WHERE order_id IN (?, ...) OR user_id IN (?)"));
+    }
+    
+    @Test
+    public void assertDigestWithCommentsAndWhitespaces() {
+        assertThat(SQLDigestUtils.digest("  SELECT /* comment */ `order_id`\n\tFROM t_order -- comment\n WHERE \"status\" = 'OK';"), is("SELECT `order_id` FROM t_order WHERE \"status\" = ?"));
+    }
+    
+    @Test
+    public void assertDigestWithDollarPlaceholders() {
+        assertThat(SQLDigestUtils.digest("SELECT * FROM t_order WHERE order_id = $1 AND user_id IN ($2, $3) AND status$1 = 'OK'"),
+                is("SELECT * FROM t_order WHERE order_id = ? AND user_id IN (?, ...) AND status$1 = ?"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ShardExecuteStatisticsManagerTest {
+    
+    @AfterEach
+    public void tearDown() {
+        ShardExecuteStatisticsManager.getInstance().remove("foo_db");
+        ShardExecuteStatisticsManager.getInstance().remove("bar_db");
+    }
+    
+    @Test
+    public void assertGetSlowestStatistics() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order_0", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "bar_ds", "t_order_1", TimeUnit.MILLISECONDS.toNanos(9L), 2L);
+        ShardExecuteStatisticsManager.getInstance().recordConnectionAcquire("foo_db", "bar_ds", TimeUnit.MILLISECONDS.toNanos(3L));
+        List<ShardExecuteStatistics> actual = ShardExecuteStatisticsManager.getInstance().getSlowestStatistics(1);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getDatabaseName(), is("foo_db"));
+        assertThat(actual.get(0).getStorageUnitName(), is("bar_ds"));
+        assertThat(actual.get(0).getTableName(), is("t_order_1"));
+        assertThat(actual.get(0).getExecute().getRowCount(), is(2L));
+        assertThat(actual.get(0).getConnectionAcquire().getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetAllStatisticsWithoutConnectionAcquire() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "", TimeUnit.MILLISECONDS.toNanos(1L), 0L);
+        assertThat(ShardExecuteStatisticsManager.getInstance().getAllStatistics().size(), is(1));
+        assertThat(ShardExecuteStatisticsManager.getInstance().getAllStatistics().iterator().next().getConnectionAcquire().getCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRecordExecuteWithSameStorageUnitNameInDifferentDatabases() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        ShardExecuteStatisticsManager.getInstance().recordExecute("bar_db", "foo_ds", "t_order", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        assertThat(ShardExecuteStatisticsManager.getInstance().getAllStatistics().size(), is(2));
+    }
+    
+    @Test
+    public void assertRecordExecuteAggregatesTablesOverLimit() {
+        for (int i = 0; i < 300; i++) {
+            ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order_" + i, TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        }
+        Collection<ShardExecuteStatistics> actual = ShardExecuteStatisticsManager.getInstance().getAllStatistics();
+        assertThat(actual.size(), is(257));
+        Optional<ShardExecuteStatistics> otherTables = actual.stream().filter(each -> ShardExecuteStatisticsManager.OTHER_TABLES.equals(each.getTableName())).findFirst();
+        assertTrue(otherTables.isPresent());
+        assertThat(otherTables.get().getExecute().getCount(), is(44L));
+    }
+    
+    @Test
+    public void assertRemoveStorageUnit() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order_0", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "bar_ds", "t_order_1", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        ShardExecuteStatisticsManager.getInstance().remove("foo_db", "foo_ds");
+        Collection<ShardExecuteStatistics> actual = ShardExecuteStatisticsManager.getInstance().getAllStatistics();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getStorageUnitName(), is("bar_ds"));
+    }
+    
+    @Test
+    public void assertRemoveDatabase() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order_0", TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        ShardExecuteStatisticsManager.getInstance().recordConnectionAcquire("foo_db", "foo_ds", TimeUnit.MILLISECONDS.toNanos(1L));
+        ShardExecuteStatisticsManager.getInstance().remove("foo_db");
+        assertTrue(ShardExecuteStatisticsManager.getInstance().getAllStatistics().isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SlidingWindowStatisticsTest {
+    
+    @Test
+    public void assertGetSnapshot() {
+        SlidingWindowStatistics statistics = new SlidingWindowStatistics(3, 1000L);
+        statistics.record(10000L, TimeUnit.MILLISECONDS.toNanos(2L), 5L);
+        statistics.record(11000L, TimeUnit.MILLISECONDS.toNanos(4L), 1L);
+        SlidingWindowStatisticsSnapshot actual = statistics.getSnapshot(12000L);
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getRowCount(), is(6L));
+        assertThat(actual.getAverageElapsedMillis(), is(3D));
+        assertThat(actual.getMaxElapsedMillis(), is(4D));
+    }
+    
+    @Test
+    public void assertGetSnapshotAfterWindowSlid() {
+        SlidingWindowStatistics statistics = new SlidingWindowStatistics(3, 1000L);
+        statistics.record(10000L, TimeUnit.MILLISECONDS.toNanos(2L), 5L);
+        statistics.record(12000L, TimeUnit.MILLISECONDS.toNanos(4L), 1L);
+        SlidingWindowStatisticsSnapshot actual = statistics.getSnapshot(13000L);
+        assertThat(actual.getCount(), is(1L));
+        assertThat(actual.getRowCount(), is(1L));
+        assertThat(actual.getMaxElapsedMillis(), is(4D));
+    }
+    
+    @Test
+    public void assertRecordRecyclesBucket() {
+        SlidingWindowStatistics statistics = new SlidingWindowStatistics(3, 1000L);
+        statistics.record(10000L, TimeUnit.MILLISECONDS.toNanos(8L), 5L);
+        statistics.record(13000L, TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        SlidingWindowStatisticsSnapshot actual = statistics.getSnapshot(13000L);
+        assertThat(actual.getCount(), is(1L));
+        assertThat(actual.getMaxElapsedMillis(), is(1D));
+    }
+    
+    @Test
+    public void assertRecordOfReplacedBucketIsDropped() {
+        SlidingWindowStatistics statistics = new SlidingWindowStatistics(3, 1000L);
+        statistics.record(13000L, TimeUnit.MILLISECONDS.toNanos(1L), 1L);
+        statistics.record(10000L, TimeUnit.MILLISECONDS.toNanos(8L), 5L);
+        SlidingWindowStatisticsSnapshot actual = statistics.getSnapshot(13000L);
+        assertThat(actual.getCount(), is(1L));
+        assertThat(actual.getRowCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetEmptySnapshot() {
+        SlidingWindowStatisticsSnapshot actual = new SlidingWindowStatistics(3, 1000L).getSnapshot(10000L);
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getAverageElapsedMillis(), is(0D));
+    }
+}
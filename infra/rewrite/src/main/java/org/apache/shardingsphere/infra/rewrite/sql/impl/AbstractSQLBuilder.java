@@ -27,9 +27,13 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.Substituta
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
+ * 
+ * <p>SQL tokens are walked in one pass, conjunction texts between tokens are appended from original SQL directly.</p>
  */
 @RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
@@ -40,47 +44,54 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
-            } else if (each instanceof SubstitutableColumnNameToken) {
-                result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
-            } else {
-                result.append(getSQLTokenText(each));
-            }
-            result.append(getConjunctionText(each));
+        Collections.sort(sqlTokens);
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length());
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        Iterator<SQLToken> iterator = sqlTokens.iterator();
+        SQLToken current = iterator.next();
+        while (null != current) {
+            SQLToken next = iterator.hasNext() ? iterator.next() : null;
+            appendSQLTokenText(result, current);
+            appendConjunctionText(result, current, null == next ? sql.length() : next.getStartIndex());
+            current = next;
         }
         return result.toString();
     }
     
-    protected abstract String getSQLTokenText(SQLToken sqlToken);
-    
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+    private void appendSQLTokenText(final StringBuilder result, final SQLToken sqlToken) {
+        if (sqlToken instanceof ComposableSQLToken) {
+            appendComposableSQLTokenText(result, (ComposableSQLToken) sqlToken);
+        } else if (sqlToken instanceof SubstitutableColumnNameToken) {
+            result.append(((SubstitutableColumnNameToken) sqlToken).toString(routeUnit));
+        } else {
+            result.append(getSQLTokenText(sqlToken));
         }
-        return result.toString();
     }
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
+    protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
+    private void appendComposableSQLTokenText(final StringBuilder result, final ComposableSQLToken composableSQLToken) {
+        Iterator<SQLToken> iterator = composableSQLToken.getSqlTokens().iterator();
+        SQLToken current = iterator.hasNext() ? iterator.next() : null;
+        while (null != current) {
+            SQLToken next = iterator.hasNext() ? iterator.next() : null;
+            result.append(getSQLTokenText(current));
+            appendConjunctionText(result, current, null == next ? composableSQLToken.getStopIndex() + 1 : next.getStartIndex());
+            current = next;
+        }
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private void appendConjunctionText(final StringBuilder result, final SQLToken sqlToken, final int stopIndex) {
+        String sql = context.getSql();
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        int actualStopIndex = Math.min(stopIndex, sql.length());
+        if (startIndex < actualStopIndex) {
+            result.append(sql, startIndex, actualStopIndex);
+        }
     }
 }
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,4 +48,23 @@ public final class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    public void assertToSQLWithUnsortedSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=? AND tbl.name=?");
+        when(context.getSqlTokens()).thenReturn(new LinkedList<>(Arrays.asList(new SQLTokenFixture(33, 35), new SQLTokenFixture(14, 16))));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=? AND XXX.name=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithComposableSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=? AND tbl.name=?");
+        ComposableSQLToken composableSQLToken = new ComposableSQLToken(14, 35);
+        composableSQLToken.addSQLToken(new SQLTokenFixture(14, 16));
+        composableSQLToken.addSQLToken(new SQLTokenFixture(33, 35));
+        when(context.getSqlTokens()).thenReturn(new LinkedList<>(Collections.singletonList(composableSQLToken)));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=? AND XXX.name=?"));
+    }
 }
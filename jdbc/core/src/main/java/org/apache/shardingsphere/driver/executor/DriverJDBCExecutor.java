@@ -71,7 +71,7 @@ public final class DriverJDBCExecutor {
                                           final QueryContext queryContext, final ExecuteQueryCallback callback) throws SQLException {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
-            executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
+            executeProcessEngine.initializeExecution(executionGroupContext, queryContext, metaDataContexts.getMetaData().getProps());
             return jdbcExecutor.execute(executionGroupContext, callback);
         } finally {
             executeProcessEngine.cleanExecution();
@@ -92,7 +92,7 @@ public final class DriverJDBCExecutor {
                              final QueryContext queryContext, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
-            executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
+            executeProcessEngine.initializeExecution(executionGroupContext, queryContext, metaDataContexts.getMetaData().getProps());
             SQLStatementContext<?> sqlStatementContext = queryContext.getSqlStatementContext();
             List<Integer> results = doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback);
             return isNeedAccumulate(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
@@ -132,7 +132,7 @@ public final class DriverJDBCExecutor {
                            final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Boolean> callback) throws SQLException {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
-            executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
+            executeProcessEngine.initializeExecution(executionGroupContext, queryContext, metaDataContexts.getMetaData().getProps());
             List<Boolean> results = doExecute(executionGroupContext, queryContext.getSqlStatementContext(), routeUnits, callback);
             return null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
         } finally {
@@ -24,9 +24,13 @@ import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTempla
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationStatement;
+import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 
 import java.sql.SQLException;
@@ -51,6 +55,18 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private boolean closed;
     
+    @Getter(AccessLevel.NONE)
+    private QueryContext digestQueryContext;
+    
+    @Getter(AccessLevel.NONE)
+    private SQLDigestStatistics digestStatistics;
+    
+    @Getter(AccessLevel.NONE)
+    private long digestStartNanos;
+    
+    @Getter(AccessLevel.NONE)
+    private boolean digestFailed;
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public final void setPoolable(final boolean poolable) throws SQLException {
@@ -202,6 +218,27 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    protected final void startRecordSQLDigest(final QueryContext queryContext) {
+        digestQueryContext = queryContext;
+        digestStatistics = SQLDigestStatisticsManager.getInstance().getStatistics(queryContext);
+        digestStartNanos = System.nanoTime();
+        digestFailed = false;
+    }
+    
+    protected final void markSQLDigestFailed() {
+        digestFailed = true;
+    }
+    
+    protected final void finishRecordSQLDigest(final ExecutionContext executionContext, final boolean useSQLFederation) {
+        if (null == digestStatistics) {
+            return;
+        }
+        boolean routed = null != executionContext && executionContext.getQueryContext() == digestQueryContext;
+        digestStatistics.record(System.nanoTime() - digestStartNanos, routed ? executionContext.getRouteContext().getRouteUnits().size() : 0, !routed && useSQLFederation, !digestFailed);
+        digestQueryContext = null;
+        digestStatistics = null;
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
@@ -25,13 +25,17 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire.ConnectionAcquisitionCoordinator;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
@@ -64,6 +68,8 @@ import java.util.Random;
  */
 public final class ConnectionManager implements ExecutorJDBCConnectionManager, AutoCloseable {
     
+    private final String databaseName;
+    
     private final Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
     
     private final Map<String, DataSource> physicalDataSourceMap = new LinkedHashMap<>();
@@ -82,12 +88,16 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     @Getter
     private final ConnectionContext connectionContext;
     
+    private final ConfigurationProperties props;
+    
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
+        this.databaseName = databaseName;
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
         connectionContext = new ConnectionContext(this::getDataSourceNamesOfCachedConnections);
+        props = contextManager.getMetaDataContexts().getMetaData().getProps();
     }
     
     private Map<String, DataSource> getTrafficDataSourceMap(final String databaseName, final ContextManager contextManager) {
@@ -314,13 +324,13 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         } else if (!connections.isEmpty()) {
             result = new ArrayList<>(connectionSize);
             result.addAll(connections);
-            List<Connection> newConnections = createConnections(dataSourceName, dataSource, connectionSize - connections.size(), connectionMode);
+            List<Connection> newConnections = createNewConnections(dataSourceName, dataSource, connectionSize - connections.size(), connectionMode);
             result.addAll(newConnections);
             synchronized (cachedConnections) {
                 cachedConnections.putAll(dataSourceName, newConnections);
             }
         } else {
-            result = new ArrayList<>(createConnections(dataSourceName, dataSource, connectionSize, connectionMode));
+            result = new ArrayList<>(createNewConnections(dataSourceName, dataSource, connectionSize, connectionMode));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(dataSourceName, result);
             }
@@ -328,7 +338,15 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return result;
     }
     
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private List<Connection> createNewConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            return createConnections(dataSourceName, dataSource, connectionSize, connectionMode);
+        } finally {
+            ShardExecuteStatisticsManager.getInstance().recordConnectionAcquire(databaseName, dataSourceName, System.nanoTime() - startNanos);
+        }
+    }
+    
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         if (1 == connectionSize) {
             Connection connection = createConnection(dataSourceName, dataSource, connectionContext.getTransactionContext());
@@ -338,9 +356,9 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
         }
-        synchronized (dataSource) {
-            return createConnections(dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
-        }
+        return ConnectionAcquisitionCoordinator.getInstance().acquire(dataSource, connectionSize, props.getValue(ConfigurationPropertyKey.CONNECTION_ACQUISITION_TIMEOUT_MILLISECONDS),
+                props.getValue(ConfigurationPropertyKey.CONNECTION_ACQUISITION_DOWNGRADE_ENABLED),
+                () -> createConnections(dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext()));
     }
     
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize,
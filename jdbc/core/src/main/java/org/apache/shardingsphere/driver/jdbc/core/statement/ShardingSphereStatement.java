@@ -169,6 +169,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         ResultSet result;
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
@@ -189,9 +190,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
         } finally {
             currentResultSet = null;
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
         currentResultSet = result;
         return result;
@@ -278,6 +281,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     public int executeUpdate(final String sql) throws SQLException {
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
@@ -293,9 +297,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
         } finally {
             currentResultSet = null;
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -306,6 +312,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
@@ -321,9 +328,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
         } finally {
             currentResultSet = null;
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -332,6 +341,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
@@ -347,9 +357,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
         } finally {
             currentResultSet = null;
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -358,6 +370,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
@@ -373,9 +386,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
         } finally {
             currentResultSet = null;
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -439,7 +454,10 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final SQLException ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
+        } finally {
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -454,7 +472,10 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final SQLException ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
+        } finally {
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -467,7 +488,10 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final SQLException ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
+        } finally {
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
@@ -480,13 +504,17 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         } catch (final SQLException ex) {
             // CHECKSTYLE:ON
             handleExceptionInTransaction(connection, metaDataContexts);
+            markSQLDigestFailed();
             throw SQLExceptionTransformEngine.toSQLException(ex, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getProtocolType().getType());
+        } finally {
+            finishRecordSQLDigest(executionContext, null != deciderContext && deciderContext.isUseSQLFederation());
         }
     }
     
     private boolean execute0(final String sql, final ExecuteCallback callback) throws SQLException {
         try {
             QueryContext queryContext = createQueryContext(sql);
+            startRecordSQLDigest(queryContext);
             checkSameDatabaseNameInTransaction(queryContext.getSqlStatementContext(), connection.getDatabaseName());
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             if (null != trafficInstanceId) {
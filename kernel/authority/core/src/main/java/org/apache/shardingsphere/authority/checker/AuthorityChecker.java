@@ -40,6 +40,12 @@ public final class AuthorityChecker {
     
     private final Grantee grantee;
     
+    private final SessionPrivilegesCache privilegesCache;
+    
+    public AuthorityChecker(final AuthorityRule rule, final Grantee grantee) {
+        this(rule, grantee, null);
+    }
+    
     /**
      * Check database authority.
      * 
@@ -47,7 +53,7 @@ public final class AuthorityChecker {
      * @return authorized or not
      */
     public boolean isAuthorized(final String databaseName) {
-        return null == grantee || rule.findPrivileges(grantee).map(optional -> optional.hasPrivileges(databaseName)).orElse(false);
+        return null == grantee || findPrivileges().map(optional -> optional.hasPrivileges(databaseName)).orElse(false);
     }
     
     /**
@@ -60,11 +66,15 @@ public final class AuthorityChecker {
         if (null == grantee) {
             return;
         }
-        Optional<ShardingSpherePrivileges> privileges = rule.findPrivileges(grantee);
+        Optional<ShardingSpherePrivileges> privileges = findPrivileges();
         ShardingSpherePreconditions.checkState(null == databaseName || privileges.filter(optional -> optional.hasPrivileges(databaseName)).isPresent(),
                 () -> new UnknownDatabaseException(databaseName));
         PrivilegeType privilegeType = PrivilegeTypeMapper.getPrivilegeType(sqlStatement);
         ShardingSpherePreconditions.checkState(privileges.isPresent() && privileges.get().hasPrivileges(Collections.singleton(privilegeType)),
                 () -> new UnauthorizedOperationException(null == privilegeType ? "" : privilegeType.name()));
     }
+    
+    private Optional<ShardingSpherePrivileges> findPrivileges() {
+        return null == privilegesCache ? rule.findPrivileges(grantee) : privilegesCache.findPrivileges(rule, grantee);
+    }
 }
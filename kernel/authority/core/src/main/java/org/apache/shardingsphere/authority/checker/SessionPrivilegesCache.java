@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.checker;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+
+import java.util.Optional;
+
+/**
+ * Session privileges cache.
+ * 
+ * <p>Privileges resolved for the grantee of a session are reused until authority rule is replaced or refreshed.</p>
+ */
+public final class SessionPrivilegesCache {
+    
+    private volatile CachedPrivileges cachedPrivileges;
+    
+    /**
+     * Find privileges.
+     *
+     * @param rule authority rule
+     * @param grantee grantee
+     * @return found privileges
+     */
+    public Optional<ShardingSpherePrivileges> findPrivileges(final AuthorityRule rule, final Grantee grantee) {
+        CachedPrivileges cached = cachedPrivileges;
+        int version = rule.getVersion();
+        if (null != cached && cached.rule == rule && cached.version == version && cached.grantee == grantee) {
+            return Optional.ofNullable(cached.privileges);
+        }
+        Optional<ShardingSpherePrivileges> result = rule.findPrivileges(grantee);
+        cachedPrivileges = new CachedPrivileges(rule, version, grantee, result.orElse(null));
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedPrivileges {
+        
+        private final AuthorityRule rule;
+        
+        private final int version;
+        
+        private final Grantee grantee;
+        
+        private final ShardingSpherePrivileges privileges;
+    }
+}
@@ -28,8 +28,10 @@ import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -66,12 +68,25 @@ public final class DatabasePrivilegeBuilder {
     }
     
     private static Map<ShardingSphereUser, ShardingSpherePrivileges> buildPrivileges(final Collection<ShardingSphereUser> users, final String mappingProp) {
-        Map<ShardingSphereUser, Collection<String>> userDatabaseMappings = convertDatabases(mappingProp);
+        Map<String, Map<ShardingSphereUser, Collection<String>>> userDatabaseMappings = groupByUsername(convertDatabases(mappingProp));
         Map<ShardingSphereUser, ShardingSpherePrivileges> result = new HashMap<>(users.size(), 1);
-        users.forEach(each -> result.put(each, new DatabasePermittedPrivileges(new HashSet<>(getUserDatabases(each, userDatabaseMappings)))));
+        users.forEach(each -> result.put(each, new DatabasePermittedPrivileges(new HashSet<>(
+                getUserDatabases(each, userDatabaseMappings.getOrDefault(getUsernameKey(each.getGrantee()), Collections.emptyMap()))))));
         return result;
     }
     
+    private static Map<String, Map<ShardingSphereUser, Collection<String>>> groupByUsername(final Map<ShardingSphereUser, Collection<String>> userDatabaseMappings) {
+        Map<String, Map<ShardingSphereUser, Collection<String>>> result = new HashMap<>(userDatabaseMappings.size(), 1);
+        for (Entry<ShardingSphereUser, Collection<String>> entry : userDatabaseMappings.entrySet()) {
+            result.computeIfAbsent(getUsernameKey(entry.getKey().getGrantee()), unused -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+    
+    private static String getUsernameKey(final Grantee grantee) {
+        return grantee.getUsername().toUpperCase();
+    }
+    
     /**
      * Convert databases.
      *
@@ -17,9 +17,9 @@
 
 package org.apache.shardingsphere.authority.registry;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.authority.model.AuthorityRegistry;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.util.GranteeIndexedMap;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 
@@ -29,13 +29,16 @@ import java.util.Optional;
 /**
  * User privilege map authority registry.
  */
-@RequiredArgsConstructor
 public final class UserPrivilegeMapAuthorityRegistry implements AuthorityRegistry {
     
-    private final Map<ShardingSphereUser, ? extends ShardingSpherePrivileges> userPrivilegeMap;
+    private final GranteeIndexedMap<ShardingSpherePrivileges> userPrivileges;
+    
+    public UserPrivilegeMapAuthorityRegistry(final Map<ShardingSphereUser, ? extends ShardingSpherePrivileges> userPrivilegeMap) {
+        userPrivileges = new GranteeIndexedMap<>(userPrivilegeMap.keySet(), userPrivilegeMap::get);
+    }
     
     @Override
     public Optional<ShardingSpherePrivileges> findPrivileges(final Grantee grantee) {
-        return userPrivilegeMap.keySet().stream().filter(each -> each.getGrantee().equals(grantee)).findFirst().map(userPrivilegeMap::get);
+        return userPrivileges.find(grantee);
     }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.authority.model.AuthorityRegistry;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.spi.AuthorityProvider;
+import org.apache.shardingsphere.authority.util.GranteeIndexedMap;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
@@ -42,10 +43,16 @@ public final class AuthorityRule implements GlobalRule {
     
     private final AuthorityProvider provider;
     
+    private final GranteeIndexedMap<ShardingSphereUser> configuredUsers;
+    
     private volatile AuthorityRegistry authorityRegistry;
     
+    @Getter
+    private volatile int version;
+    
     public AuthorityRule(final AuthorityRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases) {
         configuration = ruleConfig;
+        configuredUsers = new GranteeIndexedMap<>(ruleConfig.getUsers(), each -> each);
         provider = TypedSPILoader.getService(AuthorityProvider.class, ruleConfig.getAuthorityProvider().getType(), ruleConfig.getAuthorityProvider().getProps());
         authorityRegistry = provider.buildAuthorityRegistry(databases, ruleConfig.getUsers());
     }
@@ -69,7 +76,7 @@ public final class AuthorityRule implements GlobalRule {
      * @return user
      */
     public Optional<ShardingSphereUser> findUser(final Grantee grantee) {
-        return configuration.getUsers().stream().filter(each -> each.getGrantee().equals(grantee)).findFirst();
+        return configuredUsers.find(grantee);
     }
     
     /**
@@ -90,6 +97,7 @@ public final class AuthorityRule implements GlobalRule {
      */
     public synchronized void refresh(final Map<String, ShardingSphereDatabase> databases, final Collection<ShardingSphereUser> users) {
         authorityRegistry = provider.buildAuthorityRegistry(databases, users);
+        version++;
     }
     
     @Override
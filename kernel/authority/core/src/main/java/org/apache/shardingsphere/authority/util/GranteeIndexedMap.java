@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.util;
+
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Grantee indexed map.
+ * 
+ * <p>Users with limited host are indexed by user name and then host name, users with unlimited host are indexed by user name only,
+ * so finding value of a grantee takes at most three hash lookups and exact host takes precedence over unlimited host.</p>
+ *
+ * @param <V> type of value
+ */
+public final class GranteeIndexedMap<V> {
+    
+    private final Map<String, Map<String, V>> limitedHostValues;
+    
+    private final Map<String, V> unlimitedHostValues;
+    
+    public GranteeIndexedMap(final Collection<ShardingSphereUser> users, final Function<ShardingSphereUser, V> valueMapper) {
+        limitedHostValues = new HashMap<>(users.size(), 1F);
+        unlimitedHostValues = new HashMap<>(users.size(), 1F);
+        for (ShardingSphereUser each : users) {
+            Grantee grantee = each.getGrantee();
+            if (isUnlimitedHost(grantee)) {
+                unlimitedHostValues.putIfAbsent(getUserKey(grantee), valueMapper.apply(each));
+            } else {
+                limitedHostValues.computeIfAbsent(getUserKey(grantee), unused -> new HashMap<>()).putIfAbsent(getHostKey(grantee), valueMapper.apply(each));
+            }
+        }
+    }
+    
+    /**
+     * Find value.
+     *
+     * @param grantee grantee
+     * @return found value
+     */
+    public Optional<V> find(final Grantee grantee) {
+        String userKey = getUserKey(grantee);
+        Map<String, V> hostValues = limitedHostValues.get(userKey);
+        V result = null == hostValues ? null : hostValues.get(getHostKey(grantee));
+        return null == result ? Optional.ofNullable(unlimitedHostValues.get(userKey)) : Optional.of(result);
+    }
+    
+    private boolean isUnlimitedHost(final Grantee grantee) {
+        return "%".equals(grantee.getHostname());
+    }
+    
+    private String getUserKey(final Grantee grantee) {
+        return grantee.getUsername().toUpperCase();
+    }
+    
+    private String getHostKey(final Grantee grantee) {
+        return grantee.getHostname().toUpperCase();
+    }
+}
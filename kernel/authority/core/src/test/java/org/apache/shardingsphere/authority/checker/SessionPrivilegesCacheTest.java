@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.checker;
+
+import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SessionPrivilegesCacheTest {
+    
+    @Test
+    public void assertFindCachedPrivileges() {
+        AuthorityRule rule = createAuthorityRule(Collections.singleton(new ShardingSphereUser("root", "", "localhost")));
+        Grantee grantee = new Grantee("root", "localhost");
+        SessionPrivilegesCache cache = new SessionPrivilegesCache();
+        ShardingSpherePrivileges actual = cache.findPrivileges(rule, grantee).orElse(null);
+        assertThat(cache.findPrivileges(rule, grantee).orElse(null), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertFindPrivilegesAfterRefresh() {
+        Collection<ShardingSphereUser> users = Collections.singleton(new ShardingSphereUser("root", "", "localhost"));
+        AuthorityRule rule = createAuthorityRule(users);
+        Grantee grantee = new Grantee("root", "localhost");
+        SessionPrivilegesCache cache = new SessionPrivilegesCache();
+        ShardingSpherePrivileges actual = cache.findPrivileges(rule, grantee).orElse(null);
+        rule.refresh(Collections.emptyMap(), users);
+        assertThat(cache.findPrivileges(rule, grantee).orElse(null), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertFindPrivilegesWithChangedGrantee() {
+        AuthorityRule rule = createAuthorityRule(Collections.singleton(new ShardingSphereUser("root", "", "localhost")));
+        SessionPrivilegesCache cache = new SessionPrivilegesCache();
+        assertTrue(cache.findPrivileges(rule, new Grantee("root", "localhost")).isPresent());
+        assertFalse(cache.findPrivileges(rule, new Grantee("admin", "localhost")).isPresent());
+    }
+    
+    private AuthorityRule createAuthorityRule(final Collection<ShardingSphereUser> users) {
+        return new AuthorityRule(new AuthorityRuleConfiguration(users,
+                new AlgorithmConfiguration("DATABASE_PERMITTED", PropertiesBuilder.build(new Property("user-database-mappings", "root@localhost=foo_db"))), null), Collections.emptyMap());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.util;
+
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public final class GranteeIndexedMapTest {
+    
+    private final GranteeIndexedMap<String> granteeIndexedMap = new GranteeIndexedMap<>(Arrays.asList(
+            new ShardingSphereUser("root", "", "%"), new ShardingSphereUser("root", "", "localhost"), new ShardingSphereUser("admin", "", "127.0.0.1"),
+            new ShardingSphereUser("foo@bar", "", "localhost")), each -> each.getGrantee().toString());
+    
+    @Test
+    public void assertFindWithLimitedHost() {
+        assertThat(granteeIndexedMap.find(new Grantee("ROOT", "LOCALHOST")).orElse(null), is("root@localhost"));
+        assertThat(granteeIndexedMap.find(new Grantee("admin", "127.0.0.1")).orElse(null), is("admin@127.0.0.1"));
+    }
+    
+    @Test
+    public void assertFindWithUnlimitedHost() {
+        assertThat(granteeIndexedMap.find(new Grantee("root", "192.168.0.1")).orElse(null), is("root@%"));
+    }
+    
+    @Test
+    public void assertFindWithUsernameContainsAt() {
+        assertThat(granteeIndexedMap.find(new Grantee("foo@bar", "localhost")).orElse(null), is("foo@bar@localhost"));
+        assertFalse(granteeIndexedMap.find(new Grantee("foo", "bar@localhost")).isPresent());
+    }
+    
+    @Test
+    public void assertNotFind() {
+        assertFalse(granteeIndexedMap.find(new Grantee("admin", "localhost")).isPresent());
+        assertFalse(granteeIndexedMap.find(new Grantee("foo", "127.0.0.1")).isPresent());
+    }
+}
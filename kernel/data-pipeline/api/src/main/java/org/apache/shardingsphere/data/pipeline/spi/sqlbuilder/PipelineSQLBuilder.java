@@ -190,4 +190,19 @@ public interface PipelineSQLBuilder extends TypedSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build range checksum SQL.
+     * 
+     * <p>Query result contains records count and order independent checksum of records whose unique key is between the two parameters, both inclusive.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return range checksum SQL
+     */
+    default Optional<String> buildRangeChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
 }
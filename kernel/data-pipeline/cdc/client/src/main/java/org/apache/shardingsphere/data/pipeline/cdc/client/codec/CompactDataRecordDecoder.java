@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.codec;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact data record decoder.
+ * 
+ * <p>Table schemas announced by server are kept for the whole stream, so one decoder should be used for one stream only.</p>
+ */
+public final class CompactDataRecordDecoder {
+    
+    private static final Any NULL_VALUE = Any.pack(Empty.getDefaultInstance());
+    
+    private final Map<Integer, TableSchema> tableSchemas = new HashMap<>();
+    
+    /**
+     * Decode compact data record result.
+     *
+     * @param result compact data record result
+     * @return records
+     * @throws IOException IO exception
+     * @throws IllegalStateException if record refers to table schema which is not announced
+     */
+    public List<Record> decode(final CompactDataRecordResult result) throws IOException {
+        for (CompactTableSchema each : result.getTableSchemaList()) {
+            tableSchemas.put(each.getSchemaId(), new TableSchema(each));
+        }
+        List<Record> records = new LinkedList<>();
+        CodedInputStream input = result.getRecords().newCodedInput();
+        while (!input.isAtEnd()) {
+            int schemaId = input.readUInt32();
+            TableSchema tableSchema = tableSchemas.get(schemaId);
+            if (null == tableSchema) {
+                throw new IllegalStateException(String.format("Table schema `%s` is not announced", schemaId));
+            }
+            Record.Builder builder = Record.newBuilder().setMetaData(tableSchema.metaData).setDataChangeType(DataChangeType.forNumber(input.readUInt32()));
+            builder.addAllBefore(readColumns(input, tableSchema.columnNames));
+            builder.addAllAfter(readColumns(input, tableSchema.columnNames));
+            records.add(builder.build());
+        }
+        return records;
+    }
+    
+    private List<TableColumn> readColumns(final CodedInputStream input, final List<String> columnNames) throws IOException {
+        int columnCount = columnNames.size();
+        byte[] nullBitmap = input.readRawBytes((columnCount + 7) / 8);
+        List<TableColumn> result = new LinkedList<>();
+        for (int i = 0; i < columnCount; i++) {
+            boolean isNull = 0 != (nullBitmap[i / 8] & (1 << (i % 8)));
+            result.add(TableColumn.newBuilder().setName(columnNames.get(i)).setValue(isNull ? NULL_VALUE : readValue(input)).build());
+        }
+        return result;
+    }
+    
+    private Any readValue(final CodedInputStream input) throws IOException {
+        CompactValueType valueType = CompactValueType.forNumber(input.readUInt32());
+        if (null == valueType) {
+            throw new UnsupportedOperationException("Unknown compact value type");
+        }
+        switch (valueType) {
+            case INT32:
+                return Any.pack(Int32Value.of(input.readSInt32()));
+            case INT64:
+                return Any.pack(Int64Value.of(input.readSInt64()));
+            case FLOAT:
+                return Any.pack(FloatValue.of(input.readFloat()));
+            case DOUBLE:
+                return Any.pack(DoubleValue.of(input.readDouble()));
+            case BOOL:
+                return Any.pack(BoolValue.of(input.readBool()));
+            case STRING:
+                return Any.pack(StringValue.of(input.readStringRequireUtf8()));
+            case BYTES:
+                return Any.pack(BytesValue.of(input.readBytes()));
+            case TIMESTAMP:
+                return Any.pack(Timestamp.newBuilder().setSeconds(input.readSInt64()).setNanos(input.readUInt32()).build());
+            default:
+                throw new UnsupportedOperationException(String.format("Unsupported compact value type `%s`", valueType));
+        }
+    }
+    
+    private static final class TableSchema {
+        
+        private final MetaData metaData;
+        
+        private final List<String> columnNames;
+        
+        TableSchema(final CompactTableSchema tableSchema) {
+            metaData = MetaData.newBuilder().setDatabase(tableSchema.getDatabase()).setSchema(tableSchema.getSchema()).setTable(tableSchema.getTable()).build();
+            columnNames = tableSchema.getColumnNameList();
+        }
+    }
+}
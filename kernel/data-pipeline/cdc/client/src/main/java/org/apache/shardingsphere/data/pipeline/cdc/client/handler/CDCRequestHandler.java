@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.cdc.client.codec.CompactDataRecordDecoder;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
 import org.apache.shardingsphere.data.pipeline.cdc.client.event.StreamDataEvent;
@@ -33,10 +34,12 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreami
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -50,6 +53,8 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     private final Consumer<List<Record>> consumer;
     
+    private final CompactDataRecordDecoder compactDataRecordDecoder = new CompactDataRecordDecoder();
+    
     public CDCRequestHandler(final StartCDCClientParameter parameter) {
         this.parameter = parameter;
         consumer = parameter.getConsumer();
@@ -59,7 +64,7 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) {
         if (evt instanceof StreamDataEvent) {
             StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder().setDatabase(parameter.getDatabase()).setFull(parameter.isFull())
-                    .addAllSourceSchemaTable(parameter.getSchemaTables()).build();
+                    .setCompactFormat(parameter.isCompactFormat()).addAllSourceSchemaTable(parameter.getSchemaTables()).build();
             CDCRequest request = CDCRequest.newBuilder().setRequestId(RequestIdUtil.generateRequestId()).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
             ctx.writeAndFlush(request);
         }
@@ -78,6 +83,8 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             connectionContext.setStatus(ClientConnectionStatus.STREAMING);
         } else if (response.hasDataRecordResult()) {
             processDataRecords(ctx, response.getDataRecordResult());
+        } else if (response.hasCompactDataRecordResult()) {
+            processCompactDataRecords(ctx, response.getCompactDataRecordResult());
         }
     }
     
@@ -90,7 +97,20 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
-        List<Record> recordsList = result.getRecordList();
+        consumeAndAck(ctx, result.getRecordList(), result.getAckId());
+    }
+    
+    private void processCompactDataRecords(final ChannelHandlerContext ctx, final CompactDataRecordResult result) {
+        List<Record> records;
+        try {
+            records = compactDataRecordDecoder.decode(result);
+        } catch (final IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        consumeAndAck(ctx, records, result.getAckId());
+    }
+    
+    private void consumeAndAck(final ChannelHandlerContext ctx, final List<Record> recordsList, final String ackId) {
         try {
             consumer.accept(recordsList);
             // CHECKSTYLE:OFF
@@ -98,7 +118,7 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             // CHECKSTYLE:ON
             throw new RuntimeException(ex);
         }
-        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(ackId).build()).build());
     }
     
     @Override
@@ -48,5 +48,7 @@ public final class StartCDCClientParameter {
     
     private boolean full;
     
+    private boolean compactFormat;
+    
     private final Consumer<List<Record>> consumer;
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.codec;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Empty;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CompactDataRecordDecoderTest {
+    
+    @Test
+    public void assertDecode() throws IOException {
+        CompactDataRecordDecoder decoder = new CompactDataRecordDecoder();
+        CompactTableSchema tableSchema = CompactTableSchema.newBuilder().setSchemaId(0).setDatabase("foo_db").setSchema("public").setTable("t_order")
+                .addColumnName("order_id").addColumnName("status").addColumnName("create_time").build();
+        List<Record> actual = decoder.decode(CompactDataRecordResult.newBuilder().setAckId("foo_ack").addTableSchema(tableSchema).setRecords(createRecords()).build());
+        assertThat(actual.size(), is(1));
+        Record record = actual.get(0);
+        assertThat(record.getMetaData().getDatabase(), is("foo_db"));
+        assertThat(record.getMetaData().getSchema(), is("public"));
+        assertThat(record.getMetaData().getTable(), is("t_order"));
+        assertThat(record.getDataChangeType(), is(DataChangeType.UPDATE));
+        assertThat(record.getBeforeCount(), is(3));
+        assertTrue(record.getBefore(1).getValue().is(Empty.class));
+        assertThat(record.getAfter(0).getName(), is("order_id"));
+        assertThat(record.getAfter(0).getValue().unpack(Int64Value.class).getValue(), is(-1L));
+        assertThat(record.getAfter(1).getValue().unpack(StringValue.class).getValue(), is("bar"));
+        assertThat(record.getAfter(2).getValue().unpack(Timestamp.class).getSeconds(), is(10L));
+        assertThat(record.getAfter(2).getValue().unpack(Timestamp.class).getNanos(), is(20));
+        assertTrue(decoder.decode(CompactDataRecordResult.newBuilder().setAckId("bar_ack").setRecords(createRecords()).build()).get(0).hasMetaData());
+    }
+    
+    @Test
+    public void assertDecodeWithoutAnnouncedTableSchema() {
+        assertThrows(IllegalStateException.class, () -> new CompactDataRecordDecoder().decode(CompactDataRecordResult.newBuilder().setAckId("foo_ack").setRecords(createRecords()).build()));
+    }
+    
+    private ByteString createRecords() throws IOException {
+        ByteString.Output result = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(result);
+        output.writeUInt32NoTag(0);
+        output.writeUInt32NoTag(DataChangeType.UPDATE.getNumber());
+        output.writeRawByte(0b110);
+        output.writeUInt32NoTag(CompactValueType.INT64.getNumber());
+        output.writeSInt64NoTag(-1L);
+        output.writeRawByte(0);
+        output.writeUInt32NoTag(CompactValueType.INT64.getNumber());
+        output.writeSInt64NoTag(-1L);
+        output.writeUInt32NoTag(CompactValueType.STRING.getNumber());
+        output.writeStringNoTag("bar");
+        output.writeUInt32NoTag(CompactValueType.TIMESTAMP.getNumber());
+        output.writeSInt64NoTag(10L);
+        output.writeUInt32NoTag(20);
+        output.flush();
+        return result.toByteString();
+    }
+}
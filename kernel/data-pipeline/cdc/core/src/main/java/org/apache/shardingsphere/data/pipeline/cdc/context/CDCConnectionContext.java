@@ -35,5 +35,7 @@ public final class CDCConnectionContext {
     
     private volatile String jobId;
     
+    private volatile boolean compactFormat;
+    
     private volatile ShardingSphereUser currentUser;
 }
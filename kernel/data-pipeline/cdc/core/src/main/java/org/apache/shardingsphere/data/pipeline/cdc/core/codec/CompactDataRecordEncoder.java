@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.codec;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.UnsafeByteOperations;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.util.ColumnValueConvertUtil;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact data record encoder.
+ * 
+ * <p>Table schema is announced once per stream, data records only carry schema id, null bitmap and type native values, which are written into the given buffer directly.</p>
+ */
+@RequiredArgsConstructor
+public final class CompactDataRecordEncoder {
+    
+    private final String database;
+    
+    private final Map<String, String> tableNameSchemaMap;
+    
+    private final Map<String, TableSchema> tableSchemas = new HashMap<>();
+    
+    private int nextSchemaId;
+    
+    /**
+     * Encode data records.
+     *
+     * <p>The records of result share the content of buffer, so buffer can not be released until result is written.</p>
+     *
+     * @param dataRecords data records
+     * @param ackId ack id
+     * @param buffer buffer to write records
+     * @return compact data record result
+     */
+    public CompactDataRecordResult encode(final List<DataRecord> dataRecords, final String ackId, final ByteBuf buffer) {
+        List<CompactTableSchema> announcedTableSchemas = new LinkedList<>();
+        for (DataRecord each : dataRecords) {
+            TableSchema tableSchema = tableSchemas.get(each.getTableName());
+            if (null == tableSchema || !tableSchema.matches(each)) {
+                tableSchema = new TableSchema(nextSchemaId++, each);
+                tableSchemas.put(each.getTableName(), tableSchema);
+                announcedTableSchemas.add(createCompactTableSchema(tableSchema, each));
+            }
+            writeVarint(buffer, tableSchema.schemaId);
+            writeVarint(buffer, getDataChangeType(each.getType()).getNumber());
+            writeColumns(buffer, each, true);
+            writeColumns(buffer, each, false);
+        }
+        return CompactDataRecordResult.newBuilder().setAckId(ackId).addAllTableSchema(announcedTableSchemas).setRecords(UnsafeByteOperations.unsafeWrap(buffer.nioBuffer())).build();
+    }
+    
+    private CompactTableSchema createCompactTableSchema(final TableSchema tableSchema, final DataRecord dataRecord) {
+        CompactTableSchema.Builder result = CompactTableSchema.newBuilder().setSchemaId(tableSchema.schemaId).setDatabase(database)
+                .setSchema(Strings.nullToEmpty(tableNameSchemaMap.get(dataRecord.getTableName()))).setTable(dataRecord.getTableName());
+        for (String each : tableSchema.columnNames) {
+            result.addColumnName(each);
+        }
+        return result.build();
+    }
+    
+    private DataChangeType getDataChangeType(final String type) {
+        if (IngestDataChangeType.INSERT.equals(type)) {
+            return DataChangeType.INSERT;
+        }
+        if (IngestDataChangeType.UPDATE.equals(type)) {
+            return DataChangeType.UPDATE;
+        }
+        if (IngestDataChangeType.DELETE.equals(type)) {
+            return DataChangeType.DELETE;
+        }
+        return DataChangeType.UNKNOWN;
+    }
+    
+    private void writeColumns(final ByteBuf buffer, final DataRecord dataRecord, final boolean before) {
+        int columnCount = dataRecord.getColumnCount();
+        for (int i = 0; i < columnCount; i += 8) {
+            int bitmap = 0;
+            for (int j = i; j < Math.min(i + 8, columnCount); j++) {
+                if (null == getValue(dataRecord.getColumn(j), before)) {
+                    bitmap |= 1 << (j - i);
+                }
+            }
+            buffer.writeByte(bitmap);
+        }
+        for (int i = 0; i < columnCount; i++) {
+            Object value = getValue(dataRecord.getColumn(i), before);
+            if (null != value) {
+                writeValue(buffer, value);
+            }
+        }
+    }
+    
+    private Object getValue(final Column column, final boolean before) {
+        return before ? column.getOldValue() : column.getValue();
+    }
+    
+    private void writeValue(final ByteBuf buffer, final Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeVarint(buffer, CompactValueType.INT32.getNumber());
+            writeVarint(buffer, encodeZigZag(((Number) value).longValue()));
+        } else if (value instanceof Long) {
+            writeVarint(buffer, CompactValueType.INT64.getNumber());
+            writeVarint(buffer, encodeZigZag((long) value));
+        } else if (value instanceof String || value instanceof BigDecimal || value instanceof BigInteger) {
+            writeString(buffer, value.toString());
+        } else if (value instanceof Boolean) {
+            writeVarint(buffer, CompactValueType.BOOL.getNumber());
+            buffer.writeByte((boolean) value ? 1 : 0);
+        } else if (value instanceof Double) {
+            writeVarint(buffer, CompactValueType.DOUBLE.getNumber());
+            buffer.writeDoubleLE((double) value);
+        } else if (value instanceof Float) {
+            writeVarint(buffer, CompactValueType.FLOAT.getNumber());
+            buffer.writeFloatLE((float) value);
+        } else if (value instanceof byte[]) {
+            writeBytes(buffer, (byte[]) value);
+        } else {
+            writeMessage(buffer, ColumnValueConvertUtil.convertToProtobufMessage(value));
+        }
+    }
+    
+    private void writeMessage(final ByteBuf buffer, final Message message) {
+        if (message instanceof Int32Value) {
+            writeVarint(buffer, CompactValueType.INT32.getNumber());
+            writeVarint(buffer, encodeZigZag(((Int32Value) message).getValue()));
+        } else if (message instanceof Int64Value) {
+            writeVarint(buffer, CompactValueType.INT64.getNumber());
+            writeVarint(buffer, encodeZigZag(((Int64Value) message).getValue()));
+        } else if (message instanceof Timestamp) {
+            writeVarint(buffer, CompactValueType.TIMESTAMP.getNumber());
+            writeVarint(buffer, encodeZigZag(((Timestamp) message).getSeconds()));
+            writeVarint(buffer, ((Timestamp) message).getNanos());
+        } else if (message instanceof BytesValue) {
+            writeBytes(buffer, ((BytesValue) message).getValue().toByteArray());
+        } else if (message instanceof BoolValue) {
+            writeVarint(buffer, CompactValueType.BOOL.getNumber());
+            buffer.writeByte(((BoolValue) message).getValue() ? 1 : 0);
+        } else if (message instanceof DoubleValue) {
+            writeVarint(buffer, CompactValueType.DOUBLE.getNumber());
+            buffer.writeDoubleLE(((DoubleValue) message).getValue());
+        } else if (message instanceof FloatValue) {
+            writeVarint(buffer, CompactValueType.FLOAT.getNumber());
+            buffer.writeFloatLE(((FloatValue) message).getValue());
+        } else if (message instanceof StringValue) {
+            writeString(buffer, ((StringValue) message).getValue());
+        } else {
+            throw new UnsupportedOperationException(String.format("Unsupported compact value type `%s`", message.getClass().getName()));
+        }
+    }
+    
+    private void writeString(final ByteBuf buffer, final String value) {
+        writeVarint(buffer, CompactValueType.STRING.getNumber());
+        writeVarint(buffer, ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(buffer, value);
+    }
+    
+    private void writeBytes(final ByteBuf buffer, final byte[] value) {
+        writeVarint(buffer, CompactValueType.BYTES.getNumber());
+        writeVarint(buffer, value.length);
+        buffer.writeBytes(value);
+    }
+    
+    private long encodeZigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+    
+    private void writeVarint(final ByteBuf buffer, final long value) {
+        long remaining = value;
+        while (0 != (remaining & ~0x7FL)) {
+            buffer.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.writeByte((int) remaining);
+    }
+    
+    private static final class TableSchema {
+        
+        private final int schemaId;
+        
+        private final String[] columnNames;
+        
+        TableSchema(final int schemaId, final DataRecord dataRecord) {
+            this.schemaId = schemaId;
+            columnNames = new String[dataRecord.getColumnCount()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = dataRecord.getColumn(i).getName();
+            }
+        }
+        
+        private boolean matches(final DataRecord dataRecord) {
+            if (columnNames.length != dataRecord.getColumnCount()) {
+                return false;
+            }
+            for (int i = 0; i < columnNames.length; i++) {
+                if (!columnNames[i].equals(dataRecord.getColumn(i).getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
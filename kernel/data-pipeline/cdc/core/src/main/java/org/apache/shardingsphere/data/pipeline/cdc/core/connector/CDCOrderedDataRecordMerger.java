@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.connector;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckPosition;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
+
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * CDC ordered data record merger.
+ * 
+ * <p>Data records of all importers are merged by a min-heap over the heads of importer queues, so that polling one data record costs O(log n) of importers.</p>
+ */
+@RequiredArgsConstructor
+public final class CDCOrderedDataRecordMerger {
+    
+    private final Map<SocketSinkImporter, BlockingQueue<Record>> incrementalRecordMap;
+    
+    private final Comparator<DataRecord> dataRecordComparator;
+    
+    /**
+     * Poll ordered data records and save ack positions.
+     *
+     * @param maxCount max count of data records
+     * @param cdcAckPositionMap CDC ack position map
+     * @return polled data records, empty if there is no data record in any importer queue
+     */
+    public List<DataRecord> poll(final int maxCount, final Map<SocketSinkImporter, CDCAckPosition> cdcAckPositionMap) {
+        List<DataRecord> result = new LinkedList<>();
+        if (maxCount <= 0) {
+            return result;
+        }
+        PriorityQueue<QueueHead> heads = new PriorityQueue<>(Math.max(1, incrementalRecordMap.size()), (o1, o2) -> dataRecordComparator.compare(o1.dataRecord, o2.dataRecord));
+        for (Entry<SocketSinkImporter, BlockingQueue<Record>> entry : incrementalRecordMap.entrySet()) {
+            DataRecord head = peekDataRecord(entry.getValue());
+            if (null != head) {
+                heads.offer(new QueueHead(entry.getKey(), entry.getValue(), head));
+            }
+        }
+        while (result.size() < maxCount && !heads.isEmpty()) {
+            QueueHead minimum = heads.poll();
+            minimum.queue.poll();
+            saveAckPosition(cdcAckPositionMap, minimum.importer, minimum.dataRecord);
+            result.add(minimum.dataRecord);
+            DataRecord next = peekDataRecord(minimum.queue);
+            if (null != next) {
+                minimum.dataRecord = next;
+                heads.offer(minimum);
+            }
+        }
+        return result;
+    }
+    
+    private DataRecord peekDataRecord(final BlockingQueue<Record> queue) {
+        Record result = queue.peek();
+        while (null != result && !(result instanceof DataRecord)) {
+            queue.poll();
+            result = queue.peek();
+        }
+        return (DataRecord) result;
+    }
+    
+    private void saveAckPosition(final Map<SocketSinkImporter, CDCAckPosition> cdcAckPositionMap, final SocketSinkImporter socketSinkImporter, final Record record) {
+        CDCAckPosition cdcAckPosition = cdcAckPositionMap.get(socketSinkImporter);
+        if (null == cdcAckPosition) {
+            cdcAckPositionMap.put(socketSinkImporter, new CDCAckPosition(record, 1));
+        } else {
+            cdcAckPosition.setLastRecord(record);
+            cdcAckPosition.addDataRecordCount(1);
+        }
+    }
+    
+    @AllArgsConstructor
+    private static final class QueueHead {
+        
+        private final SocketSinkImporter importer;
+        
+        private final BlockingQueue<Record> queue;
+        
+        private DataRecord dataRecord;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.connector;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -29,10 +30,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCSinkType;
 import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckHolder;
 import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckPosition;
+import org.apache.shardingsphere.data.pipeline.cdc.core.codec.CompactDataRecordEncoder;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseGenerator;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
-import org.apache.shardingsphere.data.pipeline.cdc.util.CDCDataRecordUtil;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtil;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.connector.ImporterConnector;
@@ -65,6 +67,10 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
     
     private final Condition condition = lock.newCondition();
     
+    private final Condition recordArrivedCondition = lock.newCondition();
+    
+    private boolean recordArrived;
+    
     @Setter
     private volatile boolean incrementalTaskRunning = true;
     
@@ -76,8 +82,17 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
     
     private final Comparator<DataRecord> dataRecordComparator;
     
+    private final int mergeBatchSize;
+    
+    private final long mergeBatchLingerMillis;
+    
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
+    private final CompactDataRecordEncoder compactDataRecordEncoder;
+    
+    @Setter
+    private volatile boolean compactFormat;
+    
     private final Map<SocketSinkImporter, BlockingQueue<Record>> incrementalRecordMap = new ConcurrentHashMap<>();
     
     private final AtomicInteger runningIncrementalTaskCount = new AtomicInteger(0);
@@ -85,7 +100,7 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
     private Thread incrementalImporterTask;
     
     public SocketSinkImporterConnector(final Channel channel, final ShardingSphereDatabase database, final int jobShardingCount, final Collection<String> schemaTableNames,
-                                       final Comparator<DataRecord> dataRecordComparator) {
+                                       final Comparator<DataRecord> dataRecordComparator, final int mergeBatchSize, final long mergeBatchLingerMillis) {
         this.channel = channel;
         this.database = database;
         this.jobShardingCount = jobShardingCount;
@@ -93,7 +108,10 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
             String[] split = each.split("\\.");
             tableNameSchemaMap.put(split[1], split[0]);
         });
+        compactDataRecordEncoder = new CompactDataRecordEncoder(database.getName(), tableNameSchemaMap);
         this.dataRecordComparator = dataRecordComparator;
+        this.mergeBatchSize = mergeBatchSize;
+        this.mergeBatchLingerMillis = mergeBatchLingerMillis;
     }
     
     @Override
@@ -134,6 +152,10 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
         if (!channel.isActive()) {
             return;
         }
+        if (compactFormat) {
+            writeCompactImmediately(recordList, importerDataRecordMap);
+            return;
+        }
         List<DataRecordResult.Record> records = new LinkedList<>();
         for (Record each : recordList) {
             if (!(each instanceof DataRecord)) {
@@ -147,6 +169,29 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
         channel.writeAndFlush(CDCResponseGenerator.succeedBuilder("").setDataRecordResult(dataRecordResult).build());
     }
     
+    private void writeCompactImmediately(final List<? extends Record> recordList, final Map<SocketSinkImporter, CDCAckPosition> importerDataRecordMap) {
+        List<DataRecord> dataRecords = new LinkedList<>();
+        for (Record each : recordList) {
+            if (each instanceof DataRecord) {
+                dataRecords.add((DataRecord) each);
+            }
+        }
+        String ackId = CDCAckHolder.getInstance().bindAckIdWithPosition(importerDataRecordMap);
+        ByteBuf buffer = channel.alloc().buffer();
+        synchronized (compactDataRecordEncoder) {
+            CompactDataRecordResult compactDataRecordResult;
+            try {
+                compactDataRecordResult = compactDataRecordEncoder.encode(dataRecords, ackId, buffer);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                buffer.release();
+                throw ex;
+            }
+            channel.writeAndFlush(CDCResponseGenerator.succeedBuilder("").setCompactDataRecordResult(compactDataRecordResult).build()).addListener(future -> buffer.release());
+        }
+    }
+    
     private void doAwait() {
         lock.lock();
         try {
@@ -165,7 +210,35 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
             return;
         }
         for (Record each : dataRecords) {
-            blockingQueue.put(each);
+            if (!blockingQueue.offer(each)) {
+                signalRecordArrived();
+                blockingQueue.put(each);
+            }
+        }
+        signalRecordArrived();
+    }
+    
+    private void signalRecordArrived() {
+        lock.lock();
+        try {
+            recordArrived = true;
+            recordArrivedCondition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void awaitRecordArrived(final long timeoutMillis) {
+        lock.lock();
+        try {
+            if (!recordArrived) {
+                recordArrivedCondition.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            recordArrived = false;
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -183,7 +256,7 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
         }
         log.debug("start CDC incremental importer");
         if (null == incrementalImporterTask) {
-            incrementalImporterTask = new Thread(new CDCIncrementalImporterTask(batchSize));
+            incrementalImporterTask = new Thread(new CDCIncrementalImporterTask(mergeBatchSize > 0 ? mergeBatchSize : batchSize));
             incrementalImporterTask.start();
         }
     }
@@ -215,24 +288,32 @@ public final class SocketSinkImporterConnector implements ImporterConnector, Aut
         
         private final int batchSize;
         
-        @SneakyThrows(InterruptedException.class)
         @Override
         public void run() {
-            while (incrementalTaskRunning) {
-                Map<SocketSinkImporter, CDCAckPosition> cdcAckPositionMap = new HashMap<>();
-                List<DataRecord> dataRecords = new LinkedList<>();
-                for (int i = 0; i < batchSize; i++) {
-                    DataRecord minimumDataRecord = CDCDataRecordUtil.findMinimumDataRecordAndSavePosition(incrementalRecordMap, dataRecordComparator, cdcAckPositionMap);
-                    if (null == minimumDataRecord) {
-                        break;
-                    }
-                    dataRecords.add(minimumDataRecord);
-                }
+            CDCOrderedDataRecordMerger merger = new CDCOrderedDataRecordMerger(incrementalRecordMap, dataRecordComparator);
+            Map<SocketSinkImporter, CDCAckPosition> cdcAckPositionMap = new HashMap<>();
+            List<DataRecord> dataRecords = new LinkedList<>();
+            long lingerDeadline = 0L;
+            while (incrementalTaskRunning && !Thread.currentThread().isInterrupted()) {
+                dataRecords.addAll(merger.poll(batchSize - dataRecords.size(), cdcAckPositionMap));
                 if (dataRecords.isEmpty()) {
-                    Thread.sleep(200L);
-                } else {
-                    writeImmediately(dataRecords, cdcAckPositionMap);
+                    awaitRecordArrived(DEFAULT_TIMEOUT_MILLISECONDS);
+                    continue;
+                }
+                if (dataRecords.size() < batchSize) {
+                    long now = System.currentTimeMillis();
+                    if (0L == lingerDeadline) {
+                        lingerDeadline = now + mergeBatchLingerMillis;
+                    }
+                    if (now < lingerDeadline) {
+                        awaitRecordArrived(lingerDeadline - now);
+                        continue;
+                    }
                 }
+                writeImmediately(dataRecords, cdcAckPositionMap);
+                cdcAckPositionMap = new HashMap<>();
+                dataRecords = new LinkedList<>();
+                lingerDeadline = 0L;
             }
         }
     }
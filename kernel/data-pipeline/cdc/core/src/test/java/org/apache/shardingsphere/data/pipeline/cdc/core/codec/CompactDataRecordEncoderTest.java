@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.codec;
+
+import com.google.protobuf.CodedInputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CompactDataRecordEncoderTest {
+    
+    @Test
+    public void assertEncode() throws IOException {
+        CompactDataRecordEncoder encoder = new CompactDataRecordEncoder("foo_db", Collections.singletonMap("t_order", "public"));
+        ByteBuf buffer = Unpooled.buffer();
+        CompactDataRecordResult actual = encoder.encode(Arrays.asList(createDataRecord(1, "foo"), createDataRecord(-2, null)), "foo_ack", buffer);
+        assertThat(actual.getAckId(), is("foo_ack"));
+        assertThat(actual.getTableSchemaCount(), is(1));
+        CompactTableSchema tableSchema = actual.getTableSchema(0);
+        assertThat(tableSchema.getSchemaId(), is(0));
+        assertThat(tableSchema.getDatabase(), is("foo_db"));
+        assertThat(tableSchema.getSchema(), is("public"));
+        assertThat(tableSchema.getTable(), is("t_order"));
+        assertThat(tableSchema.getColumnNameList(), is(Arrays.asList("order_id", "status", "price")));
+        CodedInputStream input = actual.getRecords().newCodedInput();
+        assertRecord(input, 1, "foo");
+        assertRecord(input, -2, null);
+        assertTrue(input.isAtEnd());
+        buffer.release();
+    }
+    
+    @Test
+    public void assertEncodeWithAnnouncedTableSchema() {
+        CompactDataRecordEncoder encoder = new CompactDataRecordEncoder("foo_db", Collections.emptyMap());
+        encoder.encode(Collections.singletonList(createDataRecord(1, "foo")), "foo_ack", Unpooled.buffer());
+        assertThat(encoder.encode(Collections.singletonList(createDataRecord(2, "bar")), "bar_ack", Unpooled.buffer()).getTableSchemaCount(), is(0));
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.setType(IngestDataChangeType.DELETE);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("order_id", 1, 1, false, true));
+        CompactDataRecordResult actual = encoder.encode(Collections.singletonList(dataRecord), "baz_ack", Unpooled.buffer());
+        assertThat(actual.getTableSchemaCount(), is(1));
+        assertThat(actual.getTableSchema(0).getSchemaId(), is(1));
+    }
+    
+    private DataRecord createDataRecord(final int orderId, final String status) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("status", status, false, false));
+        result.addColumn(new Column("price", new BigDecimal("1.50"), false, false));
+        return result;
+    }
+    
+    private void assertRecord(final CodedInputStream input, final int expectedOrderId, final String expectedStatus) throws IOException {
+        assertThat(input.readUInt32(), is(0));
+        assertThat(input.readUInt32(), is(DataChangeType.INSERT.getNumber()));
+        assertThat(input.readRawByte(), is((byte) 0b111));
+        assertThat(input.readRawByte(), is(null == expectedStatus ? (byte) 0b010 : (byte) 0));
+        assertThat(input.readUInt32(), is(CompactValueType.INT32.getNumber()));
+        assertThat(input.readSInt32(), is(expectedOrderId));
+        if (null != expectedStatus) {
+            assertThat(input.readUInt32(), is(CompactValueType.STRING.getNumber()));
+            assertThat(input.readStringRequireUtf8(), is(expectedStatus));
+        }
+        assertThat(input.readUInt32(), is(CompactValueType.STRING.getNumber()));
+        assertThat(input.readStringRequireUtf8(), is("1.50"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.connector;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckPosition;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
+import org.apache.shardingsphere.data.pipeline.cdc.generator.DataRecordComparatorGenerator;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class CDCOrderedDataRecordMergerTest {
+    
+    @Test
+    public void assertPoll() throws InterruptedException {
+        Map<SocketSinkImporter, BlockingQueue<Record>> incrementalRecordMap = new LinkedHashMap<>();
+        SocketSinkImporter firstImporter = mock(SocketSinkImporter.class);
+        incrementalRecordMap.put(firstImporter, createQueue(0, 2, 4));
+        SocketSinkImporter secondImporter = mock(SocketSinkImporter.class);
+        incrementalRecordMap.put(secondImporter, createQueue(1, 3, 5));
+        BlockingQueue<Record> thirdQueue = createQueue(6);
+        thirdQueue.put(new FinishedRecord(new PlaceholderPosition()));
+        incrementalRecordMap.put(mock(SocketSinkImporter.class), thirdQueue);
+        CDCOrderedDataRecordMerger merger = new CDCOrderedDataRecordMerger(incrementalRecordMap, DataRecordComparatorGenerator.generatorIncrementalComparator(new OpenGaussDatabaseType()));
+        Map<SocketSinkImporter, CDCAckPosition> cdcAckPositionMap = new HashMap<>();
+        List<DataRecord> actual = merger.poll(5, cdcAckPositionMap);
+        assertThat(actual.size(), is(5));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i).getCsn(), is((long) i));
+        }
+        assertThat(cdcAckPositionMap.get(firstImporter).getDataRecordCount(), is(3));
+        assertThat(((DataRecord) cdcAckPositionMap.get(firstImporter).getLastRecord()).getCsn(), is(4L));
+        assertThat(cdcAckPositionMap.get(secondImporter).getDataRecordCount(), is(2));
+        actual = merger.poll(5, new HashMap<>());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getCsn(), is(5L));
+        assertThat(actual.get(1).getCsn(), is(6L));
+        assertTrue(merger.poll(5, new HashMap<>()).isEmpty());
+        assertTrue(thirdQueue.isEmpty());
+    }
+    
+    private BlockingQueue<Record> createQueue(final long... csnList) throws InterruptedException {
+        BlockingQueue<Record> result = new ArrayBlockingQueue<>(5);
+        for (long each : csnList) {
+            DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 0);
+            dataRecord.setCsn(each);
+            result.put(dataRecord);
+        }
+        return result;
+    }
+}
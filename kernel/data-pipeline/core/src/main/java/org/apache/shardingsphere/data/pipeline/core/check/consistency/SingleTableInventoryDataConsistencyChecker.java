@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -104,7 +105,7 @@ public final class SingleTableInventoryDataConsistencyChecker {
         Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(sourceParam))).iterator();
         Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(targetParam))).iterator();
         try {
-            return check0(sourceCalculatedResults, targetCalculatedResults, executor);
+            return check0(calculateAlgorithm, sourceCalculatedResults, targetCalculatedResults, executor);
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
             // CHECKSTYLE:ON
@@ -118,8 +119,8 @@ public final class SingleTableInventoryDataConsistencyChecker {
         }
     }
     
-    private DataConsistencyCheckResult check0(final Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults, final Iterator<DataConsistencyCalculatedResult> targetCalculatedResults,
-                                              final ThreadPoolExecutor executor) {
+    private DataConsistencyCheckResult check0(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults,
+                                              final Iterator<DataConsistencyCalculatedResult> targetCalculatedResults, final ThreadPoolExecutor executor) {
         long sourceRecordsCount = 0;
         long targetRecordsCount = 0;
         boolean contentMatched = true;
@@ -134,6 +135,10 @@ public final class SingleTableInventoryDataConsistencyChecker {
             contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
             if (!contentMatched) {
                 log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}", jobId, sourceTable, targetTable, uniqueKey);
+                Collection<Object> differentUniqueKeyValues = calculateAlgorithm.locateDifferentRecords(sourceCalculatedResult, targetCalculatedResult);
+                if (!differentUniqueKeyValues.isEmpty()) {
+                    log.warn("different records located, jobId={}, sourceTable={}, targetTable={}, uniqueKeyValues={}", jobId, sourceTable, targetTable, differentUniqueKeyValues);
+                }
                 break;
             }
             if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
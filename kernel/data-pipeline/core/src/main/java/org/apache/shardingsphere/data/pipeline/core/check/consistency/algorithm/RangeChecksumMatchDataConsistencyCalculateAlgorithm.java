@@ -0,0 +1,558 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineSQLException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.util.JDBCStreamQueryUtil;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Range checksum match data consistency calculate algorithm.
+ * 
+ * <p>Unique key space is split into ranges, and records count and order independent checksum of every range are calculated in parallel.
+ * Checksum is calculated by database if both sides are the same database type and dialect SQL is supported, otherwise it's calculated by streaming records.
+ * If checksum of range is not matched, the checker could locate different records by bisecting the range.</p>
+ */
+@SPIDescription("Match checksum of records in unique key ranges.")
+@Slf4j
+public final class RangeChecksumMatchDataConsistencyCalculateAlgorithm extends AbstractDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = ShardingSphereServiceLoader
+            .getServiceInstances(DatabaseType.class).stream().map(DatabaseType::getType).collect(Collectors.toList());
+    
+    private static final String RANGE_SIZE_KEY = "range-size";
+    
+    private static final int DEFAULT_RANGE_SIZE = 100000;
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
+    private static final String DRILL_DOWN_SIZE_KEY = "drill-down-size";
+    
+    private static final int DEFAULT_DRILL_DOWN_SIZE = 1000;
+    
+    private static final int MAX_LOCATED_RECORDS_COUNT = 100;
+    
+    private static final long NULL_VALUE_HASH = 0x9E3779B97F4A7C15L;
+    
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
+    private int rangeSize;
+    
+    private int concurrency;
+    
+    private int drillDownSize;
+    
+    @Override
+    public void init(final Properties props) {
+        rangeSize = getPositiveIntValue(props, RANGE_SIZE_KEY, DEFAULT_RANGE_SIZE);
+        concurrency = getPositiveIntValue(props, CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
+        drillDownSize = getPositiveIntValue(props, DRILL_DOWN_SIZE_KEY, DEFAULT_DRILL_DOWN_SIZE);
+    }
+    
+    private int getPositiveIntValue(final Properties props, final String key, final int defaultValue) {
+        int result = Integer.parseInt(props.getProperty(key, defaultValue + ""));
+        if (result <= 0) {
+            log.warn("Invalid {}={}, use default value", key, result);
+            return defaultValue;
+        }
+        return result;
+    }
+    
+    @Override
+    public Iterable<DataConsistencyCalculatedResult> calculate(final DataConsistencyCalculateParameter param) {
+        PipelineColumnMetaData uniqueKey = param.getUniqueKey();
+        if (null == uniqueKey || !PipelineJdbcUtils.isIntegerColumn(uniqueKey.getDataType())) {
+            throw new UnsupportedOperationException("Data consistency of RANGE_CHECKSUM_MATCH type only support table with integer unique key or primary key now");
+        }
+        return () -> new ResultIterator(param);
+    }
+    
+    @Override
+    public Collection<Object> locateDifferentRecords(final DataConsistencyCalculatedResult sourceCalculatedResult, final DataConsistencyCalculatedResult targetCalculatedResult) {
+        if (!(sourceCalculatedResult instanceof CalculatedResult) || !(targetCalculatedResult instanceof CalculatedResult)) {
+            return Collections.emptyList();
+        }
+        CalculatedResult source = (CalculatedResult) sourceCalculatedResult;
+        CalculatedResult target = (CalculatedResult) targetCalculatedResult;
+        return source.calculator.locateDifferentRecords(target.calculator,
+                Math.min(source.beginUniqueKeyValue, target.beginUniqueKeyValue), Math.max(source.endUniqueKeyValue, target.endUniqueKeyValue));
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        super.cancel();
+        for (Statement each : runningStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLFeatureNotSupportedException ex) {
+                log.info("cancel is not supported: {}", ex.getMessage());
+            } catch (final SQLException ex) {
+                log.info("cancel failed: {}", ex.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "RANGE_CHECKSUM_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    private static long hashValue(final Object value) throws SQLException {
+        if (null == value) {
+            return NULL_VALUE_HASH;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() < Long.SIZE ? ((BigInteger) value).longValue() : value.hashCode();
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = ((BigDecimal) value).stripTrailingZeros();
+            return decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19 ? decimal.longValueExact() : decimal.toPlainString().hashCode();
+        }
+        if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        }
+        if (value instanceof SQLXML) {
+            return ((SQLXML) value).getString().hashCode();
+        }
+        return value.hashCode();
+    }
+    
+    private static long mix(final long hash) {
+        long result = hash;
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    private final class ResultIterator implements Iterator<DataConsistencyCalculatedResult> {
+        
+        private final RangeChecksumCalculator calculator;
+        
+        private final CalculationContext calculationContext;
+        
+        private final Deque<Future<CalculatedResult>> futures = new LinkedList<>();
+        
+        private Long nextRangeBeginValue;
+        
+        private ResultIterator(final DataConsistencyCalculateParameter param) {
+            calculator = new RangeChecksumCalculator(param);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    ExecutorThreadFactoryBuilder.build("data-consistency-range-checksum-%d"));
+            executor.allowCoreThreadTimeOut(true);
+            calculationContext = new CalculationContext(executor);
+            param.setCalculationContext(calculationContext);
+            nextRangeBeginValue = getFirstRangeBeginValue(param.getTableCheckPosition());
+        }
+        
+        private Long getFirstRangeBeginValue(final Object tableCheckPosition) {
+            if (null == tableCheckPosition) {
+                return Long.MIN_VALUE;
+            }
+            long result = Long.parseLong(tableCheckPosition.toString());
+            return Long.MAX_VALUE == result ? null : result + 1;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            submitIfNecessary();
+            if (futures.isEmpty()) {
+                calculationContext.close();
+                return false;
+            }
+            return true;
+        }
+        
+        @Override
+        public DataConsistencyCalculatedResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return futures.poll().get();
+            } catch (final InterruptedException | ExecutionException ex) {
+                calculationContext.close();
+                if (ex.getCause() instanceof PipelineSQLException) {
+                    throw (PipelineSQLException) ex.getCause();
+                }
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(calculator.schemaName, calculator.tableName, ex);
+            }
+        }
+        
+        private void submitIfNecessary() {
+            while (futures.size() < concurrency && null != nextRangeBeginValue) {
+                if (isCanceling()) {
+                    calculationContext.close();
+                    throw new PipelineTableDataConsistencyCheckLoadingFailedException(calculator.schemaName, calculator.tableName);
+                }
+                long beginValue = nextRangeBeginValue;
+                Optional<Long> endValue = calculator.findRangeEndValue(beginValue);
+                if (!endValue.isPresent()) {
+                    nextRangeBeginValue = null;
+                    return;
+                }
+                nextRangeBeginValue = Long.MAX_VALUE == endValue.get() ? null : endValue.get() + 1;
+                futures.add(calculationContext.getExecutor().submit(() -> calculator.calculate(beginValue, endValue.get())));
+            }
+        }
+    }
+    
+    private final class RangeChecksumCalculator {
+        
+        private final DataSource dataSource;
+        
+        private final DatabaseType databaseType;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final ColumnValueReader columnValueReader;
+        
+        private final String splitSQL;
+        
+        private final String checksumSQL;
+        
+        private final String dumpSQL;
+        
+        private final int uniqueKeyColumnIndex;
+        
+        private RangeChecksumCalculator(final DataConsistencyCalculateParameter param) {
+            dataSource = param.getDataSource();
+            databaseType = TypedSPILoader.getService(DatabaseType.class, param.getDatabaseType());
+            schemaName = param.getSchemaName();
+            tableName = param.getLogicTableName();
+            columnValueReader = PipelineTypedSPILoader.getDatabaseTypedService(ColumnValueReader.class, param.getDatabaseType());
+            PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+            String uniqueKey = param.getUniqueKey().getName();
+            splitSQL = sqlBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, tableName, uniqueKey);
+            checksumSQL = param.getDatabaseType().equals(param.getPeerDatabaseType()) && !param.getColumnNames().isEmpty()
+                    ? sqlBuilder.buildRangeChecksumSQL(schemaName, tableName, param.getColumnNames(), uniqueKey).orElse(null)
+                    : null;
+            List<String> columnNames = new ArrayList<>(param.getColumnNames());
+            if (!columnNames.isEmpty() && !columnNames.contains(uniqueKey)) {
+                columnNames.add(uniqueKey);
+            }
+            dumpSQL = sqlBuilder.buildDivisibleInventoryDumpSQL(schemaName, tableName, columnNames, uniqueKey);
+            uniqueKeyColumnIndex = columnNames.isEmpty() ? param.getUniqueKey().getOrdinalPosition() : columnNames.indexOf(uniqueKey) + 1;
+        }
+        
+        private Optional<Long> findRangeEndValue(final long beginValue) {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(splitSQL))) {
+                preparedStatement.setLong(1, beginValue);
+                preparedStatement.setInt(2, rangeSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    resultSet.next();
+                    long endValue = resultSet.getLong(1);
+                    return 0 == resultSet.getInt(2) ? Optional.empty() : Optional.of(endValue);
+                }
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName, ex);
+            }
+        }
+        
+        private CalculatedResult calculate(final long beginValue, final long endValue) {
+            try {
+                return null == checksumSQL ? calculateByStreaming(beginValue, endValue) : calculateByDatabase(beginValue, endValue);
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName, ex);
+            }
+        }
+        
+        private CalculatedResult calculateByDatabase(final long beginValue, final long endValue) throws SQLException {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    PreparedStatement preparedStatement = connection.prepareStatement(checksumSQL)) {
+                runningStatements.add(preparedStatement);
+                try {
+                    return calculateByDatabase(preparedStatement, beginValue, endValue);
+                } finally {
+                    runningStatements.remove(preparedStatement);
+                }
+            }
+        }
+        
+        private CalculatedResult calculateByDatabase(final PreparedStatement preparedStatement, final long beginValue, final long endValue) throws SQLException {
+            preparedStatement.setLong(1, beginValue);
+            preparedStatement.setLong(2, endValue);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                int recordsCount = resultSet.getInt(1);
+                BigDecimal checksum = resultSet.getBigDecimal(2);
+                return new CalculatedResult(this, beginValue, endValue, recordsCount, null == checksum ? 0L : checksum.toBigInteger().longValue());
+            }
+        }
+        
+        private CalculatedResult calculateByStreaming(final long beginValue, final long endValue) throws SQLException {
+            ChecksumAccumulator accumulator = new ChecksumAccumulator();
+            readRecordHashes(beginValue, endValue, Integer.MAX_VALUE, accumulator);
+            return new CalculatedResult(this, beginValue, endValue, accumulator.getRecordsCount(), accumulator.getChecksum());
+        }
+        
+        private List<RecordHash> loadRecordHashes(final long beginValue, final long endValue) throws SQLException {
+            List<RecordHash> result = new ArrayList<>(drillDownSize);
+            readRecordHashes(beginValue, endValue, drillDownSize, result::add);
+            return result;
+        }
+        
+        private void readRecordHashes(final long beginValue, final long endValue, final int maxCount, final Consumer<RecordHash> consumer) throws SQLException {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    PreparedStatement preparedStatement = JDBCStreamQueryUtil.generateStreamQueryPreparedStatement(databaseType, connection, dumpSQL)) {
+                runningStatements.add(preparedStatement);
+                try {
+                    readRecordHashes(preparedStatement, beginValue, endValue, maxCount, consumer);
+                } finally {
+                    runningStatements.remove(preparedStatement);
+                }
+            }
+        }
+        
+        private void readRecordHashes(final PreparedStatement preparedStatement, final long beginValue, final long endValue, final int maxCount,
+                                      final Consumer<RecordHash> consumer) throws SQLException {
+            if (!(databaseType instanceof MySQLDatabaseType)) {
+                preparedStatement.setFetchSize(drillDownSize);
+            }
+            preparedStatement.setLong(1, beginValue);
+            preparedStatement.setLong(2, endValue);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                int count = 0;
+                while (count++ < maxCount && resultSet.next()) {
+                    if (isCanceling()) {
+                        throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName);
+                    }
+                    long hash = 1L;
+                    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                        hash = 31L * hash + hashValue(columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex));
+                    }
+                    consumer.accept(new RecordHash(resultSet.getLong(uniqueKeyColumnIndex), mix(hash)));
+                }
+            }
+        }
+        
+        private Collection<Object> locateDifferentRecords(final RangeChecksumCalculator peer, final long beginValue, final long endValue) {
+            Collection<Object> result = new LinkedList<>();
+            try {
+                locateDifferentRecords(peer, beginValue, endValue, result);
+            } catch (final PipelineSQLException ex) {
+                log.warn("Locate different records failed, table={}, beginValue={}, endValue={}", tableName, beginValue, endValue, ex);
+            }
+            return result;
+        }
+        
+        private void locateDifferentRecords(final RangeChecksumCalculator peer, final long beginValue, final long endValue, final Collection<Object> differentUniqueKeyValues) {
+            if (differentUniqueKeyValues.size() >= MAX_LOCATED_RECORDS_COUNT || isCanceling()) {
+                return;
+            }
+            CalculatedResult thisResult = calculate(beginValue, endValue);
+            CalculatedResult thatResult = peer.calculate(beginValue, endValue);
+            if (thisResult.isChecksumMatched(thatResult)) {
+                return;
+            }
+            if (beginValue == endValue || Math.max(thisResult.getRecordsCount(), thatResult.getRecordsCount()) <= drillDownSize) {
+                compareRecords(peer, beginValue, endValue, differentUniqueKeyValues);
+                return;
+            }
+            long middleValue = (beginValue >> 1) + (endValue >> 1) + (beginValue & endValue & 1);
+            locateDifferentRecords(peer, beginValue, middleValue, differentUniqueKeyValues);
+            locateDifferentRecords(peer, middleValue + 1, endValue, differentUniqueKeyValues);
+        }
+        
+        private void compareRecords(final RangeChecksumCalculator peer, final long beginValue, final long endValue, final Collection<Object> differentUniqueKeyValues) {
+            Iterator<RecordHash> thisIterator;
+            Iterator<RecordHash> thatIterator;
+            try {
+                thisIterator = loadRecordHashes(beginValue, endValue).iterator();
+                thatIterator = peer.loadRecordHashes(beginValue, endValue).iterator();
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName, ex);
+            }
+            RecordHash thisRecord = thisIterator.hasNext() ? thisIterator.next() : null;
+            RecordHash thatRecord = thatIterator.hasNext() ? thatIterator.next() : null;
+            while ((null != thisRecord || null != thatRecord) && differentUniqueKeyValues.size() < MAX_LOCATED_RECORDS_COUNT) {
+                if (null == thatRecord || null != thisRecord && thisRecord.getUniqueKeyValue() < thatRecord.getUniqueKeyValue()) {
+                    differentUniqueKeyValues.add(thisRecord.getUniqueKeyValue());
+                    thisRecord = thisIterator.hasNext() ? thisIterator.next() : null;
+                } else if (null == thisRecord || thisRecord.getUniqueKeyValue() > thatRecord.getUniqueKeyValue()) {
+                    differentUniqueKeyValues.add(thatRecord.getUniqueKeyValue());
+                    thatRecord = thatIterator.hasNext() ? thatIterator.next() : null;
+                } else {
+                    if (thisRecord.getHash() != thatRecord.getHash()) {
+                        differentUniqueKeyValues.add(thisRecord.getUniqueKeyValue());
+                    }
+                    thisRecord = thisIterator.hasNext() ? thisIterator.next() : null;
+                    thatRecord = thatIterator.hasNext() ? thatIterator.next() : null;
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CalculationContext implements AutoCloseable {
+        
+        private final ThreadPoolExecutor executor;
+        
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Getter
+    private static final class ChecksumAccumulator implements Consumer<RecordHash> {
+        
+        private int recordsCount;
+        
+        private long checksum;
+        
+        @Override
+        public void accept(final RecordHash recordHash) {
+            recordsCount++;
+            checksum += recordHash.getHash();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RecordHash {
+        
+        private final long uniqueKeyValue;
+        
+        private final long hash;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        @Getter(AccessLevel.NONE)
+        private final RangeChecksumCalculator calculator;
+        
+        private final long beginUniqueKeyValue;
+        
+        private final long endUniqueKeyValue;
+        
+        private final int recordsCount;
+        
+        private final long checksum;
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.of(endUniqueKeyValue);
+        }
+        
+        private boolean isChecksumMatched(final CalculatedResult that) {
+            return recordsCount == that.recordsCount && checksum == that.checksum;
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (getClass() != o.getClass()) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (beginUniqueKeyValue == that.beginUniqueKeyValue && endUniqueKeyValue == that.endUniqueKeyValue && isChecksumMatched(that)) {
+                return true;
+            }
+            log.warn("range checksum not match, beginUniqueKeyValue1={}, beginUniqueKeyValue2={}, endUniqueKeyValue1={}, endUniqueKeyValue2={}, recordsCount1={}, recordsCount2={}",
+                    beginUniqueKeyValue, that.beginUniqueKeyValue, endUniqueKeyValue, that.endUniqueKeyValue, recordsCount, that.recordsCount);
+            return false;
+        }
+        
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(beginUniqueKeyValue);
+            result = 31 * result + Long.hashCode(endUniqueKeyValue);
+            result = 31 * result + recordsCount;
+            result = 31 * result + Long.hashCode(checksum);
+            return result;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.algorithm.ShardingSph
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Data consistency calculate algorithm.
@@ -37,6 +38,17 @@ public interface DataConsistencyCalculateAlgorithm extends ShardingSphereAlgorit
      */
     Iterable<DataConsistencyCalculatedResult> calculate(DataConsistencyCalculateParameter param);
     
+    /**
+     * Locate different records of not matched calculated results.
+     *
+     * @param sourceCalculatedResult source calculated result
+     * @param targetCalculatedResult target calculated result
+     * @return unique key values of different records, empty if not supported
+     */
+    default Collection<Object> locateDifferentRecords(DataConsistencyCalculatedResult sourceCalculatedResult, DataConsistencyCalculatedResult targetCalculatedResult) {
+        return Collections.emptyList();
+    }
+    
     /**
      * Cancel calculation.
      *
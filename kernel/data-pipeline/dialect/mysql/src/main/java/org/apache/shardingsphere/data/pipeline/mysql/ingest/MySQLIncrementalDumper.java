@@ -38,6 +38,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumn
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogDumpStatistics;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -48,6 +49,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRo
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.ConnectInfo;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandler;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -56,6 +58,8 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -78,6 +82,8 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new HashMap<>();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -88,8 +94,13 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         YamlJdbcConfiguration jdbcConfig = ((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig()).getJdbcConfig();
         log.info("incremental dump, jdbcUrl={}", jdbcConfig.getUrl());
         DataSourceMetaData metaData = TypedSPILoader.getService(DatabaseType.class, "MySQL").getDataSourceMetaData(jdbcConfig.getUrl(), null);
-        client = new MySQLClient(new ConnectInfo(new SecureRandom().nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword()));
         catalog = metaData.getCatalog();
+        ConnectInfo connectInfo = new ConnectInfo(new SecureRandom().nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword());
+        client = new MySQLClient(connectInfo, this::isSubscribedTable);
+    }
+    
+    private boolean isSubscribedTable(final MySQLBinlogTableMapEventPacket tableMapEventPacket) {
+        return catalog.equals(tableMapEventPacket.getSchemaName()) && dumperConfig.containsTable(tableMapEventPacket.getTableName());
     }
     
     @Override
@@ -107,6 +118,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     }
     
     private void handleEvent(final AbstractBinlogEvent event) {
+        recordLag(event);
         if (event instanceof PlaceholderEvent || !((AbstractRowsEvent) event).getDatabaseName().equals(catalog) || !dumperConfig.containsTable(((AbstractRowsEvent) event).getTableName())) {
             createPlaceholderRecord(event);
             return;
@@ -125,6 +137,12 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         }
     }
     
+    private void recordLag(final AbstractBinlogEvent event) {
+        if (event.getTimestamp() > 0L && null != dumperConfig.getJobId()) {
+            BinlogDumpStatistics.getInstance().recordLag(dumperConfig.getJobId(), System.currentTimeMillis() - event.getTimestamp() * 1000L);
+        }
+    }
+    
     private void createPlaceholderRecord(final AbstractBinlogEvent event) {
         PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
         record.setCommitTime(event.getTimestamp() * 1000L);
@@ -201,7 +219,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -217,5 +235,8 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         if (null != client) {
             client.closeChannel();
         }
+        if (null != dumperConfig.getJobId()) {
+            BinlogDumpStatistics.getInstance().removeLag(dumperConfig.getJobId());
+        }
     }
 }
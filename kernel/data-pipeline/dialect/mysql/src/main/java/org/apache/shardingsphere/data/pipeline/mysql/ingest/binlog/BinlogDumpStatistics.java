@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Binlog dump statistics.
+ * 
+ * <p>Rows events of unsubscribed tables are skipped without decoding rows, and dumper lag is the delay between binlog event time and dumper handling time.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinlogDumpStatistics {
+    
+    private static final BinlogDumpStatistics INSTANCE = new BinlogDumpStatistics();
+    
+    private final LongAdder decodedEventCount = new LongAdder();
+    
+    private final LongAdder decodedRowCount = new LongAdder();
+    
+    private final LongAdder decodeNanos = new LongAdder();
+    
+    private final LongAdder skippedEventCount = new LongAdder();
+    
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    
+    /**
+     * Get binlog dump statistics.
+     *
+     * @return binlog dump statistics
+     */
+    public static BinlogDumpStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record rows event decoded.
+     *
+     * @param rowCount decoded row count
+     * @param nanos decode nanos
+     */
+    public void recordDecoded(final int rowCount, final long nanos) {
+        decodedEventCount.increment();
+        decodedRowCount.add(rowCount);
+        decodeNanos.add(nanos);
+    }
+    
+    /**
+     * Record rows event skipped.
+     */
+    public void recordSkipped() {
+        skippedEventCount.increment();
+    }
+    
+    /**
+     * Record dumper lag.
+     *
+     * @param jobId job id
+     * @param lagMillis lag millis
+     */
+    public void recordLag(final String jobId, final long lagMillis) {
+        this.lagMillis.put(jobId, Math.max(lagMillis, 0L));
+    }
+    
+    /**
+     * Remove dumper lag.
+     *
+     * @param jobId job id
+     */
+    public void removeLag(final String jobId) {
+        lagMillis.remove(jobId);
+    }
+    
+    /**
+     * Get decoded event count.
+     *
+     * @return decoded event count
+     */
+    public long getDecodedEventCount() {
+        return decodedEventCount.sum();
+    }
+    
+    /**
+     * Get decoded row count.
+     *
+     * @return decoded row count
+     */
+    public long getDecodedRowCount() {
+        return decodedRowCount.sum();
+    }
+    
+    /**
+     * Get skipped event count.
+     *
+     * @return skipped event count
+     */
+    public long getSkippedEventCount() {
+        return skippedEventCount.sum();
+    }
+    
+    /**
+     * Get decoded rows per second of decoding time.
+     *
+     * @return decoded rows per second
+     */
+    public double getDecodedRowsPerSecond() {
+        long nanos = decodeNanos.sum();
+        return 0L == nanos ? 0D : decodedRowCount.sum() * (double) TimeUnit.SECONDS.toNanos(1L) / nanos;
+    }
+    
+    /**
+     * Get max dumper lag millis of jobs.
+     *
+     * @return max dumper lag millis
+     */
+    public long getMaxLagMillis() {
+        return lagMillis.values().stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        decodedEventCount.reset();
+        decodedRowCount.reset();
+        decodeNanos.reset();
+        skippedEventCount.reset();
+        lagMillis.clear();
+    }
+}
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogDumpStatistics;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -50,8 +52,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
-    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap) {
+    private final Predicate<MySQLBinlogTableMapEventPacket> subscribedTableFilter;
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final Predicate<MySQLBinlogTableMapEventPacket> subscribedTableFilter) {
         binlogContext = new BinlogContext(checksumLength, tableMap);
+        this.subscribedTableFilter = subscribedTableFilter;
     }
     
     @Override
@@ -96,23 +101,52 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return null;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                return decodeWriteRowsEventV2(binlogEventHeader, payload);
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                return decodeUpdateRowsEventV2(binlogEventHeader, payload);
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                return decodeDeleteRowsEventV2(binlogEventHeader, payload);
+                return decodeRowsEvent(eventType, binlogEventHeader, payload);
             default:
-                PlaceholderEvent result = createPlaceholderEvent(binlogEventHeader);
-                int remainDataLength = binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength() - payload.getByteBuf().readerIndex();
-                if (remainDataLength > 0) {
-                    payload.skipReserved(remainDataLength);
-                }
-                return result;
+                return skipEvent(binlogEventHeader, payload);
         }
     }
     
+    private AbstractBinlogEvent decodeRowsEvent(final MySQLBinlogEventType eventType, final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        if (null != tableMapEventPacket && !subscribedTableFilter.test(tableMapEventPacket)) {
+            BinlogDumpStatistics.getInstance().recordSkipped();
+            return skipEvent(binlogEventHeader, payload);
+        }
+        long startNanos = System.nanoTime();
+        rowsEventPacket.readRows(tableMapEventPacket, payload);
+        AbstractBinlogEvent result;
+        switch (eventType) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                result = createWriteRowsEvent(binlogEventHeader, rowsEventPacket);
+                break;
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                result = createUpdateRowsEvent(binlogEventHeader, rowsEventPacket);
+                break;
+            default:
+                result = createDeleteRowsEvent(binlogEventHeader, rowsEventPacket);
+                break;
+        }
+        BinlogDumpStatistics.getInstance().recordDecoded(rowsEventPacket.getRows().size(), System.nanoTime() - startNanos);
+        return result;
+    }
+    
+    private PlaceholderEvent skipEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        PlaceholderEvent result = createPlaceholderEvent(binlogEventHeader);
+        int remainDataLength = binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength() - payload.getByteBuf().readerIndex();
+        if (remainDataLength > 0) {
+            payload.skipReserved(remainDataLength);
+        }
+        return result;
+    }
+    
     private void checkError(final MySQLPacketPayload payload) {
         int statusCode = payload.readInt1();
         if (255 == statusCode) {
@@ -145,21 +179,21 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private void decodeTableMapEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogTableMapEventPacket tableMapEventPacket = new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload);
-        binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
+        MySQLBinlogTableMapEventPacket previous = binlogContext.getTableMapEvent(tableMapEventPacket.getTableId());
+        // keep previous table map event with same definition, so resolved column protocol values are reused
+        if (null == previous || !previous.isSameTableDefinition(tableMapEventPacket)) {
+            binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
+        }
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private DeleteRowsEvent createDeleteRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private UpdateRowsEvent createUpdateRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
@@ -167,9 +201,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private WriteRowsEvent createWriteRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setAfterRows(rowsEventPacket.getRows());
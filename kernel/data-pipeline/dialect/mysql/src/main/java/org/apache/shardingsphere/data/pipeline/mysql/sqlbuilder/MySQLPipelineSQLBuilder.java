@@ -23,8 +23,10 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -91,6 +93,14 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildRangeChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        String columns = columnNames.stream().map(each -> String.format("ISNULL(%s),%s", quote(each), quote(each))).collect(Collectors.joining(","));
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT COUNT(1) AS cnt, SUM(CRC32(CONCAT_WS('#',%s))) AS checksum FROM %s WHERE %s>=? AND %s<=?",
+                columns, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = '%s'",
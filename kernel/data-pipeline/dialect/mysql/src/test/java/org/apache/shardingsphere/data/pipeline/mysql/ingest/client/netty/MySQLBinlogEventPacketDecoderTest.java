@@ -25,12 +25,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.internal.StringUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,13 +71,16 @@ public final class MySQLBinlogEventPacketDecoderTest {
     
     private List<MySQLBinlogColumnDef> columnDefs;
     
+    private MySQLBinlogProtocolValue[] columnProtocolValues;
+    
     @BeforeEach
     public void setUp() throws NoSuchFieldException, IllegalAccessException {
-        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>());
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), each -> !"t_skipped".equals(each.getTableName()));
         binlogContext = (BinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), binlogEventPacketDecoder);
         when(channelHandlerContext.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
         columnDefs = Lists.newArrayList(new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG), new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONG),
                 new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR), new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_NEWDECIMAL));
+        columnProtocolValues = columnDefs.stream().map(each -> MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(each.getColumnType())).toArray(MySQLBinlogProtocolValue[]::new);
     }
     
     @Test
@@ -126,6 +132,7 @@ public final class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
         binlogContext.getTableMap().put(123L, tableMapEventPacket);
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(tableMapEventPacket.getColumnProtocolValues()).thenReturn(columnProtocolValues);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
@@ -142,6 +149,7 @@ public final class MySQLBinlogEventPacketDecoderTest {
                 + "6461746564e78cee6c"));
         binlogContext.getTableMap().put(123L, tableMapEventPacket);
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(tableMapEventPacket.getColumnProtocolValues()).thenReturn(columnProtocolValues);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
@@ -158,6 +166,7 @@ public final class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(StringUtil.decodeHexDump("002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(tableMapEventPacket.getColumnProtocolValues()).thenReturn(columnProtocolValues);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
@@ -166,6 +175,20 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    public void assertDecodeWriteRowEventOfUnsubscribedTable() {
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byte[] data = StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff");
+        byteBuf.writeBytes(data);
+        binlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_skipped");
+        List<Object> decodedEvents = new LinkedList<>();
+        binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(PlaceholderEvent.class));
+        assertThat(byteBuf.readerIndex(), is(data.length));
+    }
+    
     @Test
     public void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -173,9 +196,10 @@ public final class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(completeData);
         // write incomplete event data
         byteBuf.writeBytes(StringUtil.decodeHexDump("3400"));
-        List<Object> decodedEvents = new LinkedList<>();
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(tableMapEventPacket.getColumnProtocolValues()).thenReturn(columnProtocolValues);
+        List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(byteBuf.readerIndex(), is(completeData.length));
@@ -188,9 +212,10 @@ public final class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(completeData);
         byte[] notCompleteData = StringUtil.decodeHexDump("00cb38a962130100000041000000be7d000000007b000000000001000464735f310009745f6f726465725f31000408030f");
         byteBuf.writeBytes(notCompleteData);
-        List<Object> decodedEvents = new LinkedList<>();
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(tableMapEventPacket.getColumnProtocolValues()).thenReturn(columnProtocolValues);
+        List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(byteBuf.readerIndex(), is(completeData.length));
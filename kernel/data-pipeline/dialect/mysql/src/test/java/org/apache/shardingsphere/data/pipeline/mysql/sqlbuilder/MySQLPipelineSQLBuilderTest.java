@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,13 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    public void assertBuildRangeChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeChecksumSQL(null, "t_order", Arrays.asList("order_id", "status"), "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1) AS cnt, SUM(CRC32(CONCAT_WS('#',ISNULL(order_id),order_id,ISNULL(status),status))) AS checksum FROM t_order WHERE order_id>=? AND order_id<=?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -30,8 +30,10 @@ import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.OpenGaussLog
 import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.MppdbDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.OpenGaussLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.OpenGaussTimestampUtils;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.ParallelWALEventDecoder;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
@@ -39,19 +41,27 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Begin
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.opengauss.core.QueryExecutor;
 import org.opengauss.jdbc.PgConnection;
+import org.opengauss.jdbc.TimestampUtils;
 import org.opengauss.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * WAL dumper of openGauss.
  */
 public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final int DECODE_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    
+    private static final int MAX_MESSAGES_PER_ROUND = 1024;
+    
     private final DumperConfiguration dumperConfig;
     
     private final WALPosition walPosition;
@@ -84,20 +94,7 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
         PGReplicationStream stream = null;
         try (PgConnection connection = getReplicationConnectionUnwrap()) {
             stream = logicalReplication.createReplicationStream(connection, walPosition.getLogSequenceNumber(), OpenGaussPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()));
-            DecodingPlugin decodingPlugin = new MppdbDecodingPlugin(new OpenGaussTimestampUtils(connection.getTimestampUtils()), decodeWithTX);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new OpenGaussLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
-                }
-            }
+            dump(stream, () -> new MppdbDecodingPlugin(new OpenGaussTimestampUtils(createTimestampUtils(connection)), decodeWithTX));
         } catch (final SQLException ex) {
             throw new IngestException(ex);
         } finally {
@@ -110,6 +107,45 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
         }
     }
     
+    private TimestampUtils createTimestampUtils(final PgConnection connection) {
+        QueryExecutor queryExecutor = connection.getQueryExecutor();
+        return new TimestampUtils(!queryExecutor.getIntegerDateTimes(), queryExecutor::getTimeZone);
+    }
+    
+    private void dump(final PGReplicationStream stream, final Supplier<DecodingPlugin> decodingPluginSupplier) throws SQLException, InterruptedException {
+        try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPluginSupplier, DECODE_PARALLELISM, "pipeline-wal-decode-%d")) {
+            List<ByteBuffer> messages = new ArrayList<>(MAX_MESSAGES_PER_ROUND);
+            List<BaseLogSequenceNumber> logSequenceNumbers = new ArrayList<>(MAX_MESSAGES_PER_ROUND);
+            while (isRunning()) {
+                readPendingMessages(stream, messages, logSequenceNumbers);
+                if (messages.isEmpty()) {
+                    Thread.sleep(10L);
+                    continue;
+                }
+                for (AbstractWALEvent each : decoder.decode(messages, logSequenceNumbers)) {
+                    if (decodeWithTX) {
+                        processEventWithTX(each);
+                    } else {
+                        processEventIgnoreTX(each);
+                    }
+                }
+                messages.clear();
+                logSequenceNumbers.clear();
+            }
+        }
+    }
+    
+    private void readPendingMessages(final PGReplicationStream stream, final List<ByteBuffer> messages, final List<BaseLogSequenceNumber> logSequenceNumbers) throws SQLException {
+        while (messages.size() < MAX_MESSAGES_PER_ROUND) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                return;
+            }
+            messages.add(message);
+            logSequenceNumbers.add(new OpenGaussLogSequenceNumber(stream.getLastReceiveLSN()));
+        }
+    }
+    
     private PgConnection getReplicationConnectionUnwrap() throws SQLException {
         return logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig()).unwrap(PgConnection.class);
     }
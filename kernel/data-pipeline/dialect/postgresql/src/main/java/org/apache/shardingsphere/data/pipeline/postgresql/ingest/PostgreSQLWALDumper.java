@@ -26,9 +26,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.IncrementalDump
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.ParallelWALEventDecoder;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLLogicalReplication;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
@@ -36,18 +38,29 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Test
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.postgresql.core.QueryExecutor;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * PostgreSQL WAL dumper.
+ * 
+ * <p>Pending messages are decoded in parallel and pushed in receiving order.</p>
  */
 public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final int DECODE_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    
+    private static final int MAX_MESSAGES_PER_ROUND = 1024;
+    
     private final DumperConfiguration dumperConfig;
     
     private final WALPosition walPosition;
@@ -77,19 +90,45 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
                 Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
                 PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
                         walPosition.getLogSequenceNumber())) {
-            PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            PgConnection pgConnection = connection.unwrap(PgConnection.class);
+            dump(stream, () -> new TestDecodingPlugin(new PostgreSQLTimestampUtils(createTimestampUtils(pgConnection))));
+        } catch (final SQLException ex) {
+            throw new IngestException(ex);
+        }
+    }
+    
+    private TimestampUtils createTimestampUtils(final PgConnection connection) {
+        QueryExecutor queryExecutor = connection.getQueryExecutor();
+        return new TimestampUtils(!queryExecutor.getIntegerDateTimes(), queryExecutor::getTimeZone);
+    }
+    
+    private void dump(final PGReplicationStream stream, final Supplier<DecodingPlugin> decodingPluginSupplier) throws SQLException, InterruptedException {
+        try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPluginSupplier, DECODE_PARALLELISM, "pipeline-wal-decode-%d")) {
+            List<ByteBuffer> messages = new ArrayList<>(MAX_MESSAGES_PER_ROUND);
+            List<BaseLogSequenceNumber> logSequenceNumbers = new ArrayList<>(MAX_MESSAGES_PER_ROUND);
             while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
+                readPendingMessages(stream, messages, logSequenceNumbers);
+                if (messages.isEmpty()) {
                     Thread.sleep(10L);
                     continue;
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
+                for (AbstractWALEvent each : decoder.decode(messages, logSequenceNumbers)) {
+                    channel.pushRecord(walEventConverter.convert(each));
+                }
+                messages.clear();
+                logSequenceNumbers.clear();
             }
-        } catch (final SQLException ex) {
-            throw new IngestException(ex);
+        }
+    }
+    
+    private void readPendingMessages(final PGReplicationStream stream, final List<ByteBuffer> messages, final List<BaseLogSequenceNumber> logSequenceNumbers) throws SQLException {
+        while (messages.size() < MAX_MESSAGES_PER_ROUND) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                return;
+            }
+            messages.add(message);
+            logSequenceNumbers.add(new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
         }
     }
     
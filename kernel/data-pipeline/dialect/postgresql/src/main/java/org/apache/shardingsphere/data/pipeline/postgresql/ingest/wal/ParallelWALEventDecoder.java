@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Parallel WAL event decoder.
+ * 
+ * <p>Logical replication messages received in one round are split into contiguous chunks and decoded on worker threads, decoded events are returned in receiving order.
+ * Each decoding thread uses its own decoding plugin, because timestamp utils of JDBC driver are not thread safe.</p>
+ */
+public final class ParallelWALEventDecoder implements AutoCloseable {
+    
+    private static final int MIN_CHUNK_SIZE = 64;
+    
+    private final ThreadLocal<DecodingPlugin> decodingPlugins;
+    
+    private final int parallelism;
+    
+    private final ExecutorService executor;
+    
+    public ParallelWALEventDecoder(final Supplier<DecodingPlugin> decodingPluginSupplier, final int parallelism, final String threadNameFormat) {
+        decodingPlugins = ThreadLocal.withInitial(decodingPluginSupplier);
+        this.parallelism = Math.max(parallelism, 1);
+        executor = this.parallelism > 1 ? Executors.newFixedThreadPool(this.parallelism, ExecutorThreadFactoryBuilder.build(threadNameFormat)) : null;
+    }
+    
+    /**
+     * Decode logical replication messages.
+     *
+     * @param messages logical replication messages
+     * @param logSequenceNumbers log sequence numbers of messages
+     * @return decoded WAL events in receiving order
+     */
+    public List<AbstractWALEvent> decode(final List<ByteBuffer> messages, final List<BaseLogSequenceNumber> logSequenceNumbers) {
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (messages.size() + parallelism - 1) / parallelism);
+        if (null == executor || messages.size() <= chunkSize) {
+            return decode(messages, logSequenceNumbers, 0, messages.size());
+        }
+        List<Future<List<AbstractWALEvent>>> futures = new ArrayList<>(parallelism);
+        for (int start = 0; start < messages.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, messages.size());
+            futures.add(executor.submit(() -> decode(messages, logSequenceNumbers, from, to)));
+        }
+        List<AbstractWALEvent> result = new ArrayList<>(messages.size());
+        for (Future<List<AbstractWALEvent>> each : futures) {
+            result.addAll(getDecodedEvents(each));
+        }
+        return result;
+    }
+    
+    private List<AbstractWALEvent> decode(final List<ByteBuffer> messages, final List<BaseLogSequenceNumber> logSequenceNumbers, final int from, final int to) {
+        DecodingPlugin decodingPlugin = decodingPlugins.get();
+        List<AbstractWALEvent> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(decodingPlugin.decode(messages.get(i), logSequenceNumbers.get(i)));
+        }
+        return result;
+    }
+    
+    private List<AbstractWALEvent> getDecodedEvents(final Future<List<AbstractWALEvent>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IngestException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new IngestException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+}
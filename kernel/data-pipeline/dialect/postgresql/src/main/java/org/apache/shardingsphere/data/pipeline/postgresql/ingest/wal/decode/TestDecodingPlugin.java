@@ -23,6 +23,8 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -45,7 +47,21 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     
     @Override
     public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
-        AbstractWALEvent result = "table".equals(readEventType(data)) ? readTableEvent(data) : new PlaceholderEvent();
+        AbstractWALEvent result;
+        switch (readEventType(data)) {
+            case "table":
+                result = readTableEvent(data);
+                break;
+            case "BEGIN":
+                result = new BeginTXEvent(readXid(data));
+                break;
+            case "COMMIT":
+                result = new CommitTXEvent(readXid(data), null);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
         result.setLogSequenceNumber(logSequenceNumber);
         return result;
     }
@@ -54,6 +70,11 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         return readNextSegment(data);
     }
     
+    private long readXid(final ByteBuffer data) {
+        String result = readNextSegment(data);
+        return result.isEmpty() ? 0L : Long.parseLong(result);
+    }
+    
     private AbstractRowEvent readTableEvent(final ByteBuffer data) {
         AbstractRowEvent result;
         String tableName = readTableName(data);
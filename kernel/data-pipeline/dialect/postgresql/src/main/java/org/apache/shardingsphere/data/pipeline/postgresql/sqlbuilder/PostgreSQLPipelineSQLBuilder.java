@@ -24,8 +24,10 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL pipeline SQL builder.
@@ -92,6 +94,14 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildRangeChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        String columns = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT COUNT(1) AS cnt, SUM(('x' || SUBSTR(MD5(CAST(ROW(%s) AS TEXT)), 1, 8))::BIT(32)::BIGINT) AS checksum FROM %s WHERE %s>=? AND %s<=?",
+                columns, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
+
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ParallelWALEventDecoderTest {
+    
+    @Test
+    public void assertDecodeInReceivingOrder() {
+        List<ByteBuffer> messages = new ArrayList<>();
+        List<BaseLogSequenceNumber> logSequenceNumbers = new ArrayList<>();
+        messages.add(ByteBuffer.wrap("BEGIN 1".getBytes()));
+        for (int i = 1; i <= 500; i++) {
+            messages.add(ByteBuffer.wrap(("table public.t_order: DELETE: order_id[integer]:" + i).getBytes()));
+        }
+        messages.add(ByteBuffer.wrap("COMMIT 1".getBytes()));
+        for (int i = 0; i < messages.size(); i++) {
+            logSequenceNumbers.add(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(i)));
+        }
+        Collection<DecodingPlugin> decodingPlugins = new ConcurrentLinkedQueue<>();
+        Supplier<DecodingPlugin> decodingPluginSupplier = () -> {
+            DecodingPlugin result = new TestDecodingPlugin(null);
+            decodingPlugins.add(result);
+            return result;
+        };
+        try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPluginSupplier, 4, "test-wal-decode-%d")) {
+            List<AbstractWALEvent> actual = decoder.decode(messages, logSequenceNumbers);
+            assertThat(actual.size(), is(502));
+            assertThat(actual.get(0), instanceOf(BeginTXEvent.class));
+            for (int i = 1; i <= 500; i++) {
+                assertThat(((DeleteRowEvent) actual.get(i)).getPrimaryKeys().get(0), is(i));
+                assertThat(actual.get(i).getLogSequenceNumber(), is(logSequenceNumbers.get(i)));
+            }
+            assertThat(actual.get(501), instanceOf(CommitTXEvent.class));
+        }
+        assertThat(decodingPlugins.size(), is(4));
+    }
+}
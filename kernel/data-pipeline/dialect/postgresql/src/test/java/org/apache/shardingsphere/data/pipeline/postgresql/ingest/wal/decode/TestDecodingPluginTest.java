@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -87,6 +89,21 @@ public final class TestDecodingPluginTest {
         assertThat(actual.getAfterRow().get(0), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
     }
     
+    @Test
+    public void assertDecodeBeginTXEvent() {
+        BeginTXEvent actual = (BeginTXEvent) new TestDecodingPlugin(null).decode(ByteBuffer.wrap("BEGIN 529".getBytes()), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(529L));
+    }
+    
+    @Test
+    public void assertDecodeCommitTXEvent() {
+        CommitTXEvent actual = (CommitTXEvent) new TestDecodingPlugin(null).decode(ByteBuffer.wrap("COMMIT 529".getBytes()), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(529L));
+        assertNull(actual.getCsn());
+    }
+    
     @Test
     public void assertDecodeUnknownTableType() {
         ByteBuffer data = ByteBuffer.wrap("unknown".getBytes());
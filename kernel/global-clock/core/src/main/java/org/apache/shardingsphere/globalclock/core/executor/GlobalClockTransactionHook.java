@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.globalclock.core.executor;
 
+import org.apache.shardingsphere.globalclock.core.exception.GlobalClockLockTimeoutException;
 import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
 import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.lock.GlobalLockNames;
 import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.lock.LockDefinition;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.TransactionIsolationLevel;
@@ -34,32 +36,38 @@ import java.util.Properties;
 
 /**
  * Global clock transaction hook.
+ * 
+ * <p>Commit timestamp is sent and the transaction is committed while holding the global clock lock,
+ * and snapshot timestamps are acquired under the same lock, so a snapshot never misses a transaction committed with a smaller or equal timestamp.</p>
  */
 public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private final LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.GLOBAL_LOCK.getLockName());
+    
     private GlobalClockProvider globalClockProvider;
     
     private GlobalClockTransactionExecutor globalClockTransactionExecutor;
     
-    private final LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.GLOBAL_LOCK.getLockName());
-    
     private boolean enabled;
     
     @Override
     public void init(final Properties props) {
         enabled = Boolean.parseBoolean(props.getProperty("enabled"));
         if (enabled) {
-            globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")));
+            globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")), props);
             globalClockTransactionExecutor = TypedSPILoader.getService(GlobalClockTransactionExecutor.class, props.getProperty("trunkType"));
         }
     }
     
     @Override
-    public void afterBegin(final TransactionConnectionContext transactionContext) {
+    @SuppressWarnings("rawtypes")
+    public void afterBegin(final TransactionConnectionContext transactionContext, final LockContext lockContext) {
         if (!enabled) {
             return;
         }
-        transactionContext.setBeginMills(globalClockProvider.getCurrentTimestamp());
+        transactionContext.setBeginMills(getSnapshotTimestamp(lockContext));
     }
     
     @Override
@@ -71,12 +79,24 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     }
     
     @Override
-    public void beforeExecuteSQL(final Collection<Connection> connections, final TransactionConnectionContext connectionContext, final TransactionIsolationLevel isolationLevel) throws SQLException {
+    @SuppressWarnings("rawtypes")
+    public void beforeExecuteSQL(final Collection<Connection> connections, final TransactionConnectionContext connectionContext, final TransactionIsolationLevel isolationLevel,
+                                 final LockContext lockContext) throws SQLException {
         if (!enabled) {
             return;
         }
         if (TransactionIsolationLevel.READ_COMMITTED.equals(isolationLevel)) {
-            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, getSnapshotTimestamp(lockContext));
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private long getSnapshotTimestamp(final LockContext lockContext) {
+        tryLock(lockContext);
+        try {
+            return globalClockProvider.getCurrentTimestamp();
+        } finally {
+            lockContext.unlock(lockDefinition);
         }
     }
     
@@ -86,8 +106,14 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        if (lockContext.tryLock(lockDefinition, 200L)) {
-            globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+        tryLock(lockContext);
+        try {
+            globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getNextTimestamp());
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            lockContext.unlock(lockDefinition);
+            throw ex;
         }
     }
     
@@ -97,11 +123,13 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        try {
-            globalClockProvider.getNextTimestamp();
-        } finally {
-            lockContext.unlock(lockDefinition);
-        }
+        lockContext.unlock(lockDefinition);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void tryLock(final LockContext lockContext) {
+        ShardingSpherePreconditions.checkState(lockContext.tryLock(lockDefinition, LOCK_TIMEOUT_MILLIS),
+                () -> new GlobalClockLockTimeoutException(GlobalLockNames.GLOBAL_LOCK.getLockName(), LOCK_TIMEOUT_MILLIS));
     }
     
     @Override
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>Timestamp is composed of physical milliseconds in high bits and logical counter in low 16 bits, and never goes backward.
+ * Timestamps of other nodes are not merged, so timestamps are only ordered inside one node. Use TSO provider if ordering across nodes is required.</p>
+ */
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
+    @Override
+    public void init(final Properties props) {
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each, physicalTimestamp));
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each + 1L, physicalTimestamp));
+    }
+    
+    private long getPhysicalTimestamp() {
+        return System.currentTimeMillis() << LOGICAL_BITS;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
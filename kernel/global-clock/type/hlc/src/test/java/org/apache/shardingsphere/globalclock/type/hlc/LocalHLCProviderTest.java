@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public final class LocalHLCProviderTest {
+    
+    @Test
+    public void assertGetNextTimestampIsMonotonic() {
+        LocalHLCProvider provider = createProvider();
+        long previous = provider.getNextTimestamp();
+        for (int i = 0; i < 100000; i++) {
+            long actual = provider.getNextTimestamp();
+            assertThat(actual, greaterThan(previous));
+            previous = actual;
+        }
+    }
+    
+    @Test
+    public void assertGetCurrentTimestampNeverGoesBackward() {
+        LocalHLCProvider provider = createProvider();
+        long nextTimestamp = provider.getNextTimestamp();
+        assertThat(provider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+        assertThat(provider.getNextTimestamp(), greaterThan(nextTimestamp));
+    }
+    
+    private LocalHLCProvider createProvider() {
+        LocalHLCProvider result = new LocalHLCProvider();
+        result.init(new Properties());
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.globalclock.core.exception.GlobalClockLockTimeoutException;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryHolder;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Repository timestamp oracle provider.
+ * 
+ * <p>Timestamps are composed of physical milliseconds in high bits and logical counter in low 16 bits.
+ * Every next timestamp is allocated from cluster persist repository under a distributed lock and persisted before returned,
+ * so timestamps are strictly increasing across all nodes and never go backward after restart.
+ * Current timestamp is the latest persisted timestamp, which is not less than any timestamp allocated before.</p>
+ * 
+ * <p>Repository of cluster mode is reused unless {@code repository-type} is configured.
+ * Initializing again with the same props keeps the repository.</p>
+ */
+public final class RepositoryTSOProvider implements TSOProvider {
+    
+    private static final String REPOSITORY_TYPE_KEY = "repository-type";
+    
+    private static final String NAMESPACE_KEY = "namespace";
+    
+    private static final String SERVER_LISTS_KEY = "server-lists";
+    
+    private static final String LOCK_TIMEOUT_MILLIS_KEY = "lock-timeout-millis";
+    
+    private static final long DEFAULT_LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private static final String MAX_TIMESTAMP_KEY = "/global_clock/tso/max_timestamp";
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private static final String ALLOCATE_LOCK_NAME = "global_clock_tso_allocate";
+    
+    private final String lockKey = new GlobalLockDefinition(ALLOCATE_LOCK_NAME).getLockKey();
+    
+    private Properties initializedProps;
+    
+    private ClusterPersistRepository ownedRepository;
+    
+    private long lockTimeoutMillis;
+    
+    @Override
+    public synchronized void init(final Properties props) {
+        if (props.equals(initializedProps)) {
+            return;
+        }
+        if (null != ownedRepository) {
+            ownedRepository.close();
+        }
+        ownedRepository = Strings.isNullOrEmpty(props.getProperty(REPOSITORY_TYPE_KEY)) ? null : createRepository(props);
+        initializedProps = new Properties();
+        initializedProps.putAll(props);
+        lockTimeoutMillis = Long.parseLong(props.getProperty(LOCK_TIMEOUT_MILLIS_KEY, String.valueOf(DEFAULT_LOCK_TIMEOUT_MILLIS)));
+    }
+    
+    private ClusterPersistRepository createRepository(final Properties props) {
+        String type = props.getProperty(REPOSITORY_TYPE_KEY);
+        ClusterPersistRepositoryConfiguration config = new ClusterPersistRepositoryConfiguration(type, props.getProperty(NAMESPACE_KEY), props.getProperty(SERVER_LISTS_KEY), props);
+        ClusterPersistRepository result = TypedSPILoader.getService(ClusterPersistRepository.class, type, props);
+        result.init(config);
+        return result;
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        return getPersistedTimestamp(getRepository());
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        ClusterPersistRepository repository = getRepository();
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(lockKey);
+        ShardingSpherePreconditions.checkState(lock.tryLock(lockTimeoutMillis), () -> new GlobalClockLockTimeoutException(ALLOCATE_LOCK_NAME, lockTimeoutMillis));
+        try {
+            long result = Math.max(getPersistedTimestamp(repository) + 1L, System.currentTimeMillis() << LOGICAL_BITS);
+            repository.persist(MAX_TIMESTAMP_KEY, String.valueOf(result));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long getPersistedTimestamp(final ClusterPersistRepository repository) {
+        String result = repository.getDirectly(MAX_TIMESTAMP_KEY);
+        return Strings.isNullOrEmpty(result) ? 0L : Long.parseLong(result);
+    }
+    
+    private synchronized ClusterPersistRepository getRepository() {
+        if (null != ownedRepository) {
+            return ownedRepository;
+        }
+        Optional<ClusterPersistRepository> result = ClusterPersistRepositoryHolder.find();
+        Preconditions.checkState(result.isPresent(), "Repository TSO provider requires cluster mode or property `%s`.", REPOSITORY_TYPE_KEY);
+        return result.get();
+    }
+    
+    @Override
+    public String getType() {
+        return "TSO.repository";
+    }
+}
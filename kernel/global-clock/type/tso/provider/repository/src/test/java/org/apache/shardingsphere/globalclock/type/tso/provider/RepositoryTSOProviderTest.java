@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryHolder;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RepositoryTSOProviderTest {
+    
+    private static final String MAX_TIMESTAMP_KEY = "/global_clock/tso/max_timestamp";
+    
+    private final Map<String, String> persistedData = new ConcurrentHashMap<>();
+    
+    private ClusterPersistRepository repository;
+    
+    @BeforeEach
+    public void setUp() {
+        repository = mock(ClusterPersistRepository.class, RETURNS_DEEP_STUBS);
+        DistributedLock distributedLock = mockDistributedLock();
+        when(repository.getDistributedLockHolder().getDistributedLock(anyString())).thenReturn(distributedLock);
+        when(repository.getDirectly(anyString())).thenAnswer(invocation -> persistedData.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> persistedData.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        ClusterPersistRepositoryHolder.set(repository);
+    }
+    
+    private DistributedLock mockDistributedLock() {
+        ReentrantLock lock = new ReentrantLock();
+        DistributedLock result = mock(DistributedLock.class);
+        when(result.tryLock(anyLong())).thenAnswer(invocation -> lock.tryLock(invocation.getArgument(0), TimeUnit.MILLISECONDS));
+        doAnswer(invocation -> {
+            lock.unlock();
+            return null;
+        }).when(result).unlock();
+        return result;
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        ClusterPersistRepositoryHolder.remove(repository);
+    }
+    
+    @Test
+    public void assertGetNextTimestampIsMonotonic() {
+        RepositoryTSOProvider provider = createProvider();
+        long previous = provider.getNextTimestamp();
+        for (int i = 0; i < 1000; i++) {
+            long actual = provider.getNextTimestamp();
+            assertThat(actual, greaterThan(previous));
+            previous = actual;
+        }
+        assertThat(provider.getCurrentTimestamp(), is(previous));
+        assertThat(persistedData.get(MAX_TIMESTAMP_KEY), is(String.valueOf(previous)));
+    }
+    
+    @Test
+    public void assertGetNextTimestampAfterPersistedMaxTimestamp() {
+        long persistedMaxTimestamp = (System.currentTimeMillis() + 60000L) << 16;
+        persistedData.put(MAX_TIMESTAMP_KEY, String.valueOf(persistedMaxTimestamp));
+        assertThat(createProvider().getNextTimestamp(), is(persistedMaxTimestamp + 1L));
+    }
+    
+    @Test
+    public void assertCommitAndSnapshotOrderingAcrossNodes() {
+        RepositoryTSOProvider firstNode = createProvider();
+        RepositoryTSOProvider secondNode = createProvider();
+        long firstCommitTimestamp = firstNode.getNextTimestamp();
+        long secondNodeSnapshotTimestamp = secondNode.getCurrentTimestamp();
+        assertThat(secondNodeSnapshotTimestamp, greaterThanOrEqualTo(firstCommitTimestamp));
+        long secondCommitTimestamp = secondNode.getNextTimestamp();
+        assertThat(secondCommitTimestamp, greaterThan(secondNodeSnapshotTimestamp));
+        long firstNodeSnapshotTimestamp = firstNode.getCurrentTimestamp();
+        assertThat(firstNodeSnapshotTimestamp, greaterThanOrEqualTo(secondCommitTimestamp));
+        assertThat(firstNode.getNextTimestamp(), greaterThan(firstNodeSnapshotTimestamp));
+    }
+    
+    @Test
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    public void assertConcurrentCommitTimestampsAcrossNodesAreUnique() {
+        Collection<RepositoryTSOProvider> nodes = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            nodes.add(createProvider());
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(nodes.size());
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>(nodes.size());
+            for (RepositoryTSOProvider each : nodes) {
+                futures.add(executorService.submit(() -> allocateCommitTimestamps(each, 500)));
+            }
+            Set<Long> allTimestamps = ConcurrentHashMap.newKeySet();
+            long maxTimestamp = 0L;
+            for (Future<List<Long>> each : futures) {
+                for (long timestamp : each.get()) {
+                    allTimestamps.add(timestamp);
+                    maxTimestamp = Math.max(maxTimestamp, timestamp);
+                }
+            }
+            assertThat(allTimestamps.size(), is(nodes.size() * 500));
+            for (RepositoryTSOProvider each : nodes) {
+                assertThat(each.getCurrentTimestamp(), is(maxTimestamp));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private List<Long> allocateCommitTimestamps(final RepositoryTSOProvider provider, final int count) {
+        List<Long> result = new ArrayList<>(count);
+        long previousSnapshotTimestamp = 0L;
+        for (int i = 0; i < count; i++) {
+            long commitTimestamp = provider.getNextTimestamp();
+            assertThat(commitTimestamp, greaterThan(previousSnapshotTimestamp));
+            previousSnapshotTimestamp = provider.getCurrentTimestamp();
+            assertThat(previousSnapshotTimestamp, greaterThanOrEqualTo(commitTimestamp));
+            result.add(commitTimestamp);
+        }
+        return result;
+    }
+    
+    private RepositoryTSOProvider createProvider() {
+        RepositoryTSOProvider result = new RepositoryTSOProvider();
+        result.init(new Properties());
+        return result;
+    }
+}
@@ -23,8 +23,12 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.SystemSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -62,26 +66,53 @@ public final class ExternalMetaDataFactory {
      */
     public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap,
                                                              final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(databaseConfigMap, Collections.emptyMap(), props, instanceContext);
+    }
+    
+    /**
+     * Create databases meta data for db with persisted schemas.
+     * 
+     * <p>Schemas of database which in persisted schemas are used directly, and table meta data will not be loaded from storage units for the database.</p>
+     *
+     * @param databaseConfigMap database configuration map
+     * @param persistedSchemas persisted schemas, key is database name
+     * @param props properties
+     * @param instanceContext instance context
+     * @return databases
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap,
+                                                             final Map<String, Map<String, ShardingSphereSchema>> persistedSchemas,
+                                                             final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfigMap, props);
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databaseConfigMap.size() + protocolType.getSystemDatabaseSchemaMap().size(), 1);
-        result.putAll(createGenericDatabases(databaseConfigMap, protocolType, props, instanceContext));
+        result.putAll(createGenericDatabases(databaseConfigMap, persistedSchemas, protocolType, props, instanceContext));
         result.putAll(createSystemDatabases(databaseConfigMap, protocolType));
         return result;
     }
     
-    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap, final DatabaseType protocolType,
+    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap,
+                                                                              final Map<String, Map<String, ShardingSphereSchema>> persistedSchemas, final DatabaseType protocolType,
                                                                               final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size(), 1);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
             if (!entry.getValue().getDataSources().isEmpty() || !protocolType.getSystemSchemas().contains(databaseName)) {
-                Map<String, DatabaseType> storageTypes = DatabaseTypeEngine.getStorageTypes(entry.getKey(), entry.getValue());
-                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext));
+                result.put(databaseName.toLowerCase(), persistedSchemas.containsKey(databaseName)
+                        ? createDatabase(databaseName, protocolType, entry.getValue(), persistedSchemas.get(databaseName), instanceContext)
+                        : ShardingSphereDatabase.create(databaseName, protocolType, DatabaseTypeEngine.getStorageTypes(databaseName, entry.getValue()), entry.getValue(), props, instanceContext));
             }
         }
         return result;
     }
     
+    private static ShardingSphereDatabase createDatabase(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                         final Map<String, ShardingSphereSchema> persistedSchemas, final InstanceContext instanceContext) {
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(persistedSchemas);
+        SystemSchemaBuilder.build(databaseName, protocolType).forEach(schemas::putIfAbsent);
+        return ShardingSphereDatabase.create(databaseName, protocolType, databaseConfig, DatabaseRulesBuilder.build(databaseName, databaseConfig, instanceContext), schemas);
+    }
+    
     private static Map<String, ShardingSphereDatabase> createSystemDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap, final DatabaseType protocolType) {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(protocolType.getSystemDatabaseSchemaMap().size(), 1);
         for (String each : protocolType.getSystemDatabaseSchemaMap().keySet()) {
@@ -42,6 +42,12 @@ public final class DatabaseMetaDataNode {
     
     private static final String VIEWS_NODE = "views";
     
+    private static final String SNAPSHOT_NODE = "snapshot";
+    
+    private static final String SNAPSHOT_CHUNKS_NODE = "chunks";
+    
+    private static final String SNAPSHOT_GENERATION_NODE = "generation";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -109,6 +115,52 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), VIEWS_NODE);
     }
     
+    /**
+     * Get meta data snapshot path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return snapshot path
+     */
+    public static String getMetaDataSnapshotPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), SNAPSHOT_NODE);
+    }
+    
+    /**
+     * Get meta data snapshot generation path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return snapshot generation path
+     */
+    public static String getMetaDataSnapshotGenerationPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSnapshotPath(databaseName, schemaName), SNAPSHOT_GENERATION_NODE);
+    }
+    
+    /**
+     * Get meta data snapshot chunks path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return snapshot chunks path
+     */
+    public static String getMetaDataSnapshotChunksPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSnapshotPath(databaseName, schemaName), SNAPSHOT_CHUNKS_NODE);
+    }
+    
+    /**
+     * Get meta data snapshot chunk path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param generation snapshot generation
+     * @param chunkIndex chunk index
+     * @return snapshot chunk path
+     */
+    public static String getMetaDataSnapshotChunkPath(final String databaseName, final String schemaName, final String generation, final int chunkIndex) {
+        return String.join("/", getMetaDataSnapshotChunksPath(databaseName, schemaName), generation, String.valueOf(chunkIndex));
+    }
+    
     /**
      * Get schema path.
      *
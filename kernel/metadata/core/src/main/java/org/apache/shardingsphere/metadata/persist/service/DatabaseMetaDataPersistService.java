@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.metadata.persist.service.schema.SchemaMetaDataSnapshotPersistService;
 import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.schema.ViewMetaDataPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.mode.spi.PersistRepository;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Database meta data registry service.
@@ -42,10 +44,13 @@ public final class DatabaseMetaDataPersistService {
     
     private final ViewMetaDataPersistService viewMetaDataPersistService;
     
+    private final SchemaMetaDataSnapshotPersistService schemaMetaDataSnapshotPersistService;
+    
     public DatabaseMetaDataPersistService(final PersistRepository repository) {
         this.repository = repository;
         this.tableMetaDataPersistService = new TableMetaDataPersistService(repository);
         this.viewMetaDataPersistService = new ViewMetaDataPersistService(repository);
+        this.schemaMetaDataSnapshotPersistService = new SchemaMetaDataSnapshotPersistService(repository);
     }
     
     /**
@@ -97,18 +102,24 @@ public final class DatabaseMetaDataPersistService {
     
     /**
      * Compare and persist schema meta data.
+     * 
+     * <p>Only loaded tables of lazy schema are persisted and no table is deleted.</p>
      *
      * @param databaseName database name
      * @param schemaName schema name
      * @param schema schema meta data
      */
     public void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getLoadedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
+        if (schema.isLazy()) {
+            tableMetaDataPersistService.persist(databaseName, schemaName, schema.getLoadedTables());
+            return;
+        }
         Map<String, ShardingSphereTable> currentTables = tableMetaDataPersistService.load(databaseName, schemaName);
-        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getTables(), currentTables));
-        SchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getLoadedTables(), currentTables));
+        SchemaManager.getToBeDeletedTables(schema.getLoadedTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
@@ -119,10 +130,13 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void persist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (!schema.isLazy() && schemaMetaDataSnapshotPersistService.isUpToDate(databaseName, schemaName, schema)) {
+            return;
+        }
+        if (schema.getLoadedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
-        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getTables());
+        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getLoadedTables());
     }
     
     /**
@@ -133,11 +147,13 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void delete(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        schema.getTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        schema.getLoadedTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
      * Load schema meta data.
+     * 
+     * <p>Snapshot of schema is used if it is valid, otherwise tables and views are loaded one by one. Snapshot is never written when loading.</p>
      *
      * @param databaseName database name
      * @return schema meta data
@@ -145,11 +161,50 @@ public final class DatabaseMetaDataPersistService {
     public Map<String, ShardingSphereSchema> loadSchemas(final String databaseName) {
         Collection<String> schemaNames = loadAllSchemaNames(databaseName);
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
-        schemaNames.forEach(each -> result.put(each.toLowerCase(),
-                new ShardingSphereSchema(tableMetaDataPersistService.load(databaseName, each), viewMetaDataPersistService.load(databaseName, each))));
+        schemaNames.forEach(each -> result.put(each.toLowerCase(), schemaMetaDataSnapshotPersistService.load(databaseName, each).orElseGet(() -> loadSchema(databaseName, each))));
         return result;
     }
     
+    /**
+     * Load schema meta data from snapshots.
+     *
+     * @param databaseName database name
+     * @return schema meta data, empty if no schema persisted or snapshot of any schema is invalid
+     */
+    public Optional<Map<String, ShardingSphereSchema>> loadSchemasFromSnapshots(final String databaseName) {
+        Collection<String> schemaNames = loadAllSchemaNames(databaseName);
+        if (schemaNames.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
+        for (String each : schemaNames) {
+            Optional<ShardingSphereSchema> snapshot = schemaMetaDataSnapshotPersistService.load(databaseName, each);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+            result.put(each.toLowerCase(), snapshot.get());
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Refresh snapshot of schema meta data if it is invalid.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void refreshSnapshot(final String databaseName, final String schemaName) {
+        if (schemaMetaDataSnapshotPersistService.load(databaseName, schemaName).isPresent()) {
+            return;
+        }
+        String generation = schemaMetaDataSnapshotPersistService.getGeneration(databaseName, schemaName);
+        schemaMetaDataSnapshotPersistService.persist(databaseName, schemaName, generation, loadSchema(databaseName, schemaName));
+    }
+    
+    private ShardingSphereSchema loadSchema(final String databaseName, final String schemaName) {
+        return new ShardingSphereSchema(tableMetaDataPersistService.load(databaseName, schemaName), viewMetaDataPersistService.load(databaseName, schemaName));
+    }
+    
     private Collection<String> loadAllSchemaNames(final String databaseName) {
         return repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath(databaseName));
     }
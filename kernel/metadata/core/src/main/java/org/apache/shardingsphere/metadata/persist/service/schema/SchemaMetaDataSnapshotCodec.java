@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Schema meta data snapshot codec.
+ * 
+ * <p>Encodes tables and views of schema into deflated binary format, strings are written as length prefixed UTF-8 bytes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaMetaDataSnapshotCodec {
+    
+    private static final int PRIMARY_KEY_FLAG = 1;
+    
+    private static final int GENERATED_FLAG = 1 << 1;
+    
+    private static final int CASE_SENSITIVE_FLAG = 1 << 2;
+    
+    private static final int VISIBLE_FLAG = 1 << 3;
+    
+    private static final int UNSIGNED_FLAG = 1 << 4;
+    
+    /**
+     * Encode schema.
+     *
+     * @param schema schema to be encoded
+     * @return encoded bytes
+     */
+    @SneakyThrows(IOException.class)
+    public static byte[] encode(final ShardingSphereSchema schema) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(result))) {
+            output.writeInt(schema.getTables().size());
+            for (Entry<String, ShardingSphereTable> entry : new TreeMap<>(schema.getTables()).entrySet()) {
+                writeString(output, entry.getKey());
+                writeTable(output, entry.getValue());
+            }
+            output.writeInt(schema.getViews().size());
+            for (Entry<String, ShardingSphereView> entry : new TreeMap<>(schema.getViews()).entrySet()) {
+                writeString(output, entry.getKey());
+                writeString(output, entry.getValue().getName());
+                writeString(output, entry.getValue().getViewDefinition());
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private static void writeTable(final DataOutputStream output, final ShardingSphereTable table) throws IOException {
+        writeString(output, table.getName());
+        output.writeInt(table.getColumns().size());
+        for (ShardingSphereColumn each : table.getColumns().values()) {
+            writeString(output, each.getName());
+            output.writeInt(each.getDataType());
+            output.writeByte(getColumnFlags(each));
+        }
+        output.writeInt(table.getIndexes().size());
+        for (ShardingSphereIndex each : table.getIndexes().values()) {
+            writeString(output, each.getName());
+        }
+        output.writeInt(table.getConstrains().size());
+        for (ShardingSphereConstraint each : table.getConstrains().values()) {
+            writeString(output, each.getName());
+            writeString(output, each.getReferencedTableName());
+        }
+    }
+    
+    private static int getColumnFlags(final ShardingSphereColumn column) {
+        int result = 0;
+        result |= column.isPrimaryKey() ? PRIMARY_KEY_FLAG : 0;
+        result |= column.isGenerated() ? GENERATED_FLAG : 0;
+        result |= column.isCaseSensitive() ? CASE_SENSITIVE_FLAG : 0;
+        result |= column.isVisible() ? VISIBLE_FLAG : 0;
+        result |= column.isUnsigned() ? UNSIGNED_FLAG : 0;
+        return result;
+    }
+    
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        if (null == value) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    /**
+     * Decode schema.
+     *
+     * @param bytes encoded bytes
+     * @return decoded schema
+     */
+    @SneakyThrows(IOException.class)
+    public static ShardingSphereSchema decode(final byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+            int tableCount = input.readInt();
+            Map<String, ShardingSphereTable> tables = new LinkedHashMap<>(tableCount, 1);
+            for (int i = 0; i < tableCount; i++) {
+                tables.put(readString(input), readTable(input));
+            }
+            int viewCount = input.readInt();
+            Map<String, ShardingSphereView> views = new LinkedHashMap<>(viewCount, 1);
+            for (int i = 0; i < viewCount; i++) {
+                views.put(readString(input), new ShardingSphereView(readString(input), readString(input)));
+            }
+            return new ShardingSphereSchema(tables, views);
+        }
+    }
+    
+    private static ShardingSphereTable readTable(final DataInputStream input) throws IOException {
+        return new ShardingSphereTable(readString(input), readColumns(input), readIndexes(input), readConstraints(input));
+    }
+    
+    private static Collection<ShardingSphereColumn> readColumns(final DataInputStream input) throws IOException {
+        int columnCount = input.readInt();
+        Collection<ShardingSphereColumn> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = readString(input);
+            int dataType = input.readInt();
+            int flags = input.readByte();
+            result.add(new ShardingSphereColumn(columnName, dataType, 0 != (flags & PRIMARY_KEY_FLAG), 0 != (flags & GENERATED_FLAG),
+                    0 != (flags & CASE_SENSITIVE_FLAG), 0 != (flags & VISIBLE_FLAG), 0 != (flags & UNSIGNED_FLAG)));
+        }
+        return result;
+    }
+    
+    private static Collection<ShardingSphereIndex> readIndexes(final DataInputStream input) throws IOException {
+        int indexCount = input.readInt();
+        Collection<ShardingSphereIndex> result = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            result.add(new ShardingSphereIndex(readString(input)));
+        }
+        return result;
+    }
+    
+    private static Collection<ShardingSphereConstraint> readConstraints(final DataInputStream input) throws IOException {
+        int constraintCount = input.readInt();
+        Collection<ShardingSphereConstraint> result = new ArrayList<>(constraintCount);
+        for (int i = 0; i < constraintCount; i++) {
+            result.add(new ShardingSphereConstraint(readString(input), readString(input)));
+        }
+        return result;
+    }
+    
+    private static String readString(final DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] result = new byte[length];
+        input.readFully(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Schema meta data snapshot persist service.
+ * 
+ * <p>Snapshot node holds {@code version:generation:checksum:chunk count}, and encoded schema is split into chunks under the generation to fit the value size limit of registry center.
+ * Generation node is changed after table or view meta data of the schema changes, so a snapshot is only valid while its generation equals to the current generation.
+ * Snapshot must be encoded from meta data loaded after the generation is read, then a change during loading makes the snapshot invalid instead of stale.</p>
+ */
+@RequiredArgsConstructor
+public final class SchemaMetaDataSnapshotPersistService {
+    
+    private static final String FORMAT_VERSION = "2";
+    
+    private static final String DELIMITER = ":";
+    
+    private static final String INITIAL_GENERATION = "0";
+    
+    private static final int CHUNK_SIZE = 512 * 1024;
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Get current generation.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return current generation
+     */
+    public String getGeneration(final String databaseName, final String schemaName) {
+        String result = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName));
+        return Strings.isNullOrEmpty(result) ? INITIAL_GENERATION : result;
+    }
+    
+    /**
+     * Persist snapshot of generation.
+     * 
+     * <p>Chunks are written before snapshot node, and snapshot is skipped if generation has changed.</p>
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param generation generation read before schema meta data is loaded
+     * @param schema schema meta data
+     */
+    public void persist(final String databaseName, final String schemaName, final String generation, final ShardingSphereSchema schema) {
+        byte[] content = SchemaMetaDataSnapshotCodec.encode(schema);
+        String encodedContent = Base64.getEncoder().encodeToString(content);
+        int chunkCount = 0;
+        for (int start = 0; start < encodedContent.length(); start += CHUNK_SIZE) {
+            repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath(databaseName, schemaName, generation, chunkCount++),
+                    encodedContent.substring(start, Math.min(encodedContent.length(), start + CHUNK_SIZE)));
+        }
+        if (!generation.equals(getGeneration(databaseName, schemaName))) {
+            return;
+        }
+        String snapshot = String.join(DELIMITER, FORMAT_VERSION, generation, getChecksum(content), String.valueOf(chunkCount));
+        repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName), snapshot);
+        deleteStaleChunks(databaseName, schemaName, generation);
+    }
+    
+    private void deleteStaleChunks(final String databaseName, final String schemaName, final String generation) {
+        String chunksPath = DatabaseMetaDataNode.getMetaDataSnapshotChunksPath(databaseName, schemaName);
+        for (String each : repository.getChildrenKeys(chunksPath)) {
+            if (!generation.equals(each)) {
+                repository.delete(String.join("/", chunksPath, each));
+            }
+        }
+    }
+    
+    /**
+     * Judge whether snapshot of current generation is same with schema.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param schema schema meta data
+     * @return is up to date or not
+     */
+    public boolean isUpToDate(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
+        Optional<List<String>> header = loadValidHeader(databaseName, schemaName);
+        return header.isPresent() && getChecksum(SchemaMetaDataSnapshotCodec.encode(schema)).equals(header.get().get(2));
+    }
+    
+    /**
+     * Load snapshot of current generation.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return schema meta data, empty if snapshot is absent, broken or of other generation
+     */
+    public Optional<ShardingSphereSchema> load(final String databaseName, final String schemaName) {
+        Optional<List<String>> header = loadValidHeader(databaseName, schemaName);
+        if (!header.isPresent()) {
+            return Optional.empty();
+        }
+        StringBuilder encodedContent = new StringBuilder();
+        int chunkCount = Integer.parseInt(header.get().get(3));
+        for (int i = 0; i < chunkCount; i++) {
+            String chunk = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath(databaseName, schemaName, header.get().get(1), i));
+            if (Strings.isNullOrEmpty(chunk)) {
+                return Optional.empty();
+            }
+            encodedContent.append(chunk);
+        }
+        byte[] content;
+        try {
+            content = Base64.getDecoder().decode(encodedContent.toString());
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+        return getChecksum(content).equals(header.get().get(2)) ? Optional.of(SchemaMetaDataSnapshotCodec.decode(content)) : Optional.empty();
+    }
+    
+    private Optional<List<String>> loadValidHeader(final String databaseName, final String schemaName) {
+        String snapshot = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName));
+        if (Strings.isNullOrEmpty(snapshot)) {
+            return Optional.empty();
+        }
+        List<String> result = Splitter.on(DELIMITER).splitToList(snapshot);
+        if (4 != result.size() || !FORMAT_VERSION.equals(result.get(0)) || !result.get(1).equals(getGeneration(databaseName, schemaName))) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    private String getChecksum(final byte[] content) {
+        CRC32 result = new CRC32();
+        result.update(content);
+        return Long.toHexString(result.getValue());
+    }
+}
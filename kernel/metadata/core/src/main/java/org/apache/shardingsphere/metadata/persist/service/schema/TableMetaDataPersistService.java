@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Table meta data persist service.
@@ -41,8 +42,13 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        repository.persist(keyValues);
+        if (!tables.isEmpty()) {
+            repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName), UUID.randomUUID().toString());
+        }
     }
     
     @Override
@@ -54,6 +60,7 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
         repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName.toLowerCase()));
+        repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName), UUID.randomUUID().toString());
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
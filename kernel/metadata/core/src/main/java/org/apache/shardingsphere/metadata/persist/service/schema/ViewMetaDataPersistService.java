@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * View meta data persist service.
@@ -41,8 +42,13 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereView> views) {
-        views.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        Map<String, String> keyValues = new LinkedHashMap<>(views.size(), 1);
+        views.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(value))));
+        repository.persist(keyValues);
+        if (!views.isEmpty()) {
+            repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName), UUID.randomUUID().toString());
+        }
     }
     
     @Override
@@ -54,6 +60,7 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     @Override
     public void delete(final String databaseName, final String schemaName, final String viewName) {
         repository.delete(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, viewName.toLowerCase()));
+        repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName), UUID.randomUUID().toString());
     }
     
     private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
@@ -62,6 +62,21 @@ public class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getMetaDataViewsPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/views"));
     }
     
+    @Test
+    public void assertGetMetaDataSnapshotPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSnapshotPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/snapshot"));
+    }
+    
+    @Test
+    public void assertGetMetaDataSnapshotGenerationPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/snapshot/generation"));
+    }
+    
+    @Test
+    public void assertGetMetaDataSnapshotChunkPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath("sharding_db", "sharding_schema", "foo_gen", 0), is("/metadata/sharding_db/schemas/sharding_schema/snapshot/chunks/foo_gen/0"));
+    }
+    
     @Test
     public void assertGetDatabaseNameByDatabasePath() {
         Optional<String> actualSchemaName = DatabaseMetaDataNode.getDatabaseNameByDatabasePath("/metadata/logic_db/schemas/logic_schema");
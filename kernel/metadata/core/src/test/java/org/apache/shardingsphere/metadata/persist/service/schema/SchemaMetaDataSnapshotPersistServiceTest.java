@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public final class SchemaMetaDataSnapshotPersistServiceTest {
+    
+    private final Map<String, String> registry = new HashMap<>();
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @BeforeEach
+    public void setUp() {
+        lenient().doAnswer(invocation -> registry.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        lenient().doAnswer(invocation -> registry.get(invocation.<String>getArgument(0))).when(repository).getDirectly(anyString());
+        lenient().doAnswer(invocation -> registry.keySet().removeIf(each -> each.equals(invocation.getArgument(0)) || each.startsWith(invocation.getArgument(0) + "/")))
+                .when(repository).delete(anyString());
+        lenient().doAnswer(invocation -> registry.keySet().stream().filter(each -> each.startsWith(invocation.getArgument(0) + "/"))
+                .map(each -> each.substring(invocation.<String>getArgument(0).length() + 1).split("/")[0]).distinct().collect(Collectors.toList())).when(repository).getChildrenKeys(anyString());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        persistService.persist("foo_db", "foo_schema", persistService.getGeneration("foo_db", "foo_schema"), createSchema());
+        assertThat(registry.get("/metadata/foo_db/schemas/foo_schema/snapshot").split(":")[1], is("0"));
+        Optional<ShardingSphereSchema> actual = persistService.load("foo_db", "foo_schema");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(Collections.singleton("t_order")));
+        ShardingSphereTable actualTable = actual.get().getTable("t_order");
+        assertThat(actualTable.getName(), is("t_order"));
+        assertTrue(actualTable.getColumns().get("order_id").isPrimaryKey());
+        assertTrue(actualTable.getColumns().get("order_id").isGenerated());
+        assertFalse(actualTable.getColumns().get("status").isVisible());
+        assertThat(actualTable.getColumns().get("status").getDataType(), is(Types.VARCHAR));
+        assertThat(actualTable.getIndexes().keySet(), is(Collections.singleton("idx_status")));
+        assertThat(actualTable.getConstrains().get("fk_user").getReferencedTableName(), is("t_user"));
+        assertThat(actual.get().getView("v_order").getViewDefinition(), is("SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertNotPersistWhenGenerationChangedDuringLoading() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        String generation = persistService.getGeneration("foo_db", "foo_schema");
+        registry.put("/metadata/foo_db/schemas/foo_schema/snapshot/generation", "foo_gen");
+        persistService.persist("foo_db", "foo_schema", generation, createSchema());
+        assertFalse(registry.containsKey("/metadata/foo_db/schemas/foo_schema/snapshot"));
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    public void assertLoadAfterGenerationChanged() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        persistService.persist("foo_db", "foo_schema", persistService.getGeneration("foo_db", "foo_schema"), createSchema());
+        registry.put("/metadata/foo_db/schemas/foo_schema/snapshot/generation", "foo_gen");
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    public void assertPersistWithNewGeneration() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        persistService.persist("foo_db", "foo_schema", persistService.getGeneration("foo_db", "foo_schema"), createSchema());
+        registry.put("/metadata/foo_db/schemas/foo_schema/snapshot/generation", "foo_gen");
+        persistService.persist("foo_db", "foo_schema", "foo_gen", createSchema());
+        assertTrue(persistService.load("foo_db", "foo_schema").isPresent());
+        assertTrue(registry.containsKey("/metadata/foo_db/schemas/foo_schema/snapshot/chunks/foo_gen/0"));
+        assertFalse(registry.containsKey("/metadata/foo_db/schemas/foo_schema/snapshot/chunks/0/0"));
+    }
+    
+    @Test
+    public void assertLoadWithMismatchedChecksum() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        persistService.persist("foo_db", "foo_schema", persistService.getGeneration("foo_db", "foo_schema"), createSchema());
+        registry.put("/metadata/foo_db/schemas/foo_schema/snapshot", "2:0:1:1");
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    public void assertIsUpToDate() {
+        SchemaMetaDataSnapshotPersistService persistService = new SchemaMetaDataSnapshotPersistService(repository);
+        assertFalse(persistService.isUpToDate("foo_db", "foo_schema", createSchema()));
+        persistService.persist("foo_db", "foo_schema", persistService.getGeneration("foo_db", "foo_schema"), createSchema());
+        assertTrue(persistService.isUpToDate("foo_db", "foo_schema", createSchema()));
+        assertFalse(persistService.isUpToDate("foo_db", "foo_schema", new ShardingSphereSchema()));
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order",
+                Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, true, false, true, false),
+                        new ShardingSphereColumn("status", Types.VARCHAR, false, false, true, false, false)),
+                Collections.singletonList(new ShardingSphereIndex("idx_status")), Collections.singletonList(new ShardingSphereConstraint("fk_user", "t_user")));
+        return new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.singletonMap("v_order", new ShardingSphereView("v_order", "SELECT * FROM t_order")));
+    }
+}
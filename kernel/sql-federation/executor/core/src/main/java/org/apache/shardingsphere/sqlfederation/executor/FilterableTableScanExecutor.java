@@ -153,7 +153,7 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
             setParameters(executionGroupContext.getInputGroups());
-            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext());
+            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext(), executorContext.getProps());
             List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
             // TODO need to get session context
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
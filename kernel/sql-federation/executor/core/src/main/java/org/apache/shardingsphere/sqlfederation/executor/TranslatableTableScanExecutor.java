@@ -180,7 +180,7 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
             setParameters(executionGroupContext.getInputGroups());
-            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext());
+            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext(), executorContext.getProps());
             List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
             MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
@@ -241,7 +241,7 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
             setParameters(executionGroupContext.getInputGroups());
-            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext());
+            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext(), executorContext.getProps());
             List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
             MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
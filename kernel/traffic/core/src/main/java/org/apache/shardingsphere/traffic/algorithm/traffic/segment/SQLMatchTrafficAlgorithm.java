@@ -17,16 +17,15 @@
 
 package org.apache.shardingsphere.traffic.algorithm.traffic.segment;
 
-import com.google.common.base.CharMatcher;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
-import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import lombok.Getter;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Properties;
-import java.util.TreeSet;
 
 /**
  * SQL match traffic algorithm.
@@ -37,6 +36,9 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     
     private static final String EXCLUDED_CHARACTERS = "[]`'\" ";
     
+    private static final char SQL_END = ';';
+    
+    @Getter
     private Collection<String> sql;
     
     @Override
@@ -46,17 +48,41 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     }
     
     private Collection<String> getExactlySQL(final String value) {
-        Collection<String> values = Splitter.on(";").trimResults().omitEmptyStrings().splitToList(value);
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Collection<String> values = Splitter.on(SQL_END).trimResults().omitEmptyStrings().splitToList(value);
+        Collection<String> result = new HashSet<>(values.size(), 1F);
         for (String each : values) {
-            result.add(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(each));
+            result.add(normalize(each));
         }
         return result;
     }
     
+    /**
+     * Normalize SQL for matching.
+     * 
+     * <p>Excluded characters and the trailing semicolon are removed, and the remaining characters are case folded in one pass,
+     * so normalized SQL can be compared with hashed lookup instead of case insensitive comparison.</p>
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public static String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (-1 == EXCLUDED_CHARACTERS.indexOf(each)) {
+                result.append(Character.toLowerCase(Character.toUpperCase(each)));
+            }
+        }
+        int lastIndex = result.length() - 1;
+        if (0 <= lastIndex && SQL_END == result.charAt(lastIndex)) {
+            result.setLength(lastIndex);
+        }
+        return result.toString();
+    }
+    
     @Override
     public boolean match(final SegmentTrafficValue segmentTrafficValue) {
-        return sql.contains(SQLUtil.trimSemicolon(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(segmentTrafficValue.getSql())));
+        return sql.contains(normalize(segmentTrafficValue.getSql()));
     }
     
     @Override
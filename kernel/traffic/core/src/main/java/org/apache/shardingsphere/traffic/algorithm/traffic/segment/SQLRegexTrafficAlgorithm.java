@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.traffic.algorithm.traffic.segment;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 
@@ -31,6 +32,7 @@ public final class SQLRegexTrafficAlgorithm implements SegmentTrafficAlgorithm {
     
     private static final String REGEX_PROPS_KEY = "regex";
     
+    @Getter
     private Pattern regex;
     
     @Override
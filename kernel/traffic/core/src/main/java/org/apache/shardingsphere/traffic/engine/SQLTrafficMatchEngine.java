@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.engine;
+
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLMatchTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLRegexTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.rule.TrafficStrategyRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL traffic match engine.
+ * 
+ * <p>Strategies with SQL match and SQL regex algorithms are checked together. SQL is normalized once and exact SQL is found through one hashed lookup,
+ * regular expressions are only evaluated for strategies preceding the strategy found by hashed lookup.</p>
+ */
+public final class SQLTrafficMatchEngine {
+    
+    private static final int NOT_MATCHED = Integer.MAX_VALUE;
+    
+    private final List<TrafficStrategyRule> strategyRules = new ArrayList<>();
+    
+    private final Map<TrafficStrategyRule, Integer> strategyRuleIndexes = new IdentityHashMap<>();
+    
+    private final Map<String, Integer> sqlStrategyIndexes = new HashMap<>();
+    
+    private final List<Pattern> regexes = new ArrayList<>();
+    
+    private final List<Integer> regexStrategyIndexes = new ArrayList<>();
+    
+    public SQLTrafficMatchEngine(final Collection<TrafficStrategyRule> strategyRules) {
+        for (TrafficStrategyRule each : strategyRules) {
+            if (each.getTrafficAlgorithm() instanceof SQLMatchTrafficAlgorithm) {
+                int index = addStrategyRule(each);
+                ((SQLMatchTrafficAlgorithm) each.getTrafficAlgorithm()).getSql().forEach(sql -> sqlStrategyIndexes.putIfAbsent(sql, index));
+            } else if (each.getTrafficAlgorithm() instanceof SQLRegexTrafficAlgorithm) {
+                regexStrategyIndexes.add(addStrategyRule(each));
+                regexes.add(((SQLRegexTrafficAlgorithm) each.getTrafficAlgorithm()).getRegex());
+            }
+        }
+    }
+    
+    private int addStrategyRule(final TrafficStrategyRule strategyRule) {
+        int result = strategyRules.size();
+        strategyRules.add(strategyRule);
+        strategyRuleIndexes.put(strategyRule, result);
+        return result;
+    }
+    
+    /**
+     * Judge whether strategy rule is matched by this engine.
+     *
+     * @param strategyRule strategy rule
+     * @return strategy rule is matched by this engine or not
+     */
+    public boolean contains(final TrafficStrategyRule strategyRule) {
+        return strategyRuleIndexes.containsKey(strategyRule);
+    }
+    
+    /**
+     * Find first matched strategy rule.
+     *
+     * @param sql SQL
+     * @return first matched strategy rule in order of strategy rules
+     */
+    public Optional<TrafficStrategyRule> findMatchedStrategyRule(final String sql) {
+        long startNanos = System.nanoTime();
+        int matchedIndex = sqlStrategyIndexes.isEmpty() ? NOT_MATCHED : sqlStrategyIndexes.getOrDefault(SQLMatchTrafficAlgorithm.normalize(sql), NOT_MATCHED);
+        for (int i = 0; i < regexes.size() && regexStrategyIndexes.get(i) < matchedIndex; i++) {
+            if (regexes.get(i).matcher(sql).matches()) {
+                matchedIndex = regexStrategyIndexes.get(i);
+            }
+        }
+        SQLTrafficMatchStatistics.getInstance().recordMatch(NOT_MATCHED != matchedIndex, System.nanoTime() - startNanos);
+        return NOT_MATCHED == matchedIndex ? Optional.empty() : Optional.of(strategyRules.get(matchedIndex));
+    }
+}
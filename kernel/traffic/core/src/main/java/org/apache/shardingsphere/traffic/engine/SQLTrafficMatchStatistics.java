@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.engine;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL traffic match statistics.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLTrafficMatchStatistics {
+    
+    private static final SQLTrafficMatchStatistics INSTANCE = new SQLTrafficMatchStatistics();
+    
+    private final LongAdder matchCount = new LongAdder();
+    
+    private final LongAdder matchedCount = new LongAdder();
+    
+    private final LongAdder matchNanos = new LongAdder();
+    
+    /**
+     * Get SQL traffic match statistics.
+     *
+     * @return SQL traffic match statistics
+     */
+    public static SQLTrafficMatchStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record match.
+     *
+     * @param matched whether any strategy matched
+     * @param elapsedNanos elapsed nanoseconds of matching
+     */
+    public void recordMatch(final boolean matched, final long elapsedNanos) {
+        matchCount.increment();
+        if (matched) {
+            matchedCount.increment();
+        }
+        matchNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * Get match count.
+     *
+     * @return match count
+     */
+    public long getMatchCount() {
+        return matchCount.sum();
+    }
+    
+    /**
+     * Get matched count.
+     *
+     * @return matched count
+     */
+    public long getMatchedCount() {
+        return matchedCount.sum();
+    }
+    
+    /**
+     * Get total match nanoseconds.
+     *
+     * @return total match nanoseconds
+     */
+    public long getMatchNanos() {
+        return matchNanos.sum();
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        matchCount.reset();
+        matchedCount.reset();
+        matchNanos.reset();
+    }
+}
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.traffic.rule;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgor
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficValue;
+import org.apache.shardingsphere.traffic.engine.SQLTrafficMatchEngine;
 import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
 import org.apache.shardingsphere.traffic.spi.TrafficLoadBalanceAlgorithm;
 
@@ -57,11 +61,15 @@ public final class TrafficRule implements GlobalRule {
     
     private final Collection<TrafficStrategyRule> strategyRules;
     
+    @Getter(AccessLevel.NONE)
+    private final SQLTrafficMatchEngine sqlTrafficMatchEngine;
+    
     public TrafficRule(final TrafficRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         Map<String, TrafficAlgorithm> trafficAlgorithms = createTrafficAlgorithms(ruleConfig.getTrafficAlgorithms());
         Map<String, TrafficLoadBalanceAlgorithm> loadBalancers = createTrafficLoadBalanceAlgorithms(ruleConfig.getLoadBalancers());
         strategyRules = createTrafficStrategyRules(ruleConfig.getTrafficStrategies(), trafficAlgorithms, loadBalancers);
+        sqlTrafficMatchEngine = new SQLTrafficMatchEngine(strategyRules);
     }
     
     private Map<String, TrafficAlgorithm> createTrafficAlgorithms(final Map<String, AlgorithmConfiguration> trafficAlgorithms) {
@@ -129,8 +137,12 @@ public final class TrafficRule implements GlobalRule {
      * @return matched strategy rule
      */
     public Optional<TrafficStrategyRule> findMatchedStrategyRule(final QueryContext queryContext, final boolean inTransaction) {
+        Supplier<Optional<TrafficStrategyRule>> sqlMatchedStrategyRule = Suppliers.memoize(() -> sqlTrafficMatchEngine.findMatchedStrategyRule(queryContext.getSql()));
         for (TrafficStrategyRule each : strategyRules) {
-            if (match(each.getTrafficAlgorithm(), queryContext, inTransaction)) {
+            boolean matched = sqlTrafficMatchEngine.contains(each)
+                    ? sqlMatchedStrategyRule.get().filter(optional -> optional == each).isPresent()
+                    : match(each.getTrafficAlgorithm(), queryContext, inTransaction);
+            if (matched) {
                 return Optional.of(each);
             }
         }
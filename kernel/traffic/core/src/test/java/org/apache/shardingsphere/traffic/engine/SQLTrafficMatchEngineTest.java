@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.engine;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.traffic.rule.TrafficStrategyRule;
+import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SQLTrafficMatchEngineTest {
+    
+    private final TrafficStrategyRule regexStrategyRule = createStrategyRule("regex_traffic", "SQL_REGEX", new Property("regex", "(?i)select .* from t_order.*"));
+    
+    private final TrafficStrategyRule sqlMatchStrategyRule = createStrategyRule("sql_match_traffic", "SQL_MATCH", new Property("sql", "SELECT * FROM t_order; SELECT * FROM t_user"));
+    
+    private final TrafficStrategyRule hintStrategyRule = createStrategyRule("hint_traffic", "SQL_HINT", new Property("traffic", Boolean.TRUE.toString()));
+    
+    private final SQLTrafficMatchEngine engine = new SQLTrafficMatchEngine(Arrays.asList(regexStrategyRule, sqlMatchStrategyRule, hintStrategyRule));
+    
+    @AfterEach
+    public void reset() {
+        SQLTrafficMatchStatistics.getInstance().reset();
+    }
+    
+    @Test
+    public void assertContains() {
+        assertTrue(engine.contains(regexStrategyRule));
+        assertTrue(engine.contains(sqlMatchStrategyRule));
+        assertFalse(engine.contains(hintStrategyRule));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleInOrder() {
+        assertThat(engine.findMatchedStrategyRule("select * from t_order where order_id = 1").orElse(null), is(regexStrategyRule));
+        assertThat(engine.findMatchedStrategyRule("select * from t_order;").orElse(null), is(regexStrategyRule));
+        assertThat(engine.findMatchedStrategyRule("select * from `t_order`;").orElse(null), is(sqlMatchStrategyRule));
+        assertThat(engine.findMatchedStrategyRule("select *  from `T_USER`;").orElse(null), is(sqlMatchStrategyRule));
+    }
+    
+    @Test
+    public void assertNotFindMatchedStrategyRule() {
+        assertFalse(engine.findMatchedStrategyRule("UPDATE t_order SET status = 1").isPresent());
+        assertThat(SQLTrafficMatchStatistics.getInstance().getMatchCount(), is(1L));
+        assertThat(SQLTrafficMatchStatistics.getInstance().getMatchedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithoutRegex() {
+        SQLTrafficMatchEngine engine = new SQLTrafficMatchEngine(Collections.singleton(sqlMatchStrategyRule));
+        assertThat(engine.findMatchedStrategyRule("SELECT * FROM t_order;").orElse(null), is(sqlMatchStrategyRule));
+    }
+    
+    private TrafficStrategyRule createStrategyRule(final String name, final String algorithmType, final Property property) {
+        return new TrafficStrategyRule(name, Collections.singleton("OLAP"), TypedSPILoader.getService(TrafficAlgorithm.class, algorithmType, PropertiesBuilder.build(property)), null);
+    }
+}
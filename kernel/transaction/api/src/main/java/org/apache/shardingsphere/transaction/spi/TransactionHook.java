@@ -44,8 +44,10 @@ public interface TransactionHook extends TypedSPI {
      * Process after opening the transaction.
      *
      * @param transactionContext transaction context
+     * @param lockContext lock context
      */
-    void afterBegin(TransactionConnectionContext transactionContext);
+    @SuppressWarnings("rawtypes")
+    void afterBegin(TransactionConnectionContext transactionContext, LockContext lockContext);
     
     /**
      * Process after connection is created.
@@ -62,9 +64,11 @@ public interface TransactionHook extends TypedSPI {
      * @param connections connections
      * @param transactionContext transaction context
      * @param isolationLevel isolation level
+     * @param lockContext lock context
      * @throws SQLException SQL exception
      */
-    void beforeExecuteSQL(Collection<Connection> connections, TransactionConnectionContext transactionContext, TransactionIsolationLevel isolationLevel) throws SQLException;
+    @SuppressWarnings("rawtypes")
+    void beforeExecuteSQL(Collection<Connection> connections, TransactionConnectionContext transactionContext, TransactionIsolationLevel isolationLevel, LockContext lockContext) throws SQLException;
     
     /**
      * Process before committing the transaction.
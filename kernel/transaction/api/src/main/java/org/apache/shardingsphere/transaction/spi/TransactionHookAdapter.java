@@ -35,7 +35,7 @@ public abstract class TransactionHookAdapter implements TransactionHook {
     }
     
     @Override
-    public void afterBegin(final TransactionConnectionContext transactionContext) {
+    public void afterBegin(final TransactionConnectionContext transactionContext, final LockContext lockContext) {
     }
     
     @Override
@@ -43,7 +43,8 @@ public abstract class TransactionHookAdapter implements TransactionHook {
     }
     
     @Override
-    public void beforeExecuteSQL(final Collection<Connection> connections, final TransactionConnectionContext connectionContext, final TransactionIsolationLevel isolationLevel) throws SQLException {
+    public void beforeExecuteSQL(final Collection<Connection> connections, final TransactionConnectionContext connectionContext, final TransactionIsolationLevel isolationLevel,
+                                 final LockContext lockContext) throws SQLException {
     }
     
     @Override
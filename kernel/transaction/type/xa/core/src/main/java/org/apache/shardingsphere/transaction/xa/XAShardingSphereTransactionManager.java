@@ -27,6 +27,7 @@ import org.apache.shardingsphere.transaction.exception.TransactionTimeoutExcepti
 import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManager;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
+import org.apache.shardingsphere.transaction.xa.statistics.XATransactionCommitStatistics;
 
 import javax.sql.DataSource;
 import javax.transaction.HeuristicMixedException;
@@ -38,18 +39,26 @@ import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * ShardingSphere Transaction manager for XA.
+ * 
+ * <p>If transaction manager supports last resource commit optimization, XA transaction is started when the second data source is touched.
+ * Transaction touched only one data source is committed by local transaction,
+ * otherwise the first data source is enlisted as last resource and committed by last resource commit optimization.</p>
  */
 public final class XAShardingSphereTransactionManager implements ShardingSphereTransactionManager {
     
     private final Map<String, XATransactionDataSource> cachedDataSources = new HashMap<>();
     
+    private final ThreadLocal<Deque<XATransactionContext>> transactionContexts = ThreadLocal.withInitial(LinkedList::new);
+    
     private XATransactionManagerProvider xaTransactionManagerProvider;
     
     @Override
@@ -82,36 +91,83 @@ public final class XAShardingSphereTransactionManager implements ShardingSphereT
     @SneakyThrows(SystemException.class)
     @Override
     public boolean isInTransaction() {
-        return xaTransactionManagerProvider != null && Status.STATUS_NO_TRANSACTION != xaTransactionManagerProvider.getTransactionManager().getStatus();
+        return xaTransactionManagerProvider != null
+                && (!transactionContexts.get().isEmpty() || Status.STATUS_NO_TRANSACTION != xaTransactionManagerProvider.getTransactionManager().getStatus());
     }
     
     @Override
     public Connection getConnection(final String databaseName, final String dataSourceName) throws SQLException {
+        String resourceName = databaseName + "." + dataSourceName;
+        XATransactionDataSource dataSource = cachedDataSources.get(resourceName);
+        XATransactionContext context = transactionContexts.get().peek();
         try {
-            return cachedDataSources.get(databaseName + "." + dataSourceName).getConnection();
-        } catch (final SystemException | RollbackException ex) {
+            if (null == context) {
+                return dataSource.getConnection();
+            }
+            if (resourceName.equals(context.getLocalDataSourceName())) {
+                return context.getLocalConnection();
+            }
+            if (!context.isXaTransactionStarted()) {
+                if (null == context.getLocalConnection() && dataSource.isLocalTransactionSupported()) {
+                    context.holdLocalConnection(resourceName, dataSource, dataSource.getLocalConnection());
+                    return context.getLocalConnection();
+                }
+                beginXATransaction(context);
+            }
+            return dataSource.getConnection();
+        } catch (final SystemException | RollbackException | NotSupportedException ex) {
             throw new SQLException(ex);
         }
     }
     
-    @SneakyThrows({SystemException.class, NotSupportedException.class})
+    private void beginXATransaction(final XATransactionContext context) throws SystemException, NotSupportedException {
+        TransactionManager transactionManager = xaTransactionManagerProvider.getTransactionManager();
+        transactionManager.setTransactionTimeout(getRemainingTimeout(context));
+        transactionManager.begin();
+        context.setXaTransactionStarted(true);
+    }
+    
+    private int getRemainingTimeout(final XATransactionContext context) {
+        if (0 == context.getTimeout()) {
+            return 0;
+        }
+        long elapsedSeconds = (System.currentTimeMillis() - context.getBeginMillis()) / 1000L;
+        return (int) Math.max(1L, context.getTimeout() - elapsedSeconds);
+    }
+    
     @Override
     public void begin() {
-        xaTransactionManagerProvider.getTransactionManager().begin();
+        transactionContexts.get().push(new XATransactionContext(0));
     }
     
     @Override
-    @SneakyThrows({SystemException.class, NotSupportedException.class})
     public void begin(final int timeout) {
         ShardingSpherePreconditions.checkState(timeout >= 0, TransactionTimeoutException::new);
-        TransactionManager transactionManager = xaTransactionManagerProvider.getTransactionManager();
-        transactionManager.setTransactionTimeout(timeout);
-        transactionManager.begin();
+        transactionContexts.get().push(new XATransactionContext(timeout));
     }
     
-    @SneakyThrows({SystemException.class, RollbackException.class, HeuristicMixedException.class, HeuristicRollbackException.class})
+    @SneakyThrows({SystemException.class, RollbackException.class, HeuristicMixedException.class, HeuristicRollbackException.class, SQLException.class})
     @Override
     public void commit(final boolean rollbackOnly) {
+        XATransactionContext context = transactionContexts.get().poll();
+        if (null == context) {
+            commitXATransaction(rollbackOnly);
+            return;
+        }
+        try {
+            if (!context.isXaTransactionStarted()) {
+                commitLocalTransaction(context, rollbackOnly);
+            } else if (rollbackOnly) {
+                xaTransactionManagerProvider.getTransactionManager().rollback();
+            } else {
+                commitXATransactionWithLastResource(context);
+            }
+        } finally {
+            releaseLocalConnection(context);
+        }
+    }
+    
+    private void commitXATransaction(final boolean rollbackOnly) throws SystemException, RollbackException, HeuristicMixedException, HeuristicRollbackException {
         if (rollbackOnly) {
             xaTransactionManagerProvider.getTransactionManager().rollback();
         } else {
@@ -119,10 +175,59 @@ public final class XAShardingSphereTransactionManager implements ShardingSphereT
         }
     }
     
+    private void commitLocalTransaction(final XATransactionContext context, final boolean rollbackOnly) throws SQLException {
+        if (null == context.getLocalConnection() || rollbackOnly) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        context.getLocalConnection().commit();
+        XATransactionCommitStatistics.getInstance().recordOnePhaseCommit(System.nanoTime() - startNanos);
+    }
+    
+    private void commitXATransactionWithLastResource(final XATransactionContext context) throws SystemException, RollbackException, HeuristicMixedException, HeuristicRollbackException {
+        long startNanos = System.nanoTime();
+        TransactionManager transactionManager = xaTransactionManagerProvider.getTransactionManager();
+        if (null != context.getLocalConnection()) {
+            try {
+                context.getLocalDataSource().enlistLastResource(context.getLocalConnection());
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                transactionManager.rollback();
+                throw ex;
+            }
+        }
+        transactionManager.commit();
+        XATransactionCommitStatistics.getInstance().recordTwoPhaseCommit(System.nanoTime() - startNanos);
+    }
+    
+    private void releaseLocalConnection(final XATransactionContext context) {
+        Connection connection = context.getLocalConnection();
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     @SneakyThrows(SystemException.class)
     @Override
     public void rollback() {
-        xaTransactionManagerProvider.getTransactionManager().rollback();
+        XATransactionContext context = transactionContexts.get().poll();
+        if (null == context) {
+            xaTransactionManagerProvider.getTransactionManager().rollback();
+            return;
+        }
+        try {
+            if (context.isXaTransactionStarted()) {
+                xaTransactionManagerProvider.getTransactionManager().rollback();
+            }
+        } finally {
+            releaseLocalConnection(context);
+        }
     }
     
     @Override
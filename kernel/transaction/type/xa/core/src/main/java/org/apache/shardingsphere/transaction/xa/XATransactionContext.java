@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
+
+import java.sql.Connection;
+
+/**
+ * XA transaction context.
+ * 
+ * <p>XA transaction is started only when second data source is touched, the first one is held by local transaction until then.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class XATransactionContext {
+    
+    private final int timeout;
+    
+    private final long beginMillis = System.currentTimeMillis();
+    
+    @Setter
+    private boolean xaTransactionStarted;
+    
+    private String localDataSourceName;
+    
+    private XATransactionDataSource localDataSource;
+    
+    private Connection localConnection;
+    
+    /**
+     * Hold local transaction connection.
+     *
+     * @param dataSourceName data source name
+     * @param dataSource XA transaction data source
+     * @param connection local transaction connection
+     */
+    public void holdLocalConnection(final String dataSourceName, final XATransactionDataSource dataSource, final Connection connection) {
+        localDataSourceName = dataSourceName;
+        localDataSource = dataSource;
+        localConnection = connection;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.transaction.xa.jta.connection.XAConnectionWrapper;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.properties.XADataSourceDefinition;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.swapper.DataSourceSwapper;
+import org.apache.shardingsphere.transaction.xa.jta.resource.LastResourceXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
@@ -48,6 +49,8 @@ public final class XATransactionDataSource implements AutoCloseable {
     
     private static final Set<String> CONTAINER_DATASOURCE_NAMES = new HashSet<>(Arrays.asList("AtomikosDataSourceBean", "BasicManagedDataSource"));
     
+    private static final String LAST_RESOURCE_NAME_SUFFIX = "#last-resource";
+    
     private final ThreadLocal<Map<Transaction, Connection>> enlistedTransactions = ThreadLocal.withInitial(HashMap::new);
     
     private final DatabaseType databaseType;
@@ -105,6 +108,42 @@ public final class XATransactionDataSource implements AutoCloseable {
         return enlistedTransactions.get().get(transaction);
     }
     
+    /**
+     * Whether local transaction can be used before XA transaction started.
+     * 
+     * <p>Container data sources enlist themselves into the current XA transaction, so they have to be used in XA transaction only.
+     * Local transaction has to be enlisted as last resource if XA transaction is started later,
+     * so transaction manager without last resource commit optimization can not use local transaction either.</p>
+     *
+     * @return local transaction can be used or not
+     */
+    public boolean isLocalTransactionSupported() {
+        return null != xaDataSource && xaTransactionManagerProvider.isLastResourceCommitOptimizationSupported();
+    }
+    
+    /**
+     * Get local transaction connection.
+     *
+     * @return local transaction connection with auto commit disabled
+     * @throws SQLException SQL exception
+     */
+    public Connection getLocalConnection() throws SQLException {
+        Connection result = dataSource.getConnection();
+        result.setAutoCommit(false);
+        return result;
+    }
+    
+    /**
+     * Enlist local transaction connection into current XA transaction as last resource.
+     * 
+     * <p>Last resource is not an XA branch of database and is not registered as recovery resource, so it is enlisted with a distinct resource name.</p>
+     *
+     * @param localConnection local transaction connection
+     */
+    public void enlistLastResource(final Connection localConnection) {
+        xaTransactionManagerProvider.enlistLastResource(new SingleXAResource(resourceName + LAST_RESOURCE_NAME_SUFFIX, new LastResourceXAResource(localConnection)));
+    }
+    
     @Override
     public void close() {
         if (CONTAINER_DATASOURCE_NAMES.contains(dataSource.getClass().getSimpleName())) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.resource;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Last resource XA resource.
+ * 
+ * <p>Adapt local transaction connection to XA resource with last resource commit optimization.
+ * Transaction manager has to prepare all other XA resources before committing it by one phase,
+ * so the decision of the whole XA transaction is made by the result of local commit.
+ * It can not be prepared, because local transaction can not be rolled back after committed.</p>
+ */
+@RequiredArgsConstructor
+public final class LastResourceXAResource implements XAResource {
+    
+    private final Connection connection;
+    
+    @Override
+    public void start(final Xid xid, final int flags) {
+    }
+    
+    @Override
+    public void end(final Xid xid, final int flags) {
+    }
+    
+    @Override
+    public int prepare(final Xid xid) throws XAException {
+        throw new XAException(XAException.XAER_PROTO);
+    }
+    
+    @Override
+    public void commit(final Xid xid, final boolean onePhase) throws XAException {
+        if (!onePhase) {
+            throw new XAException(XAException.XAER_PROTO);
+        }
+        try {
+            connection.commit();
+        } catch (final SQLException ex) {
+            throw createXAException(XAException.XA_RBROLLBACK, ex);
+        }
+    }
+    
+    @Override
+    public void rollback(final Xid xid) throws XAException {
+        try {
+            connection.rollback();
+        } catch (final SQLException ex) {
+            throw createXAException(XAException.XAER_RMERR, ex);
+        }
+    }
+    
+    private XAException createXAException(final int errorCode, final SQLException cause) {
+        XAException result = new XAException(errorCode);
+        result.initCause(cause);
+        return result;
+    }
+    
+    @Override
+    public void forget(final Xid xid) {
+    }
+    
+    @Override
+    public Xid[] recover(final int flag) {
+        return new Xid[0];
+    }
+    
+    @Override
+    public boolean isSameRM(final XAResource xaResource) {
+        return this == xaResource;
+    }
+    
+    @Override
+    public int getTransactionTimeout() {
+        return 0;
+    }
+    
+    @Override
+    public boolean setTransactionTimeout(final int seconds) {
+        return false;
+    }
+}
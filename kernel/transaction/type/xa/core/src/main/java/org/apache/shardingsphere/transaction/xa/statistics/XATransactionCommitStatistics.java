@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * XA transaction commit statistics.
+ * 
+ * <p>One phase commit means the transaction touched only one data source and committed without XA protocol.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class XATransactionCommitStatistics {
+    
+    private static final XATransactionCommitStatistics INSTANCE = new XATransactionCommitStatistics();
+    
+    private final LongAdder onePhaseCommitCount = new LongAdder();
+    
+    private final LongAdder onePhaseCommitNanos = new LongAdder();
+    
+    private final LongAdder twoPhaseCommitCount = new LongAdder();
+    
+    private final LongAdder twoPhaseCommitNanos = new LongAdder();
+    
+    /**
+     * Get XA transaction commit statistics.
+     *
+     * @return XA transaction commit statistics
+     */
+    public static XATransactionCommitStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record one phase commit.
+     *
+     * @param elapsedNanos elapsed nanos of commit
+     */
+    public void recordOnePhaseCommit(final long elapsedNanos) {
+        onePhaseCommitCount.increment();
+        onePhaseCommitNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * Record two phase commit.
+     *
+     * @param elapsedNanos elapsed nanos of commit
+     */
+    public void recordTwoPhaseCommit(final long elapsedNanos) {
+        twoPhaseCommitCount.increment();
+        twoPhaseCommitNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * Get one phase commit count.
+     *
+     * @return one phase commit count
+     */
+    public long getOnePhaseCommitCount() {
+        return onePhaseCommitCount.sum();
+    }
+    
+    /**
+     * Get two phase commit count.
+     *
+     * @return two phase commit count
+     */
+    public long getTwoPhaseCommitCount() {
+        return twoPhaseCommitCount.sum();
+    }
+    
+    /**
+     * Get ratio of one phase commit in all commits.
+     *
+     * @return one phase commit ratio
+     */
+    public double getOnePhaseCommitRatio() {
+        long onePhaseCount = getOnePhaseCommitCount();
+        long totalCount = onePhaseCount + getTwoPhaseCommitCount();
+        return 0L == totalCount ? 0D : (double) onePhaseCount / totalCount;
+    }
+    
+    /**
+     * Get average elapsed millis of one phase commit.
+     *
+     * @return average elapsed millis of one phase commit
+     */
+    public double getAverageOnePhaseCommitMillis() {
+        return getAverageMillis(onePhaseCommitNanos.sum(), getOnePhaseCommitCount());
+    }
+    
+    /**
+     * Get average elapsed millis of two phase commit.
+     *
+     * @return average elapsed millis of two phase commit
+     */
+    public double getAverageTwoPhaseCommitMillis() {
+        return getAverageMillis(twoPhaseCommitNanos.sum(), getTwoPhaseCommitCount());
+    }
+    
+    private double getAverageMillis(final long totalNanos, final long count) {
+        return 0L == count ? 0D : totalNanos / 1000000D / count;
+    }
+    
+    /**
+     * Get estimated saved millis by one phase commit.
+     * 
+     * <p>Estimated by the difference of average elapsed millis between two phase commit and one phase commit.</p>
+     *
+     * @return estimated saved millis
+     */
+    public double getEstimatedSavedMillis() {
+        return Math.max(0D, getAverageTwoPhaseCommitMillis() - getAverageOnePhaseCommitMillis()) * getOnePhaseCommitCount();
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        onePhaseCommitCount.reset();
+        onePhaseCommitNanos.reset();
+        twoPhaseCommitCount.reset();
+        twoPhaseCommitNanos.reset();
+    }
+}
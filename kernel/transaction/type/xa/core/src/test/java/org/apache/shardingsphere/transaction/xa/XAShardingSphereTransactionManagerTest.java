@@ -25,15 +25,24 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
+import org.apache.shardingsphere.transaction.xa.statistics.XATransactionCommitStatistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import javax.sql.DataSource;
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.SystemException;
 import javax.transaction.Transaction;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,17 +50,27 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class XAShardingSphereTransactionManagerTest {
     
     private final XAShardingSphereTransactionManager xaTransactionManager = new XAShardingSphereTransactionManager();
     
+    private Map<String, DataSource> dataSources;
+    
     @BeforeEach
-    public void setUp() {
-        Map<String, DataSource> dataSources = createDataSources(TypedSPILoader.getService(DatabaseType.class, "H2"));
+    public void setUp() throws SQLException {
+        dataSources = createDataSources(TypedSPILoader.getService(DatabaseType.class, "H2"));
         Map<String, DatabaseType> databaseTypes = createDatabaseTypes(TypedSPILoader.getService(DatabaseType.class, "H2"));
-        xaTransactionManager.init(databaseTypes, dataSources, "Atomikos");
+        xaTransactionManager.init(databaseTypes, dataSources, "Narayana");
+        createOrderTable("sharding_db.ds_0");
+        createOrderTable("sharding_db.ds_1");
+        XATransactionCommitStatistics.getInstance().reset();
     }
     
     @AfterEach
@@ -66,7 +85,7 @@ public final class XAShardingSphereTransactionManagerTest {
     
     @Test
     public void assertRegisterXADataSource() {
-        Map<String, XATransactionDataSource> cachedXADataSourceMap = getCachedDataSources();
+        Map<String, XATransactionDataSource> cachedXADataSourceMap = getCachedDataSources(xaTransactionManager);
         assertThat(cachedXADataSourceMap.size(), is(3));
     }
     
@@ -91,31 +110,139 @@ public final class XAShardingSphereTransactionManagerTest {
     }
     
     @Test
-    public void assertGetConnectionOfNestedTransaction() throws SQLException {
-        ThreadLocal<Map<Transaction, Connection>> transactions = getEnlistedTransactions(getCachedDataSources().get("sharding_db.ds_1"));
-        xaTransactionManager.begin();
-        assertTrue(transactions.get().isEmpty());
-        xaTransactionManager.getConnection("sharding_db", "ds_1");
-        assertThat(transactions.get().size(), is(1));
-        executeNestedTransaction(transactions);
+    public void assertGetConnectionOfNestedTransaction() throws Exception {
+        XAShardingSphereTransactionManager atomikosTransactionManager = createAtomikosTransactionManager();
+        try {
+            ThreadLocal<Map<Transaction, Connection>> transactions = getEnlistedTransactions(getCachedDataSources(atomikosTransactionManager).get("sharding_db.ds_1"));
+            atomikosTransactionManager.begin();
+            atomikosTransactionManager.getConnection("sharding_db", "ds_1");
+            assertThat(transactions.get().size(), is(1));
+            executeNestedTransaction(atomikosTransactionManager, transactions);
+            assertThat(transactions.get().size(), is(1));
+            atomikosTransactionManager.commit(false);
+            assertTrue(transactions.get().isEmpty());
+        } finally {
+            atomikosTransactionManager.close();
+        }
+    }
+    
+    private void executeNestedTransaction(final XAShardingSphereTransactionManager transactionManager, final ThreadLocal<Map<Transaction, Connection>> transactions) throws SQLException {
+        transactionManager.begin();
+        transactionManager.getConnection("sharding_db", "ds_0");
+        transactionManager.getConnection("sharding_db", "ds_1");
+        assertThat(transactions.get().size(), is(2));
+        transactionManager.commit(false);
         assertThat(transactions.get().size(), is(1));
+    }
+    
+    @Test
+    public void assertGetSameLocalConnectionBeforeXATransactionStarted() throws SQLException {
+        xaTransactionManager.begin();
+        Connection actual = xaTransactionManager.getConnection("sharding_db", "ds_0");
+        assertThat(xaTransactionManager.getConnection("sharding_db", "ds_0"), is(actual));
+        assertFalse(actual.getAutoCommit());
+        assertThat(getTransactionStatus(xaTransactionManager), is(Status.STATUS_NO_TRANSACTION));
         xaTransactionManager.commit(false);
-        assertTrue(transactions.get().isEmpty());
+        assertTrue(actual.getAutoCommit());
     }
     
-    private void executeNestedTransaction(final ThreadLocal<Map<Transaction, Connection>> transactions) throws SQLException {
+    @Test
+    public void assertGetConnectionWithoutLastResourceCommitOptimization() throws Exception {
+        XAShardingSphereTransactionManager atomikosTransactionManager = createAtomikosTransactionManager();
+        try {
+            atomikosTransactionManager.begin();
+            insertOrder(atomikosTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+            assertThat(getTransactionStatus(atomikosTransactionManager), is(Status.STATUS_ACTIVE));
+            atomikosTransactionManager.commit(false);
+            assertThat(getOrderCount("sharding_db.ds_0"), is(1));
+            assertThat(XATransactionCommitStatistics.getInstance().getOnePhaseCommitCount(), is(0L));
+        } finally {
+            atomikosTransactionManager.close();
+        }
+    }
+    
+    @Test
+    public void assertCommitWithOnePhase() throws SQLException {
         xaTransactionManager.begin();
-        xaTransactionManager.getConnection("sharding_db", "ds_1");
-        assertThat(transactions.get().size(), is(2));
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
         xaTransactionManager.commit(false);
-        assertThat(transactions.get().size(), is(1));
+        assertThat(getOrderCount("sharding_db.ds_0"), is(1));
+        assertThat(XATransactionCommitStatistics.getInstance().getOnePhaseCommitCount(), is(1L));
+        assertThat(XATransactionCommitStatistics.getInstance().getTwoPhaseCommitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRollbackWithOnePhase() throws SQLException {
+        xaTransactionManager.begin();
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+        xaTransactionManager.rollback();
+        assertThat(getOrderCount("sharding_db.ds_0"), is(0));
+        assertThat(XATransactionCommitStatistics.getInstance().getOnePhaseCommitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertCommitWithRollbackOnlyWithOnePhase() throws SQLException {
+        xaTransactionManager.begin();
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+        xaTransactionManager.commit(true);
+        assertThat(getOrderCount("sharding_db.ds_0"), is(0));
+    }
+    
+    @Test
+    public void assertCommitWithLastResource() throws SQLException {
+        xaTransactionManager.begin();
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_1"), 2);
+        xaTransactionManager.commit(false);
+        assertThat(getOrderCount("sharding_db.ds_0"), is(1));
+        assertThat(getOrderCount("sharding_db.ds_1"), is(1));
+        assertThat(XATransactionCommitStatistics.getInstance().getOnePhaseCommitCount(), is(0L));
+        assertThat(XATransactionCommitStatistics.getInstance().getTwoPhaseCommitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRollbackWithLastResource() throws SQLException {
+        xaTransactionManager.begin();
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_1"), 2);
+        xaTransactionManager.rollback();
+        assertThat(getOrderCount("sharding_db.ds_0"), is(0));
+        assertThat(getOrderCount("sharding_db.ds_1"), is(0));
+    }
+    
+    @Test
+    public void assertCommitFailedWithLastResource() throws SQLException {
+        xaTransactionManager.begin();
+        Connection localConnection = xaTransactionManager.getConnection("sharding_db", "ds_0");
+        insertOrder(localConnection, 1);
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_1"), 2);
+        localConnection.close();
+        assertThrows(RollbackException.class, () -> xaTransactionManager.commit(false));
+        assertThat(getOrderCount("sharding_db.ds_0"), is(0));
+        assertThat(getOrderCount("sharding_db.ds_1"), is(0));
+        assertThat(XATransactionCommitStatistics.getInstance().getTwoPhaseCommitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertCommitFailedWithLastResourceWhenOtherResourcePrepareFailed() throws Exception {
+        xaTransactionManager.begin();
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_0"), 1);
+        insertOrder(xaTransactionManager.getConnection("sharding_db", "ds_1"), 2);
+        XAResource failedXAResource = mock(XAResource.class);
+        when(failedXAResource.prepare(any())).thenThrow(new XAException(XAException.XA_RBROLLBACK));
+        getXATransactionManagerProvider(xaTransactionManager).getTransactionManager().getTransaction().enlistResource(failedXAResource);
+        assertThrows(RollbackException.class, () -> xaTransactionManager.commit(false));
+        verify(failedXAResource).prepare(any());
+        assertThat(getOrderCount("sharding_db.ds_0"), is(0));
+        assertThat(getOrderCount("sharding_db.ds_1"), is(0));
+        assertThat(XATransactionCommitStatistics.getInstance().getTwoPhaseCommitCount(), is(0L));
     }
     
     @Test
     public void assertClose() throws Exception {
-        xaTransactionManager.close();
-        Map<String, XATransactionDataSource> cachedSingleXADataSourceMap = getCachedDataSources();
-        assertTrue(cachedSingleXADataSourceMap.isEmpty());
+        XAShardingSphereTransactionManager atomikosTransactionManager = createAtomikosTransactionManager();
+        atomikosTransactionManager.close();
+        assertTrue(getCachedDataSources(atomikosTransactionManager).isEmpty());
     }
     
     @Test
@@ -134,10 +261,51 @@ public final class XAShardingSphereTransactionManagerTest {
         assertFalse(xaTransactionManager.isInTransaction());
     }
     
+    private XAShardingSphereTransactionManager createAtomikosTransactionManager() {
+        XAShardingSphereTransactionManager result = new XAShardingSphereTransactionManager();
+        result.init(createDatabaseTypes(TypedSPILoader.getService(DatabaseType.class, "H2")), dataSources, "Atomikos");
+        return result;
+    }
+    
+    private void createOrderTable(final String dataSourceName) throws SQLException {
+        try (
+                Connection connection = dataSources.get(dataSourceName).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order (order_id INT PRIMARY KEY)");
+            statement.execute("DELETE FROM t_order");
+        }
+    }
+    
+    private void insertOrder(final Connection connection, final int orderId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO t_order (order_id) VALUES (" + orderId + ")");
+        }
+    }
+    
+    private int getOrderCount(final String dataSourceName) throws SQLException {
+        try (
+                Connection connection = dataSources.get(dataSourceName).getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM t_order")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+    
+    @SneakyThrows(SystemException.class)
+    private int getTransactionStatus(final XAShardingSphereTransactionManager transactionManager) {
+        return getXATransactionManagerProvider(transactionManager).getTransactionManager().getStatus();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private XATransactionManagerProvider getXATransactionManagerProvider(final XAShardingSphereTransactionManager transactionManager) {
+        return (XATransactionManagerProvider) Plugins.getMemberAccessor().get(transactionManager.getClass().getDeclaredField("xaTransactionManagerProvider"), transactionManager);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     @SuppressWarnings("unchecked")
-    private Map<String, XATransactionDataSource> getCachedDataSources() {
-        return (Map<String, XATransactionDataSource>) Plugins.getMemberAccessor().get(xaTransactionManager.getClass().getDeclaredField("cachedDataSources"), xaTransactionManager);
+    private Map<String, XATransactionDataSource> getCachedDataSources(final XAShardingSphereTransactionManager transactionManager) {
+        return (Map<String, XATransactionDataSource>) Plugins.getMemberAccessor().get(transactionManager.getClass().getDeclaredField("cachedDataSources"), transactionManager);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -22,11 +22,13 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
+import org.apache.shardingsphere.transaction.xa.jta.resource.LastResourceXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -42,8 +44,15 @@ import javax.transaction.TransactionManager;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -90,6 +99,37 @@ public final class XATransactionDataSourceTest {
         }
     }
     
+    @Test
+    public void assertIsLocalTransactionSupported() {
+        when(xaTransactionManagerProvider.isLastResourceCommitOptimizationSupported()).thenReturn(true);
+        DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1");
+        assertTrue(new XATransactionDataSource(TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1", dataSource, xaTransactionManagerProvider).isLocalTransactionSupported());
+    }
+    
+    @Test
+    public void assertIsLocalTransactionNotSupportedWithoutLastResourceCommitOptimization() {
+        DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1");
+        assertFalse(new XATransactionDataSource(TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1", dataSource, xaTransactionManagerProvider).isLocalTransactionSupported());
+    }
+    
+    @Test
+    public void assertIsLocalTransactionNotSupportedWithAtomikosDataSourceBean() {
+        when(xaTransactionManagerProvider.isLastResourceCommitOptimizationSupported()).thenReturn(true);
+        DataSource dataSource = DataSourceUtils.build(AtomikosDataSourceBean.class, TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1");
+        assertFalse(new XATransactionDataSource(TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1", dataSource, xaTransactionManagerProvider).isLocalTransactionSupported());
+    }
+    
+    @Test
+    public void assertEnlistLastResource() {
+        DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1");
+        new XATransactionDataSource(TypedSPILoader.getService(DatabaseType.class, "H2"), "ds1", dataSource, xaTransactionManagerProvider).enlistLastResource(mock(Connection.class));
+        ArgumentCaptor<SingleXAResource> captor = ArgumentCaptor.forClass(SingleXAResource.class);
+        verify(xaTransactionManagerProvider).enlistLastResource(captor.capture());
+        assertThat(captor.getValue().getResourceName(), is("ds1#last-resource"));
+        assertThat(captor.getValue().getDelegate(), instanceOf(LastResourceXAResource.class));
+        verify(xaTransactionManagerProvider, times(0)).registerRecoveryResource(eq("ds1#last-resource"), any(XADataSource.class));
+    }
+    
     @Test
     public void assertCloseAtomikosDataSourceBean() {
         DataSource dataSource = DataSourceUtils.build(AtomikosDataSourceBean.class, TypedSPILoader.getService(DatabaseType.class, "H2"), "ds11");
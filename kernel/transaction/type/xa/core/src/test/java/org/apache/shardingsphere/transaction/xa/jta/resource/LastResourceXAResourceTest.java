@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public final class LastResourceXAResourceTest {
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Xid xid;
+    
+    @Test
+    public void assertPrepare() throws SQLException {
+        XAException actual = assertThrows(XAException.class, () -> new LastResourceXAResource(connection).prepare(xid));
+        assertThat(actual.errorCode, is(XAException.XAER_PROTO));
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    public void assertCommitWithTwoPhase() throws SQLException {
+        XAException actual = assertThrows(XAException.class, () -> new LastResourceXAResource(connection).commit(xid, false));
+        assertThat(actual.errorCode, is(XAException.XAER_PROTO));
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    public void assertCommitWithOnePhase() throws XAException, SQLException {
+        new LastResourceXAResource(connection).commit(xid, true);
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertCommitWithOnePhaseFailed() throws SQLException {
+        doThrow(SQLException.class).when(connection).commit();
+        XAException actual = assertThrows(XAException.class, () -> new LastResourceXAResource(connection).commit(xid, true));
+        assertThat(actual.errorCode, is(XAException.XA_RBROLLBACK));
+    }
+    
+    @Test
+    public void assertRollback() throws XAException, SQLException {
+        new LastResourceXAResource(connection).rollback(xid);
+        verify(connection).rollback();
+    }
+    
+    @Test
+    public void assertRollbackFailed() throws SQLException {
+        doThrow(SQLException.class).when(connection).rollback();
+        XAException actual = assertThrows(XAException.class, () -> new LastResourceXAResource(connection).rollback(xid));
+        assertThat(actual.errorCode, is(XAException.XAER_RMERR));
+    }
+    
+    @Test
+    public void assertIsSameRM() {
+        LastResourceXAResource xaResource = new LastResourceXAResource(connection);
+        assertTrue(xaResource.isSameRM(xaResource));
+        assertFalse(xaResource.isSameRM(new LastResourceXAResource(mock(Connection.class))));
+    }
+    
+    @Test
+    public void assertRecover() {
+        assertThat(new LastResourceXAResource(connection).recover(XAResource.TMSTARTRSCAN).length, is(0));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class XATransactionCommitStatisticsTest {
+    
+    private final XATransactionCommitStatistics statistics = XATransactionCommitStatistics.getInstance();
+    
+    @BeforeEach
+    public void setUp() {
+        statistics.reset();
+    }
+    
+    @Test
+    public void assertGetStatisticsWithoutCommit() {
+        assertThat(statistics.getOnePhaseCommitRatio(), is(0D));
+        assertThat(statistics.getAverageOnePhaseCommitMillis(), is(0D));
+        assertThat(statistics.getAverageTwoPhaseCommitMillis(), is(0D));
+        assertThat(statistics.getEstimatedSavedMillis(), is(0D));
+    }
+    
+    @Test
+    public void assertGetStatistics() {
+        statistics.recordOnePhaseCommit(1000000L);
+        statistics.recordOnePhaseCommit(3000000L);
+        statistics.recordOnePhaseCommit(2000000L);
+        statistics.recordTwoPhaseCommit(10000000L);
+        assertThat(statistics.getOnePhaseCommitCount(), is(3L));
+        assertThat(statistics.getTwoPhaseCommitCount(), is(1L));
+        assertThat(statistics.getOnePhaseCommitRatio(), is(0.75D));
+        assertThat(statistics.getAverageOnePhaseCommitMillis(), is(2D));
+        assertThat(statistics.getAverageTwoPhaseCommitMillis(), is(10D));
+        assertThat(statistics.getEstimatedSavedMillis(), is(24D));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.narayana.manager;
+
+import com.arjuna.ats.jta.resources.LastResourceCommitOptimisation;
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Narayana last resource XA resource.
+ * 
+ * <p>Narayana prepares all other XA resources first, and commits the resource marked by {@link LastResourceCommitOptimisation} by one phase at last.</p>
+ */
+@RequiredArgsConstructor
+public final class NarayanaLastResourceXAResource implements XAResource, LastResourceCommitOptimisation {
+    
+    private final XAResource delegate;
+    
+    @Override
+    public void start(final Xid xid, final int flags) throws XAException {
+        delegate.start(xid, flags);
+    }
+    
+    @Override
+    public void end(final Xid xid, final int flags) throws XAException {
+        delegate.end(xid, flags);
+    }
+    
+    @Override
+    public int prepare(final Xid xid) throws XAException {
+        return delegate.prepare(xid);
+    }
+    
+    @Override
+    public void commit(final Xid xid, final boolean onePhase) throws XAException {
+        delegate.commit(xid, onePhase);
+    }
+    
+    @Override
+    public void rollback(final Xid xid) throws XAException {
+        delegate.rollback(xid);
+    }
+    
+    @Override
+    public void forget(final Xid xid) throws XAException {
+        delegate.forget(xid);
+    }
+    
+    @Override
+    public Xid[] recover(final int flag) throws XAException {
+        return delegate.recover(flag);
+    }
+    
+    @Override
+    public boolean isSameRM(final XAResource xaResource) throws XAException {
+        return this == xaResource;
+    }
+    
+    @Override
+    public int getTransactionTimeout() throws XAException {
+        return delegate.getTransactionTimeout();
+    }
+    
+    @Override
+    public boolean setTransactionTimeout(final int seconds) throws XAException {
+        return delegate.setTransactionTimeout(seconds);
+    }
+}
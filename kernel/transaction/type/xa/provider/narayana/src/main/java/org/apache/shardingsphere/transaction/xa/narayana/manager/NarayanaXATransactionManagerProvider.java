@@ -80,6 +80,17 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
         transactionManager.getTransaction().enlistResource(singleXAResource.getDelegate());
     }
     
+    @Override
+    public boolean isLastResourceCommitOptimizationSupported() {
+        return true;
+    }
+    
+    @SneakyThrows({SystemException.class, RollbackException.class})
+    @Override
+    public void enlistLastResource(final SingleXAResource singleXAResource) {
+        transactionManager.getTransaction().enlistResource(new NarayanaLastResourceXAResource(singleXAResource));
+    }
+    
     @Override
     public void close() throws Exception {
         recoveryManagerService.stop();
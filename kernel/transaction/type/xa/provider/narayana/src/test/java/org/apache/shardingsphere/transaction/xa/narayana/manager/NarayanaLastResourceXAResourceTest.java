@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.narayana.manager;
+
+import com.arjuna.ats.jta.resources.LastResourceCommitOptimisation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public final class NarayanaLastResourceXAResourceTest {
+    
+    @Mock
+    private XAResource delegate;
+    
+    @Mock
+    private Xid xid;
+    
+    @Test
+    public void assertIsLastResourceCommitOptimisation() {
+        assertThat(new NarayanaLastResourceXAResource(delegate), instanceOf(LastResourceCommitOptimisation.class));
+    }
+    
+    @Test
+    public void assertCommit() throws XAException {
+        new NarayanaLastResourceXAResource(delegate).commit(xid, true);
+        verify(delegate).commit(xid, true);
+    }
+    
+    @Test
+    public void assertRollback() throws XAException {
+        new NarayanaLastResourceXAResource(delegate).rollback(xid);
+        verify(delegate).rollback(xid);
+    }
+}
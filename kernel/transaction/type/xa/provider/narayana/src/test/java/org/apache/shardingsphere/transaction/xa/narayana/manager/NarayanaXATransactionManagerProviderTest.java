@@ -32,9 +32,11 @@ import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAResource;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -85,6 +87,19 @@ public final class NarayanaXATransactionManagerProviderTest {
         verify(transaction).enlistResource(singleXAResource.getDelegate());
     }
     
+    @Test
+    public void assertIsLastResourceCommitOptimizationSupported() {
+        assertTrue(transactionManagerProvider.isLastResourceCommitOptimizationSupported());
+    }
+    
+    @Test
+    public void assertEnlistLastResource() throws SystemException, RollbackException {
+        Transaction transaction = mock(Transaction.class);
+        when(transactionManager.getTransaction()).thenReturn(transaction);
+        transactionManagerProvider.enlistLastResource(new SingleXAResource("ds1#last-resource", mock(XAResource.class)));
+        verify(transaction).enlistResource(any(NarayanaLastResourceXAResource.class));
+    }
+    
     @Test
     public void assertGetTransactionManager() {
         assertThat(transactionManagerProvider.getTransactionManager(), is(transactionManager));
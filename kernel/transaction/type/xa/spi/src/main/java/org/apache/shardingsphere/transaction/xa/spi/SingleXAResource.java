@@ -57,8 +57,7 @@ public final class SingleXAResource implements XAResource {
     
     @Override
     public boolean isSameRM(final XAResource xaResource) {
-        SingleXAResource singleXAResource = (SingleXAResource) xaResource;
-        return resourceName.equals(singleXAResource.resourceName);
+        return xaResource instanceof SingleXAResource && resourceName.equals(((SingleXAResource) xaResource).resourceName);
     }
     
     @Override
@@ -55,6 +55,27 @@ public interface XATransactionManagerProvider extends TypedSPI, AutoCloseable {
      */
     void enlistResource(SingleXAResource singleXAResource);
     
+    /**
+     * Judge whether last resource commit optimization is supported.
+     * 
+     * <p>Transaction manager supports last resource commit optimization has to prepare all other XA resources before committing the last resource by one phase.</p>
+     *
+     * @return last resource commit optimization is supported or not
+     */
+    default boolean isLastResourceCommitOptimizationSupported() {
+        return false;
+    }
+    
+    /**
+     * Enlist single XA resource as last resource.
+     * 
+     * @param singleXAResource single XA resource which is committed by one phase after all other XA resources prepared
+     * @throws UnsupportedOperationException unsupported operation exception if last resource commit optimization is not supported
+     */
+    default void enlistLastResource(final SingleXAResource singleXAResource) {
+        throw new UnsupportedOperationException(String.format("Last resource commit optimization is not supported by `%s`", getType()));
+    }
+    
     /**
      * Get transaction manager.
      * 
@@ -27,6 +27,7 @@ import javax.transaction.xa.XAException;
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
@@ -75,6 +76,11 @@ public final class SingleXAResourceTest {
         assertTrue(singleXAResource.isSameRM(new SingleXAResource("ds1", xaResource)));
     }
     
+    @Test
+    public void assertIsNotSameRMWithOtherXAResource() {
+        assertFalse(singleXAResource.isSameRM(xaResource));
+    }
+    
     @Test
     public void assertPrepare() throws XAException {
         singleXAResource.prepare(xid);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
@@ -28,6 +29,9 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.log.AsyncSQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire.ConnectionAcquisitionCoordinator;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
@@ -43,6 +47,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
@@ -56,6 +62,7 @@ import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -69,10 +76,20 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
  * Context manager.
+ * 
+ * <p>Readers never lock, they read meta data contexts from a volatile reference. Changes which rebuild meta data contexts, database rules or resources
+ * hold the write lock and publish new meta data contexts or databases by replacing the reference. Changes of schema, table, view and statistics data
+ * update concurrent maps of the current database in place, holding the read lock and the lock of the database, so they are serialized with full rebuilds
+ * and with changes of the same database only. Readers may observe an in place change before other changes of the same event are applied.</p>
  */
 @Getter
 @Slf4j
@@ -86,6 +103,12 @@ public final class ContextManager implements AutoCloseable {
     
     private final ClusterStateContext clusterStateContext = new ClusterStateContext();
     
+    @Getter(AccessLevel.NONE)
+    private final ReadWriteLock metaDataContextsLock = new ReentrantReadWriteLock();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Lock> databaseLocks = new ConcurrentHashMap<>();
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
@@ -97,8 +120,13 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param metaDataContexts meta data contexts
      */
-    public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
-        this.metaDataContexts = metaDataContexts;
+    public void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            this.metaDataContexts = metaDataContexts;
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     /**
@@ -116,12 +144,17 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param databaseName database name
      */
-    public synchronized void addDatabase(final String databaseName) {
-        if (metaDataContexts.getMetaData().containsDatabase(databaseName)) {
-            return;
+    public void addDatabase(final String databaseName) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            if (metaDataContexts.getMetaData().containsDatabase(databaseName)) {
+                return;
+            }
+            DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(Collections.emptyMap(), metaDataContexts.getMetaData().getProps());
+            metaDataContexts.getMetaData().addDatabase(databaseName, protocolType);
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
-        DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(Collections.emptyMap(), metaDataContexts.getMetaData().getProps());
-        metaDataContexts.getMetaData().addDatabase(databaseName, protocolType);
     }
     
     /**
@@ -129,12 +162,20 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param databaseName database name
      */
-    public synchronized void dropDatabase(final String databaseName) {
-        if (!metaDataContexts.getMetaData().containsDatabase(databaseName)) {
-            return;
+    public void dropDatabase(final String databaseName) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            if (!metaDataContexts.getMetaData().containsDatabase(databaseName)) {
+                return;
+            }
+            String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
+            metaDataContexts.getMetaData().getDatabase(actualDatabaseName).getResourceMetaData().getDataSources().values().forEach(ConnectionAcquisitionCoordinator.getInstance()::remove);
+            metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
+            ShardExecuteStatisticsManager.getInstance().remove(actualDatabaseName);
+            databaseLocks.remove(actualDatabaseName.toLowerCase());
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
-        String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
-        metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
     }
     
     /**
@@ -143,11 +184,16 @@ public final class ContextManager implements AutoCloseable {
      * @param databaseName database name
      * @param schemaName schema name
      */
-    public synchronized void addSchema(final String databaseName, final String schemaName) {
-        if (metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
+    public void addSchema(final String databaseName, final String schemaName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchema());
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchema());
     }
     
     /**
@@ -156,11 +202,16 @@ public final class ContextManager implements AutoCloseable {
      * @param databaseName database name
      * @param schemaName schema name
      */
-    public synchronized void dropSchema(final String databaseName, final String schemaName) {
-        if (!metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
+    public void dropSchema(final String databaseName, final String schemaName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
     }
     
     /**
@@ -171,9 +222,14 @@ public final class ContextManager implements AutoCloseable {
      * @param toBeDeletedTableName to be deleted table name
      * @param toBeDeletedViewName to be deleted view name
      */
-    public synchronized void alterSchema(final String databaseName, final String schemaName, final String toBeDeletedTableName, final String toBeDeletedViewName) {
-        Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
-        Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
+    public void alterSchema(final String databaseName, final String schemaName, final String toBeDeletedTableName, final String toBeDeletedViewName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
+            Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
+        } finally {
+            unlockDatabase(databaseLock);
+        }
     }
     
     /**
@@ -184,27 +240,32 @@ public final class ContextManager implements AutoCloseable {
      * @param toBeChangedTable to be changed table
      * @param toBeChangedView to be changed view
      */
-    public synchronized void alterSchema(final String databaseName, final String schemaName, final ShardingSphereTable toBeChangedTable, final ShardingSphereView toBeChangedView) {
-        if (!metaDataContexts.getMetaData().containsDatabase(databaseName) || !metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
+    public void alterSchema(final String databaseName, final String schemaName, final ShardingSphereTable toBeChangedTable, final ShardingSphereView toBeChangedView) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getMetaData().containsDatabase(databaseName) || !metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
+            Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
-        Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
     }
     
-    private synchronized void dropTable(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
+    private void dropTable(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
         metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).removeTable(toBeDeletedTableName);
         metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules().stream().filter(each -> each instanceof MutableDataNodeRule).findFirst()
                 .ifPresent(optional -> ((MutableDataNodeRule) optional).remove(schemaName, toBeDeletedTableName));
     }
     
-    private synchronized void dropView(final String databaseName, final String schemaName, final String toBeDeletedViewName) {
+    private void dropView(final String databaseName, final String schemaName, final String toBeDeletedViewName) {
         metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).removeView(toBeDeletedViewName);
         metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules().stream().filter(each -> each instanceof MutableDataNodeRule).findFirst()
                 .ifPresent(optional -> ((MutableDataNodeRule) optional).remove(schemaName, toBeDeletedViewName));
     }
     
-    private synchronized void alterTable(final String databaseName, final String schemaName, final ShardingSphereTable beBoChangedTable) {
+    private void alterTable(final String databaseName, final String schemaName, final ShardingSphereTable beBoChangedTable) {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         if (!containsMutableDataNodeRule(database, beBoChangedTable.getName())) {
             database.reloadRules(MutableDataNodeRule.class);
@@ -212,7 +273,7 @@ public final class ContextManager implements AutoCloseable {
         database.getSchema(schemaName).putTable(beBoChangedTable.getName(), beBoChangedTable);
     }
     
-    private synchronized void alterView(final String databaseName, final String schemaName, final ShardingSphereView beBoChangedView) {
+    private void alterView(final String databaseName, final String schemaName, final ShardingSphereView beBoChangedView) {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         if (!containsMutableDataNodeRule(database, beBoChangedView.getName())) {
             database.reloadRules(MutableDataNodeRule.class);
@@ -232,16 +293,26 @@ public final class ContextManager implements AutoCloseable {
      * @param ruleConfigs rule configurations
      */
     @SuppressWarnings("rawtypes")
-    public synchronized void alterRuleConfiguration(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) {
+    public void alterRuleConfiguration(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) {
+        metaDataContextsLock.writeLock().lock();
         try {
-            Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
-            staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
-            MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, null, ruleConfigs);
-            alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
-            metaDataContexts = reloadMetaDataContexts;
-            metaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.getMetaData().getDatabase(databaseName)));
-        } catch (final SQLException ex) {
-            log.error("Alter database: {} rule configurations failed", databaseName, ex);
+            try {
+                ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+                Collection<ShardingSphereRule> currentRules = currentDatabase.getRuleMetaData().getRules();
+                DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(currentDatabase.getResourceMetaData().getDataSources(), ruleConfigs);
+                Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(currentDatabase.getName(), databaseConfig, instanceContext, currentRules);
+                if (isSameRules(rules, currentRules)) {
+                    return;
+                }
+                getStaleResourceHeldRules(databaseName).stream().filter(each -> !containsRule(rules, each)).forEach(ResourceHeldRule::closeStaleResource);
+                MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, databaseConfig, rules);
+                alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), currentDatabase);
+                metaDataContexts = reloadMetaDataContexts;
+            } catch (final SQLException ex) {
+                log.error("Alter database: {} rule configurations failed", databaseName, ex);
+            }
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
     }
     
@@ -252,11 +323,25 @@ public final class ContextManager implements AutoCloseable {
      * @param reloadDatabase reload database
      * @param currentDatabase current database
      */
-    public synchronized void alterSchemaMetaData(final String databaseName, final ShardingSphereDatabase reloadDatabase, final ShardingSphereDatabase currentDatabase) {
-        Map<String, ShardingSphereSchema> toBeAlterSchemas = SchemaManager.getToBeDeletedTablesBySchemas(reloadDatabase.getSchemas(), currentDatabase.getSchemas());
-        Map<String, ShardingSphereSchema> toBeAddedSchemas = SchemaManager.getToBeAddedTablesBySchemas(reloadDatabase.getSchemas(), currentDatabase.getSchemas());
-        toBeAddedSchemas.forEach((key, value) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(databaseName, key, value));
-        toBeAlterSchemas.forEach((key, value) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().delete(databaseName, key, value));
+    public void alterSchemaMetaData(final String databaseName, final ShardingSphereDatabase reloadDatabase, final ShardingSphereDatabase currentDatabase) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            Map<String, ShardingSphereSchema> toBeAlterSchemas = SchemaManager.getToBeDeletedTablesBySchemas(reloadDatabase.getSchemas(), currentDatabase.getSchemas());
+            Map<String, ShardingSphereSchema> toBeAddedSchemas = SchemaManager.getToBeAddedTablesBySchemas(reloadDatabase.getSchemas(), currentDatabase.getSchemas());
+            toBeAddedSchemas.forEach((key, value) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(databaseName, key, value));
+            toBeAlterSchemas.entrySet().stream().filter(each -> !isLazySchema(reloadDatabase, each.getKey()))
+                    .forEach(each -> metaDataContexts.getPersistService().getDatabaseMetaDataService().delete(databaseName, each.getKey(), each.getValue()));
+        } finally {
+            unlockDatabase(databaseLock);
+        }
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> rules, final Collection<ShardingSphereRule> currentRules) {
+        return rules.size() == currentRules.size() && rules.stream().allMatch(each -> containsRule(currentRules, each));
+    }
+    
+    private boolean containsRule(final Collection<ShardingSphereRule> rules, final Object rule) {
+        return rules.stream().anyMatch(each -> each == rule);
     }
     
     /**
@@ -266,26 +351,32 @@ public final class ContextManager implements AutoCloseable {
      * @param dataSourcePropsMap altered data source properties map
      */
     @SuppressWarnings("rawtypes")
-    public synchronized void alterDataSourceConfiguration(final String databaseName, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+    public void alterDataSourceConfiguration(final String databaseName, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        metaDataContextsLock.writeLock().lock();
         try {
-            Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
-            staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
-            SwitchingResource switchingResource =
-                    new ResourceSwitchManager().createByAlterDataSourceProps(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
-            metaDataContexts.getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.getMetaData().getDatabase(databaseName), switchingResource));
-            // TODO Remove this logic when issue #22887 are finished.
-            MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, switchingResource, null);
-            reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().forEach((schemaName, schema) -> reloadMetaDataContexts.getPersistService().getDatabaseMetaDataService()
-                    .persist(reloadMetaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, schema));
-            Optional.ofNullable(reloadMetaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName))
-                    .ifPresent(optional -> optional.getSchemaData().forEach((schemaName, schemaData) -> reloadMetaDataContexts.getPersistService().getShardingSphereDataPersistService()
-                            .persist(databaseName, schemaName, schemaData, metaDataContexts.getMetaData().getDatabases())));
-            alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
-            metaDataContexts = reloadMetaDataContexts;
-            metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
-        } catch (final SQLException ex) {
-            log.error("Alter database: {} data source configuration failed", databaseName, ex);
+            try {
+                Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
+                staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
+                SwitchingResource switchingResource =
+                        new ResourceSwitchManager().createByAlterDataSourceProps(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
+                metaDataContexts.getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.getMetaData().getDatabase(databaseName), switchingResource));
+                // TODO Remove this logic when issue #22887 are finished.
+                MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, switchingResource, null);
+                reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().forEach((schemaName, schema) -> reloadMetaDataContexts.getPersistService().getDatabaseMetaDataService()
+                        .persist(reloadMetaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, schema));
+                Optional.ofNullable(reloadMetaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName))
+                        .ifPresent(optional -> optional.getSchemaData().forEach((schemaName, schemaData) -> reloadMetaDataContexts.getPersistService().getShardingSphereDataPersistService()
+                                .persist(databaseName, schemaName, schemaData, metaDataContexts.getMetaData().getDatabases())));
+                alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
+                metaDataContexts = reloadMetaDataContexts;
+                metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
+                switchingResource.closeStaleDataSources();
+                removeDroppedStorageUnitStatistics(databaseName, switchingResource, dataSourcePropsMap);
+            } catch (final SQLException ex) {
+                log.error("Alter database: {} data source configuration failed", databaseName, ex);
+            }
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
     }
     
@@ -296,13 +387,18 @@ public final class ContextManager implements AutoCloseable {
      * @param resource resource
      * @return ShardingSphere databases
      */
-    public synchronized Map<String, ShardingSphereDatabase> renewDatabase(final ShardingSphereDatabase database, final SwitchingResource resource) {
-        Map<String, DataSource> newDataSource =
-                database.getResourceMetaData().getDataSources().entrySet().stream().filter(entry -> !resource.getStaleDataSources().containsKey(entry.getKey()))
-                        .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-        return Collections.singletonMap(database.getName().toLowerCase(),
-                new ShardingSphereDatabase(database.getName(), database.getProtocolType(), new ShardingSphereResourceMetaData(database.getName(), newDataSource),
-                        database.getRuleMetaData(), database.getSchemas()));
+    public Map<String, ShardingSphereDatabase> renewDatabase(final ShardingSphereDatabase database, final SwitchingResource resource) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            Map<String, DataSource> newDataSource =
+                    database.getResourceMetaData().getDataSources().entrySet().stream().filter(entry -> !resource.getStaleDataSources().containsKey(entry.getKey()))
+                            .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+            return Collections.singletonMap(database.getName().toLowerCase(),
+                    new ShardingSphereDatabase(database.getName(), database.getProtocolType(), new ShardingSphereResourceMetaData(database.getName(), newDataSource),
+                            database.getRuleMetaData(), database.getSchemas()));
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     /**
@@ -313,19 +409,30 @@ public final class ContextManager implements AutoCloseable {
      * @param ruleConfigs rule configurations
      */
     @SuppressWarnings("rawtypes")
-    public synchronized void alterDataSourceAndRuleConfiguration(final String databaseName,
-                                                                 final Map<String, DataSourceProperties> dataSourcePropsMap, final Collection<RuleConfiguration> ruleConfigs) {
+    public void alterDataSourceAndRuleConfiguration(final String databaseName,
+                                                    final Map<String, DataSourceProperties> dataSourcePropsMap, final Collection<RuleConfiguration> ruleConfigs) {
+        metaDataContextsLock.writeLock().lock();
         try {
-            Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
-            staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
-            SwitchingResource switchingResource = new ResourceSwitchManager().create(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
-            metaDataContexts = createMetaDataContexts(databaseName, true, switchingResource, ruleConfigs);
-            switchingResource.closeStaleDataSources();
-        } catch (final SQLException ex) {
-            log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
+            try {
+                Collection<ResourceHeldRule> staleResourceHeldRules = getStaleResourceHeldRules(databaseName);
+                staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
+                SwitchingResource switchingResource = new ResourceSwitchManager().create(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
+                metaDataContexts = createMetaDataContexts(databaseName, true, switchingResource, ruleConfigs);
+                switchingResource.closeStaleDataSources();
+                removeDroppedStorageUnitStatistics(databaseName, switchingResource, dataSourcePropsMap);
+            } catch (final SQLException ex) {
+                log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
+            }
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
     }
     
+    private void removeDroppedStorageUnitStatistics(final String databaseName, final SwitchingResource switchingResource, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        switchingResource.getStaleDataSources().keySet().stream().filter(each -> !dataSourcePropsMap.containsKey(each))
+                .forEach(each -> ShardExecuteStatisticsManager.getInstance().remove(databaseName, each));
+    }
+    
     @SuppressWarnings("rawtypes")
     private Collection<ResourceHeldRule> getStaleResourceHeldRules(final String databaseName) {
         Collection<ResourceHeldRule> result = new LinkedList<>();
@@ -344,13 +451,18 @@ public final class ContextManager implements AutoCloseable {
      * @return MetaDataContexts meta data contexts
      * @throws SQLException SQL exception
      */
-    public synchronized MetaDataContexts createMetaDataContexts(final String databaseName, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
-                                                                final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, internalLoadMetaData, switchingResource, ruleConfigs);
-        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
-        ShardingSphereRuleMetaData changedGlobalMetaData = new ShardingSphereRuleMetaData(
-                GlobalRulesBuilder.buildRules(metaDataContexts.getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
-        return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, changedGlobalMetaData, props));
+    public MetaDataContexts createMetaDataContexts(final String databaseName, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
+                                                   final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, internalLoadMetaData, switchingResource, ruleConfigs);
+            ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+            ShardingSphereRuleMetaData changedGlobalMetaData = new ShardingSphereRuleMetaData(
+                    GlobalRulesBuilder.buildRules(metaDataContexts.getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
+            return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, changedGlobalMetaData, props));
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     private MetaDataContexts createMetaDataContexts(final String databaseName, final SwitchingResource switchingResource) throws SQLException {
@@ -363,6 +475,19 @@ public final class ContextManager implements AutoCloseable {
         return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, changedGlobalMetaData, props));
     }
     
+    private MetaDataContexts createMetaDataContexts(final String databaseName, final DatabaseConfiguration databaseConfig, final Collection<ShardingSphereRule> rules) throws SQLException {
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        ShardingSphereDatabase changedDatabase = ShardingSphereDatabase.create(
+                currentDatabase.getName(), currentDatabase.getProtocolType(), currentDatabase.getResourceMetaData().getStorageTypes(), databaseConfig, rules, props);
+        changedDatabase.getSchemas().putAll(newShardingSphereSchemas(changedDatabase));
+        Map<String, ShardingSphereDatabase> changedDatabases = new LinkedHashMap<>(metaDataContexts.getMetaData().getDatabases());
+        changedDatabases.put(databaseName.toLowerCase(), changedDatabase);
+        ShardingSphereRuleMetaData changedGlobalMetaData = new ShardingSphereRuleMetaData(
+                GlobalRulesBuilder.buildRules(metaDataContexts.getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
+        return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, changedGlobalMetaData, props));
+    }
+    
     /**
      * Create changed databases.
      * 
@@ -373,22 +498,27 @@ public final class ContextManager implements AutoCloseable {
      * @return ShardingSphere databases
      * @throws SQLException SQL exception
      */
-    public synchronized Map<String, ShardingSphereDatabase> createChangedDatabases(final String databaseName, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
-                                                                                   final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        if (null != switchingResource && !switchingResource.getNewDataSources().isEmpty()) {
-            metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().putAll(switchingResource.getNewDataSources());
-        }
-        Collection<RuleConfiguration> toBeCreatedRuleConfigs = null == ruleConfigs
-                ? metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getConfigurations()
-                : ruleConfigs;
-        DatabaseConfiguration toBeCreatedDatabaseConfig =
-                new DataSourceProvidedDatabaseConfiguration(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources(), toBeCreatedRuleConfigs);
-        ShardingSphereDatabase changedDatabase = MetaDataFactory.create(metaDataContexts.getMetaData().getActualDatabaseName(databaseName),
-                internalLoadMetaData, toBeCreatedDatabaseConfig, metaDataContexts.getMetaData().getProps(), instanceContext);
-        Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(metaDataContexts.getMetaData().getDatabases());
-        changedDatabase.getSchemas().putAll(newShardingSphereSchemas(changedDatabase));
-        result.put(databaseName.toLowerCase(), changedDatabase);
-        return result;
+    public Map<String, ShardingSphereDatabase> createChangedDatabases(final String databaseName, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
+                                                                      final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            if (null != switchingResource && !switchingResource.getNewDataSources().isEmpty()) {
+                metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().putAll(switchingResource.getNewDataSources());
+            }
+            Collection<RuleConfiguration> toBeCreatedRuleConfigs = null == ruleConfigs
+                    ? metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getConfigurations()
+                    : ruleConfigs;
+            DatabaseConfiguration toBeCreatedDatabaseConfig =
+                    new DataSourceProvidedDatabaseConfiguration(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources(), toBeCreatedRuleConfigs);
+            ShardingSphereDatabase changedDatabase = MetaDataFactory.create(metaDataContexts.getMetaData().getActualDatabaseName(databaseName),
+                    internalLoadMetaData, toBeCreatedDatabaseConfig, metaDataContexts.getMetaData().getProps(), instanceContext);
+            Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(metaDataContexts.getMetaData().getDatabases());
+            changedDatabase.getSchemas().putAll(newShardingSphereSchemas(changedDatabase));
+            result.put(databaseName.toLowerCase(), changedDatabase);
+            return result;
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     private MetaDataContexts newMetaDataContexts(final ShardingSphereMetaData metaData) {
@@ -397,8 +527,15 @@ public final class ContextManager implements AutoCloseable {
     
     private Map<String, ShardingSphereSchema> newShardingSphereSchemas(final ShardingSphereDatabase database) {
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(database.getSchemas().size(), 1);
-        database.getSchemas().forEach((key, value) -> result.put(key, new ShardingSphereSchema(value.getTables(),
-                metaDataContexts.getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key))));
+        database.getSchemas().forEach((key, value) -> {
+            Map<String, ShardingSphereView> views = metaDataContexts.getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key);
+            if (value.isLazy()) {
+                value.getViews().putAll(views);
+                result.put(key, value);
+            } else {
+                result.put(key, new ShardingSphereSchema(value.getTables(), views));
+            }
+        });
         return result;
     }
     
@@ -408,10 +545,15 @@ public final class ContextManager implements AutoCloseable {
      * @param originalDatabase original database
      * @return ShardingSphere databases
      */
-    public synchronized Map<String, ShardingSphereDatabase> newShardingSphereDatabase(final ShardingSphereDatabase originalDatabase) {
-        return Collections.singletonMap(originalDatabase.getName().toLowerCase(), new ShardingSphereDatabase(originalDatabase.getName(),
-                originalDatabase.getProtocolType(), originalDatabase.getResourceMetaData(), originalDatabase.getRuleMetaData(),
-                metaDataContexts.getPersistService().getDatabaseMetaDataService().loadSchemas(originalDatabase.getName())));
+    public Map<String, ShardingSphereDatabase> newShardingSphereDatabase(final ShardingSphereDatabase originalDatabase) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            return Collections.singletonMap(originalDatabase.getName().toLowerCase(), new ShardingSphereDatabase(originalDatabase.getName(),
+                    originalDatabase.getProtocolType(), originalDatabase.getResourceMetaData(), originalDatabase.getRuleMetaData(),
+                    metaDataContexts.getPersistService().getDatabaseMetaDataService().loadSchemas(originalDatabase.getName())));
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     /**
@@ -420,17 +562,22 @@ public final class ContextManager implements AutoCloseable {
      * @param ruleConfigs global rule configuration
      */
     @SuppressWarnings("rawtypes")
-    public synchronized void alterGlobalRuleConfiguration(final Collection<RuleConfiguration> ruleConfigs) {
-        if (ruleConfigs.isEmpty()) {
-            return;
+    public void alterGlobalRuleConfiguration(final Collection<RuleConfiguration> ruleConfigs) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            if (ruleConfigs.isEmpty()) {
+                return;
+            }
+            Collection<ResourceHeldRule> staleResourceHeldRules = metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(ResourceHeldRule.class);
+            staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
+            ShardingSphereRuleMetaData toBeChangedGlobalRuleMetaData = new ShardingSphereRuleMetaData(
+                    GlobalRulesBuilder.buildRules(ruleConfigs, metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getProps()));
+            ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
+                    metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
+            metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
-        Collection<ResourceHeldRule> staleResourceHeldRules = metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(ResourceHeldRule.class);
-        staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
-        ShardingSphereRuleMetaData toBeChangedGlobalRuleMetaData = new ShardingSphereRuleMetaData(
-                GlobalRulesBuilder.buildRules(ruleConfigs, metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getProps()));
-        ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
-                metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
-        metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
     }
     
     /**
@@ -438,10 +585,15 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param props properties to be altered
      */
-    public synchronized void alterProperties(final Properties props) {
-        ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
-                metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
-        metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+    public void alterProperties(final Properties props) {
+        metaDataContextsLock.writeLock().lock();
+        try {
+            ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
+                    metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
+            metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
+        }
     }
     
     /**
@@ -449,20 +601,26 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param databaseName to be reloaded database name
      */
-    public synchronized void reloadDatabaseMetaData(final String databaseName) {
+    public void reloadDatabaseMetaData(final String databaseName) {
+        metaDataContextsLock.writeLock().lock();
         try {
-            ShardingSphereResourceMetaData currentResourceMetaData = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData();
-            Map<String, DataSourceProperties> dataSourceProps = metaDataContexts.getPersistService().getDataSourceService().load(databaseName);
-            SwitchingResource switchingResource = new ResourceSwitchManager().createByAlterDataSourceProps(currentResourceMetaData, dataSourceProps);
-            metaDataContexts.getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.getMetaData().getDatabase(databaseName), switchingResource));
-            MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(databaseName, switchingResource);
-            deletedSchemaNames(databaseName, reloadedMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
-            metaDataContexts = reloadedMetaDataContexts;
-            metaDataContexts.getMetaData().getDatabases().values().forEach(
-                    each -> each.getSchemas().forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(each.getName(), schemaName, schema)));
-            switchingResource.closeStaleDataSources();
-        } catch (final SQLException ex) {
-            log.error("Reload database meta data: {} failed", databaseName, ex);
+            try {
+                ShardingSphereResourceMetaData currentResourceMetaData = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData();
+                Map<String, DataSourceProperties> dataSourceProps = metaDataContexts.getPersistService().getDataSourceService().load(databaseName);
+                SwitchingResource switchingResource = new ResourceSwitchManager().createByAlterDataSourceProps(currentResourceMetaData, dataSourceProps);
+                metaDataContexts.getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.getMetaData().getDatabase(databaseName), switchingResource));
+                MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(databaseName, switchingResource);
+                deletedSchemaNames(databaseName, reloadedMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
+                metaDataContexts = reloadedMetaDataContexts;
+                metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas()
+                        .forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(each.getName(), schemaName, schema)));
+                switchingResource.closeStaleDataSources();
+                removeDroppedStorageUnitStatistics(databaseName, switchingResource, dataSourceProps);
+            } catch (final SQLException ex) {
+                log.error("Reload database meta data: {} failed", databaseName, ex);
+            }
+        } finally {
+            metaDataContextsLock.writeLock().unlock();
         }
     }
     
@@ -473,30 +631,63 @@ public final class ContextManager implements AutoCloseable {
      * @param reloadDatabase reload database
      * @param currentDatabase current database
      */
-    public synchronized void deletedSchemaNames(final String databaseName, final ShardingSphereDatabase reloadDatabase, final ShardingSphereDatabase currentDatabase) {
-        SchemaManager.getToBeDeletedSchemaNames(reloadDatabase.getSchemas(), currentDatabase.getSchemas()).keySet()
-                .forEach(each -> metaDataContexts.getPersistService().getDatabaseMetaDataService().dropSchema(databaseName, each));
+    public void deletedSchemaNames(final String databaseName, final ShardingSphereDatabase reloadDatabase, final ShardingSphereDatabase currentDatabase) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            SchemaManager.getToBeDeletedSchemaNames(reloadDatabase.getSchemas(), currentDatabase.getSchemas()).keySet()
+                    .forEach(each -> metaDataContexts.getPersistService().getDatabaseMetaDataService().dropSchema(databaseName, each));
+        } finally {
+            unlockDatabase(databaseLock);
+        }
     }
     
     /**
      * Reload schema.
      * 
+     * <p>Schema of lazy table meta data is recreated with tables unloaded, tables are loaded from all data sources on next access and nothing is deleted from registry.</p>
+     * 
      * @param databaseName database name
      * @param schemaName to be reloaded schema name
      * @param dataSourceName data source name
      */
-    public synchronized void reloadSchema(final String databaseName, final String schemaName, final String dataSourceName) {
+    public void reloadSchema(final String databaseName, final String schemaName, final String dataSourceName) {
+        Lock databaseLock = lockDatabase(databaseName);
         try {
-            ShardingSphereSchema reloadedSchema = loadSchema(databaseName, schemaName, dataSourceName);
-            if (reloadedSchema.getTables().isEmpty()) {
-                metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
-                metaDataContexts.getPersistService().getDatabaseMetaDataService().dropSchema(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName);
-            } else {
-                metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, reloadedSchema);
-                metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, reloadedSchema);
+            try {
+                if (isLazySchema(metaDataContexts.getMetaData().getDatabase(databaseName), schemaName)) {
+                    reloadLazySchema(databaseName, schemaName);
+                    return;
+                }
+                ShardingSphereSchema reloadedSchema = loadSchema(databaseName, schemaName, dataSourceName);
+                if (reloadedSchema.getTables().isEmpty()) {
+                    metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
+                    metaDataContexts.getPersistService().getDatabaseMetaDataService().dropSchema(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName);
+                } else {
+                    metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, reloadedSchema);
+                    metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, reloadedSchema);
+                }
+            } catch (final SQLException ex) {
+                log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
             }
-        } catch (final SQLException ex) {
-            log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
+        } finally {
+            unlockDatabase(databaseLock);
+        }
+    }
+    
+    private boolean isLazySchema(final ShardingSphereDatabase database, final String schemaName) {
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        return null != schema && schema.isLazy();
+    }
+    
+    private void reloadLazySchema(final String databaseName, final String schemaName) throws SQLException {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
+        database.reloadRules(MutableDataNodeRule.class);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageTypes(),
+                database.getResourceMetaData().getDataSources(), database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps(), schemaName);
+        ShardingSphereSchema reloadedSchema = GenericSchemaBuilder.build(material).get(schemaName);
+        if (null != reloadedSchema) {
+            reloadedSchema.getViews().putAll(database.getSchema(schemaName).getViews());
+            database.putSchema(schemaName, reloadedSchema);
         }
     }
     
@@ -518,12 +709,17 @@ public final class ContextManager implements AutoCloseable {
      * @param schemaName schema name
      * @param tableName to be reloaded table name
      */
-    public synchronized void reloadTable(final String databaseName, final String schemaName, final String tableName) {
-        Map<String, DataSource> dataSourceMap = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources();
+    public void reloadTable(final String databaseName, final String schemaName, final String tableName) {
+        Lock databaseLock = lockDatabase(databaseName);
         try {
-            reloadTable(databaseName, schemaName, tableName, dataSourceMap);
-        } catch (final SQLException ex) {
-            log.error("Reload table: {} meta data of database: {} schema: {} failed", tableName, databaseName, schemaName, ex);
+            Map<String, DataSource> dataSourceMap = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources();
+            try {
+                reloadTable(databaseName, schemaName, tableName, dataSourceMap);
+            } catch (final SQLException ex) {
+                log.error("Reload table: {} meta data of database: {} schema: {} failed", tableName, databaseName, schemaName, ex);
+            }
+        } finally {
+            unlockDatabase(databaseLock);
         }
     }
     
@@ -535,17 +731,22 @@ public final class ContextManager implements AutoCloseable {
      * @param dataSourceName data source name
      * @param tableName to be reloaded table name
      */
-    public synchronized void reloadTable(final String databaseName, final String schemaName, final String dataSourceName, final String tableName) {
-        Map<String, DataSource> dataSourceMap = Collections.singletonMap(
-                dataSourceName, metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName));
+    public void reloadTable(final String databaseName, final String schemaName, final String dataSourceName, final String tableName) {
+        Lock databaseLock = lockDatabase(databaseName);
         try {
-            reloadTable(databaseName, schemaName, tableName, dataSourceMap);
-        } catch (final SQLException ex) {
-            log.error("Reload table: {} meta data of database: {} schema: {} with data source: {} failed", tableName, databaseName, schemaName, dataSourceName, ex);
+            Map<String, DataSource> dataSourceMap = Collections.singletonMap(
+                    dataSourceName, metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName));
+            try {
+                reloadTable(databaseName, schemaName, tableName, dataSourceMap);
+            } catch (final SQLException ex) {
+                log.error("Reload table: {} meta data of database: {} schema: {} with data source: {} failed", tableName, databaseName, schemaName, dataSourceName, ex);
+            }
+        } finally {
+            unlockDatabase(databaseLock);
         }
     }
     
-    private synchronized void reloadTable(final String databaseName, final String schemaName, final String tableName, final Map<String, DataSource> dataSourceMap) throws SQLException {
+    private void reloadTable(final String databaseName, final String schemaName, final String tableName, final Map<String, DataSource> dataSourceMap) throws SQLException {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(),
                 database.getResourceMetaData().getStorageTypes(), dataSourceMap, database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps(), schemaName);
@@ -555,7 +756,20 @@ public final class ContextManager implements AutoCloseable {
         } else {
             dropTable(databaseName, schemaName, tableName);
         }
-        metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, database.getSchema(schemaName));
+        if (isLazySchema(database, schemaName)) {
+            persistReloadedTable(database.getName(), schemaName, tableName, schema.getTable(tableName));
+        } else {
+            metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, database.getSchema(schemaName));
+        }
+    }
+    
+    private void persistReloadedTable(final String databaseName, final String schemaName, final String tableName, final ShardingSphereTable reloadedTable) {
+        TableMetaDataPersistService tableMetaDataPersistService = metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService();
+        if (null == reloadedTable) {
+            tableMetaDataPersistService.delete(databaseName, schemaName, tableName);
+        } else {
+            tableMetaDataPersistService.persist(databaseName, schemaName, Collections.singletonMap(tableName, reloadedTable));
+        }
     }
     
     /**
@@ -563,11 +777,16 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param databaseName database name
      */
-    public synchronized void addShardingSphereDatabaseData(final String databaseName) {
-        if (metaDataContexts.getShardingSphereData().containsDatabase(databaseName)) {
-            return;
+    public void addShardingSphereDatabaseData(final String databaseName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (metaDataContexts.getShardingSphereData().containsDatabase(databaseName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().putDatabase(databaseName, new ShardingSphereDatabaseData());
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().putDatabase(databaseName, new ShardingSphereDatabaseData());
     }
     
     /**
@@ -575,11 +794,16 @@ public final class ContextManager implements AutoCloseable {
      * 
      * @param databaseName database name
      */
-    public synchronized void dropShardingSphereDatabaseData(final String databaseName) {
-        if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName)) {
-            return;
+    public void dropShardingSphereDatabaseData(final String databaseName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().dropDatabase(databaseName);
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().dropDatabase(databaseName);
     }
     
     /**
@@ -588,11 +812,16 @@ public final class ContextManager implements AutoCloseable {
      * @param databaseName database name
      * @param schemaName schema name
      */
-    public synchronized void addShardingSphereSchemaData(final String databaseName, final String schemaName) {
-        if (metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
+    public void addShardingSphereSchemaData(final String databaseName, final String schemaName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchemaData());
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchemaData());
     }
     
     /**
@@ -601,12 +830,17 @@ public final class ContextManager implements AutoCloseable {
      * @param databaseName database name
      * @param schemaName schema name
      */
-    public synchronized void dropShardingSphereSchemaData(final String databaseName, final String schemaName) {
-        ShardingSphereDatabaseData databaseData = metaDataContexts.getShardingSphereData().getDatabase(databaseName);
-        if (null == databaseData || !databaseData.containsSchema(schemaName)) {
-            return;
+    public void dropShardingSphereSchemaData(final String databaseName, final String schemaName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            ShardingSphereDatabaseData databaseData = metaDataContexts.getShardingSphereData().getDatabase(databaseName);
+            if (null == databaseData || !databaseData.containsSchema(schemaName)) {
+                return;
+            }
+            databaseData.removeSchema(schemaName);
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        databaseData.removeSchema(schemaName);
     }
     
     /**
@@ -616,14 +850,19 @@ public final class ContextManager implements AutoCloseable {
      * @param schemaName schema name
      * @param tableName table name
      */
-    public synchronized void addShardingSphereTableData(final String databaseName, final String schemaName, final String tableName) {
-        if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
-        }
-        if (metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
-            return;
+    public void addShardingSphereTableData(final String databaseName, final String schemaName, final String tableName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            if (metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).putTable(tableName, new ShardingSphereTableData(tableName));
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).putTable(tableName, new ShardingSphereTableData(tableName));
     }
     
     /**
@@ -633,11 +872,16 @@ public final class ContextManager implements AutoCloseable {
      * @param schemaName schema name
      * @param tableName table name
      */
-    public synchronized void dropShardingSphereTableData(final String databaseName, final String schemaName, final String tableName) {
-        if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
-            return;
+    public void dropShardingSphereTableData(final String databaseName, final String schemaName, final String tableName) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).removeTable(tableName);
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).removeTable(tableName);
     }
     
     /**
@@ -648,18 +892,23 @@ public final class ContextManager implements AutoCloseable {
      * @param tableName table name
      * @param yamlRowData yaml row data
      */
-    public synchronized void alterShardingSphereRowData(final String databaseName, final String schemaName, final String tableName, final YamlShardingSphereRowData yamlRowData) {
-        if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)
-                || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
-            return;
-        }
-        if (!metaDataContexts.getMetaData().containsDatabase(databaseName) || !metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)
-                || !metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
-            return;
+    public void alterShardingSphereRowData(final String databaseName, final String schemaName, final String tableName, final YamlShardingSphereRowData yamlRowData) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)
+                    || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
+                return;
+            }
+            if (!metaDataContexts.getMetaData().containsDatabase(databaseName) || !metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)
+                    || !metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
+                return;
+            }
+            ShardingSphereTableData tableData = metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
+            List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getColumns().values());
+            tableData.getRows().add(new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData));
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        ShardingSphereTableData tableData = metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
-        List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getColumns().values());
-        tableData.getRows().add(new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData));
     }
     
     /**
@@ -670,12 +919,29 @@ public final class ContextManager implements AutoCloseable {
      * @param tableName table name
      * @param uniqueKey row uniqueKey
      */
-    public synchronized void deleteShardingSphereRowData(final String databaseName, final String schemaName, final String tableName, final String uniqueKey) {
-        if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)
-                || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
-            return;
+    public void deleteShardingSphereRowData(final String databaseName, final String schemaName, final String tableName, final String uniqueKey) {
+        Lock databaseLock = lockDatabase(databaseName);
+        try {
+            if (!metaDataContexts.getShardingSphereData().containsDatabase(databaseName) || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).containsSchema(schemaName)
+                    || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
+                return;
+            }
+            metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        } finally {
+            unlockDatabase(databaseLock);
         }
-        metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+    }
+    
+    private Lock lockDatabase(final String databaseName) {
+        metaDataContextsLock.readLock().lock();
+        Lock result = databaseLocks.computeIfAbsent(databaseName.toLowerCase(), key -> new ReentrantLock());
+        result.lock();
+        return result;
+    }
+    
+    private void unlockDatabase(final Lock databaseLock) {
+        databaseLock.unlock();
+        metaDataContextsLock.readLock().unlock();
     }
     
     /**
@@ -694,5 +960,6 @@ public final class ContextManager implements AutoCloseable {
     public void close() {
         executorEngine.close();
         metaDataContexts.close();
+        AsyncSQLLogger.shutdown();
     }
 }
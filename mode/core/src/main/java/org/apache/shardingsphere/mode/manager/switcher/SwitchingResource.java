@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.switcher;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.acquire.ConnectionAcquisitionCoordinator;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
 
 import javax.sql.DataSource;
@@ -42,6 +43,7 @@ public final class SwitchingResource {
      * Close stale data sources.
      */
     public void closeStaleDataSources() {
+        staleDataSources.values().forEach(ConnectionAcquisitionCoordinator.getInstance()::remove);
         staleDataSources.values().forEach(resourceMetaData::close);
     }
 }
@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.state.DataSourceState;
 import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
@@ -88,8 +89,15 @@ public final class MetaDataContextsFactory {
         Collection<RuleConfiguration> globalRuleConfigs = persistService.getGlobalRuleService().load();
         ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
         // TODO Distinguish load calls ExternalMetaDataFactory or InternalMetaDataFactory
-        Map<String, ShardingSphereDatabase> databases = ExternalMetaDataFactory.create(effectiveDatabaseConfigs, props, instanceContext);
-        databases.putAll(reloadDatabases(databases, persistService));
+        Map<String, ShardingSphereDatabase> databases;
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_LOAD_ENABLED)) {
+            databases = ExternalMetaDataFactory.create(effectiveDatabaseConfigs, props, instanceContext);
+            databases.values().forEach(each -> reloadViews(each, persistService));
+        } else {
+            Map<String, Map<String, ShardingSphereSchema>> snapshotSchemas = loadSnapshotSchemas(effectiveDatabaseConfigs.keySet(), persistService);
+            databases = ExternalMetaDataFactory.create(effectiveDatabaseConfigs, snapshotSchemas, props, instanceContext);
+            databases.putAll(reloadDatabases(databases, snapshotSchemas.keySet(), persistService));
+        }
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, props));
         return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props));
     }
@@ -128,9 +136,25 @@ public final class MetaDataContextsFactory {
         return result;
     }
     
-    private static Map<String, ShardingSphereDatabase> reloadDatabases(final Map<String, ShardingSphereDatabase> databases, final MetaDataPersistService persistService) {
+    private static void reloadViews(final ShardingSphereDatabase database, final MetaDataPersistService persistService) {
+        database.getSchemas().forEach((key, value) -> value.getViews().putAll(persistService.getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key)));
+    }
+    
+    private static Map<String, Map<String, ShardingSphereSchema>> loadSnapshotSchemas(final Collection<String> databaseNames, final MetaDataPersistService persistService) {
+        Map<String, Map<String, ShardingSphereSchema>> result = new HashMap<>(databaseNames.size(), 1);
+        for (String each : databaseNames) {
+            persistService.getDatabaseMetaDataService().loadSchemasFromSnapshots(each).ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+    
+    private static Map<String, ShardingSphereDatabase> reloadDatabases(final Map<String, ShardingSphereDatabase> databases, final Collection<String> snapshotDatabaseNames,
+                                                                       final MetaDataPersistService persistService) {
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databases.size(), 1);
         databases.forEach((key, value) -> {
+            if (snapshotDatabaseNames.contains(value.getName())) {
+                return;
+            }
             Map<String, ShardingSphereSchema> schemas = persistService.getDatabaseMetaDataService().loadSchemas(key);
             result.put(key.toLowerCase(), new ShardingSphereDatabase(value.getName(),
                     value.getProtocolType(), value.getResourceMetaData(), value.getRuleMetaData(), schemas.isEmpty() ? value.getSchemas() : schemas));
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.mode.ModeContextManager;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -45,15 +46,26 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.transaction.config.TransactionRuleConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import javax.sql.DataSource;
 import java.sql.Types;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -61,9 +73,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -134,8 +149,22 @@ public final class ContextManagerTest {
     public void assertDropDatabase() {
         when(metaDataContexts.getMetaData().getActualDatabaseName("foo_db")).thenReturn("foo_db");
         when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        ShardExecuteStatisticsManager.getInstance().recordExecute("foo_db", "foo_ds", "t_order_0", 1L, 1L);
         contextManager.dropDatabase("foo_db");
         verify(metaDataContexts.getMetaData()).dropDatabase("foo_db");
+        assertTrue(ShardExecuteStatisticsManager.getInstance().getAllStatistics().isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertDropDatabaseWithDatabaseLock() throws ReflectiveOperationException {
+        when(metaDataContexts.getMetaData().getActualDatabaseName("foo_db")).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        contextManager.addSchema("foo_db", "bar_schema");
+        Map<String, Lock> databaseLocks = (Map<String, Lock>) Plugins.getMemberAccessor().get(ContextManager.class.getDeclaredField("databaseLocks"), contextManager);
+        assertTrue(databaseLocks.containsKey("foo_db"));
+        contextManager.dropDatabase("foo_db");
+        assertTrue(databaseLocks.isEmpty());
     }
     
     @Test
@@ -208,6 +237,61 @@ public final class ContextManagerTest {
         assertThat(actual.getUsername(), is("test"));
     }
     
+    @Test
+    public void assertAlterSchemaConcurrentlyInDifferentDatabases() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch fooTableAltering = new CountDownLatch(1);
+        CountDownLatch barTableAltered = new CountDownLatch(1);
+        ShardingSphereSchema fooSchema = mock(ShardingSphereSchema.class);
+        doAnswer(invocation -> {
+            fooTableAltering.countDown();
+            return barTableAltered.await(5L, TimeUnit.SECONDS);
+        }).when(fooSchema).putTable(eq("foo_tbl"), any(ShardingSphereTable.class));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(fooSchema);
+        ShardingSphereDatabase barDatabase = mockDatabase();
+        ShardingSphereSchema barSchema = new ShardingSphereSchema();
+        when(barDatabase.containsSchema("bar_schema")).thenReturn(true);
+        when(barDatabase.getSchema("bar_schema")).thenReturn(barSchema);
+        when(metaDataContexts.getMetaData().containsDatabase("bar_db")).thenReturn(true);
+        when(metaDataContexts.getMetaData().getDatabase("bar_db")).thenReturn(barDatabase);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> fooFuture = executorService.submit(() -> contextManager.alterSchema("foo_db", "foo_schema", createTable("foo_tbl"), null));
+            assertTrue(fooTableAltering.await(5L, TimeUnit.SECONDS));
+            executorService.submit(() -> contextManager.alterSchema("bar_db", "bar_schema", createTable("bar_tbl"), null)).get(5L, TimeUnit.SECONDS);
+            assertFalse(fooFuture.isDone());
+            assertTrue(barSchema.containsTable("bar_tbl"));
+            barTableAltered.countDown();
+            fooFuture.get(5L, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(fooSchema).putTable(eq("foo_tbl"), any(ShardingSphereTable.class));
+    }
+    
+    @Test
+    public void assertAlterSchemaConcurrentlyInSameDatabase() throws InterruptedException, ExecutionException {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(schema);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<?>> futures = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                String tableName = "foo_tbl_" + i;
+                futures.add(executorService.submit(() -> contextManager.alterSchema("foo_db", "foo_schema", createTable(tableName), null)));
+            }
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(schema.getTables().size(), is(100));
+    }
+    
+    private ShardingSphereTable createTable(final String tableName) {
+        return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+    
     @Test
     public void assertAlterRuleConfiguration() {
         ShardingSphereResourceMetaData resourceMetaData = mock(ShardingSphereResourceMetaData.class);
@@ -288,6 +372,46 @@ public final class ContextManagerTest {
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getResourceMetaData().getDataSources().containsKey("foo_ds"));
     }
     
+    @Test
+    public void assertReloadLazySchema() {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase("foo_db");
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(createLazyProperties());
+        when(database.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", new MockedDataSource()));
+        when(database.getSchema("foo_schema")).thenReturn(new ShardingSphereSchema(Collections.singleton("foo_tbl"), tableName -> Optional.empty(), 0));
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class);
+        when(persistService.getDatabaseMetaDataService()).thenReturn(databaseMetaDataPersistService);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        contextManager.reloadSchema("foo_db", "foo_schema", "ds_0");
+        verify(database).putSchema(eq("foo_schema"), argThat(ShardingSphereSchema::isLazy));
+        verify(databaseMetaDataPersistService, never()).dropSchema(anyString(), anyString());
+        verify(databaseMetaDataPersistService, never()).compareAndPersist(anyString(), anyString(), any());
+    }
+    
+    @Test
+    public void assertReloadTableWithLazySchema() {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase("foo_db");
+        when(database.getName()).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(createLazyProperties());
+        when(database.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", new MockedDataSource()));
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singleton("foo_tbl"), tableName -> Optional.empty(), 0);
+        schema.putTable("bar_tbl", new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        when(database.getSchema("foo_schema")).thenReturn(schema);
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class);
+        when(persistService.getDatabaseMetaDataService()).thenReturn(databaseMetaDataPersistService);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        contextManager.reloadTable("foo_db", "foo_schema", "foo_tbl");
+        assertFalse(schema.containsTable("foo_tbl"));
+        assertTrue(schema.containsTable("bar_tbl"));
+        verify(databaseMetaDataPersistService.getTableMetaDataPersistService()).delete("foo_db", "foo_schema", "foo_tbl");
+        verify(databaseMetaDataPersistService, never()).compareAndPersist(anyString(), anyString(), any());
+    }
+    
+    private ConfigurationProperties createLazyProperties() {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_LOAD_ENABLED.getKey(), Boolean.TRUE.toString())));
+    }
+    
     private Map<String, Object> createProperties(final String username, final String password) {
         Map<String, Object> result = new HashMap<>(3, 1);
         result.putIfAbsent("url", "jdbc:mock://127.0.0.1/foo_ds");
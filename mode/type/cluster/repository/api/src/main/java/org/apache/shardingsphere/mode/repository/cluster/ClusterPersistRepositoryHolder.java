@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Cluster persist repository holder.
+ * 
+ * <p>Holds the repository of cluster mode, so that features which need coordination can share it instead of creating their own clients.
+ * Repository is removed from holder when it is closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ClusterPersistRepositoryHolder {
+    
+    private static volatile ClusterPersistRepository repository;
+    
+    /**
+     * Set cluster persist repository.
+     *
+     * @param repository cluster persist repository
+     */
+    public static synchronized void set(final ClusterPersistRepository repository) {
+        ClusterPersistRepositoryHolder.repository = repository;
+    }
+    
+    /**
+     * Remove cluster persist repository if it is the held one.
+     *
+     * @param repository cluster persist repository
+     */
+    public static synchronized void remove(final ClusterPersistRepository repository) {
+        if (ClusterPersistRepositoryHolder.repository == repository) {
+            ClusterPersistRepositoryHolder.repository = null;
+        }
+    }
+    
+    /**
+     * Find cluster persist repository.
+     *
+     * @return cluster persist repository
+     */
+    public static Optional<ClusterPersistRepository> find() {
+        return Optional.ofNullable(repository);
+    }
+}
@@ -23,6 +23,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -35,6 +36,7 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryHolder;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperties;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdPropertyKey;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
@@ -43,7 +45,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,6 +59,10 @@ import java.util.stream.Collectors;
  */
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
+    private static final int MAX_TRANSACTION_BYTES = 1024 * 1024;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -103,6 +114,38 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        Collection<String> builtParentPaths = new HashSet<>();
+        for (String each : keyValues.keySet()) {
+            if (builtParentPaths.add(each.substring(0, each.lastIndexOf(PATH_SEPARATOR) + 1))) {
+                buildParentPath(each);
+            }
+        }
+        List<Op> batchedOperations = new ArrayList<>(Math.min(keyValues.size(), MAX_TRANSACTION_OPERATIONS));
+        int batchedBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            ByteSequence key = ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8);
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            int operationBytes = key.size() + value.size();
+            if (!batchedOperations.isEmpty() && (batchedOperations.size() >= MAX_TRANSACTION_OPERATIONS || batchedBytes + operationBytes > MAX_TRANSACTION_BYTES)) {
+                commitInTransaction(batchedOperations);
+                batchedOperations.clear();
+                batchedBytes = 0;
+            }
+            batchedOperations.add(Op.put(key, value, PutOption.DEFAULT));
+            batchedBytes += operationBytes;
+        }
+        if (!batchedOperations.isEmpty()) {
+            commitInTransaction(batchedOperations);
+        }
+    }
+    
+    private void commitInTransaction(final List<Op> operations) throws InterruptedException, ExecutionException {
+        client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
@@ -175,6 +218,7 @@ public final class EtcdRepository implements ClusterPersistRepository {
     
     @Override
     public void close() {
+        ClusterPersistRepositoryHolder.remove(this);
         client.close();
     }
     
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
+import com.google.common.base.Strings;
 import com.google.protobuf.ByteString;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
@@ -47,9 +49,12 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -62,6 +67,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -216,6 +222,49 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPersistInBatch() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        repository.persist(Collections.singletonMap("/key1/key2", "value1"));
+        verify(kv).put(ByteSequence.from("/key1", StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8));
+        verify(txn).commit();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPersistInBatchesCutByBytes() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        String largeValue = Strings.repeat("x", 600 * 1024);
+        Map<String, String> keyValues = new LinkedHashMap<>(3, 1);
+        keyValues.put("/key1/key2", largeValue);
+        keyValues.put("/key1/key3", largeValue);
+        keyValues.put("/key1/key4", "value");
+        repository.persist(keyValues);
+        verify(txn, times(2)).commit();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPersistInBatchesCutByOperations() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        Map<String, String> keyValues = new LinkedHashMap<>(200, 1);
+        for (int i = 0; i < 200; i++) {
+            keyValues.put("/key1/key" + i, "value");
+        }
+        repository.persist(keyValues);
+        verify(txn, times(2)).commit();
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
@@ -23,15 +23,19 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
+import org.apache.curator.utils.ZKPaths.PathAndNode;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryHolder;
 import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
@@ -42,16 +46,23 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -60,6 +71,10 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 256;
+    
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -154,6 +169,64 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        Map<String, Collection<String>> existedChildrenKeys = new HashMap<>();
+        Map<String, byte[]> batchedKeyValues = new LinkedHashMap<>();
+        int batchedBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            if (!batchedKeyValues.isEmpty() && (batchedKeyValues.size() >= MAX_TRANSACTION_OPERATIONS || batchedBytes + value.length > MAX_TRANSACTION_BYTES)) {
+                persistInTransaction(batchedKeyValues, existedChildrenKeys);
+                batchedKeyValues.clear();
+                batchedBytes = 0;
+            }
+            batchedKeyValues.put(entry.getKey(), value);
+            batchedBytes += value.length;
+        }
+        if (!batchedKeyValues.isEmpty()) {
+            persistInTransaction(batchedKeyValues, existedChildrenKeys);
+        }
+    }
+    
+    private void persistInTransaction(final Map<String, byte[]> keyValues, final Map<String, Collection<String>> existedChildrenKeys) {
+        try {
+            List<CuratorOp> operations = new LinkedList<>();
+            for (Entry<String, byte[]> entry : keyValues.entrySet()) {
+                PathAndNode pathAndNode = ZKPaths.getPathAndNode(entry.getKey());
+                Collection<String> childrenKeys = existedChildrenKeys.get(pathAndNode.getPath());
+                if (null == childrenKeys) {
+                    childrenKeys = loadExistedChildrenKeys(pathAndNode.getPath());
+                    existedChildrenKeys.put(pathAndNode.getPath(), childrenKeys);
+                }
+                operations.add(childrenKeys.contains(pathAndNode.getNode())
+                        ? client.transactionOp().setData().forPath(entry.getKey(), entry.getValue())
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), entry.getValue()));
+            }
+            client.transaction().forOperations(operations);
+            keyValues.keySet().forEach(each -> existedChildrenKeys.get(ZKPaths.getPathAndNode(each).getPath()).add(ZKPaths.getPathAndNode(each).getNode()));
+        } catch (final KeeperException ex) {
+            existedChildrenKeys.clear();
+            keyValues.forEach((key, value) -> persist(key, new String(value, StandardCharsets.UTF_8)));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private Collection<String> loadExistedChildrenKeys(final String parentPath) throws Exception {
+        if (null == client.checkExists().forPath(parentPath)) {
+            try {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentPath, new byte[0]);
+                return new HashSet<>();
+            } catch (final NodeExistsException ignored) {
+                // Parent path is created concurrently, load its children below.
+            }
+        }
+        return new HashSet<>(client.getChildren().forPath(parentPath));
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -274,6 +347,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     
     @Override
     public void close() {
+        ClusterPersistRepositoryHolder.remove(this);
         caches.values().forEach(CuratorCache::close);
         waitForCacheClose();
         CloseableUtils.closeQuietly(client);
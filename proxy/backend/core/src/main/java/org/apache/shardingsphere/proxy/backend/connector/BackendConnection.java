@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
 import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
@@ -32,6 +33,8 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableReplayStatistics;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
 import org.apache.shardingsphere.transaction.spi.TransactionHook;
 
@@ -43,6 +46,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -106,7 +110,13 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     }
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
+        List<Connection> result;
+        long startNanos = System.nanoTime();
+        try {
+            result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
+        } finally {
+            ShardExecuteStatisticsManager.getInstance().recordConnectionAcquire(connectionSession.getDatabaseName(), dataSourceName, System.nanoTime() - startNanos);
+        }
         setSessionVariablesIfNecessary(result);
         for (Connection each : result) {
             replayTransactionOption(each);
@@ -120,21 +130,26 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        RequiredSessionVariableRecorder recorder = connectionSession.getRequiredSessionVariableRecorder();
+        if (connections.isEmpty() || recorder.isEmpty()) {
             return;
         }
         String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
+        int setSQLCount = recorder.toSetSQLs(databaseType).size();
+        Optional<String> replaySQL = recorder.toReplaySQL(databaseType);
+        if (!replaySQL.isPresent()) {
+            SessionVariableReplayStatistics.getInstance().recordSavedRoundTrips(setSQLCount * connections.size());
+            return;
+        }
         SQLException sqlException = null;
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
+                statement.execute(replaySQL.get());
             } catch (final SQLException ex) {
                 sqlException = ex;
                 break;
             }
+            SessionVariableReplayStatistics.getInstance().recordReplayed(Math.max(0, setSQLCount - 1));
         }
         if (null == sqlException) {
             return;
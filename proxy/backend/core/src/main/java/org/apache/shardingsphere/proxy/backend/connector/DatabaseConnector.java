@@ -45,6 +45,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -123,6 +125,14 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private SQLDigestStatistics digestStatistics;
+    
+    private boolean useSQLFederation;
+    
+    private int routeUnitCount;
+    
+    private long fetchedRowCount;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final BackendConnection backendConnection) {
         SQLStatementContext<?> sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(backendConnection.getConnectionSession(), sqlStatementContext);
@@ -197,10 +207,26 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public ResponseHeader execute() throws SQLException {
+        digestStatistics = SQLDigestStatisticsManager.getInstance().getStatistics(queryContext);
+        long startNanos = System.nanoTime();
+        ResponseHeader result = null;
+        try {
+            result = execute0();
+            return result;
+        } finally {
+            digestStatistics.record(System.nanoTime() - startNanos, routeUnitCount, useSQLFederation, null != result);
+            if (result instanceof UpdateResponseHeader) {
+                digestStatistics.addRowCount(((UpdateResponseHeader) result).getUpdateCount());
+            }
+        }
+    }
+    
+    private ResponseHeader execute0() throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLFederationDeciderContext deciderContext = new SQLFederationDeciderEngine(
                 database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps()).decide(queryContext, metaDataContexts.getMetaData().getGlobalRuleMetaData(), database);
-        if (deciderContext.isUseSQLFederation()) {
+        useSQLFederation = deciderContext.isUseSQLFederation();
+        if (useSQLFederation) {
             prepareFederationExecutor();
             ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
             return processExecuteFederation(resultSet, metaDataContexts);
@@ -215,6 +241,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
                 metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
         result.add(executionContext);
+        routeUnitCount += executionContext.getRouteContext().getRouteUnits().size();
         // TODO support logical SQL optimize to generate multiple logical SQL
         return result;
     }
@@ -423,7 +450,11 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        boolean result = null != mergedResult && mergedResult.next();
+        if (result) {
+            fetchedRowCount++;
+        }
+        return result;
     }
     
     /**
@@ -449,6 +480,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public void close() throws SQLException {
+        if (null != digestStatistics && fetchedRowCount > 0L) {
+            digestStatistics.addRowCount(fetchedRowCount);
+            fetchedRowCount = 0L;
+        }
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
@@ -89,7 +90,7 @@ public final class ProxySQLExecutor {
         ExecutorEngine executorEngine = BackendExecutorContext.getInstance().getExecutorEngine();
         ConnectionContext connectionContext = backendConnection.getConnectionSession().getConnectionContext();
         jdbcExecutor = new ProxyJDBCExecutor(type, backendConnection.getConnectionSession(), databaseConnector, new JDBCExecutor(executorEngine, connectionContext));
-        rawExecutor = new RawExecutor(executorEngine, connectionContext);
+        rawExecutor = new RawExecutor(executorEngine, connectionContext, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
     }
     
     /**
@@ -199,8 +200,10 @@ public final class ProxySQLExecutor {
         if (!getTransactionContext(connectionSession).isInTransaction()) {
             return;
         }
+        Collection<Connection> connections = connectionSession.getBackendConnection().getCachedConnections().values();
+        LockContext<?> lockContext = ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext();
         for (TransactionHook each : transactionHooks) {
-            each.beforeExecuteSQL(connectionSession.getBackendConnection().getCachedConnections().values(), getTransactionContext(connectionSession), connectionSession.getIsolationLevel());
+            each.beforeExecuteSQL(connections, getTransactionContext(connectionSession), connectionSession.getIsolationLevel(), lockContext);
         }
     }
     
@@ -77,16 +77,16 @@ public final class BackendTransactionManager implements TransactionManager {
             shardingSphereTransactionManager.begin();
         }
         for (TransactionHook each : transactionHooks) {
-            each.afterBegin(getTransactionContext());
+            each.afterBegin(getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
         }
     }
     
     @Override
     public void commit() throws SQLException {
-        for (TransactionHook each : transactionHooks) {
-            each.beforeCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
-        }
         if (connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            for (TransactionHook each : transactionHooks) {
+                each.beforeCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+            }
             try {
                 if (TransactionType.LOCAL == transactionType || null == shardingSphereTransactionManager) {
                     localTransactionManager.commit();
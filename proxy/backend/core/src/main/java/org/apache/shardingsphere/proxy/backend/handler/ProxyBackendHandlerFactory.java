@@ -159,7 +159,7 @@ public final class ProxyBackendHandlerFactory {
                 : connectionSession.getDatabaseName();
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(AuthorityRule.class);
         ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName);
-        new AuthorityChecker(authorityRule, connectionSession.getGrantee()).checkPrivileges(databaseName, sqlStatementContext.getSqlStatement());
+        new AuthorityChecker(authorityRule, connectionSession.getGrantee(), connectionSession.getPrivilegesCache()).checkPrivileges(databaseName, sqlStatementContext.getSqlStatement());
         SQLAuditEngine.audit(sqlStatementContext, queryContext.getParameters(),
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), database, connectionSession.getGrantee());
         backendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession);
@@ -47,6 +47,8 @@ import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineJobNot
 import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -149,7 +151,13 @@ public final class CDCBackendHandler {
         Comparator<DataRecord> dataRecordComparator = cdcJobConfig.isDecodeWithTX()
                 ? DataRecordComparatorGenerator.generatorIncrementalComparator(database.getProtocolType())
                 : null;
-        CDCJob job = new CDCJob(new SocketSinkImporterConnector(channel, database, cdcJobConfig.getJobShardingCount(), cdcJobConfig.getSchemaTableNames(), dataRecordComparator));
+        ConfigurationProperties props = PipelineContext.getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int mergeBatchSize = props.getValue(ConfigurationPropertyKey.CDC_MERGE_BATCH_SIZE);
+        long mergeBatchLingerMillis = props.getValue(ConfigurationPropertyKey.CDC_MERGE_BATCH_LINGER_MILLISECONDS);
+        SocketSinkImporterConnector importerConnector = new SocketSinkImporterConnector(channel, database, cdcJobConfig.getJobShardingCount(), cdcJobConfig.getSchemaTableNames(),
+                dataRecordComparator, mergeBatchSize, mergeBatchLingerMillis);
+        importerConnector.setCompactFormat(connectionContext.isCompactFormat());
+        CDCJob job = new CDCJob(importerConnector);
         PipelineJobCenter.addJob(jobId, job);
         OneOffJobBootstrap oneOffJobBootstrap = new OneOffJobBootstrap(PipelineAPIFactory.getRegistryCenter(), job, jobConfigPOJO.toJobConfiguration());
         job.setJobBootstrap(oneOffJobBootstrap);
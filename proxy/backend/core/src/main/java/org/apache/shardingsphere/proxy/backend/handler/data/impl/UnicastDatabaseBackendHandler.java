@@ -71,7 +71,7 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
             throw new NoDatabaseSelectedException();
         }
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(AuthorityRule.class);
-        Optional<ShardingSpherePrivileges> privileges = authorityRule.findPrivileges(connectionSession.getGrantee());
+        Optional<ShardingSpherePrivileges> privileges = connectionSession.getPrivilegesCache().findPrivileges(authorityRule, connectionSession.getGrantee());
         Stream<String> databaseStream = databaseNames.stream().filter(each -> ProxyContext.getInstance().getDatabase(each).containsDataSource());
         Optional<String> result = privileges.map(optional -> databaseStream.filter(optional::hasPrivileges).findFirst()).orElseGet(databaseStream::findFirst);
         ShardingSpherePreconditions.checkState(result.isPresent(), StorageUnitNotExistedException::new);
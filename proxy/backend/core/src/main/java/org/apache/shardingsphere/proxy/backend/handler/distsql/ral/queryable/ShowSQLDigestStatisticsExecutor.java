@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.ral.query.QueryableRALExecutor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsSnapshot;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL digest statistics executor.
+ */
+public final class ShowSQLDigestStatisticsExecutor implements QueryableRALExecutor<ShowSQLDigestStatisticsStatement> {
+    
+    private static final int DEFAULT_LIMIT = 10;
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("digest", "calls", "errors", "federation_calls", "total_millis", "avg_millis", "min_millis", "max_millis", "p99_millis", "row_count", "avg_route_units");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSQLDigestStatisticsStatement sqlStatement) {
+        int limit = sqlStatement.getLimit().orElse(DEFAULT_LIMIT);
+        return SQLDigestStatisticsManager.getInstance().getTopSnapshots(limit).stream().map(this::buildRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow buildRow(final SQLDigestStatisticsSnapshot snapshot) {
+        return new LocalDataQueryResultRow(snapshot.getDigest(), snapshot.getCalls(), snapshot.getErrors(), snapshot.getFederationCalls(),
+                format(snapshot.getTotalElapsedMillis()), format(snapshot.getAverageElapsedMillis()), format(snapshot.getMinElapsedMillis()), format(snapshot.getMaxElapsedMillis()),
+                format(snapshot.getP99ElapsedMillis()), snapshot.getRowCount(), format(snapshot.getAverageRouteUnitCount()));
+    }
+    
+    private String format(final double value) {
+        return String.format("%.3f", value);
+    }
+    
+    @Override
+    public String getType() {
+        return ShowSQLDigestStatisticsStatement.class.getName();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.ral.query.QueryableRALExecutor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSlowStorageUnitsStatement;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Show slow storage units executor.
+ */
+public final class ShowSlowStorageUnitsExecutor implements QueryableRALExecutor<ShowSlowStorageUnitsStatement> {
+    
+    private static final int DEFAULT_LIMIT = 10;
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("database_name", "storage_unit", "actual_table", "execute_count", "avg_execute_millis", "max_execute_millis", "row_count",
+                "connection_acquire_count", "avg_connection_acquire_millis", "max_connection_acquire_millis");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSlowStorageUnitsStatement sqlStatement) {
+        int limit = sqlStatement.getLimit().orElse(DEFAULT_LIMIT);
+        return ShardExecuteStatisticsManager.getInstance().getSlowestStatistics(limit).stream().map(this::buildRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow buildRow(final ShardExecuteStatistics statistics) {
+        return new LocalDataQueryResultRow(statistics.getDatabaseName(), statistics.getStorageUnitName(), statistics.getTableName(),
+                statistics.getExecute().getCount(), formatMillis(statistics.getExecute().getAverageElapsedMillis()), formatMillis(statistics.getExecute().getMaxElapsedMillis()),
+                statistics.getExecute().getRowCount(), statistics.getConnectionAcquire().getCount(),
+                formatMillis(statistics.getConnectionAcquire().getAverageElapsedMillis()), formatMillis(statistics.getConnectionAcquire().getMaxElapsedMillis()));
+    }
+    
+    private String formatMillis(final double millis) {
+        return String.format("%.3f", millis);
+    }
+    
+    @Override
+    public String getType() {
+        return ShowSlowStorageUnitsStatement.class.getName();
+    }
+}
@@ -21,6 +21,7 @@ import io.netty.util.AttributeMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.authority.checker.SessionPrivilegesCache;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -49,6 +50,8 @@ public final class ConnectionSession {
     
     private volatile Grantee grantee;
     
+    private final SessionPrivilegesCache privilegesCache = new SessionPrivilegesCache();
+    
     private final TransactionStatus transactionStatus;
     
     private final AttributeMap attributeMap;
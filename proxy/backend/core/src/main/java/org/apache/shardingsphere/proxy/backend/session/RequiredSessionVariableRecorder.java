@@ -19,9 +19,11 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -60,36 +62,66 @@ public final class RequiredSessionVariableRecorder {
      * @return set SQLs
      */
     public List<String> toSetSQLs(final String databaseType) {
-        if (sessionVariables.isEmpty()) {
+        return toSetSQLs(databaseType, sessionVariables);
+    }
+    
+    private List<String> toSetSQLs(final String databaseType, final Map<String, String> variables) {
+        if (variables.isEmpty()) {
             return Collections.emptyList();
         }
         // TODO Refactor the following switch by SPI if we support more database in future
         switch (databaseType) {
             case "MySQL":
-                return Collections.singletonList(aggregateToMySQLSetSQL());
+                return Collections.singletonList(aggregateToMySQLSetSQL(variables));
             case "PostgreSQL":
-                return convertToPostgreSQLSetSQLs();
+                return convertToPostgreSQLSetSQLs(variables);
             default:
                 return Collections.emptyList();
         }
     }
     
-    private String aggregateToMySQLSetSQL() {
+    private String aggregateToMySQLSetSQL(final Map<String, String> variables) {
         StringJoiner result = new StringJoiner(",", "SET ", "");
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+        for (Entry<String, String> entry : variables.entrySet()) {
             result.add(entry.getKey() + "=" + entry.getValue());
         }
         return result.toString();
     }
     
-    private List<String> convertToPostgreSQLSetSQLs() {
-        List<String> result = new ArrayList<>(sessionVariables.size());
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+    private List<String> convertToPostgreSQLSetSQLs(final Map<String, String> variables) {
+        List<String> result = new ArrayList<>(variables.size());
+        for (Entry<String, String> entry : variables.entrySet()) {
             result.add("SET " + entry.getKey() + "=" + entry.getValue());
         }
         return result;
     }
     
+    /**
+     * Get variables without default value, which need to be replayed on connections.
+     *
+     * @return variables without default value
+     */
+    public Map<String, String> getVariablesWithoutDefaultValue() {
+        Map<String, String> result = new HashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!DEFAULT.equalsIgnoreCase(entry.getValue())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get replay SQL for database, which joins set SQLs of variables recorded without default value to be executed in one round trip.
+     *
+     * @param databaseType database type
+     * @return replay SQL, empty if no variable need to be replayed
+     */
+    public Optional<String> toReplaySQL(final String databaseType) {
+        List<String> setSQLs = toSetSQLs(databaseType, getVariablesWithoutDefaultValue());
+        return setSQLs.isEmpty() ? Optional.empty() : Optional.of(String.join(";", setSQLs));
+    }
+    
     /**
      * Get reset SQLs for database.
      *
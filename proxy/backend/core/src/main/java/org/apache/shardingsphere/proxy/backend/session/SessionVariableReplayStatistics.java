@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Session variable replay statistics.
+ * 
+ * <p>Saved round trips are counted against replaying every set SQL on each new connection.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionVariableReplayStatistics {
+    
+    private static final SessionVariableReplayStatistics INSTANCE = new SessionVariableReplayStatistics();
+    
+    private final LongAdder replayedConnectionCount = new LongAdder();
+    
+    private final LongAdder savedRoundTrips = new LongAdder();
+    
+    /**
+     * Get session variable replay statistics.
+     *
+     * @return session variable replay statistics
+     */
+    public static SessionVariableReplayStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record connection replayed session variables.
+     *
+     * @param savedRoundTrips saved round trips
+     */
+    public void recordReplayed(final int savedRoundTrips) {
+        replayedConnectionCount.increment();
+        this.savedRoundTrips.add(savedRoundTrips);
+    }
+    
+    /**
+     * Record saved round trips.
+     *
+     * @param savedRoundTrips saved round trips
+     */
+    public void recordSavedRoundTrips(final int savedRoundTrips) {
+        this.savedRoundTrips.add(savedRoundTrips);
+    }
+    
+    /**
+     * Get replayed connection count.
+     *
+     * @return replayed connection count
+     */
+    public long getReplayedConnectionCount() {
+        return replayedConnectionCount.sum();
+    }
+    
+    /**
+     * Get saved round trips.
+     *
+     * @return saved round trips
+     */
+    public long getSavedRoundTrips() {
+        return savedRoundTrips.sum();
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        replayedConnectionCount.reset();
+        savedRoundTrips.reset();
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionExcept
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableReplayStatistics;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
@@ -102,6 +103,7 @@ public final class BackendConnectionTest {
     
     @AfterEach
     public void clean() throws ReflectiveOperationException {
+        SessionVariableReplayStatistics.getInstance().reset();
         Field field = ProxyContext.getInstance().getClass().getDeclaredField("backendDataSource");
         Object datasource = field.getType().getDeclaredConstructor().newInstance();
         Plugins.getMemberAccessor().set(field, ProxyContext.getInstance(), datasource);
@@ -225,6 +227,32 @@ public final class BackendConnectionTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    public void assertGetConnectionsAndCombineSessionVariables() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("default_key", "default");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(backendDataSource.getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        backendConnection.getConnections("", 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement()).execute("SET key=value");
+        assertThat(SessionVariableReplayStatistics.getInstance().getSavedRoundTrips(), is(1L));
+    }
+    
+    @Test
+    public void assertCloseConnectionsAndResetSessionVariables() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(backendDataSource.getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        backendConnection.getConnections("", 1, ConnectionMode.CONNECTION_STRICTLY);
+        assertTrue(backendConnection.closeConnections(false).isEmpty());
+        verify(connection.createStatement()).execute("RESET ALL");
+        verify(connection).close();
+        assertThat(SessionVariableReplayStatistics.getInstance().getReplayedConnectionCount(), is(1L));
+        assertThat(SessionVariableReplayStatistics.getInstance().getSavedRoundTrips(), is(0L));
+    }
+    
     @Test
     public void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.handler;
 
+import org.apache.shardingsphere.authority.checker.SessionPrivilegesCache;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.authority.rule.builder.DefaultAuthorityRuleConfigurationBuilder;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
@@ -86,6 +87,7 @@ public final class ProxyBackendHandlerFactoryTest {
         when(connectionSession.getTransactionStatus().getTransactionType()).thenReturn(TransactionType.LOCAL);
         when(connectionSession.getDefaultDatabaseName()).thenReturn("db");
         when(connectionSession.getDatabaseName()).thenReturn("db");
+        when(connectionSession.getPrivilegesCache()).thenReturn(new SessionPrivilegesCache());
         BackendConnection backendConnection = mock(BackendConnection.class);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
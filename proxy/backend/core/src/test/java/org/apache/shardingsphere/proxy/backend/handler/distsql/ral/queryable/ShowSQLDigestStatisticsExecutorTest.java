@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.executor.sql.statistics.SQLDigestStatisticsManager;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ShowSQLDigestStatisticsExecutorTest {
+    
+    @AfterEach
+    public void tearDown() {
+        SQLDigestStatisticsManager.getInstance().reset();
+    }
+    
+    @Test
+    public void assertGetColumnNames() {
+        assertThat(new ShowSQLDigestStatisticsExecutor().getColumnNames().size(), is(11));
+    }
+    
+    @Test
+    public void assertGetRows() {
+        SQLDigestStatisticsManager.getInstance().getStatistics("SELECT * FROM t_order WHERE order_id = 1").record(TimeUnit.SECONDS.toNanos(100L), 2, false, true);
+        SQLDigestStatisticsManager.getInstance().getStatistics("SELECT * FROM t_order WHERE order_id = 2").record(TimeUnit.SECONDS.toNanos(100L), 2, false, false);
+        Collection<LocalDataQueryResultRow> actual = new ShowSQLDigestStatisticsExecutor().getRows(new ShowSQLDigestStatisticsStatement(1));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(row.getCell(2), is(2L));
+        assertThat(row.getCell(3), is(1L));
+        assertThat(row.getCell(5), is(String.format("%.3f", 200000D)));
+        assertThat(row.getCell(11), is(String.format("%.3f", 2D)));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSlowStorageUnitsStatement;
+import org.apache.shardingsphere.infra.executor.sql.statistics.ShardExecuteStatisticsManager;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ShowSlowStorageUnitsExecutorTest {
+    
+    @AfterEach
+    public void tearDown() {
+        ShardExecuteStatisticsManager.getInstance().remove("slow_db");
+    }
+    
+    @Test
+    public void assertGetColumnNames() {
+        assertThat(new ShowSlowStorageUnitsExecutor().getColumnNames().size(), is(10));
+    }
+    
+    @Test
+    public void assertGetRows() {
+        ShardExecuteStatisticsManager.getInstance().recordExecute("slow_db", "slow_ds", "t_order_0", TimeUnit.SECONDS.toNanos(100L), 3L);
+        ShardExecuteStatisticsManager.getInstance().recordConnectionAcquire("slow_db", "slow_ds", TimeUnit.MILLISECONDS.toNanos(2L));
+        Collection<LocalDataQueryResultRow> actual = new ShowSlowStorageUnitsExecutor().getRows(new ShowSlowStorageUnitsStatement(1));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("slow_db"));
+        assertThat(row.getCell(2), is("slow_ds"));
+        assertThat(row.getCell(3), is("t_order_0"));
+        assertThat(row.getCell(4), is(1L));
+        assertThat(row.getCell(5), is(String.format("%.3f", 100000D)));
+        assertThat(row.getCell(7), is(3L));
+        assertThat(row.getCell(8), is(1L));
+        assertThat(row.getCell(9), is(String.format("%.3f", 2D)));
+    }
+}
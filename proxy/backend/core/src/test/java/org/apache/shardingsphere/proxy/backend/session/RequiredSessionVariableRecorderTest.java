@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -72,4 +73,30 @@ public final class RequiredSessionVariableRecorderTest {
         assertTrue(recorder.toSetSQLs("unsupported").isEmpty());
         assertTrue(recorder.toResetSQLs("unsupported").isEmpty());
     }
+    
+    @Test
+    public void assertToMySQLReplaySQL() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "default");
+        recorder.setVariable("max_sort_length", "1024");
+        assertThat(recorder.getVariablesWithoutDefaultValue(), is(Collections.singletonMap("max_sort_length", "1024")));
+        assertThat(recorder.toReplaySQL("MySQL"), is(Optional.of("SET max_sort_length=1024")));
+    }
+    
+    @Test
+    public void assertToPostgreSQLReplaySQL() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("client_encoding", "utf8");
+        recorder.setVariable("datestyle", "iso");
+        assertThat(new HashSet<>(Arrays.asList(recorder.toReplaySQL("PostgreSQL").orElse("").split(";"))),
+                is(new HashSet<>(Arrays.asList("SET client_encoding=utf8", "SET datestyle=iso"))));
+        assertFalse(recorder.toReplaySQL("unsupported").isPresent());
+    }
+    
+    @Test
+    public void assertToReplaySQLWithDefaultValueOnly() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "default");
+        assertFalse(recorder.toReplaySQL("MySQL").isPresent());
+    }
 }
@@ -178,6 +178,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
             throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Source schema table is empty"));
         }
         checkPrivileges(request.getRequestId(), connectionContext.getCurrentUser().getGrantee(), requestBody.getDatabase());
+        connectionContext.setCompactFormat(requestBody.getCompactFormat());
         CDCResponse response = backendHandler.streamData(request.getRequestId(), requestBody, connectionContext, ctx.channel());
         ctx.writeAndFlush(response);
     }
@@ -203,6 +204,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         }
         String database = backendHandler.getDatabaseNameByJobId(requestBody.getStreamingId());
         checkPrivileges(request.getRequestId(), connectionContext.getCurrentUser().getGrantee(), database);
+        connectionContext.setCompactFormat(requestBody.getCompactFormat());
         backendHandler.startStreaming(requestBody.getStreamingId(), connectionContext, ctx.channel());
         ctx.writeAndFlush(CDCResponseGenerator.succeedBuilder(request.getRequestId()).build());
     }
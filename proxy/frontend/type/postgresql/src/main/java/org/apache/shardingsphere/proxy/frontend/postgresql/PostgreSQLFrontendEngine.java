@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServerInfo;
@@ -30,8 +31,12 @@ import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.sql.SQLException;
+
 /**
  * Frontend engine for PostgreSQL.
  */
@@ -54,6 +59,12 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        PostgreSQLCopyInContextRegistry.getInstance().remove(connectionSession.getConnectionId()).ifPresent(this::closeCopyInContext);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void closeCopyInContext(final PostgreSQLCopyInContext copyInContext) {
+        copyInContext.close();
     }
     
     @Override
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding value router for PostgreSQL, which routes values of sharding columns of one row to a single data node.
+ * 
+ * <p>Table rule and sharding strategies are resolved once, each row is routed by database and table sharding strategies directly
+ * without creating sharding conditions and route context.</p>
+ */
+public final class PostgreSQLShardingValueRouter {
+    
+    private final String logicTableName;
+    
+    private final TableRule tableRule;
+    
+    private final ConfigurationProperties props;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final String[] databaseShardingColumns;
+    
+    private final int[] databaseShardingValueIndexes;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final String[] tableShardingColumns;
+    
+    private final int[] tableShardingValueIndexes;
+    
+    public PostgreSQLShardingValueRouter(final ShardingRule shardingRule, final String logicTableName, final ConfigurationProperties props, final List<String> shardingColumns) {
+        this.logicTableName = logicTableName;
+        tableRule = shardingRule.getTableRule(logicTableName);
+        this.props = props;
+        databaseShardingStrategy = createShardingStrategy(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(tableRule));
+        databaseShardingColumns = getShardingColumns(databaseShardingStrategy, shardingColumns);
+        databaseShardingValueIndexes = getShardingValueIndexes(databaseShardingColumns, shardingColumns);
+        tableShardingStrategy = createShardingStrategy(shardingRule, shardingRule.getTableShardingStrategyConfiguration(tableRule));
+        tableShardingColumns = getShardingColumns(tableShardingStrategy, shardingColumns);
+        tableShardingValueIndexes = getShardingValueIndexes(tableShardingColumns, shardingColumns);
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private String[] getShardingColumns(final ShardingStrategy shardingStrategy, final List<String> shardingColumns) {
+        return shardingColumns.stream().filter(shardingStrategy.getShardingColumns()::contains).toArray(String[]::new);
+    }
+    
+    private int[] getShardingValueIndexes(final String[] strategyShardingColumns, final List<String> shardingColumns) {
+        int[] result = new int[strategyShardingColumns.length];
+        for (int i = 0; i < strategyShardingColumns.length; i++) {
+            result[i] = shardingColumns.indexOf(strategyShardingColumns[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Route values of sharding columns to data node.
+     *
+     * @param shardingValues values of sharding columns, in the same order as sharding columns
+     * @return routed data node, empty if values can not be routed to exactly one data node
+     */
+    public Optional<DataNode> route(final Comparable<?>[] shardingValues) {
+        Optional<String> dataSourceName = routeSingleTarget(databaseShardingStrategy, tableRule.getActualDataSourceNames(),
+                createShardingConditionValues(databaseShardingColumns, databaseShardingValueIndexes, shardingValues), tableRule.getDataSourceDataNode());
+        if (!dataSourceName.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<String> actualTableName = routeSingleTarget(tableShardingStrategy, tableRule.getActualTableNames(dataSourceName.get()),
+                createShardingConditionValues(tableShardingColumns, tableShardingValueIndexes, shardingValues), tableRule.getTableDataNode());
+        return actualTableName.map(optional -> new DataNode(dataSourceName.get(), optional));
+    }
+    
+    private List<ShardingConditionValue> createShardingConditionValues(final String[] strategyShardingColumns, final int[] shardingValueIndexes, final Comparable<?>[] shardingValues) {
+        if (0 == strategyShardingColumns.length) {
+            return Collections.emptyList();
+        }
+        List<ShardingConditionValue> result = new ArrayList<>(strategyShardingColumns.length);
+        for (int i = 0; i < strategyShardingColumns.length; i++) {
+            result.add(new ListShardingConditionValue<>(strategyShardingColumns[i], logicTableName, Collections.singletonList(shardingValues[shardingValueIndexes[i]])));
+        }
+        return result;
+    }
+    
+    private Optional<String> routeSingleTarget(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames,
+                                               final List<ShardingConditionValue> shardingConditionValues, final DataNodeInfo dataNodeInfo) {
+        Collection<String> result = shardingConditionValues.isEmpty() ? availableTargetNames : shardingStrategy.doSharding(availableTargetNames, shardingConditionValues, dataNodeInfo, props);
+        return 1 == result.size() ? Optional.of(result.iterator().next()) : Optional.empty();
+    }
+}
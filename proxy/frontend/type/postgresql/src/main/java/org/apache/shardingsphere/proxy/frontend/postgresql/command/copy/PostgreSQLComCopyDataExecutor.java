@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLCopyInFlowControl;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Command copy data executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyDataExecutor implements CommandExecutor {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLComCopyDataPacket packet;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        try {
+            Optional<PostgreSQLCopyInContext> copyInContext = PostgreSQLCopyInContextRegistry.getInstance().find(connectionSession.getConnectionId());
+            if (copyInContext.isPresent()) {
+                write(copyInContext.get());
+            }
+            return Collections.emptyList();
+        } finally {
+            PostgreSQLCopyInFlowControl.find(connectionSession.getAttributeMap()).ifPresent(PostgreSQLCopyInFlowControl::processed);
+        }
+    }
+    
+    private void write(final PostgreSQLCopyInContext copyInContext) throws SQLException {
+        try {
+            for (ByteBuf each : packet.getData()) {
+                copyInContext.write(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            PostgreSQLCopyInContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+            PostgreSQLCopyInFlowControl.find(connectionSession.getAttributeMap()).ifPresent(PostgreSQLCopyInFlowControl::reset);
+            copyInContext.close();
+            throw ex;
+        }
+    }
+}
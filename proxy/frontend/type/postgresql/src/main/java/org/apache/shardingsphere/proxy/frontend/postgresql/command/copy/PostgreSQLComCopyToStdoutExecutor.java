@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Command copy to stdout executor for PostgreSQL, which streams copy data of targets one after another.
+ */
+public final class PostgreSQLComCopyToStdoutExecutor implements QueryCommandExecutor {
+    
+    private static final int BINARY_HEADER_LENGTH_WITHOUT_EXTENSION = 19;
+    
+    private static final byte[] BINARY_TRAILER = {(byte) 0xFF, (byte) 0xFF};
+    
+    private final ConnectionSession connectionSession;
+    
+    private final Iterator<PostgreSQLCopyTarget> targets;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final int columnCount;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    @Getter
+    private long rowCount;
+    
+    private CopyOut copyOut;
+    
+    private boolean firstTarget = true;
+    
+    private boolean firstMessage;
+    
+    private boolean headerWritten;
+    
+    private boolean trailerWritten;
+    
+    private byte[] currentData;
+    
+    public PostgreSQLComCopyToStdoutExecutor(final ConnectionSession connectionSession, final Collection<PostgreSQLCopyTarget> targets, final PostgreSQLCopyOptions options, final int columnCount) {
+        this.connectionSession = connectionSession;
+        this.targets = targets.iterator();
+        this.options = options;
+        this.columnCount = columnCount;
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(options.isBinary(), columnCount));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentData = readNextData();
+        return null != currentData;
+    }
+    
+    private byte[] readNextData() throws SQLException {
+        while (null != copyOut || targets.hasNext()) {
+            if (null == copyOut) {
+                copyOut = openCopyOut(targets.next());
+                firstMessage = true;
+            }
+            byte[] data = copyOut.readFromCopy();
+            if (null == data) {
+                rowCount += copyOut.getHandledRowCount();
+                copyOut = null;
+                firstTarget = false;
+                continue;
+            }
+            byte[] result = options.isBinary() ? filterBinaryData(data) : filterTextData(data);
+            firstMessage = false;
+            if (null != result) {
+                return result;
+            }
+        }
+        if (headerWritten && !trailerWritten) {
+            trailerWritten = true;
+            return BINARY_TRAILER;
+        }
+        return null;
+    }
+    
+    private CopyOut openCopyOut(final PostgreSQLCopyTarget target) throws SQLException {
+        Connection connection = connectionSession.getBackendConnection().getConnections(target.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(target.getSql());
+    }
+    
+    private byte[] filterTextData(final byte[] data) {
+        return options.isHeader() && firstMessage && !firstTarget ? null : data;
+    }
+    
+    private byte[] filterBinaryData(final byte[] data) {
+        int headerLength = firstMessage ? BINARY_HEADER_LENGTH_WITHOUT_EXTENSION + ByteBuffer.wrap(data, BINARY_HEADER_LENGTH_WITHOUT_EXTENSION - 4, 4).getInt() : 0;
+        int start = firstMessage && headerWritten ? headerLength : 0;
+        headerWritten = true;
+        int end = isBinaryTrailer(data, headerLength) ? data.length - BINARY_TRAILER.length : data.length;
+        if (start == end) {
+            return null;
+        }
+        return 0 == start && data.length == end ? data : Arrays.copyOfRange(data, start, end);
+    }
+    
+    private boolean isBinaryTrailer(final byte[] data, final int offset) {
+        return data.length - offset == BINARY_TRAILER.length && BINARY_TRAILER[0] == data[offset] && BINARY_TRAILER[1] == data[offset + 1];
+    }
+    
+    @Override
+    public DatabasePacket<?> getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != copyOut && copyOut.isActive()) {
+            copyOut.cancelCopy();
+        }
+        copyOut = null;
+    }
+}
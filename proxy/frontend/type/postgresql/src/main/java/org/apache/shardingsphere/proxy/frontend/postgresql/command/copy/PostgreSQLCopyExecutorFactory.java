@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.authority.checker.AuthorityChecker;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRowParser;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRowParserFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route.PostgreSQLCopyRouteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route.PostgreSQLCopyRowRouter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Copy executor factory for PostgreSQL.
+ * 
+ * <p>Only table form of copy from stdin and copy to stdout are streamed by proxy, other copy statements are executed as normal query.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyExecutorFactory {
+    
+    private static final String COPY = "COPY";
+    
+    /**
+     * Create new instance of copy executor.
+     *
+     * @param sql SQL
+     * @param connectionSession connection session
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static Optional<CommandExecutor> newInstance(final String sql, final ConnectionSession connectionSession) throws SQLException {
+        if (!SQLUtil.trimComment(sql).regionMatches(true, 0, COPY, 0, COPY.length())) {
+            return Optional.empty();
+        }
+        String databaseName = connectionSession.getDefaultDatabaseName();
+        if (Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class)
+                .getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(database.getProtocolType())).parse(sql, false);
+        if (!isStreamingCopy(sqlStatement)) {
+            return Optional.empty();
+        }
+        PostgreSQLCopyStatement copyStatement = (PostgreSQLCopyStatement) sqlStatement;
+        database.getProtocolType().handleRollbackOnly(connectionSession.getTransactionStatus().isRollbackOnly(), copyStatement);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, copyStatement, databaseName);
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), new HintValueContext());
+        connectionSession.setQueryContext(queryContext);
+        AuthorityRule authorityRule = metaData.getGlobalRuleMetaData().getSingleRule(AuthorityRule.class);
+        new AuthorityChecker(authorityRule, connectionSession.getGrantee(), connectionSession.getPrivilegesCache()).checkPrivileges(databaseName, copyStatement);
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(database, queryContext, connectionSession);
+        PostgreSQLCopyOptions options = new PostgreSQLCopyOptions(copyStatement.getOptions());
+        int columnCount = routeEngine.getColumnNames().size();
+        if (copyStatement.isToStandardOutput()) {
+            return Optional.of(new PostgreSQLComCopyToStdoutExecutor(connectionSession, routeEngine.routeAll(), options, columnCount));
+        }
+        PostgreSQLCopyRowRouter router = routeEngine.createRowRouter();
+        PostgreSQLCopyRowParser parser = PostgreSQLCopyRowParserFactory.newInstance(options, router.getKeyColumnIndexes(), getCharset(connectionSession));
+        return Optional.of(new PostgreSQLComCopyFromStdinExecutor(connectionSession, new PostgreSQLCopyInContext(connectionSession, parser, router), options.isBinary(), columnCount));
+    }
+    
+    private static boolean isStreamingCopy(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof PostgreSQLCopyStatement)) {
+            return false;
+        }
+        PostgreSQLCopyStatement copyStatement = (PostgreSQLCopyStatement) sqlStatement;
+        return null != copyStatement.getTableSegment() && (copyStatement.isFromStandardInput() || copyStatement.isToStandardOutput());
+    }
+    
+    private static Charset getCharset(final ConnectionSession connectionSession) {
+        Charset result = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        return null == result ? StandardCharsets.UTF_8 : result;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+
+/**
+ * Backend connection which streams copy data of PostgreSQL into copy streams of its targets.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInConnection {
+    
+    private final Connection connection;
+    
+    private final boolean dedicated;
+    
+    private final Collection<String> resetSQLs;
+    
+    private final byte[] header;
+    
+    private final byte[] trailer;
+    
+    private String currentSQL;
+    
+    private CopyIn copyIn;
+    
+    /**
+     * Write copy data to copy stream of SQL, current copy stream will be ended if it is opened by another SQL.
+     *
+     * @param sql copy SQL of target
+     * @param data copy data
+     * @param offset offset of copy data
+     * @param length length of copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final String sql, final byte[] data, final int offset, final int length) throws SQLException {
+        if (!sql.equals(currentSQL)) {
+            endCopy();
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            currentSQL = sql;
+            if (header.length > 0) {
+                copyIn.writeToCopy(header, 0, header.length);
+            }
+        }
+        copyIn.writeToCopy(data, offset, length);
+    }
+    
+    /**
+     * End current copy stream.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void endCopy() throws SQLException {
+        if (null == copyIn) {
+            return;
+        }
+        CopyIn currentCopyIn = copyIn;
+        copyIn = null;
+        currentSQL = null;
+        if (trailer.length > 0) {
+            currentCopyIn.writeToCopy(trailer, 0, trailer.length);
+        }
+        currentCopyIn.endCopy();
+    }
+    
+    /**
+     * Commit copied data if connection is dedicated to copy.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void commit() throws SQLException {
+        if (dedicated) {
+            connection.commit();
+        }
+    }
+    
+    /**
+     * Close connection, active copy stream will be canceled, uncommitted data and replayed session variables of dedicated connection will be rolled back and reset.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        try {
+            if (null != copyIn && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } finally {
+            copyIn = null;
+            currentSQL = null;
+            if (dedicated) {
+                closeDedicatedConnection();
+            }
+        }
+    }
+    
+    private void closeDedicatedConnection() throws SQLException {
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+            resetSessionVariables();
+        } finally {
+            connection.close();
+        }
+    }
+    
+    private void resetSessionVariables() throws SQLException {
+        if (resetSQLs.isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String each : resetSQLs) {
+                statement.execute(each);
+            }
+        }
+    }
+}
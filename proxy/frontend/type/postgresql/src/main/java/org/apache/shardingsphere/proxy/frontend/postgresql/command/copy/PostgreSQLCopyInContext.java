@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRowParser;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route.PostgreSQLCopyRowRouter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Context of PostgreSQL copy from stdin, which parses copy data into rows and streams rows to copy streams of their targets.
+ * 
+ * <p>PostgreSQL runs at most one copy stream on a connection at a time. Out of transaction, each target owns a dedicated connection,
+ * so the copy stream of each data source and table stays open until copy completes. In transaction, targets of the same data source
+ * share the connection of the session, and the copy stream is restarted when flushed target changes.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInContext {
+    
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyRowParser parser;
+    
+    private final PostgreSQLCopyRowRouter router;
+    
+    private final Map<PostgreSQLCopyTarget, ByteBuf> buffers = new LinkedHashMap<>();
+    
+    private final Map<PostgreSQLCopyTarget, PostgreSQLCopyInConnection> targetConnections = new HashMap<>();
+    
+    private final Map<String, PostgreSQLCopyInConnection> transactionConnections = new HashMap<>();
+    
+    private final Collection<PostgreSQLCopyInConnection> connections = new LinkedList<>();
+    
+    private long rowCount;
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final ByteBuf data) throws SQLException {
+        for (PostgreSQLCopyRow each : parser.parse(data)) {
+            write(each);
+        }
+    }
+    
+    private void write(final PostgreSQLCopyRow row) throws SQLException {
+        rowCount++;
+        for (PostgreSQLCopyTarget each : router.route(row)) {
+            ByteBuf buffer = buffers.computeIfAbsent(each, unused -> Unpooled.buffer());
+            buffer.writeBytes(row.getData());
+            if (buffer.readableBytes() >= FLUSH_THRESHOLD) {
+                flush(each, buffer);
+            }
+        }
+    }
+    
+    private void flush(final PostgreSQLCopyTarget target, final ByteBuf buffer) throws SQLException {
+        if (!buffer.isReadable()) {
+            return;
+        }
+        getConnection(target).write(target.getSql(), buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+        buffer.clear();
+    }
+    
+    private PostgreSQLCopyInConnection getConnection(final PostgreSQLCopyTarget target) throws SQLException {
+        PostgreSQLCopyInConnection result = targetConnections.get(target);
+        if (null == result) {
+            result = connectionSession.getTransactionStatus().isInTransaction() ? getTransactionConnection(target.getDataSourceName()) : createDedicatedConnection(target.getDataSourceName());
+            targetConnections.put(target, result);
+        }
+        return result;
+    }
+    
+    private PostgreSQLCopyInConnection getTransactionConnection(final String dataSourceName) throws SQLException {
+        PostgreSQLCopyInConnection result = transactionConnections.get(dataSourceName);
+        if (null == result) {
+            Connection connection = connectionSession.getBackendConnection().getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            result = new PostgreSQLCopyInConnection(connection, false, Collections.emptyList(), parser.getHeader(), parser.getTrailer());
+            transactionConnections.put(dataSourceName, result);
+            connections.add(result);
+        }
+        return result;
+    }
+    
+    private PostgreSQLCopyInConnection createDedicatedConnection(final String dataSourceName) throws SQLException {
+        Connection connection = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        PostgreSQLCopyInConnection result;
+        try {
+            result = new PostgreSQLCopyInConnection(connection, true, replaySessionVariables(connection), parser.getHeader(), parser.getTrailer());
+            connection.setAutoCommit(false);
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+        connections.add(result);
+        return result;
+    }
+    
+    private Collection<String> replaySessionVariables(final Connection connection) throws SQLException {
+        String databaseType = connection.getMetaData().getDatabaseProductName();
+        Optional<String> replaySQL = connectionSession.getRequiredSessionVariableRecorder().toReplaySQL(databaseType);
+        if (!replaySQL.isPresent()) {
+            return Collections.emptyList();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(replaySQL.get());
+        }
+        return connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
+    }
+    
+    /**
+     * Complete copy, all buffered rows will be flushed and copied data will be committed if copy is not in transaction.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long complete() throws SQLException {
+        for (PostgreSQLCopyRow each : parser.finish()) {
+            write(each);
+        }
+        for (Entry<PostgreSQLCopyTarget, ByteBuf> entry : buffers.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+        for (PostgreSQLCopyInConnection each : connections) {
+            each.endCopy();
+        }
+        for (PostgreSQLCopyInConnection each : connections) {
+            each.commit();
+        }
+        return rowCount;
+    }
+    
+    /**
+     * Close context, uncompleted copy streams will be canceled.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        for (ByteBuf each : buffers.values()) {
+            each.release();
+        }
+        buffers.clear();
+        parser.close();
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (PostgreSQLCopyInConnection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        targetConnections.clear();
+        transactionConnections.clear();
+        connections.clear();
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Copy options for PostgreSQL.
+ */
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private static final Collection<String> TRUE_VALUES = new HashSet<>(Arrays.asList("true", "on", "1", "match"));
+    
+    private final String format;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final boolean header;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    public PostgreSQLCopyOptions(final Map<String, String> options) {
+        format = options.getOrDefault("format", "text").toLowerCase();
+        delimiter = getFirstChar(options.get("delimiter"), isCSV() ? ',' : '\t');
+        nullString = options.getOrDefault("null", isCSV() ? "" : "\\N");
+        header = TRUE_VALUES.contains(options.getOrDefault("header", "false").toLowerCase());
+        quote = getFirstChar(options.get("quote"), '"');
+        escape = getFirstChar(options.get("escape"), quote);
+    }
+    
+    private char getFirstChar(final String value, final char defaultValue) {
+        return null == value || value.isEmpty() ? defaultValue : value.charAt(0);
+    }
+    
+    /**
+     * Judge whether copy format is binary.
+     *
+     * @return is binary format or not
+     */
+    public boolean isBinary() {
+        return "binary".equals(format);
+    }
+    
+    /**
+     * Judge whether copy format is CSV.
+     *
+     * @return is CSV format or not
+     */
+    public boolean isCSV() {
+        return "csv".equals(format);
+    }
+}
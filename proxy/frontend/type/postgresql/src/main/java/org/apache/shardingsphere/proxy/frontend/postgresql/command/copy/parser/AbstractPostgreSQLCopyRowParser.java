@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Abstract copy row parser for PostgreSQL.
+ * 
+ * <p>Only bytes of the incomplete row are buffered between two parsing, so memory is bounded by row size rather than copy size.
+ * Backend connections always use UTF-8 as client encoding, so rows in other client encoding are transcoded to UTF-8 before copied to backend.</p>
+ */
+public abstract class AbstractPostgreSQLCopyRowParser implements PostgreSQLCopyRowParser {
+    
+    private final ByteBuf pending = Unpooled.buffer();
+    
+    private final int[] keyColumnIndexes;
+    
+    private final int maxKeyColumnIndex;
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final Charset charset;
+    
+    private final boolean transcodingRequired;
+    
+    private boolean headerPending;
+    
+    @Getter
+    private byte[] header = new byte[0];
+    
+    private boolean finished;
+    
+    protected AbstractPostgreSQLCopyRowParser(final int[] keyColumnIndexes, final boolean headerPending, final Charset charset) {
+        this.keyColumnIndexes = keyColumnIndexes;
+        int maxIndex = -1;
+        for (int each : keyColumnIndexes) {
+            maxIndex = Math.max(maxIndex, each);
+        }
+        maxKeyColumnIndex = maxIndex;
+        this.headerPending = headerPending;
+        this.charset = charset;
+        transcodingRequired = !StandardCharsets.UTF_8.equals(charset);
+    }
+    
+    @Override
+    public final List<PostgreSQLCopyRow> parse(final ByteBuf data) {
+        if (finished) {
+            return Collections.emptyList();
+        }
+        pending.writeBytes(data, data.readerIndex(), data.readableBytes());
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        int length = getUnitLength(pending, headerPending);
+        while (length >= 0) {
+            byte[] unit = new byte[length];
+            pending.readBytes(unit);
+            handleUnit(unit, result);
+            length = finished ? -1 : getUnitLength(pending, headerPending);
+        }
+        pending.discardReadBytes();
+        return result;
+    }
+    
+    private void handleUnit(final byte[] unit, final List<PostgreSQLCopyRow> rows) {
+        if (headerPending) {
+            checkHeader(unit);
+            header = toBackendData(unit);
+            headerPending = false;
+            return;
+        }
+        if (isEndOfData(unit)) {
+            finished = true;
+            return;
+        }
+        rows.add(new PostgreSQLCopyRow(toBackendData(unit), getKeyValues(unit)));
+    }
+    
+    private byte[] toBackendData(final byte[] unit) {
+        return transcodingRequired ? new String(unit, charset).getBytes(StandardCharsets.UTF_8) : unit;
+    }
+    
+    @Override
+    public final List<PostgreSQLCopyRow> finish() {
+        if (finished || !pending.isReadable()) {
+            return Collections.emptyList();
+        }
+        byte[] remaining = new byte[pending.readableBytes()];
+        pending.readBytes(remaining);
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        handleUnit(toLastUnit(remaining), result);
+        finished = true;
+        return result;
+    }
+    
+    private List<Object> getKeyValues(final byte[] row) {
+        if (0 == keyColumnIndexes.length) {
+            return Collections.emptyList();
+        }
+        List<Object> fields = getFields(row, maxKeyColumnIndex + 1);
+        if (fields.size() <= maxKeyColumnIndex) {
+            throw new BadCopyFileFormatException("missing data for column");
+        }
+        List<Object> result = new ArrayList<>(keyColumnIndexes.length);
+        for (int each : keyColumnIndexes) {
+            result.add(fields.get(each));
+        }
+        return result;
+    }
+    
+    protected final int getLineLength(final byte[] unit) {
+        int result = unit.length;
+        if (result > 0 && '\n' == unit[result - 1]) {
+            result--;
+        }
+        if (result > 0 && '\r' == unit[result - 1]) {
+            result--;
+        }
+        return result;
+    }
+    
+    protected void checkHeader(final byte[] header) {
+    }
+    
+    protected boolean isEndOfData(final byte[] unit) {
+        return 2 == getLineLength(unit) && '\\' == unit[0] && '.' == unit[1];
+    }
+    
+    protected byte[] toLastUnit(final byte[] remaining) {
+        byte[] result = new byte[remaining.length + 1];
+        System.arraycopy(remaining, 0, result, 0, remaining.length);
+        result[remaining.length] = '\n';
+        return result;
+    }
+    
+    @Override
+    public byte[] getTrailer() {
+        return new byte[0];
+    }
+    
+    @Override
+    public final void close() {
+        pending.release();
+    }
+    
+    /**
+     * Get length of next unit, which is a row or header.
+     *
+     * @param buffer buffer
+     * @param header whether next unit is header
+     * @return length of next unit, or -1 if next unit is incomplete
+     */
+    protected abstract int getUnitLength(ByteBuf buffer, boolean header);
+    
+    /**
+     * Get fields of row.
+     *
+     * @param row row
+     * @param maxFieldCount max count of fields to be parsed
+     * @return fields of row
+     */
+    protected abstract List<Object> getFields(byte[] row, int maxFieldCount);
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Copy row parser for PostgreSQL binary format.
+ */
+public final class PostgreSQLBinaryCopyRowParser extends AbstractPostgreSQLCopyRowParser {
+    
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    
+    private static final int HEADER_FIXED_LENGTH = SIGNATURE.length + 8;
+    
+    private static final byte[] TRAILER = {(byte) 0xFF, (byte) 0xFF};
+    
+    public PostgreSQLBinaryCopyRowParser(final int[] keyColumnIndexes) {
+        super(keyColumnIndexes, true, StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    protected int getUnitLength(final ByteBuf buffer, final boolean header) {
+        int readableBytes = buffer.readableBytes();
+        if (header) {
+            if (readableBytes < HEADER_FIXED_LENGTH) {
+                return -1;
+            }
+            int result = HEADER_FIXED_LENGTH + buffer.getInt(buffer.readerIndex() + HEADER_FIXED_LENGTH - 4);
+            return readableBytes < result ? -1 : result;
+        }
+        if (readableBytes < 2) {
+            return -1;
+        }
+        short fieldCount = buffer.getShort(buffer.readerIndex());
+        int result = 2;
+        for (int i = 0; i < fieldCount; i++) {
+            if (readableBytes < result + 4) {
+                return -1;
+            }
+            result += 4 + Math.max(buffer.getInt(buffer.readerIndex() + result), 0);
+        }
+        return readableBytes < result ? -1 : result;
+    }
+    
+    @Override
+    protected void checkHeader(final byte[] header) {
+        if (!Arrays.equals(SIGNATURE, Arrays.copyOf(header, SIGNATURE.length))) {
+            throw new BadCopyFileFormatException("COPY file signature not recognized");
+        }
+    }
+    
+    @Override
+    protected boolean isEndOfData(final byte[] unit) {
+        return Arrays.equals(TRAILER, unit);
+    }
+    
+    @Override
+    protected byte[] toLastUnit(final byte[] remaining) {
+        throw new BadCopyFileFormatException("unexpected EOF in COPY data");
+    }
+    
+    @Override
+    protected List<Object> getFields(final byte[] row, final int maxFieldCount) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(row);
+        int fieldCount = Math.min(buffer.readShort(), maxFieldCount);
+        List<Object> result = new LinkedList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            int length = buffer.readInt();
+            if (length < 0) {
+                result.add(null);
+                continue;
+            }
+            byte[] value = new byte[length];
+            buffer.readBytes(value);
+            result.add(value);
+        }
+        return result;
+    }
+    
+    @Override
+    public byte[] getTrailer() {
+        return TRAILER;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyOptions;
+
+import java.nio.charset.Charset;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Copy row parser for PostgreSQL CSV format.
+ */
+public final class PostgreSQLCSVCopyRowParser extends AbstractPostgreSQLCopyRowParser {
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    public PostgreSQLCSVCopyRowParser(final PostgreSQLCopyOptions options, final int[] keyColumnIndexes, final Charset charset) {
+        super(keyColumnIndexes, options.isHeader(), charset);
+        delimiter = options.getDelimiter();
+        nullString = options.getNullString();
+        quote = options.getQuote();
+        escape = options.getEscape();
+    }
+    
+    @Override
+    protected int getUnitLength(final ByteBuf buffer, final boolean header) {
+        boolean inQuotes = false;
+        int index = buffer.readerIndex();
+        while (index < buffer.writerIndex()) {
+            byte each = buffer.getByte(index);
+            if (inQuotes && escape != quote && escape == each) {
+                index += 2;
+                continue;
+            }
+            if (quote == each) {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && '\n' == each) {
+                return index - buffer.readerIndex() + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    @Override
+    protected List<Object> getFields(final byte[] row, final int maxFieldCount) {
+        String line = new String(row, 0, getLineLength(row), getCharset());
+        List<Object> result = new LinkedList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        int index = 0;
+        while (index < line.length() && result.size() < maxFieldCount) {
+            char each = line.charAt(index);
+            if (inQuotes && escape == each && index + 1 < line.length() && (quote == line.charAt(index + 1) || escape == line.charAt(index + 1))) {
+                field.append(line.charAt(index + 1));
+                index += 2;
+                continue;
+            }
+            if (quote == each) {
+                inQuotes = !inQuotes;
+                quoted = true;
+            } else if (!inQuotes && delimiter == each) {
+                result.add(toValue(field, quoted));
+                field.setLength(0);
+                quoted = false;
+            } else {
+                field.append(each);
+            }
+            index++;
+        }
+        if (result.size() < maxFieldCount) {
+            result.add(toValue(field, quoted));
+        }
+        return result;
+    }
+    
+    private String toValue(final StringBuilder field, final boolean quoted) {
+        String result = field.toString();
+        return !quoted && nullString.equals(result) ? null : result;
+    }
+}
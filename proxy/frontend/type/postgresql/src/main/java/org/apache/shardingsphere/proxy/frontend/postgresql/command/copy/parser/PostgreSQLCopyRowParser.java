@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.List;
+
+/**
+ * Copy row parser for PostgreSQL.
+ */
+public interface PostgreSQLCopyRowParser extends AutoCloseable {
+    
+    /**
+     * Parse complete rows of copy data, bytes of incomplete row are kept until more data arrives.
+     *
+     * @param data copy data
+     * @return parsed rows
+     */
+    List<PostgreSQLCopyRow> parse(ByteBuf data);
+    
+    /**
+     * Finish parsing after all copy data received.
+     *
+     * @return rows parsed from remaining bytes
+     */
+    List<PostgreSQLCopyRow> finish();
+    
+    /**
+     * Get header, which should be sent before rows of each backend copy stream.
+     *
+     * @return header
+     */
+    byte[] getHeader();
+    
+    /**
+     * Get trailer, which should be sent after rows of each backend copy stream.
+     *
+     * @return trailer
+     */
+    byte[] getTrailer();
+    
+    @Override
+    void close();
+}
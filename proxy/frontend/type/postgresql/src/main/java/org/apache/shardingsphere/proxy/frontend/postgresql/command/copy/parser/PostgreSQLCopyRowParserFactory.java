@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyOptions;
+
+import java.nio.charset.Charset;
+
+/**
+ * Copy row parser factory for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyRowParserFactory {
+    
+    /**
+     * Create new instance of copy row parser.
+     *
+     * @param options copy options
+     * @param keyColumnIndexes indexes of columns whose values are required for routing
+     * @param charset charset of copy data
+     * @return created instance
+     */
+    public static PostgreSQLCopyRowParser newInstance(final PostgreSQLCopyOptions options, final int[] keyColumnIndexes, final Charset charset) {
+        if (options.isBinary()) {
+            return new PostgreSQLBinaryCopyRowParser(keyColumnIndexes);
+        }
+        return options.isCSV() ? new PostgreSQLCSVCopyRowParser(options, keyColumnIndexes, charset) : new PostgreSQLTextCopyRowParser(options, keyColumnIndexes, charset);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyOptions;
+
+import java.nio.charset.Charset;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Copy row parser for PostgreSQL text format.
+ */
+public final class PostgreSQLTextCopyRowParser extends AbstractPostgreSQLCopyRowParser {
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    public PostgreSQLTextCopyRowParser(final PostgreSQLCopyOptions options, final int[] keyColumnIndexes, final Charset charset) {
+        super(keyColumnIndexes, options.isHeader(), charset);
+        delimiter = options.getDelimiter();
+        nullString = options.getNullString();
+    }
+    
+    @Override
+    protected int getUnitLength(final ByteBuf buffer, final boolean header) {
+        int index = buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), (byte) '\n');
+        return -1 == index ? -1 : index - buffer.readerIndex() + 1;
+    }
+    
+    @Override
+    protected List<Object> getFields(final byte[] row, final int maxFieldCount) {
+        String line = new String(row, 0, getLineLength(row), getCharset());
+        List<Object> result = new LinkedList<>();
+        int start = 0;
+        int index = 0;
+        while (index < line.length() && result.size() < maxFieldCount) {
+            char each = line.charAt(index);
+            if ('\\' == each) {
+                index += 2;
+                continue;
+            }
+            if (delimiter == each) {
+                result.add(decodeField(line.substring(start, index)));
+                start = index + 1;
+            }
+            index++;
+        }
+        if (result.size() < maxFieldCount) {
+            result.add(decodeField(line.substring(Math.min(start, line.length()))));
+        }
+        return result;
+    }
+    
+    private String decodeField(final String field) {
+        if (nullString.equals(field)) {
+            return null;
+        }
+        if (-1 == field.indexOf('\\')) {
+            return field;
+        }
+        StringBuilder result = new StringBuilder(field.length());
+        int index = 0;
+        while (index < field.length()) {
+            char each = field.charAt(index++);
+            if ('\\' == each && index < field.length()) {
+                result.append(unescape(field.charAt(index++)));
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private char unescape(final char escaped) {
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return (char) 11;
+            default:
+                return escaped;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import org.apache.shardingsphere.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Route engine of PostgreSQL copy statement.
+ */
+public final class PostgreSQLCopyRouteEngine {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final QueryContext queryContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final String logicTableName;
+    
+    private final ShardingRule shardingRule;
+    
+    public PostgreSQLCopyRouteEngine(final ShardingSphereDatabase database, final QueryContext queryContext, final ConnectionSession connectionSession) {
+        this.database = database;
+        this.queryContext = queryContext;
+        this.connectionSession = connectionSession;
+        copyStatement = (PostgreSQLCopyStatement) queryContext.getSqlStatementContext().getSqlStatement();
+        logicTableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        checkRewriteRules();
+        shardingRule = database.getRuleMetaData().findSingleRule(ShardingRule.class).filter(each -> each.isShardingTable(logicTableName)).orElse(null);
+    }
+    
+    private void checkRewriteRules() {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each instanceof TableContainedRule && !(each instanceof DataNodeContainedRule) && containsTable((TableContainedRule) each)) {
+                throw new UnsupportedSQLOperationException(String.format("COPY table `%s` with rule `%s`", logicTableName, each.getType()));
+            }
+        }
+    }
+    
+    private boolean containsTable(final TableContainedRule rule) {
+        return rule.getTables().stream().anyMatch(logicTableName::equalsIgnoreCase);
+    }
+    
+    /**
+     * Get names of columns in copy data.
+     *
+     * @return column names
+     */
+    public List<String> getColumnNames() {
+        if (!copyStatement.getColumns().isEmpty()) {
+            List<String> result = new ArrayList<>(copyStatement.getColumns().size());
+            for (ColumnSegment each : copyStatement.getColumns()) {
+                result.add(each.getIdentifier().getValue());
+            }
+            return result;
+        }
+        return new ArrayList<>(getTable().getColumnNames());
+    }
+    
+    private ShardingSphereTable getTable() {
+        ShardingSphereTable result = findTable().orElse(null);
+        ShardingSpherePreconditions.checkNotNull(result, () -> new NoSuchTableException(logicTableName));
+        return result;
+    }
+    
+    private Optional<ShardingSphereTable> findTable() {
+        SimpleTableSegment tableSegment = copyStatement.getTableSegment();
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        return null == schema ? Optional.empty() : Optional.ofNullable(schema.getTable(logicTableName));
+    }
+    
+    /**
+     * Route copy statement to all of its targets.
+     *
+     * @return copy targets
+     */
+    public Collection<PostgreSQLCopyTarget> routeAll() {
+        if (null != shardingRule) {
+            return getShardingTargets().values();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        Collection<PostgreSQLCopyTarget> result = new LinkedHashSet<>();
+        for (ExecutionUnit each : new KernelProcessor().generateExecutionContext(
+                queryContext, database, metaData.getGlobalRuleMetaData(), metaData.getProps(), connectionSession.getConnectionContext()).getExecutionUnits()) {
+            checkDataSource(each.getDataSourceName());
+            result.add(new PostgreSQLCopyTarget(each.getDataSourceName(), each.getSqlUnit().getSql()));
+        }
+        return result;
+    }
+    
+    /**
+     * Create row router of copy data.
+     *
+     * @return created row router
+     */
+    public PostgreSQLCopyRowRouter createRowRouter() {
+        if (null == shardingRule) {
+            return new PostgreSQLFixedCopyRowRouter(routeAll());
+        }
+        List<String> columnNames = getColumnNames();
+        ShardingSphereTable table = findTable().orElse(null);
+        Map<String, Integer> shardingColumnTypes = new LinkedHashMap<>();
+        Collection<Integer> keyColumnIndexes = new LinkedList<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            Optional<String> shardingColumn = shardingRule.findShardingColumn(columnNames.get(i), logicTableName);
+            if (shardingColumn.isPresent()) {
+                ShardingSphereColumn column = null == table ? null : table.getColumns().get(columnNames.get(i).toLowerCase());
+                shardingColumnTypes.put(shardingColumn.get(), null == column ? Types.VARCHAR : column.getDataType());
+                keyColumnIndexes.add(i);
+            }
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        return new PostgreSQLShardingCopyRowRouter(shardingRule, logicTableName, metaData.getProps(), getShardingTargets(),
+                shardingColumnTypes, keyColumnIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+    
+    private Map<DataNode, PostgreSQLCopyTarget> getShardingTargets() {
+        Map<DataNode, PostgreSQLCopyTarget> result = new LinkedHashMap<>();
+        for (DataNode each : shardingRule.getTableRule(logicTableName).getActualDataNodes()) {
+            checkDataSource(each.getDataSourceName());
+            result.put(each, new PostgreSQLCopyTarget(each.getDataSourceName(), getActualSQL(each.getTableName())));
+        }
+        return result;
+    }
+    
+    private void checkDataSource(final String dataSourceName) {
+        ShardingSpherePreconditions.checkState(database.getResourceMetaData().getDataSources().containsKey(dataSourceName),
+                () -> new UnsupportedSQLOperationException(String.format("COPY to logic data source `%s`", dataSourceName)));
+    }
+    
+    private String getActualSQL(final String actualTableName) {
+        String sql = queryContext.getSql();
+        SimpleTableSegment tableSegment = copyStatement.getTableSegment();
+        int stopIndex = tableSegment.getAlias().isPresent() ? tableSegment.getTableName().getStopIndex() : tableSegment.getStopIndex();
+        return sql.substring(0, tableSegment.getTableName().getStartIndex()) + actualTableName + sql.substring(stopIndex + 1);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+
+import java.util.Collection;
+
+/**
+ * Copy row router for PostgreSQL.
+ */
+public interface PostgreSQLCopyRowRouter {
+    
+    /**
+     * Get indexes of columns whose values are required for routing.
+     *
+     * @return indexes of key columns
+     */
+    int[] getKeyColumnIndexes();
+    
+    /**
+     * Route copy row.
+     *
+     * @param row copy row
+     * @return copy targets
+     */
+    Collection<PostgreSQLCopyTarget> route(PostgreSQLCopyRow row);
+}
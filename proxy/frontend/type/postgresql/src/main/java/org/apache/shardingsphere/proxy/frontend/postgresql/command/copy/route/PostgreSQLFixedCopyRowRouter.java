@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+
+import java.util.Collection;
+
+/**
+ * Copy row router for PostgreSQL, which routes every row to the same targets.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLFixedCopyRowRouter implements PostgreSQLCopyRowRouter {
+    
+    private final Collection<PostgreSQLCopyTarget> targets;
+    
+    @Override
+    public int[] getKeyColumnIndexes() {
+        return new int[0];
+    }
+    
+    @Override
+    public Collection<PostgreSQLCopyTarget> route(final PostgreSQLCopyRow row) {
+        return targets;
+    }
+}
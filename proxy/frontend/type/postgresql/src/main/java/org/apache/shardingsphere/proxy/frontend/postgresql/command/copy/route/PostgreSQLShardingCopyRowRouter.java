@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLShardingValueRouter;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Copy row router for PostgreSQL sharding table, which routes each row by values of its sharding columns.
+ * 
+ * <p>Values of sharding columns are converted once for each row and routed by {@link PostgreSQLShardingValueRouter}.</p>
+ */
+public final class PostgreSQLShardingCopyRowRouter implements PostgreSQLCopyRowRouter {
+    
+    private final String logicTableName;
+    
+    private final Map<String, Map<String, Collection<PostgreSQLCopyTarget>>> targets;
+    
+    private final int[] shardingColumnTypes;
+    
+    private final PostgreSQLShardingValueRouter shardingValueRouter;
+    
+    @Getter
+    private final int[] keyColumnIndexes;
+    
+    public PostgreSQLShardingCopyRowRouter(final ShardingRule shardingRule, final String logicTableName, final ConfigurationProperties props,
+                                           final Map<DataNode, PostgreSQLCopyTarget> targets, final Map<String, Integer> shardingColumnTypes, final int[] keyColumnIndexes) {
+        this.logicTableName = logicTableName;
+        this.targets = createTargets(targets);
+        this.shardingColumnTypes = shardingColumnTypes.values().stream().mapToInt(Integer::intValue).toArray();
+        this.keyColumnIndexes = keyColumnIndexes;
+        shardingValueRouter = new PostgreSQLShardingValueRouter(shardingRule, logicTableName, props, new ArrayList<>(shardingColumnTypes.keySet()));
+    }
+    
+    private Map<String, Map<String, Collection<PostgreSQLCopyTarget>>> createTargets(final Map<DataNode, PostgreSQLCopyTarget> targets) {
+        Map<String, Map<String, Collection<PostgreSQLCopyTarget>>> result = new HashMap<>();
+        for (Entry<DataNode, PostgreSQLCopyTarget> entry : targets.entrySet()) {
+            result.computeIfAbsent(entry.getKey().getDataSourceName().toLowerCase(), key -> new HashMap<>())
+                    .put(entry.getKey().getTableName().toLowerCase(), Collections.singleton(entry.getValue()));
+        }
+        return result;
+    }
+    
+    @Override
+    public Collection<PostgreSQLCopyTarget> route(final PostgreSQLCopyRow row) {
+        DataNode dataNode = shardingValueRouter.route(getShardingValues(row)).orElseThrow(
+                () -> new UnsupportedSQLOperationException(String.format("COPY row of table `%s` can not be routed to a single data node", logicTableName)));
+        Collection<PostgreSQLCopyTarget> result = targets.getOrDefault(dataNode.getDataSourceName().toLowerCase(), Collections.emptyMap()).get(dataNode.getTableName().toLowerCase());
+        ShardingSpherePreconditions.checkState(null != result, () -> new UnsupportedSQLOperationException(
+                String.format("COPY row of table `%s` routed to unknown data node `%s.%s`", logicTableName, dataNode.getDataSourceName(), dataNode.getTableName())));
+        return result;
+    }
+    
+    private Comparable<?>[] getShardingValues(final PostgreSQLCopyRow row) {
+        Comparable<?>[] result = new Comparable<?>[shardingColumnTypes.length];
+        Iterator<Object> keyValues = row.getKeyValues().iterator();
+        for (int i = 0; i < shardingColumnTypes.length; i++) {
+            result[i] = convert(keyValues.next(), shardingColumnTypes[i]);
+        }
+        return result;
+    }
+    
+    private Comparable<?> convert(final Object value, final int sqlType) {
+        if (null == value) {
+            return null;
+        }
+        return value instanceof byte[] ? convertBinaryValue((byte[]) value, sqlType) : convertTextValue((String) value, sqlType);
+    }
+    
+    private Comparable<?> convertTextValue(final String value, final int sqlType) {
+        switch (sqlType) {
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(value);
+            case Types.BIGINT:
+                return Long.parseLong(value);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            default:
+                return value;
+        }
+    }
+    
+    private Comparable<?> convertBinaryValue(final byte[] value, final int sqlType) {
+        switch (sqlType) {
+            case Types.SMALLINT:
+                return (int) ByteBuffer.wrap(value).getShort();
+            case Types.INTEGER:
+                return ByteBuffer.wrap(value).getInt();
+            case Types.BIGINT:
+                return ByteBuffer.wrap(value).getLong();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new String(value, StandardCharsets.UTF_8);
+            default:
+                throw new UnsupportedSQLOperationException(String.format("COPY binary value of SQL type `%s` as sharding value", sqlType));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLShardingValueRouter;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.single.rule.SingleRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Sharding router for batched insert statements of PostgreSQL.
+ * 
+ * <p>Sharding values of all parameter sets are routed in one pass without rewriting, so that only one rewritten SQL is required for each data node.
+ * The statement shape is checked once when creating the router: there is exactly one VALUES row, so every parameter set binds the same parameter markers,
+ * and only the sharding values differ between parameter sets. Sharding values of every parameter set are routed,
+ * and the whole batch falls back to the regular route if any of them can not be routed to exactly one data node.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLBatchedInsertShardingRouter {
+    
+    private final PostgreSQLShardingValueRouter shardingValueRouter;
+    
+    private final int[] shardingParameterIndexes;
+    
+    /**
+     * Create new instance of sharding router if batched insert statement can be routed without rewriting.
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param props configuration properties
+     * @return created instance
+     */
+    public static Optional<PostgreSQLBatchedInsertShardingRouter> newInstance(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext,
+                                                                              final ConfigurationProperties props) {
+        if (!(sqlStatementContext instanceof InsertStatementContext) || !isOnlyShardingRulesPresent(database.getRuleMetaData().getRules())) {
+            return Optional.empty();
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        if (!isSingleValuesInsert(insertStatementContext)) {
+            return Optional.empty();
+        }
+        String logicTableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        Optional<ShardingRule> shardingRule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        Optional<TableRule> tableRule = shardingRule.flatMap(optional -> optional.findTableRule(logicTableName));
+        if (!tableRule.isPresent() || isShardingByHint(shardingRule.get(), tableRule.get())) {
+            return Optional.empty();
+        }
+        Map<String, Integer> shardingParameterIndexes = new LinkedHashMap<>();
+        Iterator<String> columnNames = insertStatementContext.getColumnNames().iterator();
+        for (ExpressionSegment each : insertStatementContext.getInsertValueContexts().get(0).getValueExpressions()) {
+            if (!columnNames.hasNext()) {
+                return Optional.empty();
+            }
+            Optional<String> shardingColumn = shardingRule.get().findShardingColumn(columnNames.next(), logicTableName);
+            if (!shardingColumn.isPresent()) {
+                continue;
+            }
+            if (!(each instanceof ParameterMarkerExpressionSegment)) {
+                return Optional.empty();
+            }
+            shardingParameterIndexes.put(shardingColumn.get(), ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex());
+        }
+        if (shardingParameterIndexes.isEmpty()) {
+            return Optional.empty();
+        }
+        PostgreSQLShardingValueRouter shardingValueRouter = new PostgreSQLShardingValueRouter(shardingRule.get(), logicTableName, props, new ArrayList<>(shardingParameterIndexes.keySet()));
+        return Optional.of(new PostgreSQLBatchedInsertShardingRouter(shardingValueRouter, shardingParameterIndexes.values().stream().mapToInt(Integer::intValue).toArray()));
+    }
+    
+    private static boolean isOnlyShardingRulesPresent(final Iterable<ShardingSphereRule> rules) {
+        for (ShardingSphereRule each : rules) {
+            if (!(each instanceof ShardingRule) && !(each instanceof SingleRule)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSingleValuesInsert(final InsertStatementContext insertStatementContext) {
+        Optional<GeneratedKeyContext> generatedKeyContext = insertStatementContext.getGeneratedKeyContext();
+        return null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && 1 == insertStatementContext.getInsertValueContexts().size() && (!generatedKeyContext.isPresent() || !generatedKeyContext.get().isGenerated());
+    }
+    
+    private static boolean isShardingByHint(final ShardingRule shardingRule, final TableRule tableRule) {
+        return shardingRule.getDatabaseShardingStrategyConfiguration(tableRule) instanceof HintShardingStrategyConfiguration
+                || shardingRule.getTableShardingStrategyConfiguration(tableRule) instanceof HintShardingStrategyConfiguration;
+    }
+    
+    /**
+     * Route parameter sets to data nodes.
+     *
+     * @param parameterSets parameter sets
+     * @return indexes of parameter sets grouped by data node, empty if any parameter set can not be routed to exactly one data node
+     */
+    public Optional<Map<String, int[]>> route(final List<List<Object>> parameterSets) {
+        Map<String, RowIndexes> rowIndexes = new LinkedHashMap<>();
+        int rowIndex = 0;
+        for (List<Object> each : parameterSets) {
+            Optional<String> dataNode = findDataNode(each);
+            if (!dataNode.isPresent()) {
+                return Optional.empty();
+            }
+            rowIndexes.computeIfAbsent(dataNode.get(), unused -> new RowIndexes()).add(rowIndex++);
+        }
+        Map<String, int[]> result = new LinkedHashMap<>(rowIndexes.size(), 1F);
+        for (Entry<String, RowIndexes> entry : rowIndexes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().toArray());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<String> findDataNode(final List<Object> params) {
+        Comparable<?>[] shardingValues = new Comparable<?>[shardingParameterIndexes.length];
+        for (int i = 0; i < shardingParameterIndexes.length; i++) {
+            Object value = params.get(shardingParameterIndexes[i]);
+            if (!(value instanceof Comparable)) {
+                return Optional.empty();
+            }
+            shardingValues[i] = (Comparable<?>) value;
+        }
+        return shardingValueRouter.route(shardingValues).map(DataNode::format);
+    }
+    
+    private static final class RowIndexes {
+        
+        private int[] values = new int[16];
+        
+        private int size;
+        
+        private void add(final int value) {
+            if (values.length == size) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+        
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -53,6 +53,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -95,7 +96,14 @@ public final class PostgreSQLBatchedStatementsExecutor {
         if (parameterSetsIterator.hasNext()) {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
             sqlStatementContext = createSQLStatementContext(firstGroupOfParam);
-            executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam));
+            QueryContext firstQueryContext = createQueryContext(sqlStatementContext, firstGroupOfParam);
+            audit(firstQueryContext);
+            Optional<Map<String, int[]>> groupedParameterSets = routeGroupedParameterSets(sqlStatementContext, parameterSets);
+            if (groupedParameterSets.isPresent()) {
+                anyExecutionContext = prepareForGroupedParametersSets(sqlStatementContext, parameterSets, groupedParameterSets.get());
+                return;
+            }
+            executionContext = createExecutionContext(firstQueryContext);
             for (ExecutionUnit each : executionContext.getExecutionUnits()) {
                 executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
             }
@@ -122,14 +130,45 @@ public final class PostgreSQLBatchedStatementsExecutor {
         }
     }
     
+    private Optional<Map<String, int[]>> routeGroupedParameterSets(final SQLStatementContext<?> sqlStatementContext, final List<List<Object>> parameterSets) {
+        if (parameterSets.size() < 2) {
+            return Optional.empty();
+        }
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        return PostgreSQLBatchedInsertShardingRouter.newInstance(database, sqlStatementContext, metaDataContexts.getMetaData().getProps()).flatMap(optional -> optional.route(parameterSets));
+    }
+    
+    private ExecutionContext prepareForGroupedParametersSets(final SQLStatementContext<?> sqlStatementContext, final List<List<Object>> parameterSets,
+                                                             final Map<String, int[]> groupedParameterSets) {
+        ExecutionContext result = null;
+        for (int[] each : groupedParameterSets.values()) {
+            List<Object> representativeParams = parameterSets.get(each[0]);
+            ((ParameterAware) sqlStatementContext).setUpParameters(representativeParams);
+            ExecutionContext executionContext = createExecutionContext(createQueryContext(sqlStatementContext, representativeParams));
+            if (null == result) {
+                result = executionContext;
+            }
+            List<List<Object>> params = new ArrayList<>(each.length);
+            for (int parameterSetIndex : each) {
+                params.add(parameterSets.get(parameterSetIndex));
+            }
+            executionUnitParams.put(executionContext.getExecutionUnits().iterator().next(), params);
+        }
+        return result;
+    }
+    
     private QueryContext createQueryContext(final SQLStatementContext<?> sqlStatementContext, final List<Object> params) {
         return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params);
     }
     
+    private void audit(final QueryContext queryContext) {
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), currentDatabase, null);
+    }
+    
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
         ShardingSphereRuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
         ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
-        SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), globalRuleMetaData, currentDatabase, null);
         return kernelProcessor.generateExecutionContext(queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connectionSession.getConnectionContext());
     }
     
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class PostgreSQLComCopyDataExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLComCopyDataPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @BeforeEach
+    public void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(connectionSession.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        PostgreSQLCopyInContextRegistry.getInstance().remove(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        ByteBuf foo = Unpooled.wrappedBuffer(new byte[]{1});
+        ByteBuf bar = Unpooled.wrappedBuffer(new byte[]{2});
+        when(packet.getData()).thenReturn(Arrays.asList(foo, bar));
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        assertTrue(new PostgreSQLComCopyDataExecutor(connectionSession, packet).execute().isEmpty());
+        verify(copyInContext).write(foo);
+        verify(copyInContext).write(bar);
+        assertTrue(PostgreSQLCopyInContextRegistry.getInstance().find(CONNECTION_ID).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInContext() throws SQLException {
+        assertTrue(new PostgreSQLComCopyDataExecutor(connectionSession, packet).execute().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteWithWriteFailed() throws SQLException {
+        ByteBuf data = Unpooled.wrappedBuffer(new byte[]{1});
+        when(packet.getData()).thenReturn(Collections.singletonList(data));
+        doThrow(SQLException.class).when(copyInContext).write(data);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDataExecutor(connectionSession, packet).execute());
+        verify(copyInContext).close();
+        assertFalse(PostgreSQLCopyInContextRegistry.getInstance().find(CONNECTION_ID).isPresent());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class PostgreSQLComCopyDoneExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @BeforeEach
+    public void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(connectionSession.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        PostgreSQLCopyInContextRegistry.getInstance().remove(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        when(copyInContext.complete()).thenReturn(2L);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        Iterator<DatabasePacket<?>> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute().iterator();
+        assertThat(actual.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        assertFalse(actual.hasNext());
+        verify(copyInContext).close();
+        assertFalse(PostgreSQLCopyInContextRegistry.getInstance().find(CONNECTION_ID).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteInTransaction() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        Iterator<DatabasePacket<?>> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute().iterator();
+        actual.next();
+        assertThat(actual.next(), is(PostgreSQLReadyForQueryPacket.IN_TRANSACTION));
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInContext() throws SQLException {
+        assertTrue(new PostgreSQLComCopyDoneExecutor(connectionSession).execute().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteWithCompleteFailed() throws SQLException {
+        when(copyInContext.complete()).thenThrow(SQLException.class);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDoneExecutor(connectionSession).execute());
+        verify(copyInContext).close();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.CopyFromStdinFailedException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class PostgreSQLComCopyFailExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLComCopyFailPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @BeforeEach
+    public void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(connectionSession.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        PostgreSQLCopyInContextRegistry.getInstance().remove(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        when(packet.getErrorMessage()).thenReturn("aborted by client");
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        assertThrows(CopyFromStdinFailedException.class, () -> new PostgreSQLComCopyFailExecutor(connectionSession, packet).execute());
+        verify(copyInContext).close();
+        assertFalse(PostgreSQLCopyInContextRegistry.getInstance().find(CONNECTION_ID).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInContext() throws SQLException {
+        assertTrue(new PostgreSQLComCopyFailExecutor(connectionSession, packet).execute().isEmpty());
+    }
+}
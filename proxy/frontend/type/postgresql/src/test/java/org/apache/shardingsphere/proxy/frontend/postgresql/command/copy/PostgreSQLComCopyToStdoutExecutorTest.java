@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class PostgreSQLComCopyToStdoutExecutorTest {
+    
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    
+    private static final byte[] TRAILER = {(byte) 0xFF, (byte) 0xFF};
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private CopyManager copyManager;
+    
+    @Test
+    public void assertCopyTextWithHeader() throws SQLException {
+        prepareConnection();
+        mockCopyOut("COPY t_order_0 TO STDOUT", 1L, bytes("id\n"), bytes("1\n"));
+        mockCopyOut("COPY t_order_1 TO STDOUT", 1L, bytes("id\n"), bytes("2\n"));
+        PostgreSQLComCopyToStdoutExecutor executor = new PostgreSQLComCopyToStdoutExecutor(connectionSession, Arrays.asList(
+                new PostgreSQLCopyTarget("ds_0", "COPY t_order_0 TO STDOUT"), new PostgreSQLCopyTarget("ds_0", "COPY t_order_1 TO STDOUT")),
+                new PostgreSQLCopyOptions(Collections.singletonMap("header", "true")), 1);
+        assertThat(executor.execute().iterator().next(), instanceOf(PostgreSQLCopyOutResponsePacket.class));
+        assertNextData(executor, bytes("id\n"));
+        assertNextData(executor, bytes("1\n"));
+        assertNextData(executor, bytes("2\n"));
+        assertFalse(executor.next());
+        assertThat(executor.getRowCount(), is(2L));
+    }
+    
+    @Test
+    public void assertCopyBinary() throws SQLException {
+        prepareConnection();
+        byte[] row = {0, 1, 0, 0, 0, 1, 1};
+        mockCopyOut("COPY t_order_0 TO STDOUT (FORMAT binary)", 1L, concat(HEADER, row), TRAILER);
+        mockCopyOut("COPY t_order_1 TO STDOUT (FORMAT binary)", 0L, concat(HEADER, TRAILER));
+        PostgreSQLComCopyToStdoutExecutor executor = new PostgreSQLComCopyToStdoutExecutor(connectionSession, Arrays.asList(
+                new PostgreSQLCopyTarget("ds_0", "COPY t_order_0 TO STDOUT (FORMAT binary)"), new PostgreSQLCopyTarget("ds_0", "COPY t_order_1 TO STDOUT (FORMAT binary)")),
+                new PostgreSQLCopyOptions(Collections.singletonMap("format", "binary")), 1);
+        assertNextData(executor, concat(HEADER, row));
+        assertNextData(executor, TRAILER);
+        assertFalse(executor.next());
+        assertThat(executor.getRowCount(), is(1L));
+    }
+    
+    private void prepareConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connectionSession.getBackendConnection().getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    }
+    
+    private void mockCopyOut(final String sql, final long rowCount, final byte[] first, final byte[]... others) throws SQLException {
+        CopyOut result = mock(CopyOut.class);
+        byte[][] remaining = Arrays.copyOf(others, others.length + 1);
+        when(result.readFromCopy()).thenReturn(first, remaining);
+        when(result.getHandledRowCount()).thenReturn(rowCount);
+        when(copyManager.copyOut(sql)).thenReturn(result);
+    }
+    
+    private void assertNextData(final PostgreSQLComCopyToStdoutExecutor executor, final byte[] expected) throws SQLException {
+        assertTrue(executor.next());
+        assertThat(((PostgreSQLCopyDataPacket) executor.getQueryRowPacket()).getData(), is(expected));
+    }
+    
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+public final class PostgreSQLCopyExecutorFactoryTest {
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    @BeforeEach
+    public void setUp() {
+        when(connectionSession.getDefaultDatabaseName()).thenReturn("foo_db");
+        when(connectionSession.getGrantee()).thenReturn(null);
+        when(connectionSession.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutCopy() throws SQLException {
+        assertFalse(PostgreSQLCopyExecutorFactory.newInstance("SELECT 1", connectionSession).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutDatabase() throws SQLException {
+        when(connectionSession.getDefaultDatabaseName()).thenReturn(null);
+        assertFalse(PostgreSQLCopyExecutorFactory.newInstance("COPY t_order FROM STDIN", connectionSession).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithCopyFromFile() throws SQLException {
+        mockProxyContext();
+        assertFalse(PostgreSQLCopyExecutorFactory.newInstance("COPY t_order FROM '/tmp/t_order.csv'", connectionSession).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithCopyFromStdin() throws SQLException {
+        mockProxyContext();
+        assertThat(PostgreSQLCopyExecutorFactory.newInstance("/* comment */ COPY t_order (order_id, user_id) FROM STDIN WITH (FORMAT csv)", connectionSession).orElse(null),
+                instanceOf(PostgreSQLComCopyFromStdinExecutor.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithCopyToStdout() throws SQLException {
+        mockProxyContext();
+        assertThat(PostgreSQLCopyExecutorFactory.newInstance("copy t_order to stdout", connectionSession).orElse(null), instanceOf(PostgreSQLComCopyToStdoutExecutor.class));
+    }
+    
+    private void mockProxyContext() {
+        when(ProxyContext.getInstance().databaseExists("foo_db")).thenReturn(true);
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+    
+    private ContextManager mockContextManager() {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mockDatabase();
+        when(result.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(result.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(result.getMetaDataContexts().getMetaData().getGlobalRuleMetaData())
+                .thenReturn(new ShardingSphereRuleMetaData(Arrays.asList(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()), mock(AuthorityRule.class))));
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(createShardingRule()));
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put("ds_0", mock(DataSource.class));
+        dataSources.put("ds_1", mock(DataSource.class));
+        when(result.getResourceMetaData().getDataSources()).thenReturn(dataSources);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false), new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false)),
+                Collections.emptyList(), Collections.emptyList());
+        when(result.getSchema("public")).thenReturn(new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap()));
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        ruleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        return new ShardingRule(ruleConfig, Arrays.asList("ds_0", "ds_1"), mock(InstanceContext.class));
+    }
+}
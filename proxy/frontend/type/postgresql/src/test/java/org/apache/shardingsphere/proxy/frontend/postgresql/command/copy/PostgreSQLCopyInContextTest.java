@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLTextCopyRowParser;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route.PostgreSQLFixedCopyRowRouter;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class PostgreSQLCopyInContextTest {
+    
+    private static final String FOO_SQL = "COPY t_order_0 FROM STDIN";
+    
+    private static final String BAR_SQL = "COPY t_order_1 FROM STDIN";
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private CopyIn fooCopyIn;
+    
+    @Mock
+    private CopyIn barCopyIn;
+    
+    @Test
+    public void assertWriteAndCompleteInTransaction() throws SQLException {
+        Connection connection = mockConnection(FOO_SQL, fooCopyIn, BAR_SQL, barCopyIn);
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        when(connectionSession.getBackendConnection().getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        PostgreSQLCopyInContext copyInContext = createCopyInContext(StandardCharsets.UTF_8);
+        copyInContext.write(Unpooled.wrappedBuffer("1\tfoo\n2\tb".getBytes(StandardCharsets.UTF_8)));
+        copyInContext.write(Unpooled.wrappedBuffer("ar\n".getBytes(StandardCharsets.UTF_8)));
+        verify(fooCopyIn, never()).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        assertThat(copyInContext.complete(), is(2L));
+        verify(fooCopyIn).writeToCopy(any(byte[].class), eq(0), eq(12));
+        verify(fooCopyIn).endCopy();
+        verify(barCopyIn).writeToCopy(any(byte[].class), eq(0), eq(12));
+        verify(barCopyIn).endCopy();
+        verify(connection, never()).commit();
+        copyInContext.close();
+        verify(connection, never()).close();
+    }
+    
+    @Test
+    public void assertWriteAndCompleteWithDedicatedConnections() throws SQLException {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("search_path", "foo_schema");
+        when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(recorder);
+        Connection fooConnection = mockConnection(FOO_SQL, fooCopyIn, BAR_SQL, mock(CopyIn.class));
+        Connection barConnection = mockConnection(FOO_SQL, mock(CopyIn.class), BAR_SQL, barCopyIn);
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_0", 1, ConnectionMode.CONNECTION_STRICTLY))
+                .thenReturn(Collections.singletonList(fooConnection), Collections.singletonList(barConnection));
+        PostgreSQLCopyInContext copyInContext = createCopyInContext(StandardCharsets.ISO_8859_1);
+        copyInContext.write(Unpooled.wrappedBuffer(("1\tfo" + (char) 0xF6 + "\n2\tbar\n").getBytes(StandardCharsets.ISO_8859_1)));
+        assertThat(copyInContext.complete(), is(2L));
+        Statement fooStatement = fooConnection.createStatement();
+        Statement barStatement = barConnection.createStatement();
+        verify(fooStatement).execute("SET search_path=foo_schema");
+        verify(barStatement).execute("SET search_path=foo_schema");
+        verify(fooConnection).setAutoCommit(false);
+        verify(fooCopyIn).writeToCopy(any(byte[].class), eq(0), eq(13));
+        verify(fooCopyIn).endCopy();
+        verify(barCopyIn).writeToCopy(any(byte[].class), eq(0), eq(13));
+        verify(barCopyIn).endCopy();
+        verify(fooConnection).commit();
+        verify(barConnection).commit();
+        copyInContext.close();
+        verify(fooStatement).execute("RESET ALL");
+        verify(fooConnection).close();
+        verify(barStatement).execute("RESET ALL");
+        verify(barConnection).close();
+    }
+    
+    private Connection mockConnection(final String fooSQL, final CopyIn fooCopyIn, final String barSQL, final CopyIn barCopyIn) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(result.createStatement()).thenReturn(mock(Statement.class));
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(result.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(fooSQL)).thenReturn(fooCopyIn);
+        when(copyManager.copyIn(barSQL)).thenReturn(barCopyIn);
+        return result;
+    }
+    
+    private PostgreSQLCopyInContext createCopyInContext(final Charset charset) {
+        PostgreSQLFixedCopyRowRouter router = new PostgreSQLFixedCopyRowRouter(Arrays.asList(new PostgreSQLCopyTarget("ds_0", FOO_SQL), new PostgreSQLCopyTarget("ds_0", BAR_SQL)));
+        PostgreSQLTextCopyRowParser parser = new PostgreSQLTextCopyRowParser(new PostgreSQLCopyOptions(Collections.emptyMap()), router.getKeyColumnIndexes(), charset);
+        return new PostgreSQLCopyInContext(connectionSession, parser, router);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    public void assertDefaultTextOptions() {
+        PostgreSQLCopyOptions actual = new PostgreSQLCopyOptions(Collections.emptyMap());
+        assertFalse(actual.isBinary());
+        assertFalse(actual.isCSV());
+        assertFalse(actual.isHeader());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+    }
+    
+    @Test
+    public void assertCSVOptions() {
+        Map<String, String> options = new HashMap<>(4, 1F);
+        options.put("format", "CSV");
+        options.put("header", "on");
+        options.put("quote", "'");
+        PostgreSQLCopyOptions actual = new PostgreSQLCopyOptions(options);
+        assertTrue(actual.isCSV());
+        assertTrue(actual.isHeader());
+        assertThat(actual.getDelimiter(), is(','));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\''));
+    }
+    
+    @Test
+    public void assertBinaryOptions() {
+        assertTrue(new PostgreSQLCopyOptions(Collections.singletonMap("format", "binary")).isBinary());
+    }
+}
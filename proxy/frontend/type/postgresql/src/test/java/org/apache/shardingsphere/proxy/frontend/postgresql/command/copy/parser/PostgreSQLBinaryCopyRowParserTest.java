@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PostgreSQLBinaryCopyRowParserTest {
+    
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    
+    @Test
+    public void assertParse() {
+        ByteBuf data = Unpooled.buffer();
+        data.writeBytes(SIGNATURE).writeInt(0).writeInt(0);
+        data.writeShort(2).writeInt(4).writeInt(10).writeInt(3).writeBytes("foo".getBytes(StandardCharsets.UTF_8));
+        data.writeShort(-1);
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLBinaryCopyRowParser(new int[]{0})) {
+            List<PostgreSQLCopyRow> actual = parser.parse(data.readSlice(25));
+            assertTrue(actual.isEmpty());
+            assertThat(parser.getHeader().length, is(19));
+            actual = parser.parse(data);
+            assertThat(actual.size(), is(1));
+            assertThat(actual.get(0).getData().length, is(17));
+            assertThat(actual.get(0).getKeyValues().get(0), is(new byte[]{0, 0, 0, 10}));
+            assertTrue(parser.finish().isEmpty());
+            assertThat(parser.getTrailer(), is(new byte[]{(byte) 0xFF, (byte) 0xFF}));
+        }
+    }
+    
+    @Test
+    public void assertParseWithInvalidSignature() {
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLBinaryCopyRowParser(new int[0])) {
+            assertThrows(BadCopyFileFormatException.class, () -> parser.parse(Unpooled.wrappedBuffer(new byte[19])));
+        }
+    }
+    
+    @Test
+    public void assertFinishWithIncompleteRow() {
+        ByteBuf data = Unpooled.buffer();
+        data.writeBytes(SIGNATURE).writeInt(0).writeInt(0).writeShort(1).writeInt(4);
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLBinaryCopyRowParser(new int[0])) {
+            parser.parse(data);
+            assertThrows(BadCopyFileFormatException.class, parser::finish);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyOptions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PostgreSQLCSVCopyRowParserTest {
+    
+    @Test
+    public void assertParseQuotedRows() {
+        PostgreSQLCopyOptions options = new PostgreSQLCopyOptions(Collections.singletonMap("format", "csv"));
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLCSVCopyRowParser(options, new int[]{0, 1}, StandardCharsets.UTF_8)) {
+            List<PostgreSQLCopyRow> actual = parser.parse(Unpooled.wrappedBuffer("\"a,\nb\",\"x\"\"y\"\n,c\n".getBytes(StandardCharsets.UTF_8)));
+            assertThat(actual.size(), is(2));
+            assertThat(new String(actual.get(0).getData(), StandardCharsets.UTF_8), is("\"a,\nb\",\"x\"\"y\"\n"));
+            assertThat(actual.get(0).getKeyValues(), is(Arrays.asList("a,\nb", "x\"y")));
+            assertThat(actual.get(1).getKeyValues().get(0), nullValue());
+            assertThat(actual.get(1).getKeyValues().get(1), is("c"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.dialect.postgresql.exception.copy.BadCopyFileFormatException;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyOptions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PostgreSQLTextCopyRowParserTest {
+    
+    @Test
+    public void assertParseRowsAcrossData() {
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLTextCopyRowParser(new PostgreSQLCopyOptions(Collections.emptyMap()), new int[]{1}, StandardCharsets.UTF_8)) {
+            List<PostgreSQLCopyRow> actual = parser.parse(Unpooled.wrappedBuffer("1\tfoo\n2\tb\\tar\n3\t".getBytes(StandardCharsets.UTF_8)));
+            assertThat(actual.size(), is(2));
+            assertThat(new String(actual.get(0).getData(), StandardCharsets.UTF_8), is("1\tfoo\n"));
+            assertThat(actual.get(0).getKeyValues(), is(Collections.singletonList("foo")));
+            assertThat(actual.get(1).getKeyValues(), is(Collections.singletonList("b\tar")));
+            actual = parser.parse(Unpooled.wrappedBuffer("\\N".getBytes(StandardCharsets.UTF_8)));
+            assertTrue(actual.isEmpty());
+            actual = parser.finish();
+            assertThat(actual.size(), is(1));
+            assertThat(new String(actual.get(0).getData(), StandardCharsets.UTF_8), is("3\t\\N\n"));
+            assertThat(actual.get(0).getKeyValues().get(0), nullValue());
+        }
+    }
+    
+    @Test
+    public void assertParseWithHeaderAndEndOfData() {
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLTextCopyRowParser(new PostgreSQLCopyOptions(Collections.singletonMap("header", "true")), new int[0], StandardCharsets.UTF_8)) {
+            List<PostgreSQLCopyRow> actual = parser.parse(Unpooled.wrappedBuffer("id\tname\n1\tfoo\n\\.\n2\tbar\n".getBytes(StandardCharsets.UTF_8)));
+            assertThat(actual.size(), is(1));
+            assertThat(new String(parser.getHeader(), StandardCharsets.UTF_8), is("id\tname\n"));
+            assertTrue(parser.finish().isEmpty());
+        }
+    }
+    
+    @Test
+    public void assertParseWithMissingKeyColumn() {
+        try (PostgreSQLCopyRowParser parser = new PostgreSQLTextCopyRowParser(new PostgreSQLCopyOptions(Collections.emptyMap()), new int[]{2}, StandardCharsets.UTF_8)) {
+            assertThrows(BadCopyFileFormatException.class, () -> parser.parse(Unpooled.wrappedBuffer("1\tfoo\n".getBytes(StandardCharsets.UTF_8))));
+        }
+    }
+}
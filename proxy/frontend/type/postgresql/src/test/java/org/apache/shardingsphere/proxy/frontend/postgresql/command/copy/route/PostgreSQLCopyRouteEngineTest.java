@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+public final class PostgreSQLCopyRouteEngineTest {
+    
+    private static final String SQL = "COPY t_order (order_id, user_id, status) FROM STDIN";
+    
+    @Test
+    public void assertNewInstanceWithRewriteRule() {
+        TableContainedRule encryptRule = mock(TableContainedRule.class);
+        when(encryptRule.getTables()).thenReturn(Collections.singleton("T_ORDER"));
+        when(encryptRule.getType()).thenReturn("EncryptRule");
+        ShardingSphereDatabase database = mockDatabase(Arrays.asList(createShardingRule(), encryptRule));
+        assertThrows(UnsupportedSQLOperationException.class, () -> new PostgreSQLCopyRouteEngine(database, createQueryContext(), mock(ConnectionSession.class)));
+    }
+    
+    @Test
+    public void assertGetColumnNames() {
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(mockDatabase(Collections.singleton(createShardingRule())), createQueryContext(), mock(ConnectionSession.class));
+        assertThat(routeEngine.getColumnNames(), is(Arrays.asList("order_id", "user_id", "status")));
+    }
+    
+    @Test
+    public void assertRouteAllWithShardingRule() {
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(
+                mockShardingDatabase(Arrays.asList("ds_0", "ds_1")), createQueryContext(), mock(ConnectionSession.class));
+        List<String> actual = routeEngine.routeAll().stream().map(each -> each.getDataSourceName() + ":" + each.getSql()).collect(Collectors.toList());
+        assertThat(actual, is(Arrays.asList("ds_0:COPY t_order_0 (order_id, user_id, status) FROM STDIN", "ds_0:COPY t_order_1 (order_id, user_id, status) FROM STDIN",
+                "ds_1:COPY t_order_0 (order_id, user_id, status) FROM STDIN", "ds_1:COPY t_order_1 (order_id, user_id, status) FROM STDIN")));
+    }
+    
+    @Test
+    public void assertRouteAllWithLogicDataSource() {
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(
+                mockShardingDatabase(Collections.singletonList("ds_0")), createQueryContext(), mock(ConnectionSession.class));
+        assertThrows(UnsupportedSQLOperationException.class, routeEngine::routeAll);
+    }
+    
+    @Test
+    public void assertCreateRowRouterWithShardingRule() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ShardingSphereDatabase database = mockShardingDatabase(Arrays.asList("ds_0", "ds_1"));
+        mockSchema(database);
+        PostgreSQLCopyRowRouter actual = new PostgreSQLCopyRouteEngine(database, createQueryContext(), mock(ConnectionSession.class)).createRowRouter();
+        assertThat(actual, instanceOf(PostgreSQLShardingCopyRowRouter.class));
+        assertThat(actual.getKeyColumnIndexes(), is(new int[]{0, 1}));
+        Collection<PostgreSQLCopyTarget> targets = actual.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList("3", "2")));
+        assertThat(targets.size(), is(1));
+        assertThat(targets.iterator().next().getDataSourceName(), is("ds_0"));
+        assertThat(targets.iterator().next().getSql(), is("COPY t_order_1 (order_id, user_id, status) FROM STDIN"));
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        ruleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        return new ShardingRule(ruleConfig, Arrays.asList("ds_0", "ds_1"), mock(InstanceContext.class));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final Collection<? extends TableContainedRule> rules) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(new LinkedList<>(rules)));
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockShardingDatabase(final Collection<String> dataSourceNames) {
+        ShardingSphereDatabase result = mockDatabase(Collections.singleton(createShardingRule()));
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSourceNames.forEach(each -> dataSources.put(each, mock(DataSource.class)));
+        when(result.getResourceMetaData().getDataSources()).thenReturn(dataSources);
+        return result;
+    }
+    
+    private void mockSchema(final ShardingSphereDatabase database) {
+        when(database.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false)),
+                Collections.emptyList(), Collections.emptyList());
+        when(database.getSchema("public")).thenReturn(new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap()));
+    }
+    
+    private QueryContext createQueryContext() {
+        PostgreSQLCopyStatement copyStatement = new PostgreSQLCopyStatement();
+        copyStatement.setTableSegment(new SimpleTableSegment(new TableNameSegment(5, 11, new IdentifierValue("t_order"))));
+        copyStatement.getColumns().add(new ColumnSegment(14, 21, new IdentifierValue("order_id")));
+        copyStatement.getColumns().add(new ColumnSegment(24, 30, new IdentifierValue("user_id")));
+        copyStatement.getColumns().add(new ColumnSegment(33, 38, new IdentifierValue("status")));
+        copyStatement.setFromStandardInput(true);
+        return new QueryContext(new CopyStatementContext(copyStatement), SQL, Collections.emptyList(), new HintValueContext());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.route;
+
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyTarget;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.parser.PostgreSQLCopyRow;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public final class PostgreSQLShardingCopyRowRouterTest {
+    
+    private final Map<DataNode, PostgreSQLCopyTarget> targets = createTargets();
+    
+    private Map<DataNode, PostgreSQLCopyTarget> createTargets() {
+        Map<DataNode, PostgreSQLCopyTarget> result = new LinkedHashMap<>();
+        for (String each : Arrays.asList("ds_0.t_order_0", "ds_0.t_order_1", "ds_1.t_order_0", "ds_1.t_order_1")) {
+            DataNode dataNode = new DataNode(each);
+            result.put(dataNode, new PostgreSQLCopyTarget(dataNode.getDataSourceName(), String.format("COPY %s FROM STDIN", dataNode.getTableName())));
+        }
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        ruleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        return new ShardingRule(ruleConfig, Arrays.asList("ds_0", "ds_1"), mock(InstanceContext.class));
+    }
+    
+    private PostgreSQLShardingCopyRowRouter createRouter(final ShardingRule shardingRule, final Map<String, Integer> shardingColumnTypes) {
+        return new PostgreSQLShardingCopyRowRouter(shardingRule, "t_order", new ConfigurationProperties(new Properties()), targets, shardingColumnTypes,
+                IntStream.range(0, shardingColumnTypes.size()).toArray());
+    }
+    
+    private Map<String, Integer> createShardingColumnTypes() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("order_id", Types.BIGINT);
+        result.put("user_id", Types.INTEGER);
+        return result;
+    }
+    
+    @Test
+    public void assertRouteTextValues() {
+        PostgreSQLShardingCopyRowRouter router = createRouter(createShardingRule(), createShardingColumnTypes());
+        assertThat(router.getKeyColumnIndexes(), is(new int[]{0, 1}));
+        assertRoute(router.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList("3", "2"))), "ds_0", "COPY t_order_1 FROM STDIN");
+        assertRoute(router.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList("4", "5"))), "ds_1", "COPY t_order_0 FROM STDIN");
+    }
+    
+    @Test
+    public void assertRouteBinaryValues() {
+        PostgreSQLShardingCopyRowRouter router = createRouter(createShardingRule(), createShardingColumnTypes());
+        byte[] orderId = ByteBuffer.allocate(8).putLong(0, 5L).array();
+        byte[] userId = ByteBuffer.allocate(4).putInt(0, 1).array();
+        assertRoute(router.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList(orderId, userId))), "ds_1", "COPY t_order_1 FROM STDIN");
+    }
+    
+    @Test
+    public void assertRouteSameTargetWithCachedInstance() {
+        PostgreSQLShardingCopyRowRouter router = createRouter(createShardingRule(), createShardingColumnTypes());
+        assertThat(router.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList("1", "1"))), sameInstance(router.route(new PostgreSQLCopyRow(new byte[0], Arrays.asList("3", "3")))));
+    }
+    
+    @Test
+    public void assertRouteWithoutDataSourceShardingValue() {
+        PostgreSQLShardingCopyRowRouter router = createRouter(createShardingRule(), Collections.singletonMap("order_id", Types.BIGINT));
+        assertThrows(UnsupportedSQLOperationException.class, () -> router.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonList("1"))));
+    }
+    
+    @Test
+    public void assertRouteWithoutDataSourceShardingStrategy() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_0.t_order_${0..1}");
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        ShardingRule shardingRule = new ShardingRule(ruleConfig, Collections.singletonList("ds_0"), mock(InstanceContext.class));
+        PostgreSQLShardingCopyRowRouter router = createRouter(shardingRule, Collections.singletonMap("order_id", Types.BIGINT));
+        assertRoute(router.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonList("7"))), "ds_0", "COPY t_order_1 FROM STDIN");
+    }
+    
+    private void assertRoute(final Collection<PostgreSQLCopyTarget> actual, final String expectedDataSourceName, final String expectedSQL) {
+        assertThat(actual.size(), is(1));
+        PostgreSQLCopyTarget target = actual.iterator().next();
+        assertThat(target.getDataSourceName(), is(expectedDataSourceName));
+        assertThat(target.getSql(), is(expectedSQL));
+    }
+}
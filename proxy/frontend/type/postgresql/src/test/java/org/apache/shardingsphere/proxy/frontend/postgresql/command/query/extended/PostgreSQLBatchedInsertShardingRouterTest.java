@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLBatchedInsertShardingRouterTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertRouteGroupedByDataNode() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        Optional<PostgreSQLBatchedInsertShardingRouter> router = PostgreSQLBatchedInsertShardingRouter.newInstance(mockDatabase(createShardingRule()), insertStatementContext, props);
+        assertTrue(router.isPresent());
+        List<List<Object>> parameterSets = Arrays.asList(Arrays.asList(1, 1), Arrays.asList(2, 0), Arrays.asList(3, 1), Arrays.asList(4, 2), Arrays.asList(5, 0));
+        Optional<Map<String, int[]>> actual = router.get().route(parameterSets);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(3));
+        assertThat(actual.get().get("ds_1.t_order_1"), is(new int[]{0, 2}));
+        assertThat(actual.get().get("ds_0.t_order_0"), is(new int[]{1, 3}));
+        assertThat(actual.get().get("ds_0.t_order_1"), is(new int[]{4}));
+    }
+    
+    @Test
+    public void assertRouteWithNullShardingValue() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        Optional<PostgreSQLBatchedInsertShardingRouter> router = PostgreSQLBatchedInsertShardingRouter.newInstance(mockDatabase(createShardingRule()), insertStatementContext, props);
+        assertTrue(router.isPresent());
+        assertFalse(router.get().route(Arrays.asList(Arrays.asList(1, 1), Arrays.asList(2, null))).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithLiteralShardingValue() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new LiteralExpressionSegment(0, 0, 1));
+        assertFalse(PostgreSQLBatchedInsertShardingRouter.newInstance(mockDatabase(createShardingRule()), insertStatementContext, props).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutInsertStatement() {
+        assertFalse(PostgreSQLBatchedInsertShardingRouter.newInstance(mockDatabase(createShardingRule()), mock(SelectStatementContext.class), props).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithOtherRules() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        assertFalse(PostgreSQLBatchedInsertShardingRouter.newInstance(mockDatabase(createShardingRule(), mock(ShardingSphereRule.class)), insertStatementContext, props).isPresent());
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final ExpressionSegment... valueExpressions) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        PostgreSQLInsertStatement insertStatement = new PostgreSQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        when(result.getColumnNames()).thenReturn(Arrays.asList("order_id", "user_id"));
+        InsertValueContext insertValueContext = mock(InsertValueContext.class);
+        when(insertValueContext.getValueExpressions()).thenReturn(Arrays.asList(valueExpressions));
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(insertValueContext));
+        when(result.getInsertSelectContext()).thenReturn(null);
+        when(result.getOnDuplicateKeyUpdateValueContext()).thenReturn(null);
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingSphereRule... rules) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Arrays.asList(rules)));
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        shardingRuleConfig.getTables().add(tableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("table_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"), mock(InstanceContext.class));
+    }
+}
@@ -468,7 +468,7 @@ copyOptionList
     ;
 
 copyOption
-    : FORMAT identifier
+    : FORMAT (identifier | BINARY)
     | FREEZE booleanValue?
     | DELIMITER STRING_
     | NULL STRING_
@@ -18,14 +18,19 @@
 package org.apache.shardingsphere.sql.parser.postgresql.visitor.statement.impl;
 
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.operation.SQLStatementVisitor;
 import org.apache.shardingsphere.sql.parser.api.visitor.type.DMLSQLVisitor;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallArgumentContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CheckpointContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableBinaryContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryBinaryCsvContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryContext;
@@ -45,6 +50,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.value.collection.CollectionValue;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCheckpointStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
@@ -115,9 +121,57 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setFromStandardInput(null != ctx.STDIN());
+        result.setToStandardOutput(null != ctx.STDOUT());
+        if (null != ctx.copyOptionList()) {
+            for (CopyOptionContext each : ctx.copyOptionList().copyOption()) {
+                putCopyOption(result, each);
+            }
+        }
         return result;
     }
     
+    private void putCopyOption(final PostgreSQLCopyStatement copyStatement, final CopyOptionContext ctx) {
+        if (null != ctx.FORMAT()) {
+            copyStatement.getOptions().put("format", ctx.getChild(1).getText().toLowerCase());
+        } else if (null != ctx.HEADER() || null != ctx.FREEZE()) {
+            copyStatement.getOptions().put(ctx.getChild(0).getText().toLowerCase(), null == ctx.booleanValue() ? "true" : ctx.booleanValue().getText().toLowerCase());
+        } else if (null != ctx.STRING_()) {
+            copyStatement.getOptions().put(ctx.getChild(0).getText().toLowerCase(), getCopyOptionValue(ctx.STRING_().getText()));
+        }
+    }
+    
+    private void putLegacyCopyOptions(final PostgreSQLCopyStatement copyStatement, final ParserRuleContext ctx) {
+        String optionName = null;
+        for (ParseTree each : ctx.children) {
+            if (!(each instanceof TerminalNode)) {
+                continue;
+            }
+            int tokenType = ((TerminalNode) each).getSymbol().getType();
+            if (PostgreSQLStatementParser.BINARY == tokenType) {
+                copyStatement.getOptions().put("format", "binary");
+            } else if (PostgreSQLStatementParser.CSV == tokenType) {
+                copyStatement.getOptions().put("format", "csv");
+            } else if (PostgreSQLStatementParser.HEADER == tokenType) {
+                copyStatement.getOptions().put("header", "true");
+            } else if (PostgreSQLStatementParser.DELIMITER == tokenType || PostgreSQLStatementParser.DELIMITERS == tokenType) {
+                optionName = "delimiter";
+            } else if (PostgreSQLStatementParser.NULL == tokenType || PostgreSQLStatementParser.QUOTE == tokenType || PostgreSQLStatementParser.ESCAPE == tokenType) {
+                optionName = each.getText().toLowerCase();
+            } else if (PostgreSQLStatementParser.STRING_ == tokenType && null != optionName) {
+                copyStatement.getOptions().put(optionName, getCopyOptionValue(each.getText()));
+                optionName = null;
+            }
+        }
+    }
+    
+    private String getCopyOptionValue(final String text) {
+        if ('E' == Character.toUpperCase(text.charAt(0))) {
+            return StringLiteralValue.getStandardEscapesStringLiteralValue(text.substring(1)).getValue();
+        }
+        return new StringLiteralValue(text).getValue().replace("''", "'");
+    }
+    
     private PrepareStatementQuerySegment extractPrepareStatementQuerySegmentFromPreparableStmt(final PreparableStmtContext ctx) {
         PrepareStatementQuerySegment result = new PrepareStatementQuerySegment(ctx.start.getStartIndex(), ctx.stop.getStopIndex());
         if (null != ctx.select()) {
@@ -144,6 +198,9 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setFromStandardInput(null != ctx.STDIN());
+        result.setToStandardOutput(null != ctx.STDOUT());
+        putLegacyCopyOptions(result, ctx);
         return result;
     }
     
@@ -153,6 +210,9 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.qualifiedName()) {
             result.setTableSegment((SimpleTableSegment) visit(ctx.qualifiedName()));
         }
+        result.setFromStandardInput(null != ctx.STDIN());
+        result.setToStandardOutput(null != ctx.STDOUT());
+        putLegacyCopyOptions(result, ctx);
         return result;
     }
     
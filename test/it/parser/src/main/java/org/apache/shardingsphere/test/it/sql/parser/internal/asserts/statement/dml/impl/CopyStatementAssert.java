@@ -27,11 +27,15 @@ import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAsse
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.column.ColumnAssert;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.prepare.PrepareStatementQueryAssert;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.table.TableAssert;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.segment.impl.distsql.ExpectedProperty;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.dml.CopyStatementTestCase;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -53,6 +57,7 @@ public final class CopyStatementAssert {
         assertTable(assertContext, actual, expected);
         assertColumns(assertContext, actual, expected);
         assertPrepareStatementQuerySegment(assertContext, actual, expected);
+        assertOptions(assertContext, actual, expected);
     }
     
     private static void assertTable(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
@@ -82,4 +87,16 @@ public final class CopyStatementAssert {
             PrepareStatementQueryAssert.assertIs(assertContext, prepareStatementQuerySegment.get(), expected.getQuery());
         }
     }
+    
+    private static void assertOptions(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
+        if (expected.getOptions().isEmpty()) {
+            return;
+        }
+        Map<String, String> actualOptions = CopyStatementHandler.getOptions(actual);
+        assertThat(assertContext.getText("Copy options size assertion error: "), actualOptions.size(), is(expected.getOptions().size()));
+        for (ExpectedProperty each : expected.getOptions()) {
+            assertTrue(actualOptions.containsKey(each.getKey()), assertContext.getText(String.format("Copy option `%s` should exist.", each.getKey())));
+            assertThat(assertContext.getText(String.format("Copy option `%s` value assertion error: ", each.getKey())), actualOptions.get(each.getKey()), is(each.getValue()));
+        }
+    }
 }
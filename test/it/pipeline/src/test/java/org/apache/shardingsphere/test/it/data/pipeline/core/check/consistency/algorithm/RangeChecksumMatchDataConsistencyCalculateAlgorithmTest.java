@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.check.consistency.algorithm;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.RangeChecksumMatchDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class RangeChecksumMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static PipelineDataSourceWrapper source;
+    
+    private static PipelineDataSourceWrapper target;
+    
+    @BeforeAll
+    public static void setUp() throws Exception {
+        source = new PipelineDataSourceWrapper(createHikariDataSource("range_checksum_source_ds"), new H2DatabaseType());
+        createTableAndInitData(source, "t_order_copy");
+        createTableAndInitData(source, "t_order_diff_copy");
+        target = new PipelineDataSourceWrapper(createHikariDataSource("range_checksum_target_ds"), new H2DatabaseType());
+        createTableAndInitData(target, "t_order");
+        createTableAndInitData(target, "t_order_diff");
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("UPDATE t_order_diff SET status='changed' WHERE order_id=7");
+        }
+    }
+    
+    @AfterAll
+    public static void tearDown() throws Exception {
+        source.close();
+        target.close();
+    }
+    
+    private static HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        result.setMinimumIdle(2);
+        result.setConnectionTimeout(15 * 1000);
+        result.setIdleTimeout(40 * 1000);
+        return result;
+    }
+    
+    private static void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String sql = String.format("CREATE TABLE %s (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", tableName);
+            connection.createStatement().execute(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 0; i < 10; i++) {
+                preparedStatement.setInt(1, i + 1);
+                preparedStatement.setInt(2, i + 1);
+                preparedStatement.setString(3, 0 == i % 3 ? null : "test");
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    @Test
+    public void assertCalculateFromBegin() {
+        RangeChecksumMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = createCalculateAlgorithm();
+        List<DataConsistencyCalculatedResult> sourceResults = calculate(calculateAlgorithm, generateParameter(source, "t_order_copy", null));
+        List<DataConsistencyCalculatedResult> targetResults = calculate(calculateAlgorithm, generateParameter(target, "t_order", null));
+        assertThat(sourceResults.size(), is(3));
+        assertThat(sourceResults, is(targetResults));
+        assertThat(sourceResults.get(0).getRecordsCount(), is(4));
+        assertThat(sourceResults.get(0).getMaxUniqueKeyValue().orElse(null), is(4L));
+        assertThat(sourceResults.get(2).getRecordsCount(), is(2));
+        assertThat(sourceResults.get(2).getMaxUniqueKeyValue().orElse(null), is(10L));
+    }
+    
+    @Test
+    public void assertCalculateFromMiddle() {
+        RangeChecksumMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = createCalculateAlgorithm();
+        List<DataConsistencyCalculatedResult> sourceResults = calculate(calculateAlgorithm, generateParameter(source, "t_order_copy", 5));
+        List<DataConsistencyCalculatedResult> targetResults = calculate(calculateAlgorithm, generateParameter(target, "t_order", 5));
+        assertThat(sourceResults.size(), is(2));
+        assertThat(sourceResults, is(targetResults));
+        assertThat(sourceResults.get(0).getMaxUniqueKeyValue().orElse(null), is(9L));
+    }
+    
+    @Test
+    public void assertCalculateWithDifferentRecord() {
+        RangeChecksumMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = createCalculateAlgorithm();
+        List<DataConsistencyCalculatedResult> sourceResults = calculate(calculateAlgorithm, generateParameter(source, "t_order_diff_copy", null));
+        List<DataConsistencyCalculatedResult> targetResults = calculate(calculateAlgorithm, generateParameter(target, "t_order_diff", null));
+        assertThat(sourceResults.get(0), is(targetResults.get(0)));
+        assertThat(sourceResults.get(1), not(targetResults.get(1)));
+        assertThat(sourceResults.get(2), is(targetResults.get(2)));
+    }
+    
+    @Test
+    public void assertLocateDifferentRecords() {
+        RangeChecksumMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = createCalculateAlgorithm();
+        List<DataConsistencyCalculatedResult> sourceResults = calculate(calculateAlgorithm, generateParameter(source, "t_order_diff_copy", null));
+        List<DataConsistencyCalculatedResult> targetResults = calculate(calculateAlgorithm, generateParameter(target, "t_order_diff", null));
+        assertThat(calculateAlgorithm.locateDifferentRecords(sourceResults.get(1), targetResults.get(1)), is(Collections.singletonList(7L)));
+        assertTrue(calculateAlgorithm.locateDifferentRecords(sourceResults.get(0), targetResults.get(0)).isEmpty());
+    }
+    
+    @Test
+    public void assertCalculateWithoutIntegerUniqueKey() {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(3, "status", Types.VARCHAR, "varchar", true, false, true);
+        DataConsistencyCalculateParameter param = new DataConsistencyCalculateParameter(source, null, "t_order_copy", Collections.emptyList(), "H2", "H2", uniqueKey, null);
+        assertThrows(UnsupportedOperationException.class, () -> createCalculateAlgorithm().calculate(param));
+    }
+    
+    private RangeChecksumMatchDataConsistencyCalculateAlgorithm createCalculateAlgorithm() {
+        RangeChecksumMatchDataConsistencyCalculateAlgorithm result = new RangeChecksumMatchDataConsistencyCalculateAlgorithm();
+        result.init(PropertiesBuilder.build(new Property("range-size", "4"), new Property("concurrency", "2"), new Property("drill-down-size", "2")));
+        return result;
+    }
+    
+    private List<DataConsistencyCalculatedResult> calculate(final RangeChecksumMatchDataConsistencyCalculateAlgorithm calculateAlgorithm, final DataConsistencyCalculateParameter param) {
+        List<DataConsistencyCalculatedResult> result = new ArrayList<>();
+        calculateAlgorithm.calculate(param).forEach(result::add);
+        return result;
+    }
+    
+    private DataConsistencyCalculateParameter generateParameter(final PipelineDataSourceWrapper dataSource, final String logicTableName, final Object dataCheckPosition) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        return new DataConsistencyCalculateParameter(dataSource, null, logicTableName, Collections.emptyList(), "H2", "H2", uniqueKey, dataCheckPosition);
+    }
+}